@@ -0,0 +1,63 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.api;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import io.debezium.platform.api.dto.ReconcileRequest;
+import io.debezium.platform.environment.operator.reconcile.BulkReconciler;
+import io.debezium.platform.environment.operator.reconcile.ReconcileProgress;
+
+@Tag(name = "admin")
+@Path("/admin")
+public class AdminResource {
+
+    BulkReconciler reconciler;
+
+    public AdminResource(BulkReconciler reconciler) {
+        this.reconciler = reconciler;
+    }
+
+    @Operation(summary = "Starts reconciling given pipelines, or all pipelines when none is given")
+    @APIResponse(responseCode = "202", description = "Reconcile started", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = ReconcileProgress.class, required = true)))
+    @APIResponse(responseCode = "409", description = "Another reconcile is in progress", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = ReconcileProgress.class, required = true)))
+    @POST
+    @Path("/reconcile")
+    @Produces(APPLICATION_JSON)
+    public Response reconcile(ReconcileRequest request) {
+        var started = request == null || request.pipelines() == null || request.pipelines().isEmpty()
+                ? reconciler.startAll()
+                : reconciler.start(request.pipelines());
+
+        return started
+                .map(progress -> Response.accepted(progress).build())
+                .orElseGet(() -> Response.status(Response.Status.CONFLICT).entity(reconciler.progress().orElse(null)).build());
+    }
+
+    @Operation(summary = "Returns progress of the running or last completed reconcile")
+    @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = ReconcileProgress.class, required = true)))
+    @APIResponse(responseCode = "404", description = "No reconcile was started yet")
+    @GET
+    @Path("/reconcile")
+    @Produces(APPLICATION_JSON)
+    public Response progress() {
+        return reconciler.progress()
+                .map(progress -> Response.ok(progress).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+}
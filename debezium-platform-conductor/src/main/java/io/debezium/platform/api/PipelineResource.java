@@ -9,6 +9,8 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -19,7 +21,11 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
@@ -34,6 +40,7 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
 
+import io.debezium.platform.api.dto.BroadcastSignalRequest;
 import io.debezium.platform.api.dto.PipelineRequest;
 import io.debezium.platform.api.dto.PipelineResponse;
 import io.debezium.platform.api.dto.PipelineUpdateRequest;
@@ -44,6 +51,15 @@ import io.debezium.platform.domain.PipelineService;
 import io.debezium.platform.domain.Signal;
 import io.debezium.platform.environment.EnvironmentController;
 import io.debezium.platform.environment.logs.LogReader;
+import io.debezium.platform.environment.metrics.FleetMetrics;
+import io.debezium.platform.environment.metrics.PipelineMetrics;
+import io.debezium.platform.environment.metrics.PipelineMetricsCollector;
+import io.debezium.platform.environment.metrics.history.MetricsHistory;
+import io.debezium.platform.environment.metrics.history.PipelineMetricsHistory;
+import io.debezium.platform.environment.signal.SignalBroadcast;
+import io.debezium.platform.environment.signal.SignalBroadcaster;
+import io.debezium.platform.environment.signal.SignalDelivery;
+import io.debezium.platform.environment.status.FleetStatus;
 import io.debezium.platform.error.NotFoundException;
 import io.smallrye.common.annotation.RunOnVirtualThread;
 
@@ -55,11 +71,18 @@ public class PipelineResource {
     Logger logger;
     PipelineService pipelineService;
     PipelineMapper mapper;
+    SignalBroadcaster signalBroadcaster;
+    PipelineMetricsCollector metricsCollector;
+    PipelineMetricsHistory metricsHistory;
 
-    public PipelineResource(Logger logger, PipelineService pipelineService, PipelineMapper mapper) {
+    public PipelineResource(Logger logger, PipelineService pipelineService, PipelineMapper mapper, SignalBroadcaster signalBroadcaster,
+                            PipelineMetricsCollector metricsCollector, PipelineMetricsHistory metricsHistory) {
         this.logger = logger;
         this.pipelineService = pipelineService;
         this.mapper = mapper;
+        this.signalBroadcaster = signalBroadcaster;
+        this.metricsCollector = metricsCollector;
+        this.metricsHistory = metricsHistory;
     }
 
     @Operation(summary = "Returns all available pipelines")
@@ -70,6 +93,27 @@ public class PipelineResource {
         return Response.ok(mapper.toResponseList(pipelines)).build();
     }
 
+    @Operation(summary = "Returns the status of all deployed pipelines")
+    @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = FleetStatus.class, required = true)))
+    @APIResponse(responseCode = "304", description = "Status didn't change since the version given in If-None-Match")
+    @APIResponse(responseCode = "503", description = "Status isn't available yet")
+    @GET
+    @Path("/status")
+    @Produces(APPLICATION_JSON)
+    public Response getStatus(@Context Request request) {
+        return pipelineService.status()
+                .map(status -> {
+                    var tag = new EntityTag(status.version());
+                    var notModified = request.evaluatePreconditions(tag);
+                    var response = notModified != null ? notModified : Response.ok(status);
+                    // clients may keep the status, but have to revalidate it on every use
+                    var cacheControl = new CacheControl();
+                    cacheControl.setNoCache(true);
+                    return response.tag(tag).cacheControl(cacheControl).build();
+                })
+                .orElseGet(() -> Response.status(Response.Status.SERVICE_UNAVAILABLE).build());
+    }
+
     @Operation(summary = "Returns a pipeline with given id")
     @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = PipelineResponse.class, required = true)))
     @GET
@@ -133,20 +177,89 @@ public class PipelineResource {
     }
 
     @Operation(summary = "Send signal to pipeline with given id")
-    @APIResponse(responseCode = "202", description = "Signal correctly sent to the pipeline", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = SignalResponse.class, required = true)))
+    @APIResponse(responseCode = "202", description = "Signal queued for delivery to the pipeline", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = SignalResponse.class, required = true)))
     @APIResponse(responseCode = "404", description = "Pipeline not found")
+    @APIResponse(responseCode = "409", description = "Signal with the same id was already sent", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = SignalDelivery.class, required = true)))
     @POST
     @Path("/{id}/signals")
     @Produces(APPLICATION_JSON)
-    public Response sendSignal(@PathParam("id") Long id, @NotNull @Valid SignalRequest signalRequest) {
+    public Response sendSignal(@PathParam("id") Long id, @NotNull @Valid SignalRequest signalRequest, @Context UriInfo uriInfo) {
+
+        var signal = toSignal(signalRequest);
+        var location = uriInfo.getAbsolutePathBuilder().path(signal.id()).build();
+        return pipelineService.send(id, signal)
+                .map(queued -> queued
+                        ? Response.accepted(SignalResponse.from(signal.id())).location(location).build()
+                        : Response.status(Response.Status.CONFLICT).entity(pipelineService.findSignal(id, signal.id()).orElse(null)).location(location).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    @Operation(summary = "Returns the delivery state of a signal sent to pipeline with given id")
+    @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = SignalDelivery.class, required = true)))
+    @APIResponse(responseCode = "404", description = "Signal not found")
+    @GET
+    @Path("/{id}/signals/{signalId}")
+    @Produces(APPLICATION_JSON)
+    public Response getSignal(@PathParam("id") Long id, @PathParam("signalId") String signalId) {
+        return pipelineService.findSignal(id, signalId)
+                .map(delivery -> Response.ok(delivery).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
 
-        Signal signal = new Signal(signalRequest.id(),
+    @Operation(summary = "Returns the latest metrics of all running pipelines")
+    @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = FleetMetrics.class, required = true)))
+    @APIResponse(responseCode = "503", description = "Metrics weren't collected yet")
+    @GET
+    @Path("/metrics")
+    @Produces(APPLICATION_JSON)
+    public Response getFleetMetrics() {
+        return metricsCollector.fleet()
+                .map(metrics -> Response.ok(metrics).build())
+                .orElseGet(() -> Response.status(Response.Status.SERVICE_UNAVAILABLE).build());
+    }
+
+    @Operation(summary = "Returns the latest metrics of pipeline with given id")
+    @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = PipelineMetrics.class, required = true)))
+    @APIResponse(responseCode = "404", description = "Pipeline isn't running or its metrics weren't collected yet")
+    @GET
+    @Path("/{id}/metrics")
+    @Produces(APPLICATION_JSON)
+    public Response getMetrics(@PathParam("id") Long id) {
+        return metricsCollector.metrics(id)
+                .map(metrics -> Response.ok(metrics).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    @Operation(summary = "Returns the history of the metrics of pipeline with given id, by default of the last hour")
+    @APIResponse(responseCode = "200", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = MetricsHistory.class, required = true)))
+    @APIResponse(responseCode = "404", description = "History is disabled or the pipeline has none")
+    @GET
+    @Path("/{id}/metrics/history")
+    @Produces(APPLICATION_JSON)
+    public Response getMetricsHistory(@PathParam("id") Long id, @QueryParam("from") Instant from, @QueryParam("to") Instant to) {
+        var end = to != null ? to : Instant.now();
+        var start = from != null ? from : end.minus(Duration.ofHours(1));
+        return metricsHistory.history(id, start, end)
+                .map(history -> Response.ok(history).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    @Operation(summary = "Send signal to all pipelines with given ids or assigned to given environment")
+    @APIResponse(responseCode = "200", description = "Outcome of the signal for each selected pipeline", content = @Content(mediaType = APPLICATION_JSON, schema = @Schema(implementation = SignalBroadcast.class, required = true)))
+    @APIResponse(responseCode = "400", description = "No pipeline selected, unknown environment or too many pipelines selected")
+    @POST
+    @Path("/signals")
+    @Produces(APPLICATION_JSON)
+    @RunOnVirtualThread
+    public Response broadcastSignal(@NotNull @Valid BroadcastSignalRequest request) {
+        var broadcast = signalBroadcaster.broadcast(request.pipelines(), request.environment(), toSignal(request.signal()));
+        return Response.ok(broadcast).build();
+    }
+
+    private static Signal toSignal(SignalRequest signalRequest) {
+        return new Signal(signalRequest.id(),
                 signalRequest.type(),
                 signalRequest.data(),
                 signalRequest.additionalData());
-
-        return pipelineService.send(id, signal)
-                .map(signalId -> Response.accepted(SignalResponse.from(signalId)).build())
-                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
     }
 }
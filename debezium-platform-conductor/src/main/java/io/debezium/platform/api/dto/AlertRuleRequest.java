@@ -0,0 +1,22 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import io.debezium.platform.data.model.AlertRuleEntity;
+
+public record AlertRuleRequest(
+        @NotEmpty String name,
+        @NotNull NamedRef pipeline,
+        @NotNull AlertRuleEntity.Metric metric,
+        @NotNull AlertRuleEntity.Condition condition,
+        double threshold,
+        @PositiveOrZero long forSeconds,
+        boolean enabled) {
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.api.dto;
+
+import io.debezium.platform.data.model.AlertRuleEntity;
+
+public record AlertRuleResponse(
+        Long id,
+        String name,
+        NamedRef pipeline,
+        AlertRuleEntity.Metric metric,
+        AlertRuleEntity.Condition condition,
+        double threshold,
+        long forSeconds,
+        boolean enabled) {
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import io.debezium.platform.data.dto.SignalRequest;
+
+/**
+ * Request to send a signal to many pipelines
+ *
+ * @param pipelines ids of pipelines to signal
+ * @param environment name of the environment whose pipelines are signalled, restricts given ids if both are set
+ * @param signal signal to send
+ */
+public record BroadcastSignalRequest(List<Long> pipelines, String environment, @NotNull @Valid SignalRequest signal) {
+}
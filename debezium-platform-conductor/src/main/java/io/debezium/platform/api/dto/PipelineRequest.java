@@ -18,5 +18,6 @@ public record PipelineRequest(
         @NotNull NamedRef destination,
         List<NamedRef> transforms,
         @NotEmpty String logLevel,
-        Map<String, String> logLevels) {
+        Map<String, String> logLevels,
+        String environment) {
 }
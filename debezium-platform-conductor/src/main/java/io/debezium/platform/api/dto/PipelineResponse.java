@@ -16,5 +16,6 @@ public record PipelineResponse(
         NamedRef destination,
         List<NamedRef> transforms,
         String logLevel,
-        Map<String, String> logLevels) {
+        Map<String, String> logLevels,
+        String environment) {
 }
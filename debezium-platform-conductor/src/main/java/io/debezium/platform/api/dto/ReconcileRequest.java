@@ -0,0 +1,16 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.api.dto;
+
+import java.util.List;
+
+/**
+ * Request to reconcile pipelines
+ *
+ * @param pipelines ids of pipelines to reconcile, all pipelines are reconciled if empty
+ */
+public record ReconcileRequest(List<Long> pipelines) {
+}
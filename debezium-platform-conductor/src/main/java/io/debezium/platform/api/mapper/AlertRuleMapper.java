@@ -0,0 +1,37 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.api.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import io.debezium.platform.api.dto.AlertRuleRequest;
+import io.debezium.platform.api.dto.AlertRuleResponse;
+import io.debezium.platform.api.dto.NamedRef;
+import io.debezium.platform.domain.views.AlertRule;
+import io.debezium.platform.domain.views.refs.PipelineReference;
+
+@Mapper(componentModel = "cdi")
+public abstract class AlertRuleMapper extends BaseMapper {
+
+    public abstract AlertRuleResponse toResponse(AlertRule view);
+
+    public abstract List<AlertRuleResponse> toResponseList(List<AlertRule> views);
+
+    public abstract NamedRef toPipelineRef(PipelineReference ref);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "pipeline", ignore = true)
+    abstract void applyBasicFields(AlertRuleRequest request, @MappingTarget AlertRule view);
+
+    public void applyToView(AlertRuleRequest request, AlertRule view) {
+        applyBasicFields(request, view);
+        view.setPipeline(toViewRef(PipelineReference.class, request.pipeline()));
+    }
+}
@@ -58,6 +58,7 @@ public abstract class PipelineMapper extends BaseMapper {
     @Mapping(target = "destination", ignore = true)
     @Mapping(target = "transforms", ignore = true)
     @Mapping(target = "logLevels", ignore = true)
+    @Mapping(target = "environment", ignore = true)
     abstract void applyBasicFieldsFromUpdate(PipelineUpdateRequest request, @MappingTarget Pipeline view);
 
     public void applyUpdateToView(PipelineUpdateRequest request, Pipeline view) {
@@ -0,0 +1,130 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Entity(name = "alert_rule")
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = { "pipeline_id", "name" }))
+public class AlertRuleEntity {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @NotEmpty
+    @Column(nullable = false)
+    private String name;
+
+    @NotNull
+    @ManyToOne
+    @JoinColumn(name = "pipeline_id", nullable = false)
+    private PipelineEntity pipeline;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Metric metric;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Condition condition;
+
+    private double threshold;
+
+    @PositiveOrZero
+    @Column(name = "for_seconds")
+    private long forSeconds;
+
+    private boolean enabled = true;
+
+    public enum Metric {
+        EVENTS_PER_SECOND,
+        MILLISECONDS_BEHIND_SOURCE,
+        QUEUE_UTILIZATION
+    }
+
+    public enum Condition {
+        ABOVE,
+        BELOW
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public PipelineEntity getPipeline() {
+        return pipeline;
+    }
+
+    public void setPipeline(PipelineEntity pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(Metric metric) {
+        this.metric = metric;
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    public void setCondition(Condition condition) {
+        this.condition = condition;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public long getForSeconds() {
+        return forSeconds;
+    }
+
+    public void setForSeconds(long forSeconds) {
+        this.forSeconds = forSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
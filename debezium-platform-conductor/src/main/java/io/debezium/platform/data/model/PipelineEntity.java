@@ -58,6 +58,13 @@ public class PipelineEntity {
     @Column(name = "default_log_level")
     private String defaultLogLevel = "info";
 
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long revision;
+
+    @NotEmpty
+    @Column(nullable = false, updatable = false)
+    private String environment = "default";
+
     public Long getId() {
         return id;
     }
@@ -114,6 +121,18 @@ public class PipelineEntity {
         this.defaultLogLevel = defaultLogLevel;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public void setEnvironment(String environment) {
+        this.environment = environment;
+    }
+
     public Map<String, String> getLogLevels() {
         return logLevels;
     }
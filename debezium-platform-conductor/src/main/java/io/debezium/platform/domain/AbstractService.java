@@ -90,6 +90,37 @@ public class AbstractService<E, T extends IdView, R extends IdView> {
                 cb().where(referenceAttribute + ID_ATTRIBUTE).eq(referenceId)).getResultList();
     }
 
+    /**
+     * Lists ids of all entities, without loading any view
+     *
+     * @return ids of all entities
+     */
+    @Transactional(SUPPORTS)
+    public List<Long> listIds() {
+        return cbf.create(em, Long.class)
+                .from(entityType)
+                .select("id")
+                .orderByAsc("id")
+                .getResultList();
+    }
+
+    /**
+     * Finds ids of entities referencing given entity, without loading any view
+     *
+     * @param referenceAttribute attribute referencing the other entity
+     * @param referenceId id of the referenced entity
+     * @return ids of referencing entities
+     */
+    @Transactional(SUPPORTS)
+    public List<Long> findIdsByReference(String referenceAttribute, Long referenceId) {
+        return cbf.create(em, Long.class)
+                .from(entityType)
+                .select("id")
+                .distinct()
+                .where(referenceAttribute + ID_ATTRIBUTE).eq(referenceId)
+                .getResultList();
+    }
+
     @Transactional(SUPPORTS)
     public <V> Optional<V> findByIdAs(Class<V> viewType, Long id) {
         var result = evm.find(em, viewType, id);
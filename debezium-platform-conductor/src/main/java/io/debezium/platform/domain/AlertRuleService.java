@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.domain;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.outbox.quarkus.ExportedEvent;
+import io.debezium.platform.data.model.AlertRuleEntity;
+import io.debezium.platform.domain.views.AlertRule;
+import io.debezium.platform.domain.views.refs.AlertRuleReference;
+import io.debezium.platform.environment.alerts.Alert;
+import io.debezium.platform.environment.watcher.events.AlertEvent;
+import io.debezium.platform.environment.watcher.events.AlertRuleEvent;
+
+@ApplicationScoped
+public class AlertRuleService extends AbstractService<AlertRuleEntity, AlertRule, AlertRuleReference> {
+
+    public static final String PIPELINE_REFERENCE_ATTRIBUTE = "pipeline";
+
+    @Inject
+    Event<ExportedEvent<?, ?>> event;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    public AlertRuleService(EntityManager em, CriteriaBuilderFactory cbf, EntityViewManager evm) {
+        super(AlertRuleEntity.class, AlertRule.class, AlertRuleReference.class, em, cbf, evm);
+    }
+
+    /**
+     * Lists rules which are evaluated
+     *
+     * @return enabled rules
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<AlertRule> listEnabled() {
+        return evm.applySetting(EntityViewSetting.create(AlertRule.class), cb().where("enabled").eq(true))
+                .getResultList();
+    }
+
+    /**
+     * Emits given alert through the outbox, so that it is delivered to the notifiers once its transaction commits
+     *
+     * @param alert fired or resolved alert
+     */
+    @Transactional(Transactional.TxType.REQUIRED)
+    public void emit(Alert alert) {
+        event.fire(AlertEvent.of(alert, objectMapper));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRED)
+    public void onChange(AlertRule view) {
+        event.fire(AlertRuleEvent.update(view, objectMapper));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRED)
+    public void onChange(Long id) {
+        event.fire(AlertRuleEvent.delete(id));
+    }
+}
@@ -35,8 +35,7 @@ public class DestinationService extends AbstractService<DestinationEntity, Desti
     @Override
     @Transactional(Transactional.TxType.REQUIRED)
     public void onChange(Destination destination) {
-        pipelineService.findViewByReference(DESTINATION_REFERENCE_ATTRIBUTE, destination.getId())
-                .forEach(pipelineService::onChange);
+        pipelineService.onChangeAll(pipelineService.findIdsByReference(DESTINATION_REFERENCE_ATTRIBUTE, destination.getId()));
     }
 
     @Transactional(SUPPORTS)
@@ -0,0 +1,241 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.debezium.platform.environment.logs.LogReader;
+
+/**
+ * Reads a single log and broadcasts its lines to all subscribers.
+ * <br>
+ *
+ * Lines are kept in a bounded ring buffer from which every subscription reads at its own position.
+ * A subscription falling behind by more than the size of the buffer skips the overwritten lines, so that
+ * a slow subscriber never holds back the log or other subscribers. The log is closed together with the hub,
+ * which happens when the last subscriber leaves.
+ * <br>
+ *
+ * Lines are pushed to the hub by the {@link LogReader#lines(Executor) publisher} of the log, and subscribers
+ * wait for them on a condition, so that lines are passed on as soon as they are read and idle logs use no CPU.
+ */
+final class LogHub implements Flow.Subscriber<String>, Closeable {
+
+    private final String name;
+    private final Supplier<LogReader> supplier;
+    private final Logger logger;
+    private final String[] lines;
+    private final Lock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    // guarded by lock
+    private long written;
+    private int subscribers;
+
+    private volatile boolean closed;
+    private volatile LogReader reader;
+    private volatile Flow.Subscription upstream;
+
+    LogHub(String name, Supplier<LogReader> supplier, Logger logger, int size) {
+        this.name = name;
+        this.supplier = supplier;
+        this.logger = logger;
+        this.lines = new String[size];
+    }
+
+    String getName() {
+        return name;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Subscribes to the log, starting with the most recent lines
+     *
+     * @param replay maximum number of already read lines passed to the subscriber
+     * @return new subscription
+     */
+    Subscription subscribe(int replay) {
+        lock.lock();
+        try {
+            subscribers++;
+            var oldest = Math.max(0, written - Math.min(replay, lines.length));
+            return new Subscription(oldest);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels given subscription
+     *
+     * @param subscription cancelled subscription
+     * @return {@code true} if it was the last subscription, {@code false} otherwise
+     */
+    boolean unsubscribe(Subscription subscription) {
+        lock.lock();
+        try {
+            subscription.cancelled = true;
+            appended.signalAll();
+            return --subscribers == 0;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens the log and starts reading it
+     *
+     * @param executor executor reading the log
+     */
+    void open(Executor executor) {
+        reader = supplier.get();
+        reader.lines(executor).subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        upstream = subscription;
+        if (closed) {
+            subscription.cancel();
+            return;
+        }
+        // lines never wait for subscribers, which skip lines overwritten in the buffer instead
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        append(line);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        if (!closed) {
+            logger.errorf(error, "Error streaming from log %s", name);
+        }
+        close();
+    }
+
+    @Override
+    public void onComplete() {
+        logger.infof("Finished streaming from log %s", name);
+        close();
+    }
+
+    private void append(String line) {
+        lock.lock();
+        try {
+            lines[(int) (written % lines.length)] = line;
+            written++;
+            appended.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops reading the log. Subscribers receive the remaining buffered lines and finish.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        lock.lock();
+        try {
+            appended.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        var subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        // ends a pending read of the log, see LogReader#close()
+        var log = reader;
+        if (log != null) {
+            try {
+                log.close();
+            }
+            catch (IOException e) {
+                logger.debugf(e, "Unable to close log %s", name);
+            }
+        }
+    }
+
+    final class Subscription {
+
+        // guarded by lock
+        private long position;
+        private long skipped;
+        private boolean cancelled;
+
+        private Subscription(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Waits for the next line of the log
+         *
+         * @return next line, or {@code null} if the subscription was cancelled or the log was closed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        String next() throws InterruptedException {
+            lock.lock();
+            try {
+                while (position == written && !closed && !cancelled) {
+                    appended.await();
+                }
+                if (cancelled || position == written) {
+                    return null;
+                }
+
+                var oldest = written - lines.length;
+                if (position < oldest) {
+                    skipped += oldest - position;
+                    logger.debugf("Subscriber of log %s fell behind and skipped %d lines", name, oldest - position);
+                    position = oldest;
+                }
+                return lines[(int) (position++ % lines.length)];
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return number of lines skipped because the subscriber fell behind
+         */
+        long skipped() {
+            lock.lock();
+            try {
+                return skipped;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+}
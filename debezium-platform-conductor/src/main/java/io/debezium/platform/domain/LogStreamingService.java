@@ -6,7 +6,8 @@
 package io.debezium.platform.domain;
 
 import java.io.Closeable;
-import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -19,28 +20,41 @@ import org.jboss.logging.Logger;
 import io.debezium.platform.environment.logs.LogReader;
 import io.quarkus.virtual.threads.VirtualThreads;
 
+/**
+ * Streams logs to their consumers.
+ * <br>
+ *
+ * All consumers of the same log share a single {@link LogHub}, so that a log is read only once regardless of
+ * the number of its consumers. The log is opened with the first consumer and closed when the last one stops.
+ */
 @ApplicationScoped
 public class LogStreamingService {
 
-    public static final int NO_DATA_SLEEP_MS = 1000;
+    public static final int BUFFERED_LINES = 1000;
+    public static final int REPLAYED_LINES = 100;
 
     private final Logger logger;
     private final ExecutorService executorService;
+    // guarded by this
+    private final Map<String, LogHub> hubs = new HashMap<>();
 
     public static class LogStreamingTask implements Runnable, Closeable {
         private final Logger logger;
 
         private final String name;
         private final AtomicBoolean running;
-        private final Supplier<LogReader> supplier;
+        private final LogHub.Subscription subscription;
         private final Consumer<String> consumer;
+        private final Consumer<LogStreamingTask> onStop;
 
-        public LogStreamingTask(String name, Supplier<LogReader> supplier, Consumer<String> consumer, Logger logger) {
+        LogStreamingTask(String name, LogHub.Subscription subscription, Consumer<String> consumer, Consumer<LogStreamingTask> onStop,
+                         Logger logger) {
             this.name = name;
-            this.supplier = supplier;
+            this.subscription = subscription;
             this.consumer = consumer;
+            this.onStop = onStop;
             this.logger = logger;
-            this.running = new AtomicBoolean(false);
+            this.running = new AtomicBoolean(true);
         }
 
         public String getName() {
@@ -51,41 +65,48 @@ public class LogStreamingService {
             return running.get();
         }
 
+        /**
+         * @return number of lines skipped because the consumer could not keep up with the log
+         */
+        public long getSkippedLines() {
+            return subscription.skipped();
+        }
+
         public void stop() {
-            if (!running.compareAndSet(true, false)) {
+            if (running.compareAndSet(true, false)) {
                 logger.infof("Stopping log streamer for '%s'", name);
+                onStop.accept(this);
             }
         }
 
+        LogHub.Subscription getSubscription() {
+            return subscription;
+        }
+
         @Override
         public void run() {
-            if (!running.compareAndSet(false, true)) {
-                return;
-            }
             logger.infof("Starting log streamer for '%s'", name);
-
-            try (var reader = supplier.get()) {
-                doStream(reader);
+            try {
+                doStream();
                 logger.infof("Finished streaming from log %s", name);
             }
-            catch (IOException e) {
-                logger.errorf("Error streaming from log %s", name);
-            }
             catch (InterruptedException e) {
                 logger.errorf("Interrupted while waiting for more logs from log %s", name);
                 Thread.currentThread().interrupt();
             }
+            catch (RuntimeException e) {
+                logger.warnf(e, "Error passing log %s to consumer", name);
+            }
             finally {
                 stop();
             }
         }
 
-        private void doStream(LogReader reader) throws InterruptedException, IOException {
+        private void doStream() throws InterruptedException {
             while (isRunning()) {
-                var line = reader.readLine();
+                var line = subscription.next();
                 if (line == null) {
-                    Thread.sleep(NO_DATA_SLEEP_MS);
-                    continue;
+                    return;
                 }
                 consumer.accept(line);
             }
@@ -103,14 +124,45 @@ public class LogStreamingService {
     }
 
     /**
-     * Starts streaming the log, passing each line to given consumer.
+     * Starts streaming the log, passing each line to given consumer. Consumers of a log which is already streamed
+     * receive its most recent lines first.
      *
+     * @param name name of the log, shared by all its consumers
+     * @param logSupplier supplier of the log reader, used by the first consumer of the log
      * @param consumer log consumer
      */
-    public LogStreamingTask stream(String name, Supplier<LogReader> logSupplier, Consumer<String> consumer) {
-        logger.infof("Starting log streamer for log %s", name);
-        var task = new LogStreamingTask(name, logSupplier, consumer, logger);
+    public synchronized LogStreamingTask stream(String name, Supplier<LogReader> logSupplier, Consumer<String> consumer) {
+        var hub = hubs.get(name);
+        if (hub == null || hub.isClosed()) {
+            logger.infof("Opening log %s", name);
+            hub = new LogHub(name, logSupplier, logger, BUFFERED_LINES);
+            hubs.put(name, hub);
+            hub.open(executorService);
+        }
+
+        var subscribed = hub;
+        var task = new LogStreamingTask(name, hub.subscribe(REPLAYED_LINES), consumer, stopped -> unsubscribe(subscribed, stopped), logger);
         executorService.submit(task);
         return task;
     }
+
+    private void unsubscribe(LogHub hub, LogStreamingTask task) {
+        synchronized (this) {
+            if (!hub.unsubscribe(task.getSubscription())) {
+                return;
+            }
+            hubs.remove(hub.getName(), hub);
+        }
+
+        // closed outside of the lock, so that closing a log never holds back other logs
+        logger.infof("Closing log %s, no consumers left", hub.getName());
+        hub.close();
+    }
+
+    /**
+     * @return number of logs currently read
+     */
+    synchronized int openLogs() {
+        return hubs.size();
+    }
 }
@@ -5,13 +5,19 @@
  */
 package io.debezium.platform.domain;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.transaction.Transactional;
 
 import com.blazebit.persistence.CriteriaBuilderFactory;
@@ -24,16 +30,26 @@ import io.debezium.platform.domain.views.Pipeline;
 import io.debezium.platform.domain.views.flat.PipelineFlat;
 import io.debezium.platform.domain.views.refs.PipelineReference;
 import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.signal.SignalDelivery;
+import io.debezium.platform.environment.signal.SignalQueue;
+import io.debezium.platform.environment.status.FleetStatus;
+import io.debezium.platform.environment.status.PipelineStatus;
 import io.debezium.platform.environment.watcher.events.PipelineEvent;
-import io.quarkus.arc.All;
 
 @ApplicationScoped
 public class PipelineService extends AbstractService<PipelineEntity, Pipeline, PipelineReference> {
 
+    private static final String INCREMENT_REVISIONS = "update pipeline set revision = revision + 1 where id in (:ids)";
+    private static final String SELECT_REVISIONS = "select p.id, p.revision from pipeline p where p.id in :ids order by p.id";
+
     private final Event<ExportedEvent<?, ?>> event;
     private final ObjectMapper objectMapper;
     private final LogStreamingService logStreamer;
-    private final List<EnvironmentController> environmentControllers;
+    private final EnvironmentRouter environmentRouter;
+    private final SignalQueue signalQueue;
+    private final AlertRuleService alertRuleService;
+    private volatile FleetStatus fleetStatus;
 
     public PipelineService(EntityManager em,
                            CriteriaBuilderFactory cbf,
@@ -41,19 +57,56 @@ public class PipelineService extends AbstractService<PipelineEntity, Pipeline, P
                            Event<ExportedEvent<?, ?>> event,
                            ObjectMapper objectMapper,
                            LogStreamingService logStreamer,
-                           @All List<EnvironmentController> environmentControllers) {
+                           EnvironmentRouter environmentRouter,
+                           SignalQueue signalQueue,
+                           AlertRuleService alertRuleService) {
         super(PipelineEntity.class, Pipeline.class, PipelineReference.class, em, cbf, evm);
         this.event = event;
         this.objectMapper = objectMapper;
         this.logStreamer = logStreamer;
-        this.environmentControllers = environmentControllers;
+        this.environmentRouter = environmentRouter;
+        this.signalQueue = signalQueue;
+        this.alertRuleService = alertRuleService;
+    }
+
+    @Override
+    public Pipeline create(Pipeline view) {
+        if (view.getEnvironment() == null) {
+            view.setEnvironment(EnvironmentController.DEFAULT_ENVIRONMENT);
+        }
+        // rejects unknown environments
+        environmentRouter.environment(view.getEnvironment());
+        return super.create(view);
+    }
+
+    @Override
+    public void delete(long id) {
+        // remember the environment of the pipeline so that it can be undeployed once removed
+        environmentController(id);
+        // rules are removed by the database together with the pipeline, their evaluation has to stop too
+        var alertRules = alertRuleService.findIdsByReference(AlertRuleService.PIPELINE_REFERENCE_ATTRIBUTE, id);
+        super.delete(id);
+        alertRules.forEach(alertRuleService::onChange);
     }
 
     @Override
     @Transactional(Transactional.TxType.REQUIRED)
     public void onChange(Pipeline view) {
-        var flat = findByIdAs(PipelineFlat.class, view.getId()).orElseThrow();
-        event.fire(PipelineEvent.update(flat, objectMapper));
+        onChangeAll(List.of(view.getId()));
+    }
+
+    /**
+     * Emits update events for all given pipelines, e.g. when a resource they share was changed.
+     * Revisions of all pipelines are incremented and read back by a single statement each.
+     *
+     * @param ids ids of changed pipelines
+     */
+    @Transactional(Transactional.TxType.REQUIRED)
+    public void onChangeAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        nextRevisions(ids).forEach((id, revision) -> event.fire(PipelineEvent.update(id, revision, objectMapper)));
     }
 
     @Override
@@ -63,18 +116,129 @@ public class PipelineService extends AbstractService<PipelineEntity, Pipeline, P
     }
 
     /**
-     * Returns the {@link EnvironmentController} instance for the given pipeline
+     * Loads the current state of the pipeline within a transaction, so that it can be
+     * called by consumers of claim-check events outside of any request.
      *
      * @param id pipeline id
-     * @return {@link EnvironmentController} instance for the given pipeline
+     * @return current pipeline state or empty optional if the pipeline no longer exists
+     */
+    @Transactional(Transactional.TxType.REQUIRED)
+    public Optional<PipelineFlat> findCurrent(Long id) {
+        return findByIdAs(PipelineFlat.class, id);
+    }
+
+    /**
+     * Finds ids of pipelines whose source or destination uses given connection
+     *
+     * @param connectionId connection id
+     * @return ids of pipelines using the connection
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Long> findIdsByConnection(Long connectionId) {
+        return cbf.create(em, Long.class)
+                .from(PipelineEntity.class)
+                .select("id")
+                .whereOr()
+                .where("source.connection.id").eq(connectionId)
+                .where("destination.connection.id").eq(connectionId)
+                .endOr()
+                .getResultList();
+    }
+
+    /**
+     * Finds ids of pipelines assigned to given environment
+     *
+     * @param environment environment name
+     * @return ids of pipelines in the environment, ordered by id
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Long> findIdsByEnvironment(String environment) {
+        return cbf.create(em, Long.class)
+                .from(PipelineEntity.class)
+                .select("id")
+                .where("environment").eq(environment)
+                .orderByAsc("id")
+                .getResultList();
+    }
+
+    /**
+     * Increments revisions of given pipelines. The update locks the pipeline rows, hence concurrent
+     * changes of the same pipeline obtain revisions in the order in which they commit.
+     *
+     * @param ids pipeline ids
+     * @return revision reached by each pipeline, ordered by pipeline id
+     */
+    private Map<Long, Long> nextRevisions(Collection<Long> ids) {
+        em.createNativeQuery(INCREMENT_REVISIONS)
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        Map<Long, Long> revisions = new LinkedHashMap<>();
+        em.createQuery(SELECT_REVISIONS, Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(tuple -> revisions.put(tuple.get(0, Long.class), tuple.get(1, Long.class)));
+        return revisions;
+    }
+
+    /**
+     * Returns the {@link EnvironmentController} instance for the given pipeline. The environment
+     * is resolved through the routing table of {@link EnvironmentRouter}, pipelines which weren't
+     * routed yet are looked up once.
+     *
+     * @param id pipeline id
+     * @return {@link EnvironmentController} instance for the given pipeline, or empty optional if the pipeline doesn't exist
      */
     public Optional<EnvironmentController> environmentController(Long id) {
-        // TODO: only operator environment is supported currently;
-        return findById(id).map(pipeline -> environmentControllers.getFirst());
+        return environmentRouter.route(id)
+                .or(() -> findEnvironment(id).map(environment -> environmentRouter.route(id, environment)));
+    }
+
+    private Optional<String> findEnvironment(Long id) {
+        return cbf.create(em, String.class)
+                .from(PipelineEntity.class)
+                .select("environment")
+                .where("id").eq(id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Returns the status of all deployed pipelines
+     *
+     * @return status of deployed pipelines, or empty optional if the status isn't available
+     */
+    public Optional<FleetStatus> status() {
+        var environments = environmentRouter.environments();
+        if (environments.size() == 1) {
+            return environments.iterator().next().pipelines().status();
+        }
+
+        Map<String, FleetStatus> statuses = new LinkedHashMap<>();
+        environments.forEach(environment -> environment.pipelines().status().ifPresent(status -> statuses.put(environment.name(), status)));
+        if (statuses.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var version = statuses.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue().version())
+                .collect(Collectors.joining(","));
+        var current = fleetStatus;
+        if (current == null || !current.version().equals(version)) {
+            var pipelines = statuses.values().stream()
+                    .flatMap(status -> status.pipelines().stream())
+                    .sorted(Comparator.comparing(PipelineStatus::pipelineId))
+                    .toList();
+            current = new FleetStatus(version, pipelines);
+            fleetStatus = current;
+        }
+        return Optional.of(current);
     }
 
     /**
-     * Streams logs for the given pipeline, invoking given consumer for each log line
+     * Streams logs for the given pipeline, invoking given consumer for each log line. All consumers of the
+     * pipeline logs share a single log reader.
      *
      * @param id       the pipeline id
      * @param consumer the consumer to invoke for each log line
@@ -86,13 +250,29 @@ public class PipelineService extends AbstractService<PipelineEntity, Pipeline, P
                 .map(pipelines -> logStreamer.stream(String.valueOf(id), () -> pipelines.logReader(id), consumer));
     }
 
-    public Optional<String> send(Long pipelineId, Signal signal) {
+    /**
+     * Queues given signal for delivery to the pipeline. The signal is delivered by the
+     * {@link io.debezium.platform.environment.signal.SignalDispatcher} in the background, resubmitting
+     * a queued signal is dead-lettered by the queue.
+     *
+     * @param pipelineId the pipeline id
+     * @param signal     the signal to deliver
+     * @return {@code true} if the signal was queued, {@code false} if a signal with the same id was already queued,
+     *         or empty optional if the pipeline was not found
+     */
+    public Optional<Boolean> send(Long pipelineId, Signal signal) {
         return environmentController(pipelineId)
-                .map(EnvironmentController::pipelines)
-                .map(pipelineController -> {
-                    pipelineController.sendSignal(pipelineId, signal);
+                .map(environment -> signalQueue.enqueue(pipelineId, signal));
+    }
 
-                    return signal.id();
-                });
+    /**
+     * Returns the delivery state of a signal sent to the pipeline
+     *
+     * @param pipelineId the pipeline id
+     * @param signalId   the signal id
+     * @return delivery state, or empty optional if no such signal was queued
+     */
+    public Optional<SignalDelivery> findSignal(Long pipelineId, String signalId) {
+        return signalQueue.find(pipelineId, signalId);
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.domain.views;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import com.blazebit.persistence.view.CreatableEntityView;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.UpdatableEntityView;
+
+import io.debezium.platform.data.model.AlertRuleEntity;
+import io.debezium.platform.domain.views.refs.AlertRuleReference;
+import io.debezium.platform.domain.views.refs.PipelineReference;
+
+@EntityView(AlertRuleEntity.class)
+@CreatableEntityView
+@UpdatableEntityView
+public interface AlertRule extends AlertRuleReference {
+
+    @NotNull
+    PipelineReference getPipeline();
+
+    @NotNull
+    AlertRuleEntity.Metric getMetric();
+
+    @NotNull
+    AlertRuleEntity.Condition getCondition();
+
+    double getThreshold();
+
+    @PositiveOrZero
+    long getForSeconds();
+
+    boolean isEnabled();
+
+    void setName(String name);
+
+    void setPipeline(PipelineReference pipeline);
+
+    void setMetric(AlertRuleEntity.Metric metric);
+
+    void setCondition(AlertRuleEntity.Condition condition);
+
+    void setThreshold(double threshold);
+
+    void setForSeconds(long forSeconds);
+
+    void setEnabled(boolean enabled);
+}
@@ -51,6 +51,8 @@ public interface Pipeline extends NamedView {
 
     Map<String, String> getLogLevels();
 
+    String getEnvironment();
+
     void setDescription(String description);
 
     void setName(String name);
@@ -64,4 +66,6 @@ public interface Pipeline extends NamedView {
     void setLogLevels(Map<String, String> logLevels);
 
     void setTransforms(List<TransformReference> transforms);
+
+    void setEnvironment(String environment);
 }
@@ -38,6 +38,10 @@ public interface PipelineFlat extends NamedView {
 
     Map<String, String> getLogLevels();
 
+    Long getRevision();
+
+    String getEnvironment();
+
     void setDescription(String description);
 
     void setName(String name);
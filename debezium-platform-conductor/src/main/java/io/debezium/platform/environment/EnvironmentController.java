@@ -5,8 +5,21 @@
  */
 package io.debezium.platform.environment;
 
+/**
+ * Environment into which pipelines are deployed, e.g. a namespace of a Kubernetes cluster
+ */
 public interface EnvironmentController {
 
+    /**
+     * Name of the environment pipelines are assigned to unless another environment is requested
+     */
+    String DEFAULT_ENVIRONMENT = "default";
+
+    /**
+     * @return unique name of the environment
+     */
+    String name();
+
     PipelineController pipelines();
 
     VaultController vaults();
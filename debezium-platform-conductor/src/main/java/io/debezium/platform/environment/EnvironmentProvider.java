@@ -0,0 +1,19 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment;
+
+import java.util.List;
+
+/**
+ * Provides the environments of one kind, e.g. all Kubernetes clusters and namespaces managed through the operator
+ */
+public interface EnvironmentProvider {
+
+    /**
+     * @return provided environments
+     */
+    List<EnvironmentController> environments();
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.All;
+
+/**
+ * Routes pipelines to the environments they are assigned to.
+ * <br>
+ *
+ * Environments are looked up by their unique name. The environment of every pipeline routed once
+ * is remembered in a routing table, so that later operations on the pipeline, e.g. reading its
+ * logs or sending signals, reach the right environment without loading the pipeline again.
+ */
+@ApplicationScoped
+public class EnvironmentRouter {
+
+    private final Map<String, EnvironmentController> environments;
+    private final Map<Long, EnvironmentController> routes = new ConcurrentHashMap<>();
+
+    public EnvironmentRouter(@All List<EnvironmentProvider> providers) {
+        Map<String, EnvironmentController> byName = new LinkedHashMap<>();
+        for (var provider : providers) {
+            for (var environment : provider.environments()) {
+                if (byName.putIfAbsent(environment.name(), environment) != null) {
+                    throw new IllegalStateException("Environment " + environment.name() + " is defined more than once");
+                }
+            }
+        }
+        if (!byName.containsKey(EnvironmentController.DEFAULT_ENVIRONMENT)) {
+            throw new IllegalStateException("No default environment is defined");
+        }
+        this.environments = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * @return all environments, the default environment first
+     */
+    public Collection<EnvironmentController> environments() {
+        return environments.values();
+    }
+
+    /**
+     * Returns the environment with given name
+     *
+     * @param name environment name, {@code null} for the default environment
+     * @return environment with given name
+     * @throws IllegalArgumentException if no environment with given name exists
+     */
+    public EnvironmentController environment(String name) {
+        var environment = environments.get(name == null ? EnvironmentController.DEFAULT_ENVIRONMENT : name);
+        if (environment == null) {
+            throw new IllegalArgumentException("Unknown environment " + name + ", available environments are " + environments.keySet());
+        }
+        return environment;
+    }
+
+    /**
+     * Routes a pipeline to given environment and remembers the route
+     *
+     * @param pipelineId pipeline id
+     * @param environment name of the environment the pipeline is assigned to
+     * @return environment of the pipeline
+     */
+    public EnvironmentController route(Long pipelineId, String environment) {
+        var controller = environment(environment);
+        routes.put(pipelineId, controller);
+        return controller;
+    }
+
+    /**
+     * Returns the remembered environment of a pipeline
+     *
+     * @param pipelineId pipeline id
+     * @return environment of the pipeline, or empty optional if the pipeline wasn't routed yet
+     */
+    public Optional<EnvironmentController> route(Long pipelineId) {
+        return Optional.ofNullable(routes.get(pipelineId));
+    }
+
+    /**
+     * Removes the route of a removed pipeline
+     *
+     * @param pipelineId pipeline id
+     */
+    public void forget(Long pipelineId) {
+        routes.remove(pipelineId);
+    }
+}
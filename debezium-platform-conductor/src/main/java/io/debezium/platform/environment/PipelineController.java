@@ -5,9 +5,12 @@
  */
 package io.debezium.platform.environment;
 
+import java.util.Optional;
+
 import io.debezium.platform.domain.Signal;
 import io.debezium.platform.domain.views.flat.PipelineFlat;
 import io.debezium.platform.environment.logs.LogReader;
+import io.debezium.platform.environment.status.FleetStatus;
 
 /**
  * Pipeline environment controller
@@ -59,4 +62,23 @@ public interface PipelineController {
     LogReader logReader(Long id);
 
     void sendSignal(Long pipelineId, Signal signal);
+
+    /**
+     * Scrapes the metrics exposed by the pipeline with given id
+     *
+     * @param id the pipeline id
+     * @return metrics in the Prometheus text format, or empty optional if the pipeline isn't deployed
+     */
+    Optional<String> scrapeMetrics(Long id);
+
+    /**
+     * Returns the status of all pipelines deployed into target environment
+     * <p>
+     * Implementations are expected to answer from state kept in memory, this method
+     * is polled by clients.
+     * </p>
+     *
+     * @return status of deployed pipelines, or empty optional if the status isn't available
+     */
+    Optional<FleetStatus> status();
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.actions.client;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+import io.debezium.platform.environment.alerts.Alert;
+import io.quarkus.rest.client.reactive.Url;
+
+@RegisterRestClient(configKey = "alert-webhook")
+public interface AlertWebhookClient {
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    Response send(@Url String url, Alert alert);
+}
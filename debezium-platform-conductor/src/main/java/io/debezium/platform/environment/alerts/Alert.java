@@ -0,0 +1,48 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.time.Instant;
+
+import io.debezium.platform.data.model.AlertRuleEntity;
+
+/**
+ * Transition of an alert rule, delivered to all {@link AlertNotifier} instances
+ *
+ * @param ruleId id of the rule
+ * @param rule name of the rule
+ * @param pipelineId id of the pipeline the rule watches
+ * @param metric watched metric
+ * @param condition condition the metric met
+ * @param threshold threshold of the condition
+ * @param state new state of the alert
+ * @param value value of the metric which caused the transition
+ * @param since time the condition started to hold
+ * @param timestamp time of the transition
+ */
+public record Alert(
+        Long ruleId,
+        String rule,
+        Long pipelineId,
+        AlertRuleEntity.Metric metric,
+        AlertRuleEntity.Condition condition,
+        double threshold,
+        State state,
+        double value,
+        Instant since,
+        Instant timestamp) {
+
+    public enum State {
+        /**
+         * The condition held for the duration required by the rule
+         */
+        FIRING,
+        /**
+         * The condition no longer holds
+         */
+        RESOLVED
+    }
+}
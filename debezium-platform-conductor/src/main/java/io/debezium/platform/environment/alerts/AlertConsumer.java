@@ -0,0 +1,69 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.logging.Logger;
+
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.watcher.consumers.AbstractEventConsumer;
+import io.debezium.platform.environment.watcher.events.AlertEvent;
+import io.debezium.platform.environment.watcher.events.EventType;
+
+/**
+ * Queues alerts emitted through the outbox for delivery to all {@link AlertNotifier} beans.
+ * <br>
+ *
+ * Every replica consumes the outbox, alerts are queued only by the replica owning their pipeline,
+ * which is also the replica evaluating its rules. Alerts are delivered by {@link AlertDispatcher}, so that
+ * a slow or unavailable notifier neither holds back the consumption of the outbox nor loses the alert.
+ */
+@Dependent
+public class AlertConsumer extends AbstractEventConsumer<Alert> {
+
+    private static final List<String> AGGREGATES = List.of(AlertEvent.AGGREGATE_TYPE);
+    private static final List<String> TYPES = List.of(EventType.FIRING.name(), EventType.RESOLVED.name());
+
+    private final PipelineOwnership ownership;
+    private final AlertQueue queue;
+    private final List<String> notifiers;
+
+    public AlertConsumer(Logger logger, EnvironmentRouter environments, PipelineOwnership ownership, AlertQueue queue,
+                         Instance<AlertNotifier> notifiers) {
+        super(logger, environments, Alert.class);
+        this.ownership = ownership;
+        this.queue = queue;
+        this.notifiers = notifiers.stream().map(AlertNotifier::name).toList();
+    }
+
+    @Override
+    public Collection<String> consumedAggregates() {
+        return AGGREGATES;
+    }
+
+    @Override
+    public Collection<String> consumedTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public void accept(Long id, Optional<Alert> payload) {
+        if (payload.isEmpty() || !ownership.owns(payload.get().pipelineId())) {
+            return;
+        }
+
+        var alert = payload.get();
+        var queued = queue.enqueue(alert, notifiers);
+        logger.debugf("Queued %s alert %s of pipeline %s for %d notifiers", alert.state(), alert.rule(), alert.pipelineId(), queued);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.time.Instant;
+
+/**
+ * Delivery state of an alert queued for a notifier
+ *
+ * @param id id of the queued delivery
+ * @param notifier name of the notifier the alert is delivered to
+ * @param alert queued alert
+ * @param status delivery status
+ * @param attempts number of delivery attempts so far
+ * @param nextAttemptAt time of the next delivery attempt of a pending alert
+ * @param lastError error of the last failed attempt, {@code null} if no attempt failed
+ * @param createdAt time the alert was queued
+ * @param completedAt time the alert was delivered or dead-lettered, {@code null} while pending
+ */
+public record AlertDelivery(Long id, String notifier, Alert alert, Status status, int attempts, Instant nextAttemptAt, String lastError,
+        Instant createdAt, Instant completedAt) {
+
+    public enum Status {
+        PENDING,
+        DELIVERED,
+        DEAD_LETTERED
+    }
+}
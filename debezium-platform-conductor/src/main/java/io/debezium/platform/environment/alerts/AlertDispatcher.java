@@ -0,0 +1,198 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.environment.alerts.config.AlertConfigGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+/**
+ * Delivers alerts queued in the {@link AlertQueue} to their {@link AlertNotifier notifiers} in the background.
+ * <br>
+ *
+ * Due alerts are claimed in batches and delivered on virtual threads with bounded concurrency.
+ * Failed deliveries, e.g. while the webhook is unavailable, are retried with exponential backoff
+ * until the configured number of attempts is reached, then the alert is dead-lettered.
+ */
+@ApplicationScoped
+public class AlertDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AlertDispatcher.class);
+
+    public static final String DELIVERIES_METRIC = "conductor.alerts.deliveries";
+
+    private final AlertQueue queue;
+    private final Map<String, AlertNotifier> notifiers;
+    private final boolean enabled;
+    private final AlertConfigGroup.DeliveryConfigGroup config;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    @Inject
+    public AlertDispatcher(AlertQueue queue, Instance<AlertNotifier> notifiers, AlertConfigGroup config, @VirtualThreads ExecutorService executor,
+                           MeterRegistry registry) {
+        this(queue, notifiers.stream().toList(), config, executor, registry, Clock.systemUTC());
+    }
+
+    AlertDispatcher(AlertQueue queue, List<AlertNotifier> notifiers, AlertConfigGroup config, ExecutorService executor, MeterRegistry registry,
+                    Clock clock) {
+        this.queue = queue;
+        this.notifiers = notifiers.stream().collect(Collectors.toMap(AlertNotifier::name, Function.identity()));
+        this.enabled = config.enabled();
+        this.config = config.delivery();
+        this.executor = executor;
+        this.clock = clock;
+        this.delivered = deliveryCounter(registry, "delivered");
+        this.retried = deliveryCounter(registry, "retried");
+        this.deadLettered = deliveryCounter(registry, "dead_lettered");
+    }
+
+    private static Counter deliveryCounter(MeterRegistry registry, String result) {
+        return Counter.builder(DELIVERIES_METRIC)
+                .description("Number of alert delivery attempts by their result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Scheduled(every = "${conductor.alerts.delivery.poll-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch();
+            queue.prune(clock.instant().minus(config.retention()));
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to dispatch queued alerts", e);
+        }
+    }
+
+    /**
+     * Delivers all due alerts, claiming further batches while full batches are claimed
+     *
+     * @return number of claimed alerts
+     */
+    public int dispatch() {
+        int total = 0;
+        List<AlertDelivery> batch;
+        do {
+            var now = clock.instant();
+            batch = queue.claim(config.batchSize(), now, now.plus(config.lease()));
+            deliver(batch);
+            total += batch.size();
+        } while (batch.size() >= config.batchSize());
+        return total;
+    }
+
+    private void deliver(List<AlertDelivery> batch) {
+        var permits = new Semaphore(config.concurrency());
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+        try {
+            for (var delivery : batch) {
+                var notifier = notifiers.get(delivery.notifier());
+                if (notifier == null) {
+                    LOGGER.info("Dead-lettering alert {} of pipeline {}, notifier {} no longer exists", delivery.alert().rule(),
+                            delivery.alert().pipelineId(), delivery.notifier());
+                    queue.deadLetter(delivery, "Notifier not found", clock.instant());
+                    deadLettered.increment();
+                    continue;
+                }
+
+                permits.acquire();
+                deliveries.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        deliver(delivery, notifier);
+                    }
+                    finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // claimed alerts which weren't delivered are claimed again once their lease expired
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void deliver(AlertDelivery delivery, AlertNotifier notifier) {
+        var alert = delivery.alert();
+        try {
+            notifier.notify(alert);
+            queue.delivered(delivery, clock.instant());
+            delivered.increment();
+            LOGGER.debug("Delivered {} alert {} of pipeline {} to {} after {} attempts", alert.state(), alert.rule(), alert.pipelineId(),
+                    notifier.name(), delivery.attempts());
+        }
+        catch (RuntimeException e) {
+            failed(delivery, e);
+        }
+    }
+
+    private void failed(AlertDelivery delivery, RuntimeException error) {
+        var alert = delivery.alert();
+        var message = error.getCause() != null ? error.getMessage() + ": " + error.getCause().getMessage() : error.getMessage();
+        try {
+            if (delivery.attempts() >= config.maxAttempts()) {
+                LOGGER.warn("Dead-lettering {} alert {} of pipeline {} for {} after {} attempts: {}", alert.state(), alert.rule(), alert.pipelineId(),
+                        delivery.notifier(), delivery.attempts(), message);
+                queue.deadLetter(delivery, message, clock.instant());
+                deadLettered.increment();
+                return;
+            }
+
+            var backoff = backoff(delivery.attempts());
+            LOGGER.debug("Delivery of alert {} of pipeline {} to {} failed, retrying in {}: {}", alert.rule(), alert.pipelineId(), delivery.notifier(),
+                    backoff, message);
+            queue.retry(delivery, clock.instant().plus(backoff), message);
+            retried.increment();
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to record failed delivery of alert {} of pipeline {} to {}", alert.rule(), alert.pipelineId(), delivery.notifier(), e);
+        }
+    }
+
+    /**
+     * @param attempts number of failed attempts
+     * @return delay before the next attempt
+     */
+    Duration backoff(int attempts) {
+        var exponent = Math.min(attempts - 1, 30);
+        var delay = config.initialBackoff().multipliedBy(1L << exponent);
+        if (delay.compareTo(config.maxBackoff()) > 0) {
+            delay = config.maxBackoff();
+        }
+        // jitter spreads retries of alerts which failed together, e.g. during an outage of the webhook
+        var millis = delay.toMillis();
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis / 2, millis + 1));
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.data.model.AlertRuleEntity;
+import io.debezium.platform.domain.AlertRuleService;
+import io.debezium.platform.domain.views.AlertRule;
+import io.debezium.platform.environment.alerts.config.AlertConfigGroup;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.metrics.FleetMetrics;
+import io.debezium.platform.environment.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Evaluates alert rules against the metrics of each collection.
+ * <br>
+ *
+ * Rules are indexed by their pipeline and every rule keeps the state of its alert, so that a collection
+ * evaluates only the rules of the scraped pipelines, once per scrape, instead of rescanning the history of
+ * the metrics. A rule fires once its condition held for the duration required by the rule and resolves as soon
+ * as the condition no longer holds. Unknown values, e.g. failed scrapes, don't change the state of the alert.
+ * Transitions are emitted through the outbox by {@link AlertRuleService}, from which {@link AlertConsumer} delivers
+ * them to the notifiers. Only rules of pipelines owned by this replica are evaluated, alerts of pipelines which moved
+ * to another replica are resolved here and evaluated anew by their new owner.
+ * <br>
+ *
+ * Rules are loaded when the first collection is evaluated and kept up to date by rule events, which are also emitted
+ * for the rules of removed pipelines. Changing a rule restarts its evaluation, changing or removing the rule of a firing
+ * alert resolves the alert.
+ */
+@ApplicationScoped
+public class AlertEvaluator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AlertEvaluator.class);
+
+    public static final String EVALUATION_METRIC = "conductor.alerts.evaluation";
+    public static final String FIRING_METRIC = "conductor.alerts.firing";
+
+    private final AlertRuleService rules;
+    private final PipelineOwnership ownership;
+    private final boolean enabled;
+    private final Clock clock;
+    private final Timer evaluation;
+    // pipeline id -> rule id -> state of the rule
+    private final Map<Long, Map<Long, RuleState>> byPipeline = new HashMap<>();
+    private final Map<Long, Long> pipelineOfRule = new HashMap<>();
+
+    private boolean loaded;
+    private volatile int firing;
+
+    @Inject
+    public AlertEvaluator(AlertRuleService rules, PipelineOwnership ownership, AlertConfigGroup config, MeterRegistry registry) {
+        this(rules, ownership, config, registry, Clock.systemUTC());
+    }
+
+    AlertEvaluator(AlertRuleService rules, PipelineOwnership ownership, AlertConfigGroup config, MeterRegistry registry, Clock clock) {
+        this.rules = rules;
+        this.ownership = ownership;
+        this.enabled = config.enabled();
+        this.clock = clock;
+        this.evaluation = Timer.builder(EVALUATION_METRIC)
+                .description("Time spent evaluating alert rules against a metrics collection")
+                .register(registry);
+        Gauge.builder(FIRING_METRIC, this, evaluator -> evaluator.firing)
+                .description("Number of firing alerts")
+                .register(registry);
+    }
+
+    void onCollected(@Observes FleetMetrics fleet) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            evaluate(fleet);
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to evaluate alert rules", e);
+        }
+    }
+
+    /**
+     * Evaluates the rules of all scraped pipelines and emits the alerts whose state changed
+     *
+     * @param fleet collected metrics
+     * @return fired and resolved alerts
+     */
+    List<Alert> evaluate(FleetMetrics fleet) {
+        var start = System.nanoTime();
+        List<Alert> alerts = new ArrayList<>();
+        synchronized (this) {
+            load();
+            for (var metrics : fleet.pipelines()) {
+                var states = byPipeline.get(metrics.pipelineId());
+                if (states == null || metrics.error() != null || !ownership.owns(metrics.pipelineId())) {
+                    continue;
+                }
+                for (var state : states.values()) {
+                    var alert = state.evaluate(metrics);
+                    if (alert != null) {
+                        firing += alert.state() == Alert.State.FIRING ? 1 : -1;
+                        alerts.add(alert);
+                    }
+                }
+            }
+            // the new owner of a moved pipeline starts its evaluation from scratch
+            for (var entry : byPipeline.entrySet()) {
+                if (!ownership.owns(entry.getKey())) {
+                    entry.getValue().values().forEach(state -> resolve(state, fleet.collectedAt()).ifPresent(alerts::add));
+                }
+            }
+        }
+        evaluation.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        alerts.forEach(this::emit);
+        return alerts;
+    }
+
+    private void emit(Alert alert) {
+        LOGGER.debug("Alert {} of pipeline {} is {}", alert.rule(), alert.pipelineId(), alert.state());
+        try {
+            rules.emit(alert);
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to emit {} alert {} of pipeline {}", alert.state(), alert.rule(), alert.pipelineId(), e);
+        }
+    }
+
+    /**
+     * Starts evaluating given rule, or evaluates it anew if it changed
+     *
+     * @param rule created or updated rule
+     */
+    public void update(AlertRule rule) {
+        Optional<Alert> resolved;
+        synchronized (this) {
+            // rules changed before the first evaluation are loaded with all others
+            if (!loaded) {
+                return;
+            }
+
+            resolved = drop(rule.getId());
+            if (rule.isEnabled()) {
+                add(rule);
+            }
+        }
+        resolved.ifPresent(this::emit);
+    }
+
+    /**
+     * Stops evaluating given rule
+     *
+     * @param ruleId id of the removed rule
+     */
+    public void remove(Long ruleId) {
+        Optional<Alert> resolved;
+        synchronized (this) {
+            resolved = drop(ruleId);
+        }
+        resolved.ifPresent(this::emit);
+    }
+
+    /**
+     * @return alert resolved by dropping the state of the rule, empty if the rule wasn't firing
+     */
+    private Optional<Alert> drop(Long ruleId) {
+        var pipelineId = pipelineOfRule.remove(ruleId);
+        if (pipelineId == null) {
+            return Optional.empty();
+        }
+
+        var states = byPipeline.get(pipelineId);
+        var removed = states.remove(ruleId);
+        if (states.isEmpty()) {
+            byPipeline.remove(pipelineId);
+        }
+        return resolve(removed, clock.instant());
+    }
+
+    /**
+     * @return alert resolved by resetting the state of the rule, empty if the rule wasn't firing
+     */
+    private Optional<Alert> resolve(RuleState state, Instant at) {
+        var alert = state.reset(at);
+        if (alert != null) {
+            firing--;
+        }
+        return Optional.ofNullable(alert);
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+
+        var enabledRules = rules.listEnabled();
+        enabledRules.forEach(this::add);
+        loaded = true;
+        LOGGER.info("Evaluating {} alert rules", enabledRules.size());
+    }
+
+    private void add(AlertRule rule) {
+        var pipelineId = rule.getPipeline().getId();
+        byPipeline.computeIfAbsent(pipelineId, id -> new HashMap<>())
+                .put(rule.getId(), new RuleState(rule.getId(), rule.getName(), pipelineId, rule.getMetric(), rule.getCondition(), rule.getThreshold(),
+                        Duration.ofSeconds(rule.getForSeconds())));
+        pipelineOfRule.put(rule.getId(), pipelineId);
+    }
+
+    private static Double value(AlertRuleEntity.Metric metric, PipelineMetrics metrics) {
+        return switch (metric) {
+            case EVENTS_PER_SECOND -> metrics.eventsPerSecond();
+            case MILLISECONDS_BEHIND_SOURCE -> metrics.milliSecondsBehindSource() == null ? null : metrics.milliSecondsBehindSource().doubleValue();
+            case QUEUE_UTILIZATION -> metrics.queueUtilization();
+        };
+    }
+
+    private static boolean holds(AlertRuleEntity.Condition condition, double value, double threshold) {
+        return switch (condition) {
+            case ABOVE -> value > threshold;
+            case BELOW -> value < threshold;
+        };
+    }
+
+    private static final class RuleState {
+
+        private final Long ruleId;
+        private final String name;
+        private final Long pipelineId;
+        private final AlertRuleEntity.Metric metric;
+        private final AlertRuleEntity.Condition condition;
+        private final double threshold;
+        private final Duration duration;
+
+        private Instant pendingSince;
+        private boolean firing;
+        private double lastValue = Double.NaN;
+
+        private RuleState(Long ruleId, String name, Long pipelineId, AlertRuleEntity.Metric metric, AlertRuleEntity.Condition condition,
+                          double threshold, Duration duration) {
+            this.ruleId = ruleId;
+            this.name = name;
+            this.pipelineId = pipelineId;
+            this.metric = metric;
+            this.condition = condition;
+            this.threshold = threshold;
+            this.duration = duration;
+        }
+
+        /**
+         * @return alert if the scrape fired or resolved it, {@code null} otherwise
+         */
+        private Alert evaluate(PipelineMetrics metrics) {
+            var value = value(metric, metrics);
+            if (value == null) {
+                return null;
+            }
+
+            lastValue = value;
+            var at = metrics.scrapedAt();
+            if (holds(condition, value, threshold)) {
+                if (pendingSince == null) {
+                    pendingSince = at;
+                }
+                if (!firing && !at.isBefore(pendingSince.plus(duration))) {
+                    firing = true;
+                    return new Alert(ruleId, name, pipelineId, metric, condition, threshold, Alert.State.FIRING, value, pendingSince, at);
+                }
+                return null;
+            }
+
+            var since = pendingSince;
+            pendingSince = null;
+            if (firing) {
+                firing = false;
+                return new Alert(ruleId, name, pipelineId, metric, condition, threshold, Alert.State.RESOLVED, value, since, at);
+            }
+            return null;
+        }
+
+        /**
+         * Forgets the state of the alert
+         *
+         * @param at time of the reset
+         * @return resolved alert if the rule was firing, {@code null} otherwise
+         */
+        private Alert reset(Instant at) {
+            var since = pendingSince;
+            pendingSince = null;
+            if (firing) {
+                firing = false;
+                return new Alert(ruleId, name, pipelineId, metric, condition, threshold, Alert.State.RESOLVED, lastValue, since, at);
+            }
+            return null;
+        }
+    }
+}
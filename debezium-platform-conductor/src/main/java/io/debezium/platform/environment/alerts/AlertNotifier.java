@@ -0,0 +1,25 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+/**
+ * Delivers fired and resolved alerts to their audience. Every notifier bean receives all alerts of the pipelines
+ * owned by this conductor replica, a notifier failing doesn't prevent others from being notified.
+ */
+public interface AlertNotifier {
+
+    /**
+     * @return name of the notifier used in logs
+     */
+    String name();
+
+    /**
+     * Delivers given alert
+     *
+     * @param alert fired or resolved alert
+     */
+    void notify(Alert alert);
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.DebeziumException;
+import io.debezium.platform.environment.alerts.AlertDelivery.Status;
+
+/**
+ * Durable queue of alerts waiting to be delivered to {@link AlertNotifier notifiers}.
+ * <br>
+ *
+ * An alert is queued once per notifier, so that a notifier failing to deliver it is retried without
+ * notifying the others again, and queuing the same alert again is ignored. Pending alerts are claimed by
+ * {@link AlertDispatcher} with {@code FOR UPDATE SKIP LOCKED} and leased until their next attempt, so that
+ * concurrent dispatchers never deliver the same attempt twice. Only the oldest pending alert of a rule is
+ * claimed for each notifier, which keeps a notifier from receiving a resolution before the alert it resolves.
+ * Delivered and dead-lettered alerts keep their status until they are pruned.
+ */
+@ApplicationScoped
+public class AlertQueue {
+
+    public static final String TABLE = "alert_delivery";
+
+    private static final String COLUMNS = "id, notifier, alert, status, attempts, next_attempt_at, last_error, created_at, completed_at";
+    private static final String INSERT_STATEMENT = "INSERT INTO " + TABLE + " (notifier, rule_id, pipeline_id, state, alerted_at, alert) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (notifier, rule_id, state, alerted_at) DO NOTHING";
+    private static final String CLAIM_STATEMENT = "UPDATE " + TABLE + " SET attempts = attempts + 1, next_attempt_at = ? "
+            + "WHERE id IN (SELECT d.id FROM " + TABLE + " d WHERE d.status = 'PENDING' AND d.next_attempt_at <= ? "
+            + "AND NOT EXISTS (SELECT 1 FROM " + TABLE + " p WHERE p.status = 'PENDING' AND p.rule_id = d.rule_id AND p.notifier = d.notifier AND p.id < d.id) "
+            + "ORDER BY d.next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING " + COLUMNS;
+    private static final String DELIVERED_STATEMENT = "UPDATE " + TABLE + " SET status = 'DELIVERED', last_error = NULL, completed_at = ? WHERE id = ?";
+    private static final String RETRY_STATEMENT = "UPDATE " + TABLE + " SET next_attempt_at = ?, last_error = ? WHERE id = ?";
+    private static final String DEAD_LETTER_STATEMENT = "UPDATE " + TABLE + " SET status = 'DEAD_LETTERED', last_error = ?, completed_at = ? WHERE id = ?";
+    private static final String PRUNE_STATEMENT = "DELETE FROM " + TABLE + " WHERE status <> 'PENDING' AND completed_at < ?";
+
+    private final AgroalDataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    public AlertQueue(AgroalDataSource dataSource, ObjectMapper objectMapper) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queues given alert for delivery to each of the notifiers
+     *
+     * @param alert alert to deliver
+     * @param notifiers names of the notifiers
+     * @return number of queued deliveries, notifiers the alert was already queued for are skipped
+     */
+    public int enqueue(Alert alert, Collection<String> notifiers) {
+        var json = serialize(alert);
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(INSERT_STATEMENT)) {
+            for (var notifier : notifiers) {
+                statement.setString(1, notifier);
+                statement.setLong(2, alert.ruleId());
+                statement.setLong(3, alert.pipelineId());
+                statement.setString(4, alert.state().name());
+                statement.setObject(5, alert.timestamp().atOffset(ZoneOffset.UTC));
+                statement.setString(6, json);
+                statement.addBatch();
+            }
+
+            int queued = 0;
+            for (var count : statement.executeBatch()) {
+                queued += Math.max(count, 0);
+            }
+            return queued;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to queue alert " + alert.rule() + " of pipeline " + alert.pipelineId(), e);
+        }
+    }
+
+    /**
+     * Claims pending alerts due for delivery. Claimed alerts count an attempt and aren't claimed again until the lease expires.
+     *
+     * @param limit maximal number of claimed alerts
+     * @param now current time
+     * @param leaseUntil time until which claimed alerts aren't claimed again
+     * @return claimed alerts
+     */
+    public List<AlertDelivery> claim(int limit, Instant now, Instant leaseUntil) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(CLAIM_STATEMENT)) {
+            statement.setObject(1, leaseUntil.atOffset(ZoneOffset.UTC));
+            statement.setObject(2, now.atOffset(ZoneOffset.UTC));
+            statement.setInt(3, limit);
+
+            List<AlertDelivery> claimed = new ArrayList<>();
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    claimed.add(delivery(rs));
+                }
+            }
+            return claimed;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to claim pending alerts", e);
+        }
+    }
+
+    /**
+     * Marks given alert as delivered
+     *
+     * @param delivery claimed alert
+     * @param now delivery time
+     */
+    public void delivered(AlertDelivery delivery, Instant now) {
+        update(DELIVERED_STATEMENT, delivery, now.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Schedules the next delivery attempt of given alert
+     *
+     * @param delivery claimed alert
+     * @param nextAttemptAt time of the next attempt
+     * @param error error of the failed attempt
+     */
+    public void retry(AlertDelivery delivery, Instant nextAttemptAt, String error) {
+        update(RETRY_STATEMENT, delivery, nextAttemptAt.atOffset(ZoneOffset.UTC), error);
+    }
+
+    /**
+     * Gives up delivering given alert
+     *
+     * @param delivery claimed alert
+     * @param error error of the last attempt
+     * @param now current time
+     */
+    public void deadLetter(AlertDelivery delivery, String error, Instant now) {
+        update(DEAD_LETTER_STATEMENT, delivery, error, now.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Removes delivered and dead-lettered alerts completed before given time
+     *
+     * @param cutoff completion time before which alerts are removed
+     * @return number of removed alerts
+     */
+    public int prune(Instant cutoff) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(PRUNE_STATEMENT)) {
+            statement.setObject(1, cutoff.atOffset(ZoneOffset.UTC));
+            return statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to prune completed alerts", e);
+        }
+    }
+
+    private void update(String sql, AlertDelivery delivery, Object... values) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (var value : values) {
+                statement.setObject(index++, value);
+            }
+            statement.setLong(index, delivery.id());
+            statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to update delivery " + delivery.id() + " of alert " + delivery.alert().rule(), e);
+        }
+    }
+
+    private AlertDelivery delivery(ResultSet rs) throws SQLException {
+        return new AlertDelivery(rs.getLong("id"), rs.getString("notifier"), deserialize(rs.getString("alert")), Status.valueOf(rs.getString("status")),
+                rs.getInt("attempts"), instant(rs, "next_attempt_at"), rs.getString("last_error"), instant(rs, "created_at"), instant(rs, "completed_at"));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        var value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private String serialize(Alert alert) {
+        try {
+            return objectMapper.writeValueAsString(alert);
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Unable to serialize alert " + alert.rule() + " of pipeline " + alert.pipelineId(), e);
+        }
+    }
+
+    private Alert deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, Alert.class);
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Unable to deserialize queued alert", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.jboss.logging.Logger;
+
+import io.debezium.platform.domain.views.AlertRule;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.watcher.consumers.AbstractEventConsumer;
+import io.debezium.platform.environment.watcher.events.AlertRuleEvent;
+import io.debezium.platform.environment.watcher.events.EventType;
+
+/**
+ * Keeps the rules evaluated by {@link AlertEvaluator} up to date on every replica
+ */
+@Dependent
+public class AlertRuleConsumer extends AbstractEventConsumer<AlertRule> {
+
+    private static final List<String> AGGREGATES = List.of(AlertRuleEvent.AGGREGATE_TYPE);
+    private static final List<String> TYPES = List.of(EventType.UPDATE.name(), EventType.DELETE.name());
+
+    private final AlertEvaluator evaluator;
+
+    public AlertRuleConsumer(Logger logger, EnvironmentRouter environments, AlertEvaluator evaluator) {
+        super(logger, environments, AlertRule.class);
+        this.evaluator = evaluator;
+    }
+
+    @Override
+    public Collection<String> consumedAggregates() {
+        return AGGREGATES;
+    }
+
+    @Override
+    public Collection<String> consumedTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public void accept(Long id, Optional<AlertRule> payload) {
+        logger.debugf("Received alert rule event: %s", id);
+        payload.ifPresentOrElse(evaluator::update, () -> evaluator.remove(id));
+    }
+}
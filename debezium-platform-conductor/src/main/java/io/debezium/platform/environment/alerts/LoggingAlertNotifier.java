@@ -0,0 +1,36 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes alerts to the conductor log
+ */
+@ApplicationScoped
+public class LoggingAlertNotifier implements AlertNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingAlertNotifier.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void notify(Alert alert) {
+        if (alert.state() == Alert.State.FIRING) {
+            LOGGER.warn("Alert {} of pipeline {} is firing: {} is {} {} since {}", alert.rule(), alert.pipelineId(), alert.metric(), alert.condition(),
+                    alert.threshold(), alert.since());
+        }
+        else {
+            LOGGER.info("Alert {} of pipeline {} is resolved: {} is {}", alert.rule(), alert.pipelineId(), alert.metric(), alert.value());
+        }
+    }
+}
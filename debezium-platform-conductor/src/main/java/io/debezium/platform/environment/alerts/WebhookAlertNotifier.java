@@ -0,0 +1,50 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.environment.actions.client.AlertWebhookClient;
+import io.debezium.platform.environment.alerts.config.AlertConfigGroup;
+
+/**
+ * Posts alerts as JSON to the webhook configured by {@code conductor.alerts.webhook.url}, if any
+ */
+@ApplicationScoped
+public class WebhookAlertNotifier implements AlertNotifier {
+
+    private final AlertWebhookClient client;
+    private final Optional<String> url;
+
+    public WebhookAlertNotifier(@RestClient AlertWebhookClient client, AlertConfigGroup config) {
+        this.client = client;
+        this.url = config.webhook().url();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void notify(Alert alert) {
+        if (url.isEmpty()) {
+            return;
+        }
+
+        try (var response = client.send(url.get(), alert)) {
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                throw new DebeziumException("Webhook %s rejected alert with status %d".formatted(url.get(), response.getStatus()));
+            }
+        }
+    }
+}
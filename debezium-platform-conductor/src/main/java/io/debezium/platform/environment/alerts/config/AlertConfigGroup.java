@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "conductor.alerts")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface AlertConfigGroup {
+
+    /**
+     * Indicates whether alert rules are evaluated against scraped pipeline metrics.
+     *
+     * @return {@code true} if alert rules are evaluated, {@code false} otherwise
+     */
+    boolean enabled();
+
+    WebhookConfigGroup webhook();
+
+    interface WebhookConfigGroup {
+
+        /**
+         * Returns the URL alerts are posted to as JSON. Alerts aren't posted anywhere if not set.
+         *
+         * @return webhook URL
+         */
+        Optional<String> url();
+    }
+
+    DeliveryConfigGroup delivery();
+
+    interface DeliveryConfigGroup {
+
+        /**
+         * Returns how often pending alerts are claimed for delivery.
+         *
+         * @return poll interval
+         */
+        Duration pollInterval();
+
+        /**
+         * Returns the maximum number of alerts claimed at once.
+         *
+         * @return claim batch size
+         */
+        int batchSize();
+
+        /**
+         * Returns the maximum number of alerts delivered concurrently.
+         *
+         * @return delivery concurrency
+         */
+        int concurrency();
+
+        /**
+         * Returns how long a claimed alert isn't claimed again, it has to exceed the time a delivery attempt can take.
+         *
+         * @return claim lease
+         */
+        Duration lease();
+
+        /**
+         * Returns the delay before a failed delivery is attempted again for the first time,
+         * the delay doubles with every further attempt.
+         *
+         * @return initial retry delay
+         */
+        Duration initialBackoff();
+
+        /**
+         * Returns the maximal delay between delivery attempts.
+         *
+         * @return maximal retry delay
+         */
+        Duration maxBackoff();
+
+        /**
+         * Returns the number of delivery attempts before an alert is dead-lettered.
+         *
+         * @return maximal number of attempts
+         */
+        int maxAttempts();
+
+        /**
+         * Returns how long delivered and dead-lettered alerts keep their status before they are removed.
+         *
+         * @return status retention
+         */
+        Duration retention();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.cluster;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.debezium.platform.environment.cluster.config.ClusterConfigGroup;
+
+/**
+ * Identity of this conductor replica.
+ * <br>
+ *
+ * A standalone conductor keeps the names it always used. When several replicas run side by side, each
+ * replica reads the outbox through its own engine and replication slot, both named after the replica id,
+ * and keeps its own entries in the ledger of processed events.
+ */
+@ApplicationScoped
+public class ConductorReplica {
+
+    public static final String STANDALONE = "conductor";
+
+    private static final int MAX_SLOT_NAME_LENGTH = 63;
+
+    private final boolean clustered;
+    private final String id;
+
+    public ConductorReplica(ClusterConfigGroup config) {
+        this(config.enabled(), config.replicaId());
+    }
+
+    ConductorReplica(boolean clustered, String id) {
+        this.clustered = clustered;
+        this.id = clustered ? id : STANDALONE;
+    }
+
+    /**
+     * @return {@code true} if this conductor is one of several replicas, {@code false} otherwise
+     */
+    public boolean clustered() {
+        return clustered;
+    }
+
+    /**
+     * @return id of this replica, {@value #STANDALONE} for a standalone conductor
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return name of the engine watching the outbox, which also keys its offsets
+     */
+    public String engineName() {
+        return clustered ? STANDALONE + "-" + id : STANDALONE;
+    }
+
+    /**
+     * @return name of the replication slot of this replica, empty for the default slot of a standalone conductor
+     */
+    public Optional<String> slotName() {
+        return clustered ? Optional.of(slotName(id)) : Optional.empty();
+    }
+
+    /**
+     * Derives a valid replication slot name, lower case letters, digits and underscores only, from given replica id
+     *
+     * @param replicaId replica id
+     * @return name of the replication slot of the replica
+     */
+    public static String slotName(String replicaId) {
+        var name = STANDALONE + "_" + replicaId.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+        return name.length() > MAX_SLOT_NAME_LENGTH ? name.substring(0, MAX_SLOT_NAME_LENGTH) : name;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.cluster;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.DebeziumException;
+
+/**
+ * Leases of pipelines held by conductor replicas, and the membership of the replicas themselves.
+ * <br>
+ *
+ * Every pipeline is leased by at most one replica, the pipeline id is the primary key of its lease. A lease
+ * is valid until it expires and only its owner can renew it, an expired lease can be taken over by any replica.
+ * Taking over and renewing the same lease lock its row, hence at most one of them succeeds. Leases of removed
+ * pipelines are kept until their owner released them, so that a replica taking them over undeploys the pipeline.
+ */
+@ApplicationScoped
+public class PipelineLeases {
+
+    public static final String TABLE = "pipeline_lease";
+    public static final String REPLICA_TABLE = "conductor_replica";
+
+    private static final String HEARTBEAT_STATEMENT = "INSERT INTO " + REPLICA_TABLE + " (id, expires_at) VALUES (?, ?) "
+            + "ON CONFLICT (id) DO UPDATE SET expires_at = EXCLUDED.expires_at";
+    private static final String LIVE_REPLICAS_STATEMENT = "SELECT count(*) FROM " + REPLICA_TABLE + " WHERE expires_at >= ?";
+    private static final String DEPARTED_REPLICAS_STATEMENT = "SELECT id FROM " + REPLICA_TABLE + " WHERE expires_at < ?";
+    private static final String DEPART_STATEMENT = "UPDATE " + REPLICA_TABLE + " SET expires_at = ? WHERE id = ?";
+    private static final String DELETE_REPLICA_STATEMENT = "DELETE FROM " + REPLICA_TABLE + " WHERE id = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM pg_replication_slots WHERE slot_name = ?)";
+    private static final String DROP_SLOT_STATEMENT = "SELECT pg_drop_replication_slot(slot_name) FROM pg_replication_slots WHERE slot_name = ? AND NOT active";
+    private static final String PIPELINES_STATEMENT = "SELECT count(*) FROM pipeline";
+    private static final String RENEW_STATEMENT = "UPDATE " + TABLE + " SET expires_at = ? WHERE owner = ? AND expires_at >= ? RETURNING pipeline_id";
+    private static final String TAKE_OVER = " ON CONFLICT (pipeline_id) DO UPDATE SET owner = EXCLUDED.owner, acquired_at = EXCLUDED.acquired_at, "
+            + "expires_at = EXCLUDED.expires_at WHERE " + TABLE + ".expires_at < ? "
+            + "RETURNING pipeline_id, EXISTS (SELECT 1 FROM pipeline p WHERE p.id = " + TABLE + ".pipeline_id)";
+    private static final String ACQUIRE_STATEMENT = "INSERT INTO " + TABLE + " (pipeline_id, owner, acquired_at, expires_at) "
+            + "SELECT id, ?, ?, ? FROM ("
+            + "SELECT p.id FROM pipeline p WHERE NOT EXISTS (SELECT 1 FROM " + TABLE + " l WHERE l.pipeline_id = p.id) "
+            + "UNION SELECT l.pipeline_id FROM " + TABLE + " l WHERE l.expires_at < ?"
+            + ") candidates ORDER BY id LIMIT ?" + TAKE_OVER;
+    private static final String ACQUIRE_ONE_STATEMENT = "INSERT INTO " + TABLE + " (pipeline_id, owner, acquired_at, expires_at) VALUES (?, ?, ?, ?)" + TAKE_OVER;
+    private static final String RELEASE_STATEMENT = "DELETE FROM " + TABLE + " WHERE owner = ? AND pipeline_id = ANY (?)";
+    private static final String RELEASE_ALL_STATEMENT = "DELETE FROM " + TABLE + " WHERE owner = ?";
+
+    /**
+     * A lease acquired by a replica
+     *
+     * @param pipelineId id of the leased pipeline
+     * @param pipelineExists whether the pipeline still exists, leases of removed pipelines are taken over to undeploy them
+     */
+    public record Acquired(Long pipelineId, boolean pipelineExists) {
+    }
+
+    private final AgroalDataSource dataSource;
+
+    public PipelineLeases(AgroalDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Records that given replica is alive
+     *
+     * @param replica replica id
+     * @param expiresAt time until which the replica is considered alive
+     */
+    public void heartbeat(String replica, Instant expiresAt) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(HEARTBEAT_STATEMENT)) {
+            statement.setString(1, replica);
+            statement.setObject(2, expiresAt.atOffset(ZoneOffset.UTC));
+            statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to record heartbeat of replica " + replica, e);
+        }
+    }
+
+    /**
+     * @param now current time
+     * @return number of replicas alive at given time
+     */
+    public int liveReplicas(Instant now) {
+        return count(LIVE_REPLICAS_STATEMENT, now);
+    }
+
+    /**
+     * @return number of existing pipelines
+     */
+    public int pipelines() {
+        return count(PIPELINES_STATEMENT, null);
+    }
+
+    /**
+     * Renews all unexpired leases of given replica
+     *
+     * @param replica replica id
+     * @param now current time
+     * @param expiresAt new expiration of the leases
+     * @return ids of pipelines leased by the replica
+     */
+    public Set<Long> renew(String replica, Instant now, Instant expiresAt) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(RENEW_STATEMENT)) {
+            statement.setObject(1, expiresAt.atOffset(ZoneOffset.UTC));
+            statement.setString(2, replica);
+            statement.setObject(3, now.atOffset(ZoneOffset.UTC));
+
+            Set<Long> renewed = new HashSet<>();
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    renewed.add(rs.getLong(1));
+                }
+            }
+            return renewed;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to renew leases of replica " + replica, e);
+        }
+    }
+
+    /**
+     * Acquires leases of pipelines which aren't leased by any replica, or whose lease expired
+     *
+     * @param replica replica id
+     * @param limit maximal number of acquired leases
+     * @param now current time
+     * @param expiresAt expiration of acquired leases
+     * @return acquired leases
+     */
+    public List<Acquired> acquire(String replica, int limit, Instant now, Instant expiresAt) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(ACQUIRE_STATEMENT)) {
+            statement.setString(1, replica);
+            statement.setObject(2, now.atOffset(ZoneOffset.UTC));
+            statement.setObject(3, expiresAt.atOffset(ZoneOffset.UTC));
+            statement.setObject(4, now.atOffset(ZoneOffset.UTC));
+            statement.setInt(5, limit);
+            statement.setObject(6, now.atOffset(ZoneOffset.UTC));
+            return acquired(statement);
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to acquire leases for replica " + replica, e);
+        }
+    }
+
+    /**
+     * Acquires the lease of given pipeline, if it isn't leased by any replica or its lease expired
+     *
+     * @param replica replica id
+     * @param pipelineId pipeline id
+     * @param now current time
+     * @param expiresAt expiration of the acquired lease
+     * @return {@code true} if the lease was acquired, {@code false} otherwise
+     */
+    public boolean acquire(String replica, Long pipelineId, Instant now, Instant expiresAt) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(ACQUIRE_ONE_STATEMENT)) {
+            statement.setLong(1, pipelineId);
+            statement.setString(2, replica);
+            statement.setObject(3, now.atOffset(ZoneOffset.UTC));
+            statement.setObject(4, expiresAt.atOffset(ZoneOffset.UTC));
+            statement.setObject(5, now.atOffset(ZoneOffset.UTC));
+            return !acquired(statement).isEmpty();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to acquire lease of pipeline " + pipelineId + " for replica " + replica, e);
+        }
+    }
+
+    /**
+     * Releases given leases of the replica, so that other replicas can acquire them
+     *
+     * @param replica replica id
+     * @param pipelineIds ids of pipelines whose leases are released
+     */
+    public void release(String replica, Collection<Long> pipelineIds) {
+        if (pipelineIds.isEmpty()) {
+            return;
+        }
+
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(RELEASE_STATEMENT)) {
+            statement.setString(1, replica);
+            statement.setArray(2, connection.createArrayOf("bigint", pipelineIds.toArray()));
+            statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to release leases of replica " + replica, e);
+        }
+    }
+
+    /**
+     * Releases all leases of the replica and marks it as departed, in a single transaction. The replica is kept
+     * until it is {@link #forget(String, String) forgotten}, so that its replication slot is dropped.
+     *
+     * @param replica replica id
+     * @param now current time
+     */
+    public void leave(String replica, Instant now) {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (var release = connection.prepareStatement(RELEASE_ALL_STATEMENT);
+                    var depart = connection.prepareStatement(DEPART_STATEMENT)) {
+                release.setString(1, replica);
+                release.executeUpdate();
+                depart.setObject(1, now.atOffset(ZoneOffset.UTC));
+                depart.setString(2, replica);
+                depart.executeUpdate();
+            }
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to remove replica " + replica, e);
+        }
+    }
+
+    /**
+     * @param cutoff time before which the replicas stopped sending heartbeats
+     * @return ids of replicas which stopped sending heartbeats before given time
+     */
+    public List<String> departed(Instant cutoff) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(DEPARTED_REPLICAS_STATEMENT)) {
+            statement.setObject(1, cutoff.atOffset(ZoneOffset.UTC));
+
+            List<String> departed = new ArrayList<>();
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    departed.add(rs.getString(1));
+                }
+            }
+            return departed;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to read departed replicas", e);
+        }
+    }
+
+    /**
+     * Drops the replication slot of a departed replica, unless it is in use, and forgets the replica once its slot
+     * is gone. A replica whose slot is still in use is kept, so that dropping the slot is retried later.
+     *
+     * @param replica replica id
+     * @param slotName name of the replication slot of the replica
+     * @return {@code true} if the replica was forgotten, {@code false} if its slot is still in use
+     */
+    public boolean forget(String replica, String slotName) {
+        try (var connection = dataSource.getConnection();
+                var drop = connection.prepareStatement(DROP_SLOT_STATEMENT);
+                var delete = connection.prepareStatement(DELETE_REPLICA_STATEMENT)) {
+            drop.setString(1, slotName);
+            drop.execute();
+            delete.setString(1, replica);
+            delete.setString(2, slotName);
+            return delete.executeUpdate() > 0;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to forget replica " + replica, e);
+        }
+    }
+
+    private int count(String sql, Instant now) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(sql)) {
+            if (now != null) {
+                statement.setObject(1, now.atOffset(ZoneOffset.UTC));
+            }
+            try (var rs = statement.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to count leases", e);
+        }
+    }
+
+    private static List<Acquired> acquired(PreparedStatement statement) throws SQLException {
+        List<Acquired> acquired = new ArrayList<>();
+        try (var rs = statement.executeQuery()) {
+            while (rs.next()) {
+                acquired.add(new Acquired(rs.getLong(1), rs.getBoolean(2)));
+            }
+        }
+        return acquired;
+    }
+}
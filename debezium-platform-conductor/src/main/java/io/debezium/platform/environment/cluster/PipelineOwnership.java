@@ -0,0 +1,267 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.cluster;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.cluster.config.ClusterConfigGroup;
+import io.debezium.platform.environment.operator.reconcile.BulkReconciler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Decides which pipelines this conductor replica applies to the environment.
+ * <br>
+ *
+ * A standalone conductor owns every pipeline. When several replicas run side by side, each pipeline is owned
+ * by the replica holding its lease in {@link PipelineLeases}. Replicas periodically renew their leases and
+ * rebalance pipelines among the live replicas, every replica owning at most its fair share of them. Replicas
+ * below their share acquire unleased pipelines and leases which expired, e.g. of a replica which died, and
+ * reconcile them through the {@link BulkReconciler}, since events of these pipelines were skipped while another
+ * replica owned them. Replicas above their share release their excess leases. Ownership is considered lost once
+ * the leases couldn't be renewed before they expired, so that a replica cut off from the database stops applying
+ * pipelines other replicas may have taken over. Lease expiration is based on the clocks of the replicas, which
+ * are expected to be synchronized.
+ */
+@ApplicationScoped
+public class PipelineOwnership {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineOwnership.class);
+
+    public static final String OWNED_METRIC = "conductor.cluster.owned.pipelines";
+
+    private final PipelineLeases leases;
+    private final ConductorReplica replica;
+    private final ClusterConfigGroup config;
+    private final BulkReconciler reconciler;
+    private final EnvironmentRouter environments;
+    private final Clock clock;
+    private final Set<Long> unreconciled = ConcurrentHashMap.newKeySet();
+
+    private volatile Set<Long> owned = Set.of();
+    private volatile Instant ownedUntil = Instant.MIN;
+    private volatile int fairShare;
+
+    @Inject
+    public PipelineOwnership(PipelineLeases leases, ConductorReplica replica, ClusterConfigGroup config, BulkReconciler reconciler,
+                             EnvironmentRouter environments, MeterRegistry registry) {
+        this(leases, replica, config, reconciler, environments, registry, Clock.systemUTC());
+    }
+
+    PipelineOwnership(PipelineLeases leases, ConductorReplica replica, ClusterConfigGroup config, BulkReconciler reconciler,
+                      EnvironmentRouter environments, MeterRegistry registry, Clock clock) {
+        this.leases = leases;
+        this.replica = replica;
+        this.config = config;
+        this.reconciler = reconciler;
+        this.environments = environments;
+        this.clock = clock;
+        Gauge.builder(OWNED_METRIC, this, ownership -> ownership.owned.size())
+                .description("Number of pipelines owned by this conductor replica")
+                .register(registry);
+    }
+
+    /**
+     * Determines whether this replica applies events of given pipeline
+     *
+     * @param pipelineId pipeline id
+     * @return {@code true} if the pipeline is owned by this replica, {@code false} otherwise
+     */
+    public boolean owns(Long pipelineId) {
+        if (!replica.clustered()) {
+            return true;
+        }
+        return !clock.instant().isAfter(ownedUntil) && owned.contains(pipelineId);
+    }
+
+    /**
+     * Determines whether this replica applies events of given pipeline, acquiring it first if it isn't leased
+     * by any replica yet and this replica owns less than its share, e.g. when the pipeline was just created
+     *
+     * @param pipelineId pipeline id
+     * @return {@code true} if the pipeline is owned by this replica, {@code false} otherwise
+     */
+    public boolean claim(Long pipelineId) {
+        if (owns(pipelineId)) {
+            return true;
+        }
+        if (owned.size() >= fairShare) {
+            return false;
+        }
+
+        synchronized (this) {
+            var now = clock.instant();
+            if (now.isAfter(ownedUntil) || !leases.acquire(replica.id(), pipelineId, now, now.plus(config.leaseDuration()))) {
+                return false;
+            }
+            var current = new HashSet<>(owned);
+            current.add(pipelineId);
+            owned = Set.copyOf(current);
+        }
+        LOGGER.info("Replica {} acquired pipeline {}", replica.id(), pipelineId);
+        return true;
+    }
+
+    /**
+     * Releases given pipeline once it was removed and undeployed
+     *
+     * @param pipelineId pipeline id
+     */
+    public void removed(Long pipelineId) {
+        if (!replica.clustered()) {
+            return;
+        }
+
+        synchronized (this) {
+            var current = new HashSet<>(owned);
+            current.remove(pipelineId);
+            owned = Set.copyOf(current);
+        }
+        leases.release(replica.id(), List.of(pipelineId));
+    }
+
+    @Scheduled(every = "${conductor.cluster.renew-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRebalance() {
+        if (!replica.clustered()) {
+            return;
+        }
+
+        try {
+            rebalance();
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to renew pipeline leases of replica {}", replica.id(), e);
+        }
+    }
+
+    /**
+     * Renews the leases of this replica and acquires or releases pipelines so that it owns its fair share of them
+     */
+    void rebalance() {
+        List<Long> removed = new ArrayList<>();
+        List<Long> released = new ArrayList<>();
+
+        synchronized (this) {
+            var now = clock.instant();
+            var expiresAt = now.plus(config.leaseDuration());
+            leases.heartbeat(replica.id(), expiresAt);
+            var current = new HashSet<>(leases.renew(replica.id(), now, expiresAt));
+
+            var lost = new HashSet<>(owned);
+            lost.removeAll(current);
+            if (!lost.isEmpty()) {
+                LOGGER.warn("Replica {} lost leases of {} pipelines", replica.id(), lost.size());
+            }
+
+            var share = fairShare(leases.pipelines(), leases.liveReplicas(now));
+            if (current.size() > share) {
+                current.stream()
+                        .sorted(Comparator.reverseOrder())
+                        .limit(current.size() - share)
+                        .forEach(released::add);
+                released.forEach(current::remove);
+            }
+            else if (current.size() < share) {
+                for (var lease : leases.acquire(replica.id(), share - current.size(), now, expiresAt)) {
+                    current.add(lease.pipelineId());
+                    if (!lease.pipelineExists()) {
+                        removed.add(lease.pipelineId());
+                    }
+                }
+            }
+
+            // includes leases still held from before a restart, events of these pipelines were skipped meanwhile
+            current.stream()
+                    .filter(pipelineId -> !owned.contains(pipelineId) && !removed.contains(pipelineId))
+                    .forEach(unreconciled::add);
+
+            // stop applying released pipelines before other replicas can acquire them
+            owned = Set.copyOf(current);
+            ownedUntil = expiresAt;
+            fairShare = share;
+            unreconciled.retainAll(current);
+        }
+
+        if (!released.isEmpty()) {
+            LOGGER.info("Replica {} releases {} pipelines above its share", replica.id(), released.size());
+            leases.release(replica.id(), released);
+        }
+        removed.forEach(this::undeploy);
+        reconcileAcquired();
+        forgetDeparted();
+    }
+
+    private static int fairShare(int pipelines, int replicas) {
+        return replicas <= 1 ? pipelines : (pipelines + replicas - 1) / replicas;
+    }
+
+    private void reconcileAcquired() {
+        if (unreconciled.isEmpty()) {
+            return;
+        }
+
+        // a bulk reconcile already in progress defers acquired pipelines to the next rebalance
+        var pipelineIds = List.copyOf(unreconciled);
+        reconciler.start(pipelineIds).ifPresent(progress -> {
+            LOGGER.info("Replica {} acquired {} pipelines, reconcile {} started", replica.id(), pipelineIds.size(), progress.id());
+            pipelineIds.forEach(unreconciled::remove);
+        });
+    }
+
+    private void undeploy(Long pipelineId) {
+        LOGGER.info("Replica {} acquired removed pipeline {}, undeploying it", replica.id(), pipelineId);
+        var targets = environments.route(pipelineId)
+                .map(List::of)
+                .orElseGet(() -> List.copyOf(environments.environments()));
+        targets.forEach(environment -> environment.pipelines().undeploy(pipelineId));
+        environments.forget(pipelineId);
+        removed(pipelineId);
+    }
+
+    private void forgetDeparted() {
+        for (var departed : leases.departed(clock.instant().minus(config.slotRetention()))) {
+            LOGGER.info("Dropping replication slot of departed replica {}", departed);
+            if (!leases.forget(departed, ConductorReplica.slotName(departed))) {
+                LOGGER.warn("Replication slot of departed replica {} is still in use, dropping it later", departed);
+            }
+        }
+    }
+
+    void leave(@Observes ShutdownEvent event) {
+        if (!replica.clustered()) {
+            return;
+        }
+
+        synchronized (this) {
+            owned = Set.of();
+            ownedUntil = Instant.MIN;
+        }
+        try {
+            leases.leave(replica.id(), clock.instant());
+            LOGGER.info("Replica {} released its pipelines", replica.id());
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to release pipelines of replica {}, they are taken over once their leases expire", replica.id(), e);
+        }
+    }
+}
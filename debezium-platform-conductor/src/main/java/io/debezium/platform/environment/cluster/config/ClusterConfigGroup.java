@@ -0,0 +1,57 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.cluster.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "conductor.cluster")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface ClusterConfigGroup {
+
+    /**
+     * Indicates whether several conductor replicas run side by side. Every replica then watches the
+     * outbox through its own replication slot and applies only events of pipelines it owns.
+     *
+     * @return {@code true} if the conductor runs as one of several replicas, {@code false} otherwise
+     */
+    boolean enabled();
+
+    /**
+     * Returns the id of this replica. The id names the replication slot of the replica and must be
+     * stable across restarts, e.g. the pod name of a StatefulSet.
+     *
+     * @return replica id
+     */
+    String replicaId();
+
+    /**
+     * Returns how long pipeline leases and the membership of a replica are valid without being renewed.
+     * Pipelines of a replica which stopped renewing are taken over by other replicas once it elapsed.
+     *
+     * @return lease duration
+     */
+    Duration leaseDuration();
+
+    /**
+     * Returns how often leases are renewed and pipelines rebalanced among live replicas, e.g. {@code 5s}.
+     * Must be well below the lease duration.
+     *
+     * @return renew interval
+     */
+    String renewInterval();
+
+    /**
+     * Returns how long the replication slot of a replica which left the cluster is kept before it is dropped,
+     * so that a restarted replica resumes where it stopped while slots of removed replicas don't retain WAL forever.
+     *
+     * @return retention of slots of departed replicas
+     */
+    Duration slotRetention();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.logs;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes lines of a {@link LogReader}. Lines are read by a blocking read, which parks the reading thread
+ * while the log is idle, and are passed to the subscriber as soon as they are read. The reader is closed
+ * once reading stops, whether the log ended, failed or the subscriber left.
+ */
+final class LinePublisher implements Flow.Publisher<String> {
+
+    private final LogReader reader;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    LinePublisher(LogReader reader, Executor executor) {
+        this.reader = reader;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Log lines can be published to a single subscriber"));
+            return;
+        }
+
+        var publisher = new SubmissionPublisher<String>(executor, Flow.defaultBufferSize());
+        publisher.subscribe(subscriber);
+        executor.execute(() -> read(publisher));
+    }
+
+    private void read(SubmissionPublisher<String> publisher) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null && publisher.hasSubscribers()) {
+                publisher.submit(line);
+            }
+            publisher.close();
+        }
+        catch (IOException | RuntimeException e) {
+            publisher.closeExceptionally(e);
+        }
+        finally {
+            try {
+                reader.close();
+            }
+            catch (IOException e) {
+                // the publisher is already closed, nobody is left to report the failure to
+            }
+        }
+    }
+}
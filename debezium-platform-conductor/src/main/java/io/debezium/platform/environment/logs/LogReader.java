@@ -8,6 +8,8 @@ package io.debezium.platform.environment.logs;
 import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 public interface LogReader extends Closeable {
 
@@ -42,9 +44,27 @@ public interface LogReader extends Closeable {
      */
     String readLine() throws IOException;
 
+    /**
+     * Publishes lines of the live log as soon as they are read.
+     * <p>
+     * Lines are read on given executor once subscribed, each publisher supports a single subscriber.
+     * The publisher completes when the end of the log is reached, e.g. when the pod terminates,
+     * and fails when the log can't be read. Closing the reader stops the publisher.
+     * </p>
+     *
+     * @param executor executor reading the log and delivering its lines
+     * @return publisher of log lines
+     */
+    default Flow.Publisher<String> lines(Executor executor) {
+        return new LinePublisher(this, executor);
+    }
+
     /**
      * Closes the log reader and releases any resources associated
      * with it (e.g. {@link BufferedReader} returned by calling {@link #reader()}).
+     * <p>
+     * Closing the log reader must end a read pending in another thread rather than wait for it.
+     * </p>
      */
     @Override
     void close() throws IOException;
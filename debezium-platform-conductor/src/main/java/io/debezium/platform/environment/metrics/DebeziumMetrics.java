@@ -0,0 +1,121 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connector metrics read from a single scrape of a Debezium Server instance.
+ * <br>
+ *
+ * Debezium exposes its connector MBeans through the Prometheus JMX exporter, every attribute becoming
+ * a metric whose name ends with the attribute name, e.g. {@code debezium_metrics_MilliSecondsBehindSource},
+ * labelled with the metrics context. Events are counted across snapshot and streaming, lag is taken from
+ * the streaming context and the queue utilization of the fullest queue is reported.
+ *
+ * @param totalEvents number of events seen by the connector, {@code null} if not exposed
+ * @param milliSecondsBehindSource lag behind the source database, {@code null} if not known
+ * @param queueUtilization utilization of the connector queue between 0 and 1, {@code null} if not exposed
+ */
+public record DebeziumMetrics(Long totalEvents, Long milliSecondsBehindSource, Double queueUtilization) {
+
+    private static final String TOTAL_EVENTS = "TotalNumberOfEventsSeen";
+    private static final String BEHIND_SOURCE = "MilliSecondsBehindSource";
+    private static final String QUEUE_TOTAL = "QueueTotalCapacity";
+    private static final String QUEUE_REMAINING = "QueueRemainingCapacity";
+    private static final String CONTEXT_LABEL = "context";
+    private static final String STREAMING_CONTEXT = "streaming";
+
+    /**
+     * Reads connector metrics from given metrics in the Prometheus text format, other metrics are ignored
+     *
+     * @param text scraped metrics
+     * @return connector metrics
+     */
+    public static DebeziumMetrics parse(String text) {
+        Long totalEvents = null;
+        Long behindSource = null;
+        Map<String, Double> queueTotal = new HashMap<>();
+        Map<String, Double> queueRemaining = new HashMap<>();
+
+        for (var line : text.split("\n")) {
+            var sample = Sample.parse(line.strip());
+            if (sample == null) {
+                continue;
+            }
+
+            var context = sample.context();
+            if (sample.is(TOTAL_EVENTS)) {
+                totalEvents = (totalEvents == null ? 0 : totalEvents) + (long) sample.value();
+            }
+            else if (sample.is(BEHIND_SOURCE)) {
+                // -1 until the first event was streamed, snapshots don't report any lag
+                if (sample.value() >= 0 && (context.isEmpty() || STREAMING_CONTEXT.equals(context))) {
+                    behindSource = Math.max(behindSource == null ? 0 : behindSource, (long) sample.value());
+                }
+            }
+            else if (sample.is(QUEUE_TOTAL)) {
+                queueTotal.put(context, sample.value());
+            }
+            else if (sample.is(QUEUE_REMAINING)) {
+                queueRemaining.put(context, sample.value());
+            }
+        }
+
+        Double queueUtilization = null;
+        for (var total : queueTotal.entrySet()) {
+            var remaining = queueRemaining.get(total.getKey());
+            if (remaining != null && total.getValue() > 0) {
+                var utilization = 1 - remaining / total.getValue();
+                queueUtilization = Math.max(queueUtilization == null ? 0 : queueUtilization, utilization);
+            }
+        }
+        return new DebeziumMetrics(totalEvents, behindSource, queueUtilization);
+    }
+
+    private record Sample(String name, String labels, double value) {
+
+        private static Sample parse(String line) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                return null;
+            }
+
+            var labelsStart = line.indexOf('{');
+            var labelsEnd = labelsStart < 0 ? -1 : line.lastIndexOf('}');
+            var nameEnd = labelsStart < 0 ? line.indexOf(' ') : labelsStart;
+            if (nameEnd <= 0 || labelsEnd < labelsStart) {
+                return null;
+            }
+
+            var rest = line.substring(labelsEnd < 0 ? nameEnd : labelsEnd + 1).strip();
+            var valueEnd = rest.indexOf(' ');
+            try {
+                var value = Double.parseDouble(valueEnd < 0 ? rest : rest.substring(0, valueEnd));
+                var labels = labelsStart < 0 ? "" : line.substring(labelsStart + 1, labelsEnd);
+                return new Sample(line.substring(0, nameEnd), labels, value);
+            }
+            catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private boolean is(String attribute) {
+            return name.endsWith(attribute) && !Double.isNaN(value);
+        }
+
+        private String context() {
+            var key = CONTEXT_LABEL + "=\"";
+            var start = labels.indexOf(key);
+            if (start < 0) {
+                return "";
+            }
+            start += key.length();
+            var end = labels.indexOf('"', start);
+            return end < 0 ? "" : labels.substring(start, end);
+        }
+    }
+}
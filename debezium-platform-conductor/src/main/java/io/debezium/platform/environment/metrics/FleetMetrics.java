@@ -0,0 +1,52 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Metrics of all running pipelines collected by the last scrape
+ *
+ * @param collectedAt time the scrape started
+ * @param scraped number of pipelines scraped successfully
+ * @param failed number of pipelines whose scrape failed or timed out
+ * @param eventsPerSecond events seen per second by all pipelines
+ * @param maxMilliSecondsBehindSource lag of the pipeline lagging behind the most, {@code null} if not known
+ * @param maxQueueUtilization utilization of the fullest queue, {@code null} if not known
+ * @param pipelines metrics of each pipeline, ordered by pipeline id
+ */
+public record FleetMetrics(
+        Instant collectedAt,
+        int scraped,
+        int failed,
+        double eventsPerSecond,
+        Long maxMilliSecondsBehindSource,
+        Double maxQueueUtilization,
+        List<PipelineMetrics> pipelines) {
+
+    static FleetMetrics of(Instant collectedAt, List<PipelineMetrics> pipelines) {
+        var failed = (int) pipelines.stream().filter(pipeline -> pipeline.error() != null).count();
+        var eventsPerSecond = pipelines.stream()
+                .map(PipelineMetrics::eventsPerSecond)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .sum();
+        var maxBehindSource = pipelines.stream()
+                .map(PipelineMetrics::milliSecondsBehindSource)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+        var maxQueueUtilization = pipelines.stream()
+                .map(PipelineMetrics::queueUtilization)
+                .filter(Objects::nonNull)
+                .max(Double::compare)
+                .orElse(null);
+
+        return new FleetMetrics(collectedAt, pipelines.size() - failed, failed, eventsPerSecond, maxBehindSource, maxQueueUtilization, pipelines);
+    }
+}
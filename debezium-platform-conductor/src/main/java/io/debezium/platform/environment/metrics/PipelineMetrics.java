@@ -0,0 +1,33 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics;
+
+import java.time.Instant;
+
+/**
+ * Metrics of a single pipeline collected by the last scrape
+ *
+ * @param pipelineId pipeline id
+ * @param scrapedAt time of the scrape
+ * @param eventsPerSecond events seen per second since the previous scrape, {@code null} after the first scrape or a restart
+ * @param totalEvents number of events seen by the connector
+ * @param milliSecondsBehindSource lag behind the source database
+ * @param queueUtilization utilization of the connector queue between 0 and 1
+ * @param error reason why the scrape failed, {@code null} if it succeeded
+ */
+public record PipelineMetrics(
+        Long pipelineId,
+        Instant scrapedAt,
+        Double eventsPerSecond,
+        Long totalEvents,
+        Long milliSecondsBehindSource,
+        Double queueUtilization,
+        String error) {
+
+    static PipelineMetrics failed(Long pipelineId, Instant scrapedAt, String error) {
+        return new PipelineMetrics(pipelineId, scrapedAt, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.metrics.config.MetricsConfigGroup;
+import io.debezium.platform.environment.status.PipelineStatus;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+/**
+ * Periodically scrapes the metrics of all running pipelines and keeps the latest of them in memory.
+ * <br>
+ *
+ * Running pipelines, i.e. pipelines with at least one ready replica, are taken from the status of each
+ * environment. They are scraped on virtual threads, at most the configured number of them concurrently.
+ * Each scrape is bounded by the timeouts of the {@code debezium-server-metrics} REST client, so an unresponsive
+ * Debezium Server instance holds a single permit until the read times out and is then reported as failed.
+ * Throughput is derived from the number of events
+ * seen by the connector in consecutive scrapes. Every collection is fired as a {@link FleetMetrics} event, observed e.g.
+ * by the metrics history and the alert rules.
+ */
+@ApplicationScoped
+public class PipelineMetricsCollector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineMetricsCollector.class);
+
+    private final EnvironmentRouter environments;
+    private final MetricsConfigGroup config;
+    private final Event<FleetMetrics> collected;
+    private final ExecutorService executor;
+    private final Clock clock;
+
+    private volatile Map<Long, PipelineMetrics> latest = Map.of();
+    // last successful scrape of each pipeline, throughput is measured from it even if scrapes in between failed
+    private volatile Map<Long, PipelineMetrics> baselines = Map.of();
+    private volatile FleetMetrics fleet;
+
+    @Inject
+    public PipelineMetricsCollector(EnvironmentRouter environments, MetricsConfigGroup config, Event<FleetMetrics> collected,
+                                    @VirtualThreads ExecutorService executor) {
+        this(environments, config, collected, executor, Clock.systemUTC());
+    }
+
+    PipelineMetricsCollector(EnvironmentRouter environments, MetricsConfigGroup config, Event<FleetMetrics> collected, ExecutorService executor,
+                             Clock clock) {
+        this.environments = environments;
+        this.config = config;
+        this.collected = collected;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * @param pipelineId pipeline id
+     * @return latest metrics of the pipeline, or empty optional if the pipeline isn't running or wasn't scraped yet
+     */
+    public Optional<PipelineMetrics> metrics(Long pipelineId) {
+        return Optional.ofNullable(latest.get(pipelineId));
+    }
+
+    /**
+     * @return latest metrics of all running pipelines, or empty optional if no collection completed yet
+     */
+    public Optional<FleetMetrics> fleet() {
+        return Optional.ofNullable(fleet);
+    }
+
+    @Scheduled(every = "${conductor.metrics.interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledCollect() {
+        if (!config.enabled()) {
+            return;
+        }
+
+        try {
+            collect();
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to collect pipeline metrics", e);
+        }
+    }
+
+    /**
+     * Scrapes all running pipelines and replaces the latest metrics
+     *
+     * @return collected metrics
+     */
+    FleetMetrics collect() {
+        var collectedAt = clock.instant();
+        var targets = targets();
+        var previous = baselines;
+
+        var permits = new Semaphore(config.concurrency());
+        List<CompletableFuture<PipelineMetrics>> scrapes = new ArrayList<>(targets.size());
+        try {
+            for (var target : targets.entrySet()) {
+                permits.acquire();
+                scrapes.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return scrape(target.getKey(), target.getValue(), previous.get(target.getKey()));
+                    }
+                    finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scrapes.forEach(scrape -> scrape.cancel(true));
+            return fleet;
+        }
+
+        Map<Long, PipelineMetrics> scraped = new HashMap<>(scrapes.size());
+        Map<Long, PipelineMetrics> succeeded = new HashMap<>(scrapes.size());
+        for (var scrape : scrapes) {
+            var metrics = scrape.join();
+            scraped.put(metrics.pipelineId(), metrics);
+            var baseline = metrics.error() == null ? metrics : previous.get(metrics.pipelineId());
+            if (baseline != null) {
+                succeeded.put(metrics.pipelineId(), baseline);
+            }
+        }
+
+        var pipelines = scraped.values().stream()
+                .sorted(Comparator.comparing(PipelineMetrics::pipelineId))
+                .toList();
+        var collectedFleet = FleetMetrics.of(collectedAt, pipelines);
+        latest = Map.copyOf(scraped);
+        baselines = Map.copyOf(succeeded);
+        fleet = collectedFleet;
+        collected.fire(collectedFleet);
+        LOGGER.debug("Scraped metrics of {} pipelines, {} failed", collectedFleet.scraped(), collectedFleet.failed());
+        return collectedFleet;
+    }
+
+    private Map<Long, PipelineController> targets() {
+        Map<Long, PipelineController> targets = new LinkedHashMap<>();
+        for (var environment : environments.environments()) {
+            var pipelines = environment.pipelines();
+            pipelines.status().ifPresent(status -> status.pipelines().stream()
+                    .filter(pipeline -> pipeline.readyReplicas() > 0)
+                    .map(PipelineStatus::pipelineId)
+                    .forEach(pipelineId -> targets.put(pipelineId, pipelines)));
+        }
+        return targets;
+    }
+
+    private PipelineMetrics scrape(Long pipelineId, PipelineController pipelines, PipelineMetrics previous) {
+        var scrapedAt = clock.instant();
+        try {
+            var text = pipelines.scrapeMetrics(pipelineId);
+            if (text.isEmpty()) {
+                return PipelineMetrics.failed(pipelineId, scrapedAt, "Pipeline not deployed");
+            }
+            var metrics = DebeziumMetrics.parse(text.get());
+            return new PipelineMetrics(pipelineId, scrapedAt, eventsPerSecond(previous, scrapedAt, metrics.totalEvents()), metrics.totalEvents(),
+                    metrics.milliSecondsBehindSource(), metrics.queueUtilization(), null);
+        }
+        catch (RuntimeException e) {
+            LOGGER.debug("Unable to scrape metrics of pipeline {}", pipelineId, e);
+            return PipelineMetrics.failed(pipelineId, scrapedAt, e.getCause() != null ? e.getMessage() + ": " + e.getCause().getMessage() : e.getMessage());
+        }
+    }
+
+    private static Double eventsPerSecond(PipelineMetrics previous, Instant scrapedAt, Long totalEvents) {
+        if (previous == null || previous.totalEvents() == null || totalEvents == null) {
+            return null;
+        }
+
+        var elapsed = Duration.between(previous.scrapedAt(), scrapedAt).toMillis();
+        // the counter starts over when Debezium Server restarts
+        if (elapsed <= 0 || totalEvents < previous.totalEvents()) {
+            return null;
+        }
+        return (totalEvents - previous.totalEvents()) * 1000.0 / elapsed;
+    }
+}
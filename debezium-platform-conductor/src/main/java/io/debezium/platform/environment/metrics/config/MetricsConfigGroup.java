@@ -0,0 +1,82 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics.config;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "conductor.metrics")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface MetricsConfigGroup {
+
+    /**
+     * Indicates whether the conductor collects metrics of running pipelines.
+     *
+     * @return {@code true} if metrics are collected, {@code false} otherwise
+     */
+    boolean enabled();
+
+    /**
+     * Returns how often metrics of running pipelines are scraped, e.g. {@code 15s}.
+     *
+     * @return scrape interval
+     */
+    String interval();
+
+    /**
+     * Returns the maximum number of pipelines scraped concurrently.
+     *
+     * @return scrape concurrency
+     */
+    int concurrency();
+
+    /**
+     * Returns the path of the Prometheus endpoint of Debezium Server, resolved against its API service.
+     *
+     * @return path of the metrics endpoint
+     */
+    String path();
+
+    HistoryConfigGroup history();
+
+    interface HistoryConfigGroup {
+
+        /**
+         * Indicates whether scraped metrics are kept as history of each pipeline.
+         *
+         * @return {@code true} if the history is kept, {@code false} otherwise
+         */
+        boolean enabled();
+
+        /**
+         * Returns the resolutions of the history as {@code step/retention} pairs, e.g. {@code 1m/2h}, ordered from
+         * the finest to the coarsest one. Scraped values are averaged into one point per step of each resolution.
+         *
+         * @return resolutions of the history
+         */
+        List<String> resolutions();
+
+        /**
+         * Returns the maximum number of series kept, every pipeline needs one series per metric.
+         * The memory of all series is allocated upfront.
+         *
+         * @return maximal number of series
+         */
+        int maxSeries();
+
+        /**
+         * Returns the file the history is memory-mapped to, so that it is kept across restarts.
+         * The history is kept in memory only if not set.
+         *
+         * @return path of the history file
+         */
+        Optional<String> path();
+    }
+}
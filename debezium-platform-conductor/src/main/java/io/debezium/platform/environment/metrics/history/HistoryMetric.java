@@ -0,0 +1,35 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics.history;
+
+import java.util.function.Function;
+
+import io.debezium.platform.environment.metrics.PipelineMetrics;
+
+/**
+ * Pipeline metrics kept in the history. Series are stored by the ordinal of their metric,
+ * new metrics have to be appended.
+ */
+public enum HistoryMetric {
+
+    EVENTS_PER_SECOND(PipelineMetrics::eventsPerSecond),
+    MILLISECONDS_BEHIND_SOURCE(metrics -> metrics.milliSecondsBehindSource() == null ? null : metrics.milliSecondsBehindSource().doubleValue()),
+    QUEUE_UTILIZATION(PipelineMetrics::queueUtilization);
+
+    private final Function<PipelineMetrics, Double> value;
+
+    HistoryMetric(Function<PipelineMetrics, Double> value) {
+        this.value = value;
+    }
+
+    /**
+     * @param metrics scraped metrics of a pipeline
+     * @return value of this metric, or {@code null} if it isn't known
+     */
+    public Double value(PipelineMetrics metrics) {
+        return value.apply(metrics);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics.history;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore.Point;
+
+/**
+ * History of the metrics of a pipeline within a time range
+ *
+ * @param pipelineId pipeline id
+ * @param from start of the range
+ * @param to end of the range
+ * @param step resolution of the points
+ * @param series history of each metric of the pipeline
+ */
+public record MetricsHistory(Long pipelineId, Instant from, Instant to, Duration step, List<Series> series) {
+
+    /**
+     * @param metric metric of the pipeline
+     * @param points points ordered by time, steps without any scrape are left out
+     */
+    public record Series(HistoryMetric metric, List<Point> points) {
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics.history;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.environment.metrics.FleetMetrics;
+import io.debezium.platform.environment.metrics.config.MetricsConfigGroup;
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore.Resolution;
+
+/**
+ * Keeps the history of scraped pipeline metrics in an embedded {@link TimeSeriesStore}, so that trends of
+ * throughput and lag can be charted without an external Prometheus.
+ */
+@ApplicationScoped
+public class PipelineMetricsHistory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineMetricsHistory.class);
+
+    private final MetricsConfigGroup.HistoryConfigGroup config;
+
+    private TimeSeriesStore store;
+
+    public PipelineMetricsHistory(MetricsConfigGroup config) {
+        this.config = config.history();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.enabled()) {
+            return;
+        }
+
+        var resolutions = config.resolutions().stream().map(Resolution::parse).toList();
+        store = config.path()
+                .map(path -> TimeSeriesStore.mapped(Path.of(path), resolutions, config.maxSeries()))
+                .orElseGet(() -> TimeSeriesStore.inMemory(resolutions, config.maxSeries()));
+        LOGGER.info("Allocated {} bytes for the history of {} series", store.capacity(), config.maxSeries());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    /**
+     * Adds metrics of all successfully scraped pipelines to the history
+     *
+     * @param fleet collected metrics
+     */
+    void record(@Observes FleetMetrics fleet) {
+        if (store == null) {
+            return;
+        }
+
+        for (var pipeline : fleet.pipelines()) {
+            if (pipeline.error() != null) {
+                continue;
+            }
+            for (var metric : HistoryMetric.values()) {
+                var value = metric.value(pipeline);
+                if (value != null) {
+                    store.add(pipeline.pipelineId(), metric, pipeline.scrapedAt(), value);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param pipelineId pipeline id
+     * @param from start of the range
+     * @param to end of the range
+     * @return history of the pipeline metrics, or empty optional if the history is disabled or the pipeline has none
+     */
+    public Optional<MetricsHistory> history(Long pipelineId, Instant from, Instant to) {
+        if (store == null) {
+            return Optional.empty();
+        }
+
+        // all metrics are read from the same resolution, so that the step applies to every series
+        var ranges = store.ranges(pipelineId, from, to);
+        if (ranges.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<MetricsHistory.Series> series = new ArrayList<>();
+        ranges.forEach((metric, range) -> series.add(new MetricsHistory.Series(metric, range.points())));
+        var step = ranges.values().iterator().next().step();
+        return Optional.of(new MetricsHistory(pipelineId, from, to, step, series));
+    }
+}
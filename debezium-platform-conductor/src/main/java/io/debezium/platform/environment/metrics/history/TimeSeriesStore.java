@@ -0,0 +1,483 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics.history;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.quarkus.runtime.configuration.DurationConverter;
+
+/**
+ * Fixed-memory store of pipeline metric series, in the manner of a round-robin database.
+ * <br>
+ *
+ * Every series has a ring buffer of points for each resolution, the points of all series are allocated upfront
+ * in a single off-heap buffer. A value is written to all resolutions at once, it is averaged into the point of its
+ * step, i.e. the data is downsampled on write and no compaction is needed. A point whose step passed is overwritten
+ * once the ring buffer wraps around, hence every resolution keeps the {@code slots} steps up to the last write of the series.
+ * Range queries are answered from the finest resolution still retaining the start of the range.
+ * <br>
+ *
+ * The buffer can be memory-mapped to a file, so that the history survives restarts of the conductor. The file is
+ * discarded if it was written with a different layout, i.e. other resolutions or maximum number of series. Once all
+ * series are allocated, series whose points all expired are reused, values of further series are dropped.
+ */
+public class TimeSeriesStore implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimeSeriesStore.class);
+
+    private static final int MAGIC = 0x44425453;
+    private static final int VERSION = 2;
+
+    // magic, version, max series, resolutions, layout
+    private static final int HEADER_SIZE = 32;
+    // pipeline id, metric, used, last write
+    private static final int SERIES_HEADER_SIZE = 24;
+    // bucket, count, padding, sum, max
+    private static final int SLOT_SIZE = 32;
+
+    private static final int SERIES_METRIC = 8;
+    private static final int SERIES_USED = 12;
+    private static final int SERIES_LAST_WRITE = 16;
+    private static final int SLOT_COUNT = 8;
+    private static final int SLOT_SUM = 16;
+    private static final int SLOT_MAX = 24;
+
+    /**
+     * Resolution of the history
+     *
+     * @param step duration averaged into a single point, in whole seconds
+     * @param slots number of points kept
+     */
+    public record Resolution(Duration step, int slots) {
+
+        public Resolution {
+            if (step.getSeconds() < 1 || step.getNano() != 0) {
+                throw new IllegalArgumentException("Step of a resolution must be whole seconds, was " + step);
+            }
+            if (slots < 1) {
+                throw new IllegalArgumentException("Resolution must keep at least one point, was " + slots);
+            }
+        }
+
+        /**
+         * @param resolution resolution in the {@code step/retention} form, e.g. {@code 1m/24h}
+         * @return parsed resolution
+         */
+        public static Resolution parse(String resolution) {
+            var separator = resolution.indexOf('/');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Resolution must be given as step/retention, was " + resolution);
+            }
+
+            var step = DurationConverter.parseDuration(resolution.substring(0, separator).strip());
+            var retention = DurationConverter.parseDuration(resolution.substring(separator + 1).strip());
+            if (step.isZero() || retention.toSeconds() % step.toSeconds() != 0) {
+                throw new IllegalArgumentException("Retention of a resolution must be a multiple of its step, was " + resolution);
+            }
+            return new Resolution(step, (int) (retention.toSeconds() / step.toSeconds()));
+        }
+
+        public Duration retention() {
+            return step.multipliedBy(slots);
+        }
+    }
+
+    /**
+     * Point of a series
+     *
+     * @param time start of the step
+     * @param average average of values written during the step
+     * @param max maximum of values written during the step
+     */
+    public record Point(Instant time, double average, double max) {
+    }
+
+    /**
+     * Points of a series within a queried range
+     *
+     * @param step resolution of the points
+     * @param points points ordered by time, steps without any value are left out
+     */
+    public record Range(Duration step, List<Point> points) {
+    }
+
+    private record SeriesKey(long pipelineId, HistoryMetric metric) {
+    }
+
+    private final ByteBuffer buffer;
+    private final boolean mapped;
+    private final List<Resolution> resolutions;
+    private final long[] steps;
+    private final int[] slotOffsets;
+    private final int seriesSize;
+    private final long maxRetention;
+    private final Map<SeriesKey, Integer> index = new HashMap<>();
+    private final Deque<Integer> free = new ArrayDeque<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean full;
+
+    private TimeSeriesStore(List<Resolution> resolutions, int maxSeries, Path file) {
+        if (resolutions.isEmpty()) {
+            throw new IllegalArgumentException("At least one resolution is required");
+        }
+
+        this.resolutions = List.copyOf(resolutions);
+        this.steps = new long[resolutions.size()];
+        this.slotOffsets = new int[resolutions.size()];
+        var offset = SERIES_HEADER_SIZE;
+        var retention = 0L;
+        for (int i = 0; i < resolutions.size(); i++) {
+            steps[i] = resolutions.get(i).step().toSeconds();
+            slotOffsets[i] = offset;
+            offset += resolutions.get(i).slots() * SLOT_SIZE;
+            retention = Math.max(retention, resolutions.get(i).retention().toSeconds());
+        }
+        this.seriesSize = offset;
+        this.maxRetention = retention;
+
+        var size = HEADER_SIZE + (long) maxSeries * seriesSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("History of %d series needs %d bytes, at most %d are supported".formatted(maxSeries, size, Integer.MAX_VALUE));
+        }
+
+        this.mapped = file != null;
+        this.buffer = mapped ? map(file, (int) size, maxSeries) : ByteBuffer.allocateDirect((int) size);
+        if (buffer.getInt(0) == MAGIC) {
+            load(maxSeries);
+        }
+        else {
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, VERSION)
+                    .putInt(8, maxSeries)
+                    .putInt(12, resolutions.size())
+                    .putLong(16, layout(maxSeries));
+            for (int series = 0; series < maxSeries; series++) {
+                free.add(series);
+            }
+        }
+    }
+
+    /**
+     * Creates a store kept in memory only
+     *
+     * @param resolutions resolutions of every series, from the finest to the coarsest one
+     * @param maxSeries maximum number of series
+     * @return empty store
+     */
+    public static TimeSeriesStore inMemory(List<Resolution> resolutions, int maxSeries) {
+        return new TimeSeriesStore(resolutions, maxSeries, null);
+    }
+
+    /**
+     * Creates a store memory-mapped to given file, keeping the series already stored in the file
+     *
+     * @param file file the store is mapped to, created if it doesn't exist
+     * @param resolutions resolutions of every series, from the finest to the coarsest one
+     * @param maxSeries maximum number of series
+     * @return store with the series read from the file
+     */
+    public static TimeSeriesStore mapped(Path file, List<Resolution> resolutions, int maxSeries) {
+        return new TimeSeriesStore(resolutions, maxSeries, file);
+    }
+
+    public List<Resolution> resolutions() {
+        return resolutions;
+    }
+
+    /**
+     * @return number of bytes allocated for the store
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return number of stored series
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a value into all resolutions of the series, values older than the oldest point of a resolution are ignored by it
+     *
+     * @param pipelineId pipeline id
+     * @param metric metric of the pipeline
+     * @param time time the value was observed
+     * @param value observed value
+     */
+    public void add(long pipelineId, HistoryMetric metric, Instant time, double value) {
+        var epochSecond = time.getEpochSecond();
+
+        lock.writeLock().lock();
+        try {
+            var series = index.get(new SeriesKey(pipelineId, metric));
+            if (series == null) {
+                series = allocate(new SeriesKey(pipelineId, metric), epochSecond);
+                if (series == null) {
+                    return;
+                }
+            }
+
+            var base = HEADER_SIZE + series * seriesSize;
+            for (int i = 0; i < steps.length; i++) {
+                var bucket = Math.floorDiv(epochSecond, steps[i]);
+                var slot = base + slotOffsets[i] + Math.floorMod(bucket, resolutions.get(i).slots()) * SLOT_SIZE;
+                var count = buffer.getInt(slot + SLOT_COUNT);
+                var stored = buffer.getLong(slot);
+
+                if (count > 0 && stored == bucket) {
+                    buffer.putInt(slot + SLOT_COUNT, count + 1)
+                            .putDouble(slot + SLOT_SUM, buffer.getDouble(slot + SLOT_SUM) + value)
+                            .putDouble(slot + SLOT_MAX, Math.max(buffer.getDouble(slot + SLOT_MAX), value));
+                }
+                else if (count == 0 || stored < bucket) {
+                    buffer.putLong(slot, bucket)
+                            .putInt(slot + SLOT_COUNT, 1)
+                            .putDouble(slot + SLOT_SUM, value)
+                            .putDouble(slot + SLOT_MAX, value);
+                }
+            }
+            buffer.putLong(base + SERIES_LAST_WRITE, Math.max(buffer.getLong(base + SERIES_LAST_WRITE), epochSecond));
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the points of a series within given range, from the finest resolution still retaining the start of the range
+     *
+     * @param pipelineId pipeline id
+     * @param metric metric of the pipeline
+     * @param from start of the range, inclusive
+     * @param to end of the range, inclusive
+     * @return points within the range, or empty optional if the series doesn't exist
+     */
+    public Optional<Range> range(long pipelineId, HistoryMetric metric, Instant from, Instant to) {
+        lock.readLock().lock();
+        try {
+            var series = index.get(new SeriesKey(pipelineId, metric));
+            if (series == null) {
+                return Optional.empty();
+            }
+            var base = HEADER_SIZE + series * seriesSize;
+            var resolution = resolution(buffer.getLong(base + SERIES_LAST_WRITE) - from.getEpochSecond());
+            return Optional.of(read(base, resolution, from, to));
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the points of all series of a pipeline within given range, all from the same resolution so that their
+     * points share one step. The resolution is the finest one still retaining the start of the range in the most
+     * recently written series, which retains it in the other series of the pipeline as well.
+     *
+     * @param pipelineId pipeline id
+     * @param from start of the range, inclusive
+     * @param to end of the range, inclusive
+     * @return points within the range by metric, empty if the pipeline has no series
+     */
+    public Map<HistoryMetric, Range> ranges(long pipelineId, Instant from, Instant to) {
+        lock.readLock().lock();
+        try {
+            Map<HistoryMetric, Integer> bases = new EnumMap<>(HistoryMetric.class);
+            var lastWrite = Long.MIN_VALUE;
+            for (var metric : HistoryMetric.values()) {
+                var series = index.get(new SeriesKey(pipelineId, metric));
+                if (series != null) {
+                    var base = HEADER_SIZE + series * seriesSize;
+                    bases.put(metric, base);
+                    lastWrite = Math.max(lastWrite, buffer.getLong(base + SERIES_LAST_WRITE));
+                }
+            }
+            if (bases.isEmpty()) {
+                return Map.of();
+            }
+
+            var resolution = resolution(lastWrite - from.getEpochSecond());
+            Map<HistoryMetric, Range> ranges = new EnumMap<>(HistoryMetric.class);
+            bases.forEach((metric, base) -> ranges.put(metric, read(base, resolution, from, to)));
+            return ranges;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the points of a series within given range from given resolution, must be called under the read lock
+     *
+     * @param base offset of the series
+     * @param resolution index of the resolution
+     * @param from start of the range, inclusive
+     * @param to end of the range, inclusive
+     * @return points within the range
+     */
+    private Range read(int base, int resolution, Instant from, Instant to) {
+        // ring buffers retain the steps up to the last write, later steps of the range hold no points yet
+        var lastWrite = buffer.getLong(base + SERIES_LAST_WRITE);
+        var step = steps[resolution];
+        var slots = resolutions.get(resolution).slots();
+        var last = Math.floorDiv(Math.min(to.getEpochSecond(), lastWrite), step);
+        var first = Math.max(Math.floorDiv(from.getEpochSecond(), step), last - slots + 1);
+
+        var slotBase = base + slotOffsets[resolution];
+        List<Point> points = new ArrayList<>();
+        for (var bucket = first; bucket <= last; bucket++) {
+            var slot = slotBase + Math.floorMod(bucket, slots) * SLOT_SIZE;
+            var count = buffer.getInt(slot + SLOT_COUNT);
+            if (count > 0 && buffer.getLong(slot) == bucket) {
+                points.add(new Point(Instant.ofEpochSecond(bucket * step), buffer.getDouble(slot + SLOT_SUM) / count, buffer.getDouble(slot + SLOT_MAX)));
+            }
+        }
+        return new Range(resolutions.get(resolution).step(), points);
+    }
+
+    /**
+     * @param age seconds between the start of a range and the last write of its series
+     * @return index of the finest resolution retaining the start of the range, or of the coarsest resolution if none does
+     */
+    private int resolution(long age) {
+        for (int i = 0; i < resolutions.size(); i++) {
+            if (resolutions.get(i).retention().toSeconds() >= age) {
+                return i;
+            }
+        }
+        return resolutions.size() - 1;
+    }
+
+    /**
+     * Flushes a memory-mapped store to its file
+     */
+    @Override
+    public void close() {
+        if (mapped) {
+            lock.writeLock().lock();
+            try {
+                ((MappedByteBuffer) buffer).force();
+            }
+            finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private Integer allocate(SeriesKey key, long epochSecond) {
+        var series = free.poll();
+        if (series == null) {
+            series = reclaim(epochSecond);
+        }
+        if (series == null) {
+            if (!full) {
+                LOGGER.warn("History is full, values of new series are dropped until series expire");
+                full = true;
+            }
+            return null;
+        }
+
+        full = false;
+        var base = HEADER_SIZE + series * seriesSize;
+        buffer.putLong(base, key.pipelineId())
+                .putInt(base + SERIES_METRIC, key.metric().ordinal())
+                .putInt(base + SERIES_USED, 1)
+                .putLong(base + SERIES_LAST_WRITE, epochSecond);
+        index.put(key, series);
+        return series;
+    }
+
+    /**
+     * Reuses a series whose points all expired, e.g. of a removed pipeline
+     */
+    private Integer reclaim(long epochSecond) {
+        var expired = index.entrySet().stream()
+                .filter(entry -> buffer.getLong(HEADER_SIZE + entry.getValue() * seriesSize + SERIES_LAST_WRITE) < epochSecond - maxRetention)
+                .findFirst();
+        if (expired.isEmpty()) {
+            return null;
+        }
+
+        var series = expired.get().getValue();
+        index.remove(expired.get().getKey());
+        var base = HEADER_SIZE + series * seriesSize;
+        for (int offset = SERIES_HEADER_SIZE; offset < seriesSize; offset += Long.BYTES) {
+            buffer.putLong(base + offset, 0);
+        }
+        return series;
+    }
+
+    private void load(int maxSeries) {
+        var metrics = HistoryMetric.values();
+        for (int series = 0; series < maxSeries; series++) {
+            var base = HEADER_SIZE + series * seriesSize;
+            if (buffer.getInt(base + SERIES_USED) == 0) {
+                free.add(series);
+                continue;
+            }
+            index.put(new SeriesKey(buffer.getLong(base), metrics[buffer.getInt(base + SERIES_METRIC)]), series);
+        }
+        LOGGER.info("Loaded history of {} series", index.size());
+    }
+
+    private long layout(int maxSeries) {
+        var layout = (long) VERSION * 31 + maxSeries;
+        for (var resolution : resolutions) {
+            layout = layout * 31 + resolution.step().toSeconds();
+            layout = layout * 31 + resolution.slots();
+        }
+        return layout;
+    }
+
+    private MappedByteBuffer map(Path file, int size, int maxSeries) {
+        try (var channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            if (channel.size() > 0 && (header.getInt(0) != MAGIC || header.getLong(16) != layout(maxSeries) || channel.size() != size)) {
+                LOGGER.info("History in {} was written with a different layout, discarding it", file);
+                channel.truncate(0);
+            }
+            // the mapping stays valid once the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Unable to map history to " + file, e);
+        }
+    }
+}
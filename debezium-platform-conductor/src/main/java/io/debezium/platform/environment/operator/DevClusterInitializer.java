@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.debezium.outbox.quarkus.ExportedEvent;
 import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.environment.operator.reconcile.BulkReconciler;
 import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.quarkus.arc.profile.IfBuildProfile;
@@ -37,19 +38,21 @@ public class DevClusterInitializer {
     private final PipelineService pipelineService;
     private final Event<ExportedEvent<?, ?>> event;
     private final ObjectMapper objectMapper;
+    private final BulkReconciler reconciler;
 
     @Inject
     EntityManager entityManager;
 
     public DevClusterInitializer(Logger logger, KubernetesClient k8s,
                                  WatcherConfigGroup watcherConfig, PipelineService pipelineService,
-                                 Event<ExportedEvent<?, ?>> event, ObjectMapper objectMapper) {
+                                 Event<ExportedEvent<?, ?>> event, ObjectMapper objectMapper, BulkReconciler reconciler) {
         this.logger = logger;
         this.k8s = k8s;
         this.watcherConfig = watcherConfig;
         this.pipelineService = pipelineService;
         this.event = event;
         this.objectMapper = objectMapper;
+        this.reconciler = reconciler;
     }
 
     public void init(@Observes StartupEvent event) {
@@ -72,7 +75,9 @@ public class DevClusterInitializer {
     }
 
     public void initPipelines() {
-        logger.info("Firing pipeline update events for existing pipelines");
-        pipelineService.list().forEach(pipelineService::onChange);
+        logger.info("Reconciling existing pipelines");
+        reconciler.startAll()
+                .ifPresentOrElse(progress -> logger.infof("Started reconcile %s of %d pipelines", progress.id(), progress.total()),
+                        () -> logger.info("Skipping reconcile of existing pipelines, another reconcile is in progress"));
     }
 }
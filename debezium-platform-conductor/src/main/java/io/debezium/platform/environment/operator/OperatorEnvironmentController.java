@@ -6,6 +6,7 @@
 package io.debezium.platform.environment.operator;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.jboss.logging.Logger;
@@ -20,18 +21,34 @@ public class OperatorEnvironmentController implements EnvironmentController {
     public static final String BEAN_NAME = "operator-environment-controller";
 
     protected final Logger logger;
+    private final String name;
     private final OperatorPipelineController pipelineController;
     private final OperatorVaultController vaultController;
 
+    @Inject
     public OperatorEnvironmentController(
                                          Logger logger,
                                          OperatorPipelineController pipelineController,
                                          OperatorVaultController vaultController) {
+        this(DEFAULT_ENVIRONMENT, logger, pipelineController, vaultController);
+    }
+
+    OperatorEnvironmentController(
+                                  String name,
+                                  Logger logger,
+                                  OperatorPipelineController pipelineController,
+                                  OperatorVaultController vaultController) {
+        this.name = name;
         this.logger = logger;
         this.pipelineController = pipelineController;
         this.vaultController = vaultController;
     }
 
+    @Override
+    public String name() {
+        return name;
+    }
+
     @Override
     public PipelineController pipelines() {
         return pipelineController;
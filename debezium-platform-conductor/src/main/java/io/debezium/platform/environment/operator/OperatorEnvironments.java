@@ -0,0 +1,150 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.logging.Logger;
+
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentProvider;
+import io.debezium.platform.environment.actions.client.DebeziumServerClient;
+import io.debezium.platform.environment.actions.client.DebeziumServerMetricsClient;
+import io.debezium.platform.environment.metrics.config.MetricsConfigGroup;
+import io.debezium.platform.environment.operator.actions.DebeziumKubernetesAdapter;
+import io.debezium.platform.environment.operator.actions.DebeziumResourceCache;
+import io.debezium.platform.environment.operator.actions.DebeziumServerProxy;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.debezium.platform.environment.operator.status.PipelineStatusTracker;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * Provides the Kubernetes environments managed through the Debezium operator.
+ * <br>
+ *
+ * The default environment is the cluster and namespace of the injected {@link KubernetesClient}.
+ * Every environment configured under {@code conductor.operator.environments} is managed through
+ * its own client, resource cache and pipeline status tracker. Meters of all environments are
+ * tagged with {@value #ENVIRONMENT_TAG}.
+ */
+@ApplicationScoped
+public class OperatorEnvironments implements EnvironmentProvider {
+
+    public static final String ENVIRONMENT_TAG = "environment";
+
+    // meters registered per environment
+    private static final List<String> ENVIRONMENT_METERS = List.of("conductor.kubernetes.", "conductor.pipeline.");
+
+    private final Logger logger;
+    private final OperatorEnvironmentController defaultEnvironment;
+    private final OperatorConfigGroup config;
+    private final PipelineRenderer pipelineRenderer;
+    private final DebeziumServerClient dsClient;
+    private final DebeziumServerMetricsClient metricsClient;
+    private final MetricsConfigGroup metricsConfig;
+    private final MeterRegistry registry;
+    private final List<EnvironmentController> environments = new ArrayList<>();
+    private final List<ManagedEnvironment> managed = new ArrayList<>();
+
+    private record ManagedEnvironment(KubernetesClient client, DebeziumResourceCache cache) {
+    }
+
+    public OperatorEnvironments(Logger logger, OperatorEnvironmentController defaultEnvironment, OperatorConfigGroup config,
+                                PipelineRenderer pipelineRenderer, @RestClient DebeziumServerClient dsClient,
+                                @RestClient DebeziumServerMetricsClient metricsClient, MetricsConfigGroup metricsConfig, MeterRegistry registry) {
+        this.logger = logger;
+        this.defaultEnvironment = defaultEnvironment;
+        this.config = config;
+        this.pipelineRenderer = pipelineRenderer;
+        this.dsClient = dsClient;
+        this.metricsClient = metricsClient;
+        this.metricsConfig = metricsConfig;
+        this.registry = registry;
+    }
+
+    @PostConstruct
+    void start() {
+        environments.add(defaultEnvironment);
+        config.environments().forEach(this::create);
+    }
+
+    @PreDestroy
+    void stop() {
+        for (var environment : managed) {
+            environment.cache().stop();
+            environment.client().close();
+        }
+    }
+
+    @Override
+    public List<EnvironmentController> environments() {
+        return environments;
+    }
+
+    private void create(String name, OperatorConfigGroup.EnvironmentConfigGroup environmentConfig) {
+        if (EnvironmentController.DEFAULT_ENVIRONMENT.equals(name)) {
+            throw new IllegalStateException("Environment " + name + " is reserved for the cluster and namespace of the conductor");
+        }
+
+        var clientConfig = new ConfigBuilder(Config.autoConfigure(environmentConfig.context().orElse(null)));
+        environmentConfig.masterUrl().ifPresent(clientConfig::withMasterUrl);
+        environmentConfig.namespace().ifPresent(clientConfig::withNamespace);
+        var client = new KubernetesClientBuilder().withConfig(clientConfig.build()).build();
+
+        var environmentRegistry = new CompositeMeterRegistry();
+        environmentRegistry.config().commonTags(ENVIRONMENT_TAG, name);
+        environmentRegistry.add(registry);
+
+        var cache = new DebeziumResourceCache(client, config, environmentRegistry);
+        cache.start();
+        managed.add(new ManagedEnvironment(client, cache));
+        var statusTracker = new PipelineStatusTracker(cache);
+        statusTracker.start();
+
+        var kubernetesAdapter = new DebeziumKubernetesAdapter(client, cache,
+                environmentConfig.serviceDomain().orElse(DebeziumKubernetesAdapter.CLUSTER_SERVICE_DOMAIN));
+        var pipelineController = new OperatorPipelineController(kubernetesAdapter, pipelineRenderer,
+                new DebeziumServerProxy(dsClient, metricsClient, kubernetesAdapter, metricsConfig), statusTracker, environmentRegistry);
+        environments.add(new OperatorEnvironmentController(name, Logger.getLogger(OperatorEnvironmentController.class), pipelineController,
+                new OperatorVaultController(client)));
+
+        logger.infof("Created environment %s for namespace %s of %s", name, client.getNamespace(), client.getMasterUrl());
+    }
+
+    /**
+     * Tags meters of the default environment, so that all environments report meters with the same tags
+     */
+    @Produces
+    @Singleton
+    static MeterFilter defaultEnvironmentTag() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (id.getTag(ENVIRONMENT_TAG) != null || ENVIRONMENT_METERS.stream().noneMatch(id.getName()::startsWith)) {
+                    return id;
+                }
+                return id.withTag(Tag.of(ENVIRONMENT_TAG, EnvironmentController.DEFAULT_ENVIRONMENT));
+            }
+        };
+    }
+}
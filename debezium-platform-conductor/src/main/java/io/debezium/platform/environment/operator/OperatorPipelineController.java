@@ -21,6 +21,11 @@ import io.debezium.platform.environment.logs.LogReader;
 import io.debezium.platform.environment.operator.actions.DebeziumKubernetesAdapter;
 import io.debezium.platform.environment.operator.actions.DebeziumServerProxy;
 import io.debezium.platform.environment.operator.logs.KubernetesLogReader;
+import io.debezium.platform.environment.operator.status.PipelineStatusTracker;
+import io.debezium.platform.environment.status.FleetStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Dependent
 public class OperatorPipelineController implements PipelineController {
@@ -28,32 +33,83 @@ public class OperatorPipelineController implements PipelineController {
     private static final Logger LOGGER = LoggerFactory.getLogger(OperatorPipelineController.class);
 
     public static final String LABEL_DBZ_CONDUCTOR_ID = "debezium.io/conductor-id";
+    public static final String DEPLOY_METRIC = "conductor.pipeline.deploy";
+    public static final String APPLY_METRIC = "conductor.pipeline.apply";
 
     private final DebeziumKubernetesAdapter kubernetesAdapter;
     private final DebeziumServerProxy debeziumServerProxy;
-    private final PipelineMapper pipelineMapper;
+    private final PipelineRenderer pipelineRenderer;
+    private final PipelineStatusTracker statusTracker;
+    private final Timer deployTimer;
+    private final Counter appliesPerformed;
+    private final Counter appliesSkipped;
 
     public OperatorPipelineController(DebeziumKubernetesAdapter kubernetesAdapter,
-                                      PipelineMapper pipelineMapper,
-                                      DebeziumServerProxy debeziumServerProxy) {
+                                      PipelineRenderer pipelineRenderer,
+                                      DebeziumServerProxy debeziumServerProxy,
+                                      PipelineStatusTracker statusTracker,
+                                      MeterRegistry registry) {
         this.kubernetesAdapter = kubernetesAdapter;
-        this.pipelineMapper = pipelineMapper;
+        this.pipelineRenderer = pipelineRenderer;
         this.debeziumServerProxy = debeziumServerProxy;
+        this.statusTracker = statusTracker;
+        this.deployTimer = Timer.builder(DEPLOY_METRIC)
+                .description("Time spent applying the DebeziumServer resource of a pipeline")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.appliesPerformed = applyCounter(registry, "performed");
+        this.appliesSkipped = applyCounter(registry, "skipped");
+    }
+
+    private static Counter applyCounter(MeterRegistry registry, String result) {
+        return Counter.builder(APPLY_METRIC)
+                .description("Number of DebeziumServer applies performed or skipped because the live resource was up to date")
+                .tag("result", result)
+                .register(registry);
     }
 
     @Override
     public void deploy(PipelineFlat pipeline) {
 
-        var ds = pipelineMapper.map(pipeline);
+        var rendered = pipelineRenderer.render(pipeline);
 
+        if (isUpToDate(pipeline.getId(), rendered)) {
+            LOGGER.debug("Skipping deployment of resource {}, the live resource is up to date", rendered.name());
+            appliesSkipped.increment();
+            return;
+        }
+
+        var ds = rendered.resource();
         LOGGER.debug("Going to deploy resource {}", ds);
         // apply to server
-        kubernetesAdapter.deployPipeline(ds);
+        deployTimer.record(() -> kubernetesAdapter.deployPipeline(ds));
+        appliesPerformed.increment();
+    }
+
+    /**
+     * The cached resource only rules out applies which are certainly needed. It may be stale, e.g. still show
+     * the resource of a revision applied before the last one, hence a possible skip is confirmed by the hash
+     * recorded on the live resource read from the API server. The content owned by the conductor is compared
+     * as well, so that edits made out of band are reverted, while labels and defaults added by others are not.
+     */
+    private boolean isUpToDate(Long pipelineId, RenderedPipeline rendered) {
+        return findById(pipelineId)
+                .filter(cached -> isUpToDate(cached, rendered))
+                .flatMap(cached -> kubernetesAdapter.fetchDebeziumServer(cached.getMetadata().getNamespace(), rendered.name()))
+                .filter(live -> isUpToDate(live, rendered))
+                .filter(live -> rendered.specHash().equals(SpecHash.ofOwned(live, rendered.template())))
+                .isPresent();
+    }
+
+    private static boolean isUpToDate(DebeziumServer resource, RenderedPipeline rendered) {
+        return resource.getMetadata().getName().equals(rendered.name())
+                && SpecHash.recorded(resource).filter(rendered.specHash()::equals).isPresent();
     }
 
     @Override
     public void undeploy(Long pipelineId) {
         kubernetesAdapter.undeployPipeline(pipelineId);
+        pipelineRenderer.invalidate(pipelineId);
     }
 
     @Override
@@ -83,4 +139,14 @@ public class OperatorPipelineController implements PipelineController {
                     throw new DebeziumException(String.format("Pipeline with id %s not found", pipelineId));
                 });
     }
+
+    @Override
+    public Optional<String> scrapeMetrics(Long id) {
+        return findById(id).map(debeziumServerProxy::scrapeMetrics);
+    }
+
+    @Override
+    public Optional<FleetStatus> status() {
+        return statusTracker.status();
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.debezium.platform.domain.views.flat.PipelineFlat;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Renders DebeziumServer resources of pipelines through {@link PipelineMapper} and keeps the
+ * most recently rendered ones in memory.
+ * <br>
+ *
+ * The revision of a pipeline is incremented by every change of the pipeline or of any resource
+ * it references, so the pipeline id and revision identify the rendered content. The rendering
+ * configuration is fixed for the lifetime of the conductor and doesn't need to be part of the key.
+ * A newer revision replaces the cached rendering of the pipeline, undeployed pipelines are
+ * invalidated. The cache is bounded, least recently used pipelines are evicted first. Pipelines
+ * without revision, e.g. not loaded from the database, are always rendered.
+ */
+@ApplicationScoped
+public class PipelineRenderer {
+
+    public static final String CACHE_METRIC = "conductor.render.cache";
+
+    private final PipelineMapper pipelineMapper;
+    private final int size;
+    private final Map<Long, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    private record Entry(long revision, RenderedPipeline rendered) {
+    }
+
+    @Inject
+    public PipelineRenderer(PipelineMapper pipelineMapper, OperatorConfigGroup config, MeterRegistry registry) {
+        this(pipelineMapper, config.render().cacheSize(), registry);
+    }
+
+    PipelineRenderer(PipelineMapper pipelineMapper, int size, MeterRegistry registry) {
+        this.pipelineMapper = pipelineMapper;
+        this.size = size;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > PipelineRenderer.this.size;
+            }
+        };
+        this.hits = cacheCounter(registry, "hit");
+        this.misses = cacheCounter(registry, "miss");
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder(CACHE_METRIC)
+                .description("Number of pipeline renderings served from memory or rendered anew")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Renders the DebeziumServer resource of given pipeline, or returns the cached rendering of its revision
+     *
+     * @param pipeline pipeline to render
+     * @return rendered pipeline
+     */
+    public RenderedPipeline render(PipelineFlat pipeline) {
+        var id = pipeline.getId();
+        var revision = pipeline.getRevision();
+        if (size <= 0 || id == null || revision == null) {
+            return RenderedPipeline.of(pipelineMapper.map(pipeline));
+        }
+
+        synchronized (entries) {
+            var entry = entries.get(id);
+            if (entry != null && entry.revision() == revision) {
+                hits.increment();
+                return entry.rendered();
+            }
+        }
+
+        // rendered outside the lock, concurrent renderings of the same revision are equal
+        misses.increment();
+        var rendered = RenderedPipeline.of(pipelineMapper.map(pipeline));
+        synchronized (entries) {
+            var entry = entries.get(id);
+            // a stale read must not replace the rendering of a newer revision
+            if (entry == null || entry.revision() <= revision) {
+                entries.put(id, new Entry(revision, rendered));
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Drops the cached rendering of given pipeline
+     *
+     * @param pipelineId pipeline id
+     */
+    public void invalidate(Long pipelineId) {
+        synchronized (entries) {
+            entries.remove(pipelineId);
+        }
+    }
+
+    /**
+     * @return number of cached renderings
+     */
+    int cached() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
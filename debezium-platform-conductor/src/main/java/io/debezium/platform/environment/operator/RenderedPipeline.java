@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+
+/**
+ * DebeziumServer resource rendered for a pipeline together with its {@link SpecHash}.
+ * <br>
+ *
+ * Rendered pipelines are shared by all callers of {@link PipelineRenderer}, the template must
+ * not be modified. Use {@link #resource()} to obtain a resource which can be annotated and applied.
+ *
+ * @param template rendered resource
+ * @param specHash hash of the rendered resource
+ */
+public record RenderedPipeline(DebeziumServer template, String specHash) {
+
+    /**
+     * Computes the spec hash of a freshly rendered resource
+     *
+     * @param debeziumServer rendered resource
+     * @return rendered pipeline
+     */
+    public static RenderedPipeline of(DebeziumServer debeziumServer) {
+        return new RenderedPipeline(debeziumServer, SpecHash.of(debeziumServer));
+    }
+
+    /**
+     * @return name of the rendered resource
+     */
+    public String name() {
+        return template.getMetadata().getName();
+    }
+
+    /**
+     * Creates a resource to apply. The metadata is copied and annotated with the spec hash,
+     * the spec is shared with the template.
+     *
+     * @return resource annotated with its spec hash
+     */
+    public DebeziumServer resource() {
+        var resource = new DebeziumServer();
+        resource.setMetadata(new ObjectMetaBuilder(template.getMetadata()).build());
+        resource.setSpec(template.getSpec());
+        SpecHash.record(resource, specHash);
+        return resource;
+    }
+}
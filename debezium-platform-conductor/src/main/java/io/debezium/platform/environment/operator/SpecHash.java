@@ -0,0 +1,151 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.debezium.DebeziumException;
+import io.debezium.operator.api.model.DebeziumServer;
+
+/**
+ * Stable content hash of a DebeziumServer resource rendered for a pipeline.
+ * <br>
+ *
+ * The hash covers the name, labels and spec of the resource. Object properties are sorted
+ * before hashing and properties without value are left out, so the hash doesn't depend on the
+ * iteration order of maps used while rendering. The hash is stored in the {@value #ANNOTATION}
+ * annotation of the applied resource.
+ */
+public final class SpecHash {
+
+    public static final String ANNOTATION = "debezium.io/spec-hash";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String ALGORITHM = "SHA-256";
+
+    private SpecHash() {
+    }
+
+    /**
+     * Computes the hash of given resource
+     *
+     * @param debeziumServer rendered resource
+     * @return hex encoded hash
+     */
+    public static String of(DebeziumServer debeziumServer) {
+        return hash(debeziumServer, canonical(content(debeziumServer)));
+    }
+
+    /**
+     * Computes the hash of the content of a live resource owned by the conductor, i.e. the labels and
+     * spec fields set by the rendered resource. Labels added by others, e.g. by GitOps tools, and fields
+     * defaulted by the API server are left out, so the hash equals the hash of the rendered resource
+     * unless the owned content was edited.
+     *
+     * @param live resource read from the API server
+     * @param rendered resource rendered for the pipeline
+     * @return hex encoded hash
+     */
+    public static String ofOwned(DebeziumServer live, DebeziumServer rendered) {
+        return hash(live, owned(canonical(content(live)), canonical(content(rendered))));
+    }
+
+    private static ObjectNode content(DebeziumServer debeziumServer) {
+        var content = MAPPER.createObjectNode();
+        content.put("name", debeziumServer.getMetadata().getName());
+        content.set("labels", MAPPER.valueToTree(debeziumServer.getMetadata().getLabels()));
+        content.set("spec", MAPPER.valueToTree(debeziumServer.getSpec()));
+        return content;
+    }
+
+    private static String hash(DebeziumServer debeziumServer, JsonNode content) {
+        try {
+            var digest = MessageDigest.getInstance(ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(MAPPER.writeValueAsBytes(content)));
+        }
+        catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new DebeziumException("Unable to compute hash of DebeziumServer " + debeziumServer.getMetadata().getName(), e);
+        }
+    }
+
+    /**
+     * Reads the hash recorded on given resource
+     *
+     * @param debeziumServer applied resource
+     * @return recorded hash, empty if the resource wasn't annotated
+     */
+    public static Optional<String> recorded(DebeziumServer debeziumServer) {
+        return Optional.ofNullable(debeziumServer.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(ANNOTATION));
+    }
+
+    /**
+     * Records given hash on the resource
+     *
+     * @param debeziumServer resource to annotate
+     * @param hash hash of the resource
+     */
+    public static void record(DebeziumServer debeziumServer, String hash) {
+        var metadata = debeziumServer.getMetadata();
+        if (metadata.getAnnotations() == null) {
+            metadata.setAnnotations(new TreeMap<>());
+        }
+        metadata.getAnnotations().put(ANNOTATION, hash);
+    }
+
+    private static JsonNode canonical(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            Map<String, JsonNode> sorted = new TreeMap<>();
+            object.properties().stream()
+                    .filter(entry -> !entry.getValue().isNull())
+                    .forEach(entry -> sorted.put(entry.getKey(), canonical(entry.getValue())));
+            var result = MAPPER.createObjectNode();
+            sorted.forEach(result::set);
+            return result;
+        }
+        if (node instanceof ArrayNode array) {
+            var result = MAPPER.createArrayNode();
+            array.forEach(element -> result.add(canonical(element)));
+            return result;
+        }
+        return node;
+    }
+
+    /**
+     * Projects the live content on the properties of the rendered content, both canonical
+     */
+    private static JsonNode owned(JsonNode live, JsonNode rendered) {
+        if (live instanceof ObjectNode liveObject && rendered instanceof ObjectNode renderedObject) {
+            var result = MAPPER.createObjectNode();
+            renderedObject.properties().forEach(entry -> {
+                var value = liveObject.get(entry.getKey());
+                if (value != null) {
+                    result.set(entry.getKey(), owned(value, entry.getValue()));
+                }
+            });
+            return result;
+        }
+        if (live instanceof ArrayNode liveArray && rendered instanceof ArrayNode renderedArray && liveArray.size() == renderedArray.size()) {
+            var result = MAPPER.createArrayNode();
+            for (int i = 0; i < liveArray.size(); i++) {
+                result.add(owned(liveArray.get(i), renderedArray.get(i)));
+            }
+            return result;
+        }
+        return live;
+    }
+}
@@ -5,10 +5,12 @@
  */
 package io.debezium.platform.environment.operator.actions;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,7 +18,6 @@ import org.slf4j.LoggerFactory;
 import io.debezium.operator.api.model.DebeziumServer;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Service;
-import io.fabric8.kubernetes.api.model.ServiceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.TailPrettyLoggable;
 
@@ -38,20 +39,38 @@ public class DebeziumKubernetesAdapter {
     private static final String DEBEZIUM_IO_INSTANCE_LABEL = "debezium.io/instance";
     private static final String LABEL_DBZ_CONDUCTOR_ID = "debezium.io/conductor-id";
     private static final String API_CLASSIFIER = "api";
-    private static final String SERVICE_URL_FORMAT = "http://%s:%s";
+    private static final String SERVICE_URL_FORMAT = "http://%s.%s.%s:%s";
+
+    public static final String CLUSTER_SERVICE_DOMAIN = "svc";
 
     private final KubernetesClient kubernetesClient;
+    private final DebeziumResourceCache resourceCache;
+    private final String serviceDomain;
+
+    @Inject
+    public DebeziumKubernetesAdapter(KubernetesClient kubernetesClient, DebeziumResourceCache resourceCache) {
+        this(kubernetesClient, resourceCache, CLUSTER_SERVICE_DOMAIN);
+    }
 
-    public DebeziumKubernetesAdapter(KubernetesClient kubernetesClient) {
+    /**
+     * @param kubernetesClient client of the cluster
+     * @param resourceCache cache of the resources of the cluster
+     * @param serviceDomain domain under which services of the cluster are resolved, e.g. {@code svc.clusterset.local}
+     *            for a cluster whose services are exported to the cluster of the conductor
+     */
+    public DebeziumKubernetesAdapter(KubernetesClient kubernetesClient, DebeziumResourceCache resourceCache, String serviceDomain) {
         this.kubernetesClient = kubernetesClient;
+        this.resourceCache = resourceCache;
+        this.serviceDomain = serviceDomain;
     }
 
     /**
      * Retrieves the base URL for the API service associated with a Debezium Server instance.
      * <p>
      * This method searches for a Kubernetes service in the specified namespace that has the appropriate
-     * labels matching the Debezium Server instance. It then constructs a URL using the service name
-     * and port number.
+     * labels matching the Debezium Server instance, preferably in the {@link DebeziumResourceCache}.
+     * It then constructs a URL using the service name, namespace and port number, so that the service is resolved
+     * regardless of the namespace the conductor runs in.
      * </p>
      *
      * @param debeziumServerAttributes The attributes of the Debezium Server instance, including namespace and name.
@@ -64,17 +83,19 @@ public class DebeziumKubernetesAdapter {
                 DEBEZIUM_IO_CLASSIFIER_LABEL, API_CLASSIFIER,
                 DEBEZIUM_IO_INSTANCE_LABEL, debeziumServerAttributes.name());
 
-        ServiceList apiServices = kubernetesClient.services()
-                .inNamespace(debeziumServerAttributes.namespace())
-                .withLabels(requiredLabels)
-                .list();
+        List<Service> apiServices = resourceCache.apiServices(debeziumServerAttributes.namespace(), debeziumServerAttributes.name())
+                .orElseGet(() -> kubernetesClient.services()
+                        .inNamespace(debeziumServerAttributes.namespace())
+                        .withLabels(requiredLabels)
+                        .list()
+                        .getItems());
 
-        if (apiServices.getItems().isEmpty()) {
+        if (apiServices.isEmpty()) {
             LOGGER.error("No service found in the ns {} with labels {}", debeziumServerAttributes.namespace(), requiredLabels);
             return Optional.empty();
         }
 
-        Service apiService = apiServices.getItems().getFirst();
+        Service apiService = apiServices.getFirst();
 
         if (apiService.getSpec().getPorts().isEmpty()) {
             LOGGER.error("Found service {} in the ns {} without any ports", apiService.getMetadata().getName(), debeziumServerAttributes.namespace());
@@ -83,7 +104,7 @@ public class DebeziumKubernetesAdapter {
 
         var port = apiService.getSpec().getPorts().getFirst().getPort();
 
-        return Optional.of(String.format(SERVICE_URL_FORMAT, apiService.getMetadata().getName(), port));
+        return Optional.of(String.format(SERVICE_URL_FORMAT, apiService.getMetadata().getName(), debeziumServerAttributes.namespace(), serviceDomain, port));
     }
 
     /**
@@ -119,21 +140,36 @@ public class DebeziumKubernetesAdapter {
      * Finds the DebeziumServer resource associated with a specific pipeline.
      * <p>
      * This method searches for DebeziumServer resources labeled with the specified
-     * pipeline id and returns the first one found.
+     * pipeline id, preferably in the {@link DebeziumResourceCache}, and returns the first one found.
      * </p>
      *
      * @param pipelineId The pipeline id used to identify the DebeziumServer resource.
      * @return An Optional containing the DebeziumServer resource if found, or an empty Optional if none is found.
      */
     public Optional<DebeziumServer> findAssociatedDebeziumServer(Long pipelineId) {
-        return kubernetesClient.resources(DebeziumServer.class)
-                .withLabels(Map.of(LABEL_DBZ_CONDUCTOR_ID, pipelineId.toString()))
-                .list()
-                .getItems()
+        return resourceCache.debeziumServers(pipelineId)
+                .orElseGet(() -> kubernetesClient.resources(DebeziumServer.class)
+                        .withLabels(Map.of(LABEL_DBZ_CONDUCTOR_ID, pipelineId.toString()))
+                        .list()
+                        .getItems())
                 .stream()
                 .findFirst();
     }
 
+    /**
+     * Reads a DebeziumServer resource from the API server, bypassing the {@link DebeziumResourceCache}.
+     *
+     * @param namespace namespace of the resource
+     * @param name name of the resource
+     * @return An Optional containing the live DebeziumServer resource, or an empty Optional if it doesn't exist.
+     */
+    public Optional<DebeziumServer> fetchDebeziumServer(String namespace, String name) {
+        return Optional.ofNullable(kubernetesClient.resources(DebeziumServer.class)
+                .inNamespace(namespace)
+                .withName(name)
+                .get());
+    }
+
     /**
      * Retrieves a loggable deployment associated with a specific pipeline.
      * <p>
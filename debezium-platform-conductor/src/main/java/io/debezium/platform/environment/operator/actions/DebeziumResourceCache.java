@@ -0,0 +1,331 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.actions;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.runtime.Startup;
+
+/**
+ * In-memory cache of the DebeziumServer, Service, Deployment and Pod resources managed for the conductor.
+ * <p>
+ * Each resource type is kept up to date by a shared informer, indexed by the
+ * {@value #LABEL_DBZ_CONDUCTOR_ID} and {@value #DEBEZIUM_IO_INSTANCE_LABEL} labels, so that
+ * lookups don't list resources on the API server. Lookups return copies of the cached resources,
+ * callers are free to modify them.
+ * </p>
+ * <p>
+ * A lookup the cache cannot answer returns an empty {@link Optional}, the caller is then expected
+ * to query the API server. Lookups issued before the cache synchronized or about another namespace
+ * are counted as misses, when the cache is disabled no lookup is answered. Lookups of DebeziumServer
+ * resources and API services finding nothing are misses too, since the resource may have been created
+ * before the informer observed it.
+ * </p>
+ * <p>
+ * Components which derive state from the cached resources can observe their changes through
+ * {@link #addEventHandler(ResourceEventHandler)} instead of opening watches of their own.
+ * </p>
+ */
+@Startup
+@ApplicationScoped
+public class DebeziumResourceCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumResourceCache.class);
+
+    public static final String CACHE_SIZE_METRIC = "conductor.kubernetes.cache.size";
+    public static final String CACHE_LOOKUP_METRIC = "conductor.kubernetes.cache.lookups";
+    public static final String CACHE_RESYNC_METRIC = "conductor.kubernetes.cache.resyncs";
+    public static final String CACHE_RESYNC_AGE_METRIC = "conductor.kubernetes.cache.resync.age";
+
+    private static final String LABEL_DBZ_CONDUCTOR_ID = "debezium.io/conductor-id";
+    private static final String DEBEZIUM_IO_INSTANCE_LABEL = "debezium.io/instance";
+    private static final String DEBEZIUM_IO_CLASSIFIER_LABEL = "debezium.io/classifier";
+    private static final String API_CLASSIFIER = "api";
+
+    private static final String CONDUCTOR_ID_INDEX = "conductor-id";
+    private static final String INSTANCE_INDEX = "instance";
+
+    private final KubernetesClient kubernetesClient;
+    private final OperatorConfigGroup.CacheConfigGroup config;
+    private final MeterRegistry registry;
+    private final Clock clock;
+
+    private CachedResource<DebeziumServer> debeziumServers;
+    private CachedResource<Service> services;
+    private CachedResource<Deployment> deployments;
+    private CachedResource<Pod> pods;
+
+    @Inject
+    public DebeziumResourceCache(KubernetesClient kubernetesClient, OperatorConfigGroup operatorConfig, MeterRegistry registry) {
+        this(kubernetesClient, operatorConfig, registry, Clock.systemUTC());
+    }
+
+    DebeziumResourceCache(KubernetesClient kubernetesClient, OperatorConfigGroup operatorConfig, MeterRegistry registry, Clock clock) {
+        this.kubernetesClient = kubernetesClient;
+        this.config = operatorConfig.cache();
+        this.registry = registry;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.enabled()) {
+            LOGGER.info("Kubernetes resource cache is disabled, resources are looked up on the API server");
+            return;
+        }
+
+        var resync = config.resync().toMillis();
+        debeziumServers = new CachedResource<>("debeziumserver", kubernetesClient.resources(DebeziumServer.class)
+                .withLabel(LABEL_DBZ_CONDUCTOR_ID)
+                .runnableInformer(resync));
+        services = new CachedResource<>("service", kubernetesClient.services()
+                .withLabel(DEBEZIUM_IO_INSTANCE_LABEL)
+                .runnableInformer(resync));
+        deployments = new CachedResource<>("deployment", kubernetesClient.apps().deployments()
+                .withLabel(DEBEZIUM_IO_INSTANCE_LABEL)
+                .runnableInformer(resync));
+        pods = new CachedResource<>("pod", kubernetesClient.pods()
+                .withLabel(DEBEZIUM_IO_INSTANCE_LABEL)
+                .runnableInformer(resync));
+
+        List.of(debeziumServers, services, deployments, pods).forEach(CachedResource::start);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (var cached : Arrays.asList(debeziumServers, services, deployments, pods)) {
+            if (cached != null) {
+                cached.informer.stop();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the cache is enabled and all cached resources were synchronized, {@code false} otherwise
+     */
+    public boolean isSynced() {
+        return debeziumServers != null
+                && debeziumServers.informer.hasSynced()
+                && services.informer.hasSynced()
+                && deployments.informer.hasSynced()
+                && pods.informer.hasSynced();
+    }
+
+    /**
+     * Registers a handler notified about changes of all cached resources
+     * <p>
+     * Handlers registered after the cache started are notified about all cached resources as
+     * if they were just added. Notifications are delivered on informer threads, handlers must not block.
+     * </p>
+     *
+     * @param handler handler to register
+     * @return {@code true} if the handler was registered, {@code false} if the cache is disabled
+     */
+    public boolean addEventHandler(ResourceEventHandler<HasMetadata> handler) {
+        if (debeziumServers == null) {
+            return false;
+        }
+        for (var cached : List.of(debeziumServers, services, deployments, pods)) {
+            cached.informer.addEventHandler(handler);
+        }
+        return true;
+    }
+
+    /**
+     * Looks up DebeziumServer resources of given pipeline. A resource just created may not be observed
+     * by the informer yet, so the cache answers only if it holds a resource of the pipeline.
+     *
+     * @param pipelineId pipeline id
+     * @return cached resources, or an empty optional if the cache can't answer the lookup or holds no resource
+     */
+    public Optional<List<DebeziumServer>> debeziumServers(Long pipelineId) {
+        return lookup(debeziumServers, null, CONDUCTOR_ID_INDEX, pipelineId.toString(), resource -> true, false);
+    }
+
+    /**
+     * Looks up API services of given Debezium Server instance. A service just created may not be observed
+     * by the informer yet, so the cache answers only if it holds a service of the instance.
+     *
+     * @param namespace namespace of the instance
+     * @param instance name of the instance
+     * @return cached resources, or an empty optional if the cache can't answer the lookup or holds no service
+     */
+    public Optional<List<Service>> apiServices(String namespace, String instance) {
+        return lookup(services, namespace, INSTANCE_INDEX, instance, service -> API_CLASSIFIER.equals(label(service, DEBEZIUM_IO_CLASSIFIER_LABEL)), false);
+    }
+
+    /**
+     * Looks up Deployments of given Debezium Server instance
+     *
+     * @param namespace namespace of the instance
+     * @param instance name of the instance
+     * @return cached resources, or an empty optional if the cache can't answer the lookup
+     */
+    public Optional<List<Deployment>> deployments(String namespace, String instance) {
+        return lookup(deployments, namespace, INSTANCE_INDEX, instance, resource -> true, true);
+    }
+
+    /**
+     * Looks up Pods of given Debezium Server instance
+     *
+     * @param namespace namespace of the instance
+     * @param instance name of the instance
+     * @return cached resources, or an empty optional if the cache can't answer the lookup
+     */
+    public Optional<List<Pod>> pods(String namespace, String instance) {
+        return lookup(pods, namespace, INSTANCE_INDEX, instance, resource -> true, true);
+    }
+
+    /**
+     * @param filter filter of the indexed resources
+     * @param answersEmpty whether finding no resource answers the lookup, otherwise it's counted as a miss
+     */
+    private <T extends HasMetadata> Optional<List<T>> lookup(CachedResource<T> cached, String namespace, String index, String key, Predicate<T> filter,
+                                                             boolean answersEmpty) {
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (!cached.informer.hasSynced() || (namespace != null && !namespace.equals(kubernetesClient.getNamespace()))) {
+            cached.misses.increment();
+            return Optional.empty();
+        }
+
+        var serialization = kubernetesClient.getKubernetesSerialization();
+        List<T> copies = new ArrayList<>();
+        for (var resource : cached.informer.getIndexer().byIndex(index, key)) {
+            if (filter.test(resource)) {
+                copies.add(serialization.clone(resource));
+            }
+        }
+        if (copies.isEmpty() && !answersEmpty) {
+            cached.misses.increment();
+            return Optional.empty();
+        }
+
+        cached.hits.increment();
+        return Optional.of(copies);
+    }
+
+    private static String label(HasMetadata resource, String label) {
+        var labels = resource.getMetadata().getLabels();
+        return labels == null ? null : labels.get(label);
+    }
+
+    private static List<String> labelIndex(HasMetadata resource, String label) {
+        var value = label(resource, label);
+        return value == null ? List.of() : List.of(value);
+    }
+
+    private final class CachedResource<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+        private final String name;
+        private final SharedIndexInformer<T> informer;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter resyncs;
+        private volatile Instant lastResync;
+
+        private CachedResource(String name, SharedIndexInformer<T> informer) {
+            this.name = name;
+            this.informer = informer;
+            Map<String, Function<T, List<String>>> indexers = Map.of(
+                    CONDUCTOR_ID_INDEX, resource -> labelIndex(resource, LABEL_DBZ_CONDUCTOR_ID),
+                    INSTANCE_INDEX, resource -> labelIndex(resource, DEBEZIUM_IO_INSTANCE_LABEL));
+            informer.addIndexers(indexers);
+            informer.addEventHandler(this);
+
+            Gauge.builder(CACHE_SIZE_METRIC, informer, i -> i.getStore().listKeys().size())
+                    .description("Number of resources held by the Kubernetes resource cache")
+                    .tag("resource", name)
+                    .register(registry);
+            this.hits = lookupCounter("hit");
+            this.misses = lookupCounter("miss");
+            this.resyncs = Counter.builder(CACHE_RESYNC_METRIC)
+                    .description("Number of resources resynchronized by the Kubernetes resource cache")
+                    .tag("resource", name)
+                    .register(registry);
+            TimeGauge.builder(CACHE_RESYNC_AGE_METRIC, this, TimeUnit.MILLISECONDS, CachedResource::resyncAge)
+                    .description("Time since the Kubernetes resource cache was last synchronized")
+                    .tag("resource", name)
+                    .register(registry);
+        }
+
+        private Counter lookupCounter(String result) {
+            return Counter.builder(CACHE_LOOKUP_METRIC)
+                    .description("Number of lookups served by the Kubernetes resource cache")
+                    .tag("resource", name)
+                    .tag("result", result)
+                    .register(registry);
+        }
+
+        private void start() {
+            informer.start().whenComplete((ignored, error) -> {
+                if (error != null) {
+                    LOGGER.error("Unable to start the {} cache, resources are looked up on the API server", name, error);
+                    return;
+                }
+                lastResync = clock.instant();
+                LOGGER.info("Started the {} cache with {} resources", name, informer.getStore().listKeys().size());
+            });
+        }
+
+        private double resyncAge() {
+            var last = lastResync;
+            return last == null ? 0 : Duration.between(last, clock.instant()).toMillis();
+        }
+
+        @Override
+        public void onAdd(T resource) {
+            // served from the informer store
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            // periodic resyncs redeliver unchanged resources
+            if (Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion())) {
+                resyncs.increment();
+                lastResync = clock.instant();
+            }
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            // served from the informer store
+        }
+    }
+}
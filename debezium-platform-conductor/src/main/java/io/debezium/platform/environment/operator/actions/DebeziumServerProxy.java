@@ -16,6 +16,8 @@ import io.debezium.DebeziumException;
 import io.debezium.operator.api.model.DebeziumServer;
 import io.debezium.platform.domain.Signal;
 import io.debezium.platform.environment.actions.client.DebeziumServerClient;
+import io.debezium.platform.environment.actions.client.DebeziumServerMetricsClient;
+import io.debezium.platform.environment.metrics.config.MetricsConfigGroup;
 
 /**
  * A proxy class for interacting with Debezium Server instances associate to a pipeline in a Kubernetes environment.
@@ -33,17 +35,24 @@ public class DebeziumServerProxy {
     private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumServerProxy.class);
 
     private final DebeziumServerClient dsClient;
+    private final DebeziumServerMetricsClient metricsClient;
     private final DebeziumKubernetesAdapter kubernetesResourceLocator;
+    private final String metricsPath;
 
     /**
      * Constructs a new DebeziumServerProxy with the specified dependencies.
      *
      * @param dsClient The REST client for communicating with Debezium Server instances.
+     * @param metricsClient The REST client for scraping metrics of Debezium Server instances.
      * @param debeziumKubernetesAdapter The service for locating Kubernetes resources within the cluster.
+     * @param metricsConfig The configuration of collected metrics, including the path of the metrics endpoint.
      */
-    public DebeziumServerProxy(@RestClient DebeziumServerClient dsClient, DebeziumKubernetesAdapter debeziumKubernetesAdapter) {
+    public DebeziumServerProxy(@RestClient DebeziumServerClient dsClient, @RestClient DebeziumServerMetricsClient metricsClient,
+                               DebeziumKubernetesAdapter debeziumKubernetesAdapter, MetricsConfigGroup metricsConfig) {
         this.dsClient = dsClient;
+        this.metricsClient = metricsClient;
         this.kubernetesResourceLocator = debeziumKubernetesAdapter;
+        this.metricsPath = metricsConfig.path();
     }
 
     /**
@@ -72,6 +81,44 @@ public class DebeziumServerProxy {
                         });
     }
 
+    /**
+     * Scrapes the metrics exposed by the specified Debezium Server instance.
+     * <p>
+     * The metrics endpoint is located through the same API service signals are sent to.
+     * </p>
+     *
+     * @param debeziumServer The Debezium Server instance whose metrics are scraped.
+     * @return The exposed metrics in the Prometheus text format.
+     * @throws DebeziumException If the Debezium Server instance cannot be found or if the scrape fails.
+     */
+    public String scrapeMetrics(DebeziumServer debeziumServer) {
+
+        DebeziumServerAttributes debeziumServerAttributes = new DebeziumServerAttributes(
+                debeziumServer.getMetadata().getNamespace(),
+                debeziumServer.getMetadata().getName());
+
+        return kubernetesResourceLocator.getServiceApiBaseUrl(debeziumServerAttributes)
+                .map(baseUrl -> scrape(baseUrl + metricsPath))
+                .orElseThrow(() -> new DebeziumException("Unable to find pipeline instance to scrape metrics from"));
+    }
+
+    private String scrape(String metricsUrl) {
+
+        try (Response response = metricsClient.scrape(metricsUrl)) {
+
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                throw new DebeziumException(String.format("Unable to scrape metrics from %s for %s", metricsUrl, response.getStatusInfo().getReasonPhrase()));
+            }
+            return response.readEntity(String.class);
+        }
+        catch (DebeziumException e) {
+            throw e;
+        }
+        catch (RuntimeException e) {
+            throw new DebeziumException(String.format("Error scraping metrics from %s", metricsUrl), e);
+        }
+    }
+
     private void send(String dsApiBaseUrl, Signal signal) {
 
         try (Response response = dsClient.sendSignal(dsApiBaseUrl, signal)) {
@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "conductor.operator")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface OperatorConfigGroup {
+
+    CacheConfigGroup cache();
+
+    interface CacheConfigGroup {
+
+        /**
+         * Indicates whether DebeziumServer, Service and Deployment resources are cached by informers,
+         * so that lookups are served from memory instead of listing resources on the API server.
+         *
+         * @return {@code true} if the resource cache is enabled, {@code false} otherwise
+         */
+        boolean enabled();
+
+        /**
+         * Returns how often informers resynchronize cached resources.
+         *
+         * @return resync period
+         */
+        Duration resync();
+    }
+
+    ReconcileConfigGroup reconcile();
+
+    interface ReconcileConfigGroup {
+
+        /**
+         * Returns the maximum number of pipelines reconciled concurrently by a bulk reconcile.
+         *
+         * @return reconcile concurrency
+         */
+        int concurrency();
+
+        /**
+         * Returns the sustained rate of pipeline applies issued against the API server.
+         * The rate is lowered while the API server throttles or fails requests.
+         *
+         * @return applies per second
+         */
+        double qps();
+
+        /**
+         * Returns the number of applies which can be issued at once above the sustained rate.
+         *
+         * @return burst size
+         */
+        int burst();
+
+        /**
+         * Returns the delay before a throttled or failed apply is retried for the first time,
+         * the delay doubles with every further attempt.
+         *
+         * @return initial retry delay
+         */
+        Duration initialBackoff();
+
+        /**
+         * Returns the maximal delay between retries of an apply.
+         *
+         * @return maximal retry delay
+         */
+        Duration maxBackoff();
+
+        /**
+         * Returns the number of attempts to apply a pipeline before it is reported as failed.
+         *
+         * @return maximal number of attempts
+         */
+        int maxAttempts();
+    }
+
+    RenderConfigGroup render();
+
+    interface RenderConfigGroup {
+
+        /**
+         * Returns the maximum number of pipelines whose rendered DebeziumServer resources are kept in memory,
+         * least recently rendered pipelines are evicted first. Caching is disabled with {@code 0}.
+         *
+         * @return number of cached renderings
+         */
+        int cacheSize();
+    }
+
+    /**
+     * Returns environments pipelines can be assigned to in addition to the default environment,
+     * which is the cluster and namespace the conductor is configured for. Each environment is
+     * managed through its own Kubernetes client and resource cache.
+     *
+     * @return environments by name
+     */
+    Map<String, EnvironmentConfigGroup> environments();
+
+    interface EnvironmentConfigGroup {
+
+        /**
+         * Returns the kubeconfig context used to connect to the cluster of the environment.
+         *
+         * @return kubeconfig context, the current context if empty
+         */
+        Optional<String> context();
+
+        /**
+         * Returns the URL of the API server of the environment, overriding the one of the kubeconfig context.
+         *
+         * @return API server URL
+         */
+        Optional<String> masterUrl();
+
+        /**
+         * Returns the namespace pipelines of the environment are deployed into.
+         *
+         * @return namespace, the namespace of the kubeconfig context if empty
+         */
+        Optional<String> namespace();
+
+        /**
+         * Returns the domain under which services of the environment are resolved by the conductor, e.g.
+         * {@code svc.clusterset.local} when the services of a remote cluster are exported to the cluster of the conductor.
+         *
+         * @return service domain, {@code svc} of the cluster DNS if empty
+         */
+        Optional<String> serviceDomain();
+    }
+}
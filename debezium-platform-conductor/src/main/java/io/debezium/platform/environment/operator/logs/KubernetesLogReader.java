@@ -21,8 +21,10 @@ public class KubernetesLogReader implements LogReader {
     public static final int STREAM_TAIL_LINES = 100;
 
     private final Supplier<TailPrettyLoggable> supplier;
-    private LogWatch watch;
-    private BufferedReader reader;
+    // the watch is opened by the reading thread, while the reader may be closed by any other thread
+    private volatile LogWatch watch;
+    private volatile BufferedReader reader;
+    private volatile boolean closed;
 
     public KubernetesLogReader(Supplier<TailPrettyLoggable> supplier) {
         this.supplier = Objects.requireNonNull(supplier, "Supplier cannot be null");
@@ -44,16 +46,23 @@ public class KubernetesLogReader implements LogReader {
 
     @Override
     public void close() throws IOException {
-        if (reader != null) {
-            reader.close();
+        closed = true;
+        // closing the watch first ends a read pending in another thread, which holds the lock of the reader
+        var openedWatch = watch;
+        if (openedWatch != null) {
+            openedWatch.close();
         }
-        if (watch != null) {
-            watch.close();
+        var openedReader = reader;
+        if (openedReader != null) {
+            openedReader.close();
         }
     }
 
     private BufferedReader ensureReader() throws IOException {
         if (reader == null) {
+            if (closed) {
+                throw new IOException("Log reader is closed");
+            }
             try {
                 this.watch = supplier.get().tailingLines(STREAM_TAIL_LINES).watchLog();
                 this.reader = new BufferedReader(new InputStreamReader(watch.getOutput()));
@@ -61,6 +70,11 @@ public class KubernetesLogReader implements LogReader {
             catch (KubernetesClientException e) {
                 throw new IOException(e);
             }
+            // a close racing with opening the watch may have missed it
+            if (closed) {
+                close();
+                throw new IOException("Log reader is closed");
+            }
         }
         return reader;
     }
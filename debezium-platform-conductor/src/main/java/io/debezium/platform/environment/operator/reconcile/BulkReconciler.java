@@ -0,0 +1,314 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.reconcile;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+/**
+ * Re-applies the DebeziumServer resources of many pipelines at once, e.g. when the conductor
+ * starts or after an outage of the Kubernetes cluster.
+ * <br>
+ *
+ * Pipelines are reconciled on virtual threads with bounded concurrency. Applies are admitted by
+ * a client-side {@link RateLimiter} of the environment the pipeline is assigned to, applies throttled
+ * ({@code 429}) or failed ({@code 5xx}) by the API server are retried with exponential backoff and
+ * lower the admitted rate of that environment only. Only one bulk
+ * reconcile runs at a time, its progress is available while it runs and after it completed.
+ * Pipelines owned by other replicas are skipped, they are reconciled by their owner.
+ */
+@ApplicationScoped
+public class BulkReconciler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkReconciler.class);
+
+    public static final String RECONCILED_METRIC = "conductor.reconcile.pipelines";
+    public static final String THROTTLED_METRIC = "conductor.reconcile.throttled";
+
+    private static final int PROGRESS_REPORTS = 10;
+
+    private final PipelineService pipelineService;
+    private final EnvironmentRouter environments;
+    private final PipelineOwnership ownership;
+    private final OperatorConfigGroup.ReconcileConfigGroup config;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Counter throttledCounter;
+
+    private Run current;
+
+    @Inject
+    public BulkReconciler(PipelineService pipelineService, EnvironmentRouter environments, PipelineOwnership ownership,
+                          OperatorConfigGroup operatorConfig, @VirtualThreads ExecutorService executor, MeterRegistry registry) {
+        this(pipelineService, environments, ownership, operatorConfig, executor, registry, Clock.systemUTC());
+    }
+
+    BulkReconciler(PipelineService pipelineService, EnvironmentRouter environments, PipelineOwnership ownership,
+                   OperatorConfigGroup operatorConfig, ExecutorService executor, MeterRegistry registry, Clock clock) {
+        this.pipelineService = pipelineService;
+        this.environments = environments;
+        this.ownership = ownership;
+        this.config = operatorConfig.reconcile();
+        this.executor = executor;
+        this.clock = clock;
+        this.succeededCounter = reconciledCounter(registry, "succeeded");
+        this.failedCounter = reconciledCounter(registry, "failed");
+        this.throttledCounter = Counter.builder(THROTTLED_METRIC)
+                .description("Number of pipeline applies throttled or failed by the API server and retried")
+                .register(registry);
+    }
+
+    private static Counter reconciledCounter(MeterRegistry registry, String result) {
+        return Counter.builder(RECONCILED_METRIC)
+                .description("Number of pipelines reconciled by bulk reconciles")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Starts reconciling all pipelines
+     *
+     * @return progress of the started run, empty if another run is in progress
+     */
+    public Optional<ReconcileProgress> startAll() {
+        return start(pipelineService.listIds());
+    }
+
+    /**
+     * Starts reconciling given pipelines
+     *
+     * @param pipelineIds ids of pipelines to reconcile
+     * @return progress of the started run, empty if another run is in progress
+     */
+    public synchronized Optional<ReconcileProgress> start(Collection<Long> pipelineIds) {
+        if (current != null && !current.completion.isDone()) {
+            return Optional.empty();
+        }
+
+        var ids = List.copyOf(pipelineIds);
+        var run = new Run(ids.size());
+        current = run;
+        LOGGER.info("Starting reconcile {} of {} pipelines with concurrency {} and rate limit {}/s per environment", run.id, ids.size(), config.concurrency(), config.qps());
+        executor.execute(() -> execute(run, ids));
+        return Optional.of(run.progress());
+    }
+
+    /**
+     * @return progress of the running or last completed run, empty if no run was started yet
+     */
+    public synchronized Optional<ReconcileProgress> progress() {
+        return Optional.ofNullable(current).map(Run::progress);
+    }
+
+    /**
+     * Waits for the current run to complete
+     *
+     * @return progress of the completed run
+     */
+    ReconcileProgress await() {
+        Run run;
+        synchronized (this) {
+            run = current;
+        }
+        return run.completion.join();
+    }
+
+    private void execute(Run run, List<Long> ids) {
+        var permits = new Semaphore(config.concurrency());
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(ids.size());
+        try {
+            for (var id : ids) {
+                permits.acquire();
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        reconcile(run, id);
+                    }
+                    finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Reconcile {} was interrupted", run.id);
+        }
+        catch (RuntimeException e) {
+            LOGGER.error("Reconcile {} failed", run.id, e);
+        }
+        finally {
+            run.finish();
+        }
+    }
+
+    private void reconcile(Run run, Long id) {
+        try {
+            if (!ownership.owns(id)) {
+                run.skipped();
+                return;
+            }
+
+            var pipeline = pipelineService.findCurrent(id);
+            if (pipeline.isEmpty()) {
+                run.skipped();
+                return;
+            }
+
+            var environment = environments.route(id, pipeline.get().getEnvironment());
+            var limiter = run.limiter(environment.name());
+            var backoff = config.initialBackoff();
+            for (int attempt = 1;; attempt++) {
+                limiter.acquire();
+                try {
+                    environment.pipelines().deploy(pipeline.get());
+                    limiter.succeeded();
+                    run.succeeded();
+                    return;
+                }
+                catch (KubernetesClientException e) {
+                    if (!isRetriable(e) || attempt >= config.maxAttempts()) {
+                        throw e;
+                    }
+                    limiter.throttled();
+                    run.throttled.incrementAndGet();
+                    throttledCounter.increment();
+                    LOGGER.debug("Apply of pipeline {} was rejected with {}, retrying in {}", id, e.getCode(), backoff);
+                    sleep(backoff);
+                    backoff = min(backoff.multipliedBy(2), config.maxBackoff());
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.failed(id);
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to reconcile pipeline {}", id, e);
+            run.failed(id);
+        }
+    }
+
+    private static boolean isRetriable(KubernetesClientException e) {
+        return e.getCode() == 429 || e.getCode() >= 500;
+    }
+
+    private static void sleep(Duration backoff) throws InterruptedException {
+        // equal jitter, half of the backoff is random, spreads retries of concurrently throttled applies
+        TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(backoff.toMillis() / 2, backoff.toMillis() + 1));
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private final class Run {
+
+        private final UUID id = UUID.randomUUID();
+        private final int total;
+        private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+        private final Instant startedAt = clock.instant();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicLong throttled = new AtomicLong();
+        private final Collection<Long> failedPipelines = new ConcurrentLinkedQueue<>();
+        private final CompletableFuture<ReconcileProgress> completion = new CompletableFuture<>();
+        private volatile Instant finishedAt;
+
+        private Run(int total) {
+            this.total = total;
+        }
+
+        private RateLimiter limiter(String environment) {
+            return limiters.computeIfAbsent(environment, ignored -> new RateLimiter(config.qps(), config.burst()));
+        }
+
+        private double rate() {
+            return limiters.values().stream()
+                    .mapToDouble(RateLimiter::rate)
+                    .min()
+                    .orElse(config.qps());
+        }
+
+        private void succeeded() {
+            succeededCounter.increment();
+            reportProgress(succeeded.incrementAndGet() + failed.get() + skipped.get());
+        }
+
+        private void skipped() {
+            reportProgress(succeeded.get() + failed.get() + skipped.incrementAndGet());
+        }
+
+        private void failed(Long pipelineId) {
+            failedCounter.increment();
+            failedPipelines.add(pipelineId);
+            reportProgress(succeeded.get() + failed.incrementAndGet() + skipped.get());
+        }
+
+        private void reportProgress(int processed) {
+            var step = Math.max(1, total / PROGRESS_REPORTS);
+            if (processed % step == 0 && processed < total) {
+                var progress = progress();
+                LOGGER.info("Reconcile {} processed {}/{} pipelines ({} pipelines/s, rate limit {}/s)", id, processed, total,
+                        String.format("%.1f", progress.throughput()), String.format("%.1f", progress.rate()));
+            }
+        }
+
+        private void finish() {
+            finishedAt = clock.instant();
+            var progress = progress();
+            LOGGER.info("Reconcile {} completed in {}: {} succeeded, {} failed, {} skipped, {} retries ({} pipelines/s)", id,
+                    Duration.between(startedAt, finishedAt), progress.succeeded(), progress.failed(), progress.skipped(), progress.throttled(),
+                    String.format("%.1f", progress.throughput()));
+            completion.complete(progress);
+        }
+
+        private ReconcileProgress progress() {
+            var end = finishedAt;
+            var elapsed = Duration.between(startedAt, end == null ? clock.instant() : end).toMillis();
+            var processed = succeeded.get() + failed.get() + skipped.get();
+            var throughput = elapsed == 0 ? 0 : processed * 1000.0 / elapsed;
+
+            return new ReconcileProgress(id, end == null ? ReconcileProgress.State.RUNNING : ReconcileProgress.State.COMPLETED, total,
+                    succeeded.get(), failed.get(), skipped.get(), throttled.get(), startedAt, end, throughput, rate(),
+                    List.copyOf(failedPipelines));
+        }
+    }
+}
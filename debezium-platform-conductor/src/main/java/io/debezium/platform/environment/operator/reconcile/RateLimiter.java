@@ -0,0 +1,106 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.reconcile;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token bucket limiting the rate of requests issued against the API server.
+ * <br>
+ *
+ * Up to {@code burst} requests are admitted at once, further requests are admitted at the current
+ * rate. The rate adapts to the API server: it is halved whenever a request is throttled and
+ * recovers additively with every successful request, up to the configured rate.
+ */
+final class RateLimiter {
+
+    private static final double MIN_RATE_FRACTION = 0.05;
+    private static final double RECOVERY_FRACTION = 0.05;
+
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private final LongSupplier nanoTime;
+
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+
+    RateLimiter(double qps, int burst) {
+        this(qps, burst, System::nanoTime);
+    }
+
+    RateLimiter(double qps, int burst, LongSupplier nanoTime) {
+        if (qps <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit requires positive qps and burst");
+        }
+        this.maxRate = qps;
+        this.minRate = qps * MIN_RATE_FRACTION;
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+        this.rate = qps;
+        this.tokens = burst;
+        this.refilledAt = nanoTime.getAsLong();
+    }
+
+    /**
+     * Waits until a request can be issued
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        var wait = reserve();
+        if (!wait.isZero()) {
+            TimeUnit.NANOSECONDS.sleep(wait.toNanos());
+        }
+    }
+
+    /**
+     * Reserves a token for a single request
+     *
+     * @return time to wait before the request can be issued
+     */
+    synchronized Duration reserve() {
+        refill();
+        tokens -= 1;
+        if (tokens >= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Lowers the rate after the API server throttled or failed a request
+     */
+    synchronized void throttled() {
+        refill();
+        rate = Math.max(minRate, rate / 2);
+    }
+
+    /**
+     * Recovers the rate after a successful request
+     */
+    synchronized void succeeded() {
+        refill();
+        rate = Math.min(maxRate, rate + maxRate * RECOVERY_FRACTION);
+    }
+
+    /**
+     * @return current rate in requests per second
+     */
+    synchronized double rate() {
+        return rate;
+    }
+
+    private void refill() {
+        var now = nanoTime.getAsLong();
+        var elapsed = (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(burst, tokens + elapsed * rate);
+        refilledAt = now;
+    }
+}
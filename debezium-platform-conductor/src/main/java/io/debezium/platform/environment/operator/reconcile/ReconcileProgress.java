@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.reconcile;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snapshot of the progress of a bulk reconcile
+ *
+ * @param id run id
+ * @param state run state
+ * @param total number of pipelines to reconcile
+ * @param succeeded number of pipelines applied, or found up to date
+ * @param failed number of pipelines which couldn't be applied
+ * @param skipped number of pipelines removed before they were reconciled
+ * @param throttled number of applies throttled or failed by the API server and retried
+ * @param startedAt start of the run
+ * @param finishedAt end of the run, {@code null} while running
+ * @param throughput reconciled pipelines per second
+ * @param rate current rate limit in applies per second, the lowest one if pipelines of several environments are reconciled
+ * @param failedPipelines ids of pipelines which couldn't be applied
+ */
+public record ReconcileProgress(
+        UUID id,
+        State state,
+        int total,
+        int succeeded,
+        int failed,
+        int skipped,
+        long throttled,
+        Instant startedAt,
+        Instant finishedAt,
+        double throughput,
+        double rate,
+        List<Long> failedPipelines) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED
+    }
+
+    /**
+     * @return number of pipelines already reconciled, regardless of the result
+     */
+    public int processed() {
+        return succeeded + failed + skipped;
+    }
+}
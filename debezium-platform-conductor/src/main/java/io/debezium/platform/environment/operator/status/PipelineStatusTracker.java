@@ -0,0 +1,248 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.status;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.platform.environment.operator.OperatorPipelineController;
+import io.debezium.platform.environment.operator.actions.DebeziumResourceCache;
+import io.debezium.platform.environment.status.FleetStatus;
+import io.debezium.platform.environment.status.PipelineStatus;
+import io.debezium.platform.environment.status.PipelineStatus.Phase;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentCondition;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.quarkus.runtime.Startup;
+
+/**
+ * Keeps the status of all deployed pipelines in memory.
+ * <br>
+ *
+ * The status of a pipeline is derived from the Deployment and Pods of its Debezium Server instance
+ * and recomputed whenever the {@link DebeziumResourceCache} observes a change of any of these
+ * resources, so reading the status of the whole fleet doesn't reach the API server. Every change
+ * of a status bumps the version of the {@link FleetStatus}, the snapshot itself is built at most
+ * once per version.
+ */
+@Startup
+@ApplicationScoped
+public class PipelineStatusTracker implements ResourceEventHandler<HasMetadata> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineStatusTracker.class);
+
+    private static final String DEBEZIUM_IO_INSTANCE_LABEL = "debezium.io/instance";
+    private static final String PROGRESSING_CONDITION = "Progressing";
+    private static final String CRASH_LOOP_REASON = "CrashLoopBackOff";
+
+    private final DebeziumResourceCache resourceCache;
+    // namespace and name of Debezium Server instances mapped to their pipelines
+    private final Map<Instance, Long> instances = new ConcurrentHashMap<>();
+    private final Map<Long, PipelineStatus> statuses = new ConcurrentHashMap<>();
+    // distinguishes versions of different conductor instances and restarts
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean tracking;
+    private volatile boolean initialized;
+    private volatile Snapshot snapshot;
+
+    private record Instance(String namespace, String name) {
+    }
+
+    private record Snapshot(long version, FleetStatus status) {
+    }
+
+    public PipelineStatusTracker(DebeziumResourceCache resourceCache) {
+        this.resourceCache = resourceCache;
+    }
+
+    @PostConstruct
+    public void start() {
+        tracking = resourceCache.addEventHandler(this);
+        if (!tracking) {
+            LOGGER.info("Kubernetes resource cache is disabled, pipeline status is not tracked");
+        }
+    }
+
+    /**
+     * @return status of all deployed pipelines, or empty optional if the cache isn't enabled or synchronized yet
+     */
+    public Optional<FleetStatus> status() {
+        if (!tracking || !resourceCache.isSynced()) {
+            return Optional.empty();
+        }
+        if (!initialized) {
+            // notifications delivered while other informers were still synchronizing couldn't be resolved
+            instances.keySet().forEach(this::refresh);
+            initialized = true;
+        }
+
+        var current = snapshot;
+        var latest = version.get();
+        if (current == null || current.version() != latest) {
+            var pipelines = statuses.values().stream()
+                    .sorted(Comparator.comparing(PipelineStatus::pipelineId))
+                    .toList();
+            current = new Snapshot(latest, new FleetStatus(epoch + "-" + latest, pipelines));
+            snapshot = current;
+        }
+        return Optional.of(current.status());
+    }
+
+    @Override
+    public void onAdd(HasMetadata resource) {
+        changed(resource, false);
+    }
+
+    @Override
+    public void onUpdate(HasMetadata oldResource, HasMetadata newResource) {
+        // resyncs are handled as well, they heal statuses computed from an incomplete cache
+        changed(newResource, false);
+    }
+
+    @Override
+    public void onDelete(HasMetadata resource, boolean deletedFinalStateUnknown) {
+        changed(resource, true);
+    }
+
+    private void changed(HasMetadata resource, boolean deleted) {
+        try {
+            var metadata = resource.getMetadata();
+            if (resource instanceof DebeziumServer) {
+                var instance = new Instance(metadata.getNamespace(), metadata.getName());
+                if (deleted) {
+                    remove(instance);
+                    return;
+                }
+                var pipelineId = Long.valueOf(metadata.getLabels().get(OperatorPipelineController.LABEL_DBZ_CONDUCTOR_ID));
+                instances.put(instance, pipelineId);
+                refresh(instance);
+                return;
+            }
+            var name = metadata.getLabels() == null ? null : metadata.getLabels().get(DEBEZIUM_IO_INSTANCE_LABEL);
+            if (name != null) {
+                refresh(new Instance(metadata.getNamespace(), name));
+            }
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to update pipeline status after a change of {} {}", resource.getKind(), resource.getMetadata().getName(), e);
+        }
+    }
+
+    private void remove(Instance instance) {
+        var pipelineId = instances.remove(instance);
+        if (pipelineId != null && statuses.remove(pipelineId) != null) {
+            version.incrementAndGet();
+        }
+    }
+
+    private void refresh(Instance instance) {
+        var pipelineId = instances.get(instance);
+        if (pipelineId == null) {
+            // the DebeziumServer wasn't observed yet, its notification refreshes the status
+            return;
+        }
+
+        var deployments = resourceCache.deployments(instance.namespace(), instance.name());
+        var pods = resourceCache.pods(instance.namespace(), instance.name());
+        if (deployments.isEmpty() || pods.isEmpty()) {
+            return;
+        }
+
+        var status = status(pipelineId, instance.name(), deployments.get(), pods.get());
+        if (!status.equals(statuses.put(pipelineId, status))) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Derives the status of a pipeline from the resources of its Debezium Server instance
+     *
+     * @param pipelineId pipeline id
+     * @param name name of the Debezium Server instance
+     * @param deployments Deployments of the instance
+     * @param pods Pods of the instance
+     * @return pipeline status
+     */
+    static PipelineStatus status(Long pipelineId, String name, List<Deployment> deployments, List<Pod> pods) {
+        if (deployments.isEmpty()) {
+            return new PipelineStatus(pipelineId, name, Phase.PENDING, false, 0, 0, 0, null, null);
+        }
+
+        var deployment = deployments.getFirst();
+        var spec = deployment.getSpec();
+        var deploymentStatus = deployment.getStatus();
+        int desired = spec == null || spec.getReplicas() == null ? 1 : spec.getReplicas();
+        int ready = deploymentStatus == null || deploymentStatus.getReadyReplicas() == null ? 0 : deploymentStatus.getReadyReplicas();
+        List<DeploymentCondition> conditions = deploymentStatus == null || deploymentStatus.getConditions() == null
+                ? List.of()
+                : deploymentStatus.getConditions();
+
+        var containers = pods.stream()
+                .filter(pod -> pod.getStatus() != null && pod.getStatus().getContainerStatuses() != null)
+                .flatMap(pod -> pod.getStatus().getContainerStatuses().stream())
+                .toList();
+        int restarts = containers.stream()
+                .map(ContainerStatus::getRestartCount)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sum();
+        var lastTransitionTime = conditions.stream()
+                .map(DeploymentCondition::getLastTransitionTime)
+                .filter(Objects::nonNull)
+                .map(Instant::parse)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        var stalled = conditions.stream()
+                .filter(condition -> PROGRESSING_CONDITION.equals(condition.getType()) && "False".equals(condition.getStatus()))
+                .findFirst();
+        var crashing = containers.stream()
+                .filter(container -> container.getState() != null && container.getState().getWaiting() != null)
+                .filter(container -> CRASH_LOOP_REASON.equals(container.getState().getWaiting().getReason()))
+                .findFirst();
+
+        Phase phase;
+        String message = null;
+        if (desired == 0) {
+            phase = Phase.STOPPED;
+        }
+        else if (stalled.isPresent()) {
+            phase = Phase.FAILED;
+            message = stalled.get().getMessage();
+        }
+        else if (crashing.isPresent()) {
+            phase = Phase.FAILED;
+            message = crashing.get().getState().getWaiting().getMessage();
+        }
+        else if (ready >= desired) {
+            phase = Phase.RUNNING;
+        }
+        else {
+            phase = Phase.STARTING;
+        }
+
+        return new PipelineStatus(pipelineId, name, phase, desired == 0, desired, ready, restarts, lastTransitionTime, message);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import java.util.List;
+
+/**
+ * Outcome of a signal sent to many pipelines
+ *
+ * @param signalId id of the signal
+ * @param selected number of selected pipelines
+ * @param sent number of pipelines the signal was sent to
+ * @param failed number of pipelines the signal couldn't be sent to
+ * @param results outcome for each selected pipeline, in the order the pipelines were selected
+ */
+public record SignalBroadcast(String signalId, int selected, int sent, int failed, List<Result> results) {
+
+    public enum Outcome {
+        SENT,
+        FAILED,
+        TIMED_OUT,
+        NOT_FOUND
+    }
+
+    /**
+     * Outcome of the signal sent to a single pipeline
+     *
+     * @param pipelineId pipeline id
+     * @param outcome outcome of the call
+     * @param message reason of the failure, {@code null} if the signal was sent
+     */
+    public record Result(Long pipelineId, Outcome outcome, String message) {
+    }
+
+    static SignalBroadcast of(String signalId, List<Result> results) {
+        var sent = (int) results.stream()
+                .filter(result -> result.outcome() == Outcome.SENT)
+                .count();
+        return new SignalBroadcast(signalId, results.size(), sent, results.size() - sent, results);
+    }
+}
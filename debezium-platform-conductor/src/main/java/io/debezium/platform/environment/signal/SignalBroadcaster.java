@@ -0,0 +1,174 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.domain.Signal;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.signal.SignalBroadcast.Outcome;
+import io.debezium.platform.environment.signal.SignalBroadcast.Result;
+import io.debezium.platform.environment.signal.config.SignalConfigGroup;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+/**
+ * Sends a signal to many pipelines at once, e.g. to trigger an incremental snapshot or a log flush
+ * across the fleet.
+ * <br>
+ *
+ * Pipelines are selected by id, by environment, or by both. The signal is sent on virtual threads
+ * to at most the configured number of pipelines concurrently. Calls exceeding the configured deadline
+ * are reported as timed out, so that unresponsive Debezium Server instances don't hold back the outcome
+ * of the broadcast. Such a call keeps its permit until the read timeout of the {@code debezium-server-api}
+ * REST client ends it, so no more than the configured number of calls is ever in flight.
+ */
+@ApplicationScoped
+public class SignalBroadcaster {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcaster.class);
+
+    private final PipelineService pipelineService;
+    private final EnvironmentRouter environments;
+    private final SignalConfigGroup.BroadcastConfigGroup config;
+    private final ExecutorService executor;
+
+    public SignalBroadcaster(PipelineService pipelineService, EnvironmentRouter environments, SignalConfigGroup config,
+                             @VirtualThreads ExecutorService executor) {
+        this.pipelineService = pipelineService;
+        this.environments = environments;
+        this.config = config.broadcast();
+        this.executor = executor;
+    }
+
+    /**
+     * Sends given signal to all selected pipelines and waits for the outcome of every call
+     *
+     * @param pipelineIds ids of selected pipelines, may be empty if the environment is given
+     * @param environment environment whose pipelines are selected, may be {@code null} if ids are given
+     * @param signal signal to send
+     * @return aggregated outcome
+     * @throws IllegalArgumentException if no pipeline is selected, the environment is unknown or too many pipelines are selected
+     */
+    public SignalBroadcast broadcast(Collection<Long> pipelineIds, String environment, Signal signal) {
+        var selected = select(pipelineIds, environment);
+        LOGGER.info("Sending signal {} of type {} to {} pipelines", signal.id(), signal.type(), selected.size());
+
+        var deadline = config.deadline();
+        var permits = new Semaphore(config.concurrency());
+        List<CompletableFuture<Result>> calls = new ArrayList<>(selected.size());
+        try {
+            for (var id : selected) {
+                // resolved on the calling thread, the lookup of unrouted pipelines needs its context
+                var pipelines = pipelineService.environmentController(id).map(EnvironmentController::pipelines);
+                if (pipelines.isEmpty()) {
+                    calls.add(CompletableFuture.completedFuture(new Result(id, Outcome.NOT_FOUND, "Pipeline not found")));
+                    continue;
+                }
+
+                permits.acquire();
+                calls.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return send(id, pipelines.get(), signal);
+                    }
+                    finally {
+                        permits.release();
+                    }
+                }, executor).orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS).exceptionally(error -> timedOut(id, signal, deadline, error)));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            calls.forEach(call -> call.cancel(true));
+            throw new DebeziumException("Interrupted while sending signal " + signal.id(), e);
+        }
+
+        var broadcast = SignalBroadcast.of(signal.id(), calls.stream().map(CompletableFuture::join).toList());
+        LOGGER.info("Signal {} sent to {} of {} pipelines", signal.id(), broadcast.sent(), broadcast.selected());
+        return broadcast;
+    }
+
+    private Collection<Long> select(Collection<Long> pipelineIds, String environment) {
+        var hasIds = pipelineIds != null && !pipelineIds.isEmpty();
+        if (!hasIds && environment == null) {
+            throw new IllegalArgumentException("Pipelines must be selected by id or environment");
+        }
+
+        Collection<Long> selected;
+        if (environment == null) {
+            selected = new LinkedHashSet<>(pipelineIds);
+        }
+        else {
+            // rejects unknown environments
+            environments.environment(environment);
+            var inEnvironment = pipelineService.findIdsByEnvironment(environment);
+            if (hasIds) {
+                var members = new HashSet<>(inEnvironment);
+                selected = new LinkedHashSet<>(pipelineIds);
+                selected.retainAll(members);
+            }
+            else {
+                selected = inEnvironment;
+            }
+        }
+
+        if (selected.size() > config.maxPipelines()) {
+            throw new IllegalArgumentException(
+                    String.format("%d pipelines selected, a signal can be sent to at most %d pipelines at once", selected.size(), config.maxPipelines()));
+        }
+        return selected;
+    }
+
+    private Result send(Long id, PipelineController pipelines, Signal signal) {
+        try {
+            pipelines.sendSignal(id, signal);
+            return new Result(id, Outcome.SENT, null);
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to send signal {} to pipeline {}", signal.id(), id, e);
+            return new Result(id, Outcome.FAILED, message(e));
+        }
+    }
+
+    private static Result timedOut(Long id, Signal signal, Duration deadline, Throwable error) {
+        if (!(error instanceof TimeoutException)) {
+            throw new CompletionException(error);
+        }
+        LOGGER.warn("Signal {} wasn't sent to pipeline {} within {}", signal.id(), id, deadline);
+        return new Result(id, Outcome.TIMED_OUT, "No response within " + deadline.toMillis() + "ms");
+    }
+
+    private static String message(Throwable error) {
+        // the proxy wraps failures of the REST call, their cause tells what went wrong
+        var message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        for (var cause = error.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null) {
+                message = message + ": " + cause.getMessage();
+                break;
+            }
+        }
+        return message;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import java.time.Instant;
+
+import io.debezium.platform.domain.Signal;
+
+/**
+ * Delivery state of a signal queued for a pipeline
+ *
+ * @param pipelineId pipeline the signal is delivered to
+ * @param signal queued signal
+ * @param status delivery status
+ * @param attempts number of delivery attempts so far
+ * @param nextAttemptAt time of the next delivery attempt of a pending signal
+ * @param lastError error of the last failed attempt, {@code null} if no attempt failed
+ * @param createdAt time the signal was queued
+ * @param completedAt time the signal was delivered or dead-lettered, {@code null} while pending
+ */
+public record SignalDelivery(Long pipelineId, Signal signal, Status status, int attempts, Instant nextAttemptAt, String lastError,
+        Instant createdAt, Instant completedAt) {
+
+    public enum Status {
+        PENDING,
+        DELIVERED,
+        DEAD_LETTERED
+    }
+}
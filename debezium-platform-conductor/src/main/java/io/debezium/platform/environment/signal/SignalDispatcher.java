@@ -0,0 +1,193 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.signal.SignalQueue.DeadLetterReason;
+import io.debezium.platform.environment.signal.config.SignalConfigGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+/**
+ * Delivers signals queued in the {@link SignalQueue} to Debezium Server instances in the background.
+ * <br>
+ *
+ * Due signals are claimed in batches and delivered on virtual threads with bounded concurrency.
+ * Failed deliveries, e.g. while the Debezium Server instance restarts, are retried with exponential
+ * backoff until the configured number of attempts is reached, then the signal is dead-lettered. Signals
+ * of removed pipelines are dead-lettered right away.
+ */
+@ApplicationScoped
+public class SignalDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalDispatcher.class);
+
+    public static final String DELIVERIES_METRIC = "conductor.signals.deliveries";
+
+    private final SignalQueue queue;
+    private final PipelineService pipelineService;
+    private final SignalConfigGroup.QueueConfigGroup config;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    @Inject
+    public SignalDispatcher(SignalQueue queue, PipelineService pipelineService, SignalConfigGroup config, @VirtualThreads ExecutorService executor,
+                            MeterRegistry registry) {
+        this(queue, pipelineService, config, executor, registry, Clock.systemUTC());
+    }
+
+    SignalDispatcher(SignalQueue queue, PipelineService pipelineService, SignalConfigGroup config, ExecutorService executor, MeterRegistry registry,
+                     Clock clock) {
+        this.queue = queue;
+        this.pipelineService = pipelineService;
+        this.config = config.queue();
+        this.executor = executor;
+        this.clock = clock;
+        this.delivered = deliveryCounter(registry, "delivered");
+        this.retried = deliveryCounter(registry, "retried");
+        this.deadLettered = deliveryCounter(registry, "dead_lettered");
+    }
+
+    private static Counter deliveryCounter(MeterRegistry registry, String result) {
+        return Counter.builder(DELIVERIES_METRIC)
+                .description("Number of signal delivery attempts by their result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Scheduled(every = "${conductor.signals.queue.poll-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledDispatch() {
+        try {
+            dispatch();
+            var now = clock.instant();
+            queue.prune(now.minus(config.retention()));
+            queue.pruneDeadLetters(now.minus(config.deadLetterRetention()));
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to dispatch queued signals", e);
+        }
+    }
+
+    /**
+     * Delivers all due signals, claiming further batches while full batches are claimed
+     *
+     * @return number of claimed signals
+     */
+    public int dispatch() {
+        int total = 0;
+        List<SignalDelivery> batch;
+        do {
+            var now = clock.instant();
+            batch = queue.claim(config.batchSize(), now, now.plus(config.lease()));
+            deliver(batch);
+            total += batch.size();
+        } while (batch.size() >= config.batchSize());
+        return total;
+    }
+
+    private void deliver(List<SignalDelivery> batch) {
+        var permits = new Semaphore(config.concurrency());
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+        try {
+            for (var delivery : batch) {
+                // resolved on the calling thread, the lookup of unrouted pipelines needs its context
+                var pipelines = pipelineService.environmentController(delivery.pipelineId()).map(EnvironmentController::pipelines);
+                if (pipelines.isEmpty()) {
+                    LOGGER.info("Dead-lettering signal {}, pipeline {} no longer exists", delivery.signal().id(), delivery.pipelineId());
+                    queue.deadLetter(delivery, DeadLetterReason.PIPELINE_NOT_FOUND, "Pipeline not found", clock.instant());
+                    deadLettered.increment();
+                    continue;
+                }
+
+                permits.acquire();
+                deliveries.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        deliver(delivery, pipelines.get());
+                    }
+                    finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // claimed signals which weren't delivered are claimed again once their lease expired
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void deliver(SignalDelivery delivery, PipelineController pipelines) {
+        var signal = delivery.signal();
+        try {
+            pipelines.sendSignal(delivery.pipelineId(), signal);
+            queue.delivered(delivery, clock.instant());
+            delivered.increment();
+            LOGGER.debug("Delivered signal {} to pipeline {} after {} attempts", signal.id(), delivery.pipelineId(), delivery.attempts());
+        }
+        catch (RuntimeException e) {
+            failed(delivery, e);
+        }
+    }
+
+    private void failed(SignalDelivery delivery, RuntimeException error) {
+        var signal = delivery.signal();
+        var message = error.getCause() != null ? error.getMessage() + ": " + error.getCause().getMessage() : error.getMessage();
+        try {
+            if (delivery.attempts() >= config.maxAttempts()) {
+                LOGGER.warn("Dead-lettering signal {} of pipeline {} after {} attempts: {}", signal.id(), delivery.pipelineId(), delivery.attempts(), message);
+                queue.deadLetter(delivery, DeadLetterReason.EXHAUSTED, message, clock.instant());
+                deadLettered.increment();
+                return;
+            }
+
+            var backoff = backoff(delivery.attempts());
+            LOGGER.debug("Delivery of signal {} to pipeline {} failed, retrying in {}: {}", signal.id(), delivery.pipelineId(), backoff, message);
+            queue.retry(delivery, clock.instant().plus(backoff), message);
+            retried.increment();
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Unable to record failed delivery of signal {} to pipeline {}", signal.id(), delivery.pipelineId(), e);
+        }
+    }
+
+    /**
+     * @param attempts number of failed attempts
+     * @return delay before the next attempt
+     */
+    Duration backoff(int attempts) {
+        var exponent = Math.min(attempts - 1, 30);
+        var delay = config.initialBackoff().multipliedBy(1L << exponent);
+        if (delay.compareTo(config.maxBackoff()) > 0) {
+            delay = config.maxBackoff();
+        }
+        // jitter spreads retries of signals which failed together, e.g. during a data plane outage
+        var millis = delay.toMillis();
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis / 2, millis + 1));
+    }
+}
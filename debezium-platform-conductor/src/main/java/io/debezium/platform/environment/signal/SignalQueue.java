@@ -0,0 +1,306 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.DebeziumException;
+import io.debezium.platform.domain.Signal;
+import io.debezium.platform.environment.signal.SignalDelivery.Status;
+
+/**
+ * Durable queue of signals waiting to be delivered to Debezium Server instances.
+ * <br>
+ *
+ * A signal is queued once per pipeline and signal id, submitting the same signal again while it is
+ * queued records the submission in the dead-letter table. Pending signals are claimed by
+ * {@link SignalDispatcher} with {@code FOR UPDATE SKIP LOCKED} and leased until their next attempt,
+ * so that concurrent dispatchers never deliver the same attempt twice. Signals which can't be delivered
+ * are copied into the dead-letter table, delivered and dead-lettered signals keep their status until
+ * they are pruned. Dead letters are pruned separately, so that they can be kept for longer.
+ */
+@ApplicationScoped
+public class SignalQueue {
+
+    public static final String TABLE = "signal_delivery";
+    public static final String DEAD_LETTER_TABLE = "signal_dead_letter";
+
+    private static final String COLUMNS = "pipeline_id, signal_id, type, data, additional_data, status, attempts, next_attempt_at, last_error, created_at, completed_at";
+    private static final String INSERT_STATEMENT = "INSERT INTO " + TABLE + " (pipeline_id, signal_id, type, data, additional_data) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (pipeline_id, signal_id) DO NOTHING";
+    private static final String SELECT_STATEMENT = "SELECT " + COLUMNS + " FROM " + TABLE + " WHERE pipeline_id = ? AND signal_id = ?";
+    private static final String CLAIM_STATEMENT = "UPDATE " + TABLE + " SET attempts = attempts + 1, next_attempt_at = ? "
+            + "WHERE (pipeline_id, signal_id) IN (SELECT pipeline_id, signal_id FROM " + TABLE
+            + " WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING " + COLUMNS;
+    private static final String DELIVERED_STATEMENT = "UPDATE " + TABLE + " SET status = 'DELIVERED', last_error = NULL, completed_at = ? "
+            + "WHERE pipeline_id = ? AND signal_id = ?";
+    private static final String RETRY_STATEMENT = "UPDATE " + TABLE + " SET next_attempt_at = ?, last_error = ? WHERE pipeline_id = ? AND signal_id = ?";
+    private static final String DEAD_LETTER_STATEMENT = "UPDATE " + TABLE + " SET status = 'DEAD_LETTERED', last_error = ?, completed_at = ? "
+            + "WHERE pipeline_id = ? AND signal_id = ?";
+    private static final String INSERT_DEAD_LETTER_STATEMENT = "INSERT INTO " + DEAD_LETTER_TABLE
+            + " (pipeline_id, signal_id, type, data, additional_data, attempts, reason, last_error, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String PRUNE_STATEMENT = "DELETE FROM " + TABLE + " WHERE status <> 'PENDING' AND completed_at < ?";
+    private static final String PRUNE_DEAD_LETTER_STATEMENT = "DELETE FROM " + DEAD_LETTER_TABLE + " WHERE dead_lettered_at < ?";
+
+    private static final TypeReference<Map<String, Object>> ADDITIONAL_DATA_TYPE = new TypeReference<>() {
+    };
+
+    public enum DeadLetterReason {
+        DUPLICATE,
+        EXHAUSTED,
+        PIPELINE_NOT_FOUND
+    }
+
+    private final AgroalDataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    public SignalQueue(AgroalDataSource dataSource, ObjectMapper objectMapper) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queues given signal for delivery to the pipeline
+     *
+     * @param pipelineId pipeline id
+     * @param signal signal to deliver
+     * @return {@code true} if the signal was queued, {@code false} if it was already queued and the submission was dead-lettered
+     */
+    public boolean enqueue(Long pipelineId, Signal signal) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(INSERT_STATEMENT)) {
+            statement.setLong(1, pipelineId);
+            statement.setString(2, signal.id());
+            statement.setString(3, signal.type());
+            statement.setString(4, signal.data());
+            statement.setString(5, additionalData(signal));
+            if (statement.executeUpdate() == 1) {
+                return true;
+            }
+
+            insertDeadLetter(connection, pipelineId, signal, 0, DeadLetterReason.DUPLICATE, "Signal was already queued", Instant.now());
+            return false;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to queue signal " + signal.id() + " for pipeline " + pipelineId, e);
+        }
+    }
+
+    /**
+     * Finds the delivery state of a queued signal
+     *
+     * @param pipelineId pipeline id
+     * @param signalId signal id
+     * @return delivery state, empty if the signal wasn't queued or was already pruned
+     */
+    public Optional<SignalDelivery> find(Long pipelineId, String signalId) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(SELECT_STATEMENT)) {
+            statement.setLong(1, pipelineId);
+            statement.setString(2, signalId);
+            try (var rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(delivery(rs)) : Optional.empty();
+            }
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to read signal " + signalId + " of pipeline " + pipelineId, e);
+        }
+    }
+
+    /**
+     * Claims pending signals due for delivery. Claimed signals count an attempt and aren't claimed again until the lease expires.
+     *
+     * @param limit maximal number of claimed signals
+     * @param now current time
+     * @param leaseUntil time until which claimed signals aren't claimed again
+     * @return claimed signals
+     */
+    public List<SignalDelivery> claim(int limit, Instant now, Instant leaseUntil) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(CLAIM_STATEMENT)) {
+            statement.setObject(1, leaseUntil.atOffset(ZoneOffset.UTC));
+            statement.setObject(2, now.atOffset(ZoneOffset.UTC));
+            statement.setInt(3, limit);
+
+            List<SignalDelivery> claimed = new ArrayList<>();
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    claimed.add(delivery(rs));
+                }
+            }
+            return claimed;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to claim pending signals", e);
+        }
+    }
+
+    /**
+     * Marks given signal as delivered
+     *
+     * @param delivery claimed signal
+     * @param now delivery time
+     */
+    public void delivered(SignalDelivery delivery, Instant now) {
+        update(DELIVERED_STATEMENT, delivery, now.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Schedules the next delivery attempt of given signal
+     *
+     * @param delivery claimed signal
+     * @param nextAttemptAt time of the next attempt
+     * @param error error of the failed attempt
+     */
+    public void retry(SignalDelivery delivery, Instant nextAttemptAt, String error) {
+        update(RETRY_STATEMENT, delivery, nextAttemptAt.atOffset(ZoneOffset.UTC), error);
+    }
+
+    /**
+     * Gives up delivering given signal and copies it into the dead-letter table, both in a single transaction
+     *
+     * @param delivery claimed signal
+     * @param reason reason of giving up
+     * @param error error of the last attempt
+     * @param now current time
+     */
+    public void deadLetter(SignalDelivery delivery, DeadLetterReason reason, String error, Instant now) {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (var statement = connection.prepareStatement(DEAD_LETTER_STATEMENT)) {
+                statement.setString(1, error);
+                statement.setObject(2, now.atOffset(ZoneOffset.UTC));
+                statement.setLong(3, delivery.pipelineId());
+                statement.setString(4, delivery.signal().id());
+                statement.executeUpdate();
+            }
+            insertDeadLetter(connection, delivery.pipelineId(), delivery.signal(), delivery.attempts(), reason, error, delivery.createdAt());
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to dead-letter signal " + delivery.signal().id() + " of pipeline " + delivery.pipelineId(), e);
+        }
+    }
+
+    /**
+     * Removes delivered and dead-lettered signals completed before given time
+     *
+     * @param cutoff completion time before which signals are removed
+     * @return number of removed signals
+     */
+    public int prune(Instant cutoff) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(PRUNE_STATEMENT)) {
+            statement.setObject(1, cutoff.atOffset(ZoneOffset.UTC));
+            return statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to prune completed signals", e);
+        }
+    }
+
+    /**
+     * Removes dead letters recorded before given time
+     *
+     * @param cutoff time before which dead letters are removed
+     * @return number of removed dead letters
+     */
+    public int pruneDeadLetters(Instant cutoff) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(PRUNE_DEAD_LETTER_STATEMENT)) {
+            statement.setObject(1, cutoff.atOffset(ZoneOffset.UTC));
+            return statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to prune dead-lettered signals", e);
+        }
+    }
+
+    private void update(String sql, SignalDelivery delivery, Object... values) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (var value : values) {
+                statement.setObject(index++, value);
+            }
+            statement.setLong(index++, delivery.pipelineId());
+            statement.setString(index, delivery.signal().id());
+            statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to update signal " + delivery.signal().id() + " of pipeline " + delivery.pipelineId(), e);
+        }
+    }
+
+    private void insertDeadLetter(Connection connection, Long pipelineId, Signal signal, int attempts, DeadLetterReason reason, String error,
+                                  Instant createdAt)
+            throws SQLException {
+        try (var statement = connection.prepareStatement(INSERT_DEAD_LETTER_STATEMENT)) {
+            statement.setLong(1, pipelineId);
+            statement.setString(2, signal.id());
+            statement.setString(3, signal.type());
+            statement.setString(4, signal.data());
+            statement.setString(5, additionalData(signal));
+            statement.setInt(6, attempts);
+            statement.setString(7, reason.name());
+            statement.setString(8, error);
+            statement.setObject(9, createdAt.atOffset(ZoneOffset.UTC));
+            statement.executeUpdate();
+        }
+    }
+
+    private SignalDelivery delivery(ResultSet rs) throws SQLException {
+        var signal = new Signal(rs.getString("signal_id"), rs.getString("type"), rs.getString("data"), additionalData(rs.getString("additional_data")));
+        return new SignalDelivery(rs.getLong("pipeline_id"), signal, Status.valueOf(rs.getString("status")), rs.getInt("attempts"),
+                instant(rs, "next_attempt_at"), rs.getString("last_error"), instant(rs, "created_at"), instant(rs, "completed_at"));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        var value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private String additionalData(Signal signal) {
+        if (signal.stringObjectMap() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(signal.stringObjectMap());
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Unable to serialize additional data of signal " + signal.id(), e);
+        }
+    }
+
+    private Map<String, Object> additionalData(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ADDITIONAL_DATA_TYPE);
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Unable to deserialize additional data of signal", e);
+        }
+    }
+}
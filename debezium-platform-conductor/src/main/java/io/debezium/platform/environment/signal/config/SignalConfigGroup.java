@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "conductor.signals")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface SignalConfigGroup {
+
+    BroadcastConfigGroup broadcast();
+
+    interface BroadcastConfigGroup {
+
+        /**
+         * Returns the maximum number of pipelines a broadcast signal is sent to concurrently.
+         *
+         * @return broadcast concurrency
+         */
+        int concurrency();
+
+        /**
+         * Returns how long sending the signal to a single pipeline may take before the call is
+         * reported as timed out. The call itself is bounded by the timeouts of the REST client.
+         *
+         * @return deadline of a single call
+         */
+        Duration deadline();
+
+        /**
+         * Returns the maximum number of pipelines a single broadcast can select.
+         *
+         * @return maximal number of selected pipelines
+         */
+        int maxPipelines();
+    }
+
+    QueueConfigGroup queue();
+
+    interface QueueConfigGroup {
+
+        /**
+         * Returns how often pending signals are claimed for delivery.
+         *
+         * @return poll interval
+         */
+        Duration pollInterval();
+
+        /**
+         * Returns the maximum number of signals claimed at once.
+         *
+         * @return claim batch size
+         */
+        int batchSize();
+
+        /**
+         * Returns the maximum number of signals delivered concurrently.
+         *
+         * @return delivery concurrency
+         */
+        int concurrency();
+
+        /**
+         * Returns how long a claimed signal isn't claimed again, it has to exceed the time a delivery attempt can take.
+         *
+         * @return claim lease
+         */
+        Duration lease();
+
+        /**
+         * Returns the delay before a failed delivery is attempted again for the first time,
+         * the delay doubles with every further attempt.
+         *
+         * @return initial retry delay
+         */
+        Duration initialBackoff();
+
+        /**
+         * Returns the maximal delay between delivery attempts.
+         *
+         * @return maximal retry delay
+         */
+        Duration maxBackoff();
+
+        /**
+         * Returns the number of delivery attempts before a signal is dead-lettered.
+         *
+         * @return maximal number of attempts
+         */
+        int maxAttempts();
+
+        /**
+         * Returns how long delivered and dead-lettered signals keep their status before they are removed.
+         *
+         * @return status retention
+         */
+        Duration retention();
+
+        /**
+         * Returns how long signals which couldn't be delivered or were submitted again are kept in the dead-letter table.
+         *
+         * @return dead letter retention
+         */
+        Duration deadLetterRetention();
+    }
+}
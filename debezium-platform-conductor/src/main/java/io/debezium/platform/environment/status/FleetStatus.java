@@ -0,0 +1,17 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.status;
+
+import java.util.List;
+
+/**
+ * Status of all pipelines deployed into an environment
+ *
+ * @param version opaque version of the statuses, changes whenever the status of any pipeline changes
+ * @param pipelines statuses ordered by pipeline id
+ */
+public record FleetStatus(String version, List<PipelineStatus> pipelines) {
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.status;
+
+import java.time.Instant;
+
+/**
+ * Runtime status of a deployed pipeline
+ *
+ * @param pipelineId pipeline id
+ * @param name name of the pipeline instance in the environment
+ * @param phase current phase
+ * @param stopped {@code true} if the pipeline was stopped
+ * @param desiredReplicas number of replicas the pipeline should run with
+ * @param readyReplicas number of replicas ready to process changes
+ * @param restarts number of restarts of the pipeline containers
+ * @param lastTransitionTime time of the last status transition, {@code null} if unknown
+ * @param message human-readable details of the phase, {@code null} if none
+ */
+public record PipelineStatus(
+        Long pipelineId,
+        String name,
+        Phase phase,
+        boolean stopped,
+        int desiredReplicas,
+        int readyReplicas,
+        int restarts,
+        Instant lastTransitionTime,
+        String message) {
+
+    public enum Phase {
+        /**
+         * The pipeline was accepted, but its runtime was not created yet
+         */
+        PENDING,
+        /**
+         * Some replicas are not ready yet
+         */
+        STARTING,
+        /**
+         * All replicas are ready
+         */
+        RUNNING,
+        /**
+         * The pipeline was stopped
+         */
+        STOPPED,
+        /**
+         * The pipeline doesn't make progress, e.g. it keeps crashing
+         */
+        FAILED
+    }
+}
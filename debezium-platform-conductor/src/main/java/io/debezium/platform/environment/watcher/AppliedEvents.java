@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+/**
+ * Remembers the latest event applied to the environment for each aggregate.
+ * <br>
+ *
+ * Events are applied either in-process right after the transaction which created them
+ * committed, or by the watcher once they are read from the outbox. Both paths consult this
+ * registry so that an event already applied by one of them, or superseded by a newer event
+ * of the same aggregate, is not applied again. Aggregates whose latest applied event is older than
+ * the pruning cutoff of the outbox are {@link #evict(Instant) evicted}, see {@code OutboxPruner}.
+ */
+@ApplicationScoped
+public class AppliedEvents {
+
+    private final Map<OutboxEvent.Key, Instant> applied = new ConcurrentHashMap<>();
+
+    /**
+     * Records that given event was applied to the environment
+     *
+     * @param event applied event
+     */
+    public void applied(OutboxEvent event) {
+        if (event.timestamp() == null) {
+            return;
+        }
+        applied.merge(event.key(), event.timestamp(), (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * Determines whether given event, or a newer event of the same aggregate, was already applied
+     *
+     * @param event outbox event
+     * @return {@code true} if applying the event can be skipped, {@code false} otherwise
+     */
+    public boolean isApplied(OutboxEvent event) {
+        if (event.timestamp() == null) {
+            return false;
+        }
+        var latest = applied.get(event.key());
+        return latest != null && !event.timestamp().isAfter(latest);
+    }
+
+    /**
+     * Forgets aggregates whose latest applied event was created before given time
+     *
+     * @param cutoff time before which the events of the watched outbox were already processed
+     * @return number of forgotten aggregates
+     */
+    public int evict(Instant cutoff) {
+        var evicted = 0;
+        for (var entry : applied.entrySet()) {
+            // an aggregate applied again in the meantime is kept
+            if (entry.getValue().isBefore(cutoff) && applied.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * @return number of aggregates with a remembered event
+     */
+    public int size() {
+        return applied.size();
+    }
+}
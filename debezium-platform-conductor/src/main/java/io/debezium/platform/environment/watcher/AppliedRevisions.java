@@ -0,0 +1,58 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+/**
+ * Remembers the latest revision of each aggregate applied to the environment.
+ * <br>
+ *
+ * Claim-check events carry only the revision of their aggregate and the consumer applies
+ * the current state of the aggregate, which is at least as recent as the event. Once a revision
+ * was applied, events carrying the same or an older revision are superseded and can be skipped.
+ */
+@ApplicationScoped
+public class AppliedRevisions {
+
+    private final Map<OutboxEvent.Key, Long> applied = new ConcurrentHashMap<>();
+
+    /**
+     * Records that given revision of the aggregate was applied to the environment
+     *
+     * @param key aggregate key
+     * @param revision applied revision
+     */
+    public void applied(OutboxEvent.Key key, long revision) {
+        applied.merge(key, revision, Math::max);
+    }
+
+    /**
+     * Determines whether given revision, or a newer revision of the same aggregate, was already applied
+     *
+     * @param key aggregate key
+     * @param revision event revision
+     * @return {@code true} if applying the revision can be skipped, {@code false} otherwise
+     */
+    public boolean isApplied(OutboxEvent.Key key, long revision) {
+        var latest = applied.get(key);
+        return latest != null && revision <= latest;
+    }
+
+    /**
+     * Forgets applied revisions of given aggregate, e.g. once it was removed
+     *
+     * @param key aggregate key
+     */
+    public void forget(OutboxEvent.Key key) {
+        applied.remove(key);
+    }
+}
@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 
 import org.jboss.logging.Logger;
 
@@ -27,8 +28,13 @@ import io.debezium.embedded.Connect;
 import io.debezium.embedded.EmbeddedEngineConfig;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.platform.config.OffsetConfigGroup;
+import io.debezium.platform.environment.cluster.ConductorReplica;
 import io.debezium.platform.environment.watcher.config.WatcherConfig;
+import io.debezium.platform.environment.watcher.consumers.OutboxBatchEventConsumer;
 import io.debezium.platform.environment.watcher.consumers.OutboxParentEventConsumer;
+import io.debezium.platform.environment.watcher.events.AbstractEvent;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
 import io.debezium.transforms.outbox.EventRouter;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.Startup;
@@ -42,14 +48,24 @@ public class ConductorEnvironmentWatcher {
     public static final String OFFSET_PREFIX = "offset.";
     private final Logger logger;
     private final OutboxParentEventConsumer eventConsumer;
+    private final OutboxBatchEventConsumer batchEventConsumer;
     private final WatcherConfig watcherConfig;
+    private final WatcherProgress progress;
+    private final ConductorReplica replica;
+    private final ProcessedEventLedger ledger;
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
     private DebeziumEngine<?> engine;
 
-    public ConductorEnvironmentWatcher(Logger logger, WatcherConfig watcherConfig, OutboxParentEventConsumer eventConsumer) {
+    public ConductorEnvironmentWatcher(Logger logger, WatcherConfig watcherConfig, OutboxParentEventConsumer eventConsumer,
+                                       OutboxBatchEventConsumer batchEventConsumer, WatcherProgress progress, ConductorReplica replica,
+                                       ProcessedEventLedger ledger) {
         this.logger = logger;
+        this.progress = progress;
+        this.replica = replica;
+        this.ledger = ledger;
         this.watcherConfig = watcherConfig;
         this.eventConsumer = eventConsumer;
+        this.batchEventConsumer = batchEventConsumer;
     }
 
     @PostConstruct
@@ -62,12 +78,12 @@ public class ConductorEnvironmentWatcher {
         var connection = watcherConfig.connection();
         var offset = watcherConfig.watcher().offset();
         var outbox = watcherConfig.outbox();
-        var extraFields = Stream.of(outbox.aggregateColumn(), outbox.aggregateIdColumn(), outbox.typeColumn())
+        var extraFields = Stream.of(outbox.idColumn(), outbox.aggregateColumn(), outbox.aggregateIdColumn(), outbox.typeColumn(), outbox.timestampColumn())
                 .map(c -> c + ":envelope")
                 .collect(Collectors.joining(","));
 
         Configuration.Builder configurationBuilder = Configuration.create()
-                .with(EmbeddedEngineConfig.ENGINE_NAME, "conductor")
+                .with(EmbeddedEngineConfig.ENGINE_NAME, replica.engineName())
                 .with(EmbeddedEngineConfig.CONNECTOR_CLASS, PostgresConnector.class.getName())
                 .with(PostgresConnectorConfig.TOPIC_PREFIX, "conductor")
                 .with(PostgresConnectorConfig.HOSTNAME, connection.host())
@@ -83,15 +99,33 @@ public class ConductorEnvironmentWatcher {
                 .with("transforms.outbox.type", EventRouter.class.getName())
                 .with("transforms.outbox.table.fields.additional.placement", extraFields);
 
+        // replicas of a clustered conductor read the outbox independently of each other
+        replica.slotName().ifPresent(slot -> configurationBuilder.with(PostgresConnectorConfig.SLOT_NAME, slot));
+
         offsetConfigurations(offset).forEach(configurationBuilder::with);
 
         var config = configurationBuilder.build();
 
         logger.info("Creating Debezium engine");
-        this.engine = DebeziumEngine.create(Connect.class)
+        var builder = DebeziumEngine.create(Connect.class)
                 .using(config.asProperties())
-                .notifying(eventConsumer)
-                .build();
+                .using(new DebeziumEngine.ConnectorCallback() {
+                    @Override
+                    public void taskStarted() {
+                        // a (re)started task reads again from the committed offsets
+                        ledger.replay();
+                    }
+                });
+
+        if (watcherConfig.watcher().batch().enabled()) {
+            logger.info("Outbox events will be consumed in batches");
+            builder.notifying(batchEventConsumer);
+        }
+        else {
+            builder.notifying(eventConsumer);
+        }
+
+        this.engine = builder.build();
 
         logger.info("Attempting to start debezium engine");
         executor.execute(engine);
@@ -115,6 +149,18 @@ public class ConductorEnvironmentWatcher {
         return offsetStoragePrefix + currentKey.replaceAll(CONFIG_PORTION, "");
     }
 
+    /**
+     * Tracks events created by this conductor, which the watcher is expected to read from the outbox
+     *
+     * @param event event fired within a committed transaction
+     */
+    void onEventCommitted(@Observes(during = TransactionPhase.AFTER_SUCCESS) AbstractEvent event) {
+        if (engine == null) {
+            return;
+        }
+        progress.pending(OutboxEvent.of(event));
+    }
+
     public void stop(@Observes ShutdownEvent event) {
         if (engine == null) {
             return;
@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+
+/**
+ * Reports the conductor as degraded when the oldest event not yet committed by the watcher
+ * is older than {@code conductor.watcher.health.max-lag}, e.g. because the replication slot
+ * of the watcher stopped advancing. With several replicas, only events fired by this replica are
+ * known before the watcher reads them, see {@link WatcherProgress}.
+ */
+@Readiness
+@ApplicationScoped
+public class WatcherLagHealthCheck implements HealthCheck {
+
+    public static final String NAME = "conductor-watcher";
+
+    private final WatcherConfigGroup watcherConfig;
+    private final WatcherProgress progress;
+
+    public WatcherLagHealthCheck(WatcherConfigGroup watcherConfig, WatcherProgress progress) {
+        this.watcherConfig = watcherConfig;
+        this.progress = progress;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        if (!watcherConfig.enabled()) {
+            return HealthCheckResponse.named(NAME).up().withData("status", "disabled").build();
+        }
+
+        var lag = progress.lag();
+        var maxLag = watcherConfig.health().maxLag();
+        var healthy = lag.compareTo(maxLag) <= 0;
+
+        return HealthCheckResponse.named(NAME)
+                .status(healthy)
+                .withData("status", healthy ? "ok" : "degraded")
+                .withData("lag", lag.toString())
+                .withData("max-lag", maxLag.toString())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Metrics of the path an outbox event takes from its creation until it's applied to the environment.
+ * <ul>
+ *   <li>{@value #DECODE_METRIC} time spent decoding event payloads</li>
+ *   <li>{@value #DISPATCH_METRIC} time spent applying an event by all interested consumers</li>
+ *   <li>{@value #RECONCILIATION_METRIC} time from the creation of an event until it was applied</li>
+ *   <li>{@value #LAG_METRIC} age of the oldest event not yet committed by the watcher</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class WatcherMetrics {
+
+    public static final String DECODE_METRIC = "conductor.watcher.event.decode";
+    public static final String DISPATCH_METRIC = "conductor.watcher.event.dispatch";
+    public static final String RECONCILIATION_METRIC = "conductor.watcher.event.reconciliation";
+    public static final String LAG_METRIC = "conductor.watcher.lag";
+
+    private final Timer decode;
+    private final Timer dispatch;
+    private final Timer reconciliation;
+
+    public WatcherMetrics(MeterRegistry registry, WatcherProgress progress) {
+        this.decode = Timer.builder(DECODE_METRIC)
+                .description("Time spent decoding outbox event payloads")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.dispatch = Timer.builder(DISPATCH_METRIC)
+                .description("Time spent applying an outbox event to the environment")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.reconciliation = Timer.builder(RECONCILIATION_METRIC)
+                .description("Time from the creation of an outbox event until it was applied to the environment")
+                .publishPercentileHistogram()
+                .register(registry);
+        TimeGauge.builder(LAG_METRIC, progress, TimeUnit.MILLISECONDS, p -> p.lag().toMillis())
+                .description("Age of the oldest outbox event not yet committed by the watcher")
+                .register(registry);
+    }
+
+    /**
+     * Decodes an event payload, recording the time spent
+     *
+     * @param decoding payload decoding
+     * @return decoded payload
+     * @param <T> payload type
+     */
+    public <T> T decoded(Supplier<T> decoding) {
+        return decode.record(decoding);
+    }
+
+    /**
+     * Records that given event was applied to the environment
+     *
+     * @param event applied event
+     * @param duration time spent applying the event
+     */
+    public void dispatched(OutboxEvent event, Duration duration) {
+        dispatch.record(duration);
+        if (event.timestamp() != null) {
+            reconciliation.record(Duration.between(event.timestamp(), Instant.now()));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+/**
+ * Tracks how far the watcher got in processing outbox events.
+ * <br>
+ *
+ * The progress is kept in memory only, hence it's unknown until the first
+ * events are committed after the conductor starts. Besides the latest committed event,
+ * events known to exist but not yet committed are tracked one by one, so that the lag of the
+ * watcher can be reported as the age of the oldest of them. Events are told apart by their aggregate,
+ * type and creation time, as the id of the outbox row isn't known for events fired within the conductor.
+ * An event created before the latest committed one, e.g. by a long transaction which committed late,
+ * still counts until the watcher commits it.
+ * <br>
+ *
+ * Only events fired by this conductor are known before the watcher reads them. With several replicas,
+ * events fired by the other replicas are tracked only once the engine hands them over, so a stuck
+ * replication slot shows up in the lag only through the events of this replica.
+ */
+@ApplicationScoped
+public class WatcherProgress {
+
+    /**
+     * Identity of an outbox event shared by the event fired within the conductor and its copy read from the outbox
+     *
+     * @param key aggregate of the event
+     * @param type event type
+     * @param timestamp creation time of the event
+     */
+    private record Identity(OutboxEvent.Key key, String type, Instant timestamp) {
+
+        static Identity of(OutboxEvent event) {
+            return new Identity(event.key(), event.type(), event.timestamp());
+        }
+    }
+
+    private final AtomicReference<Instant> committed = new AtomicReference<>();
+    private final Map<Identity, Instant> pending = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public WatcherProgress() {
+        this(Clock.systemUTC());
+    }
+
+    public WatcherProgress(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Records that given event exists and is waiting to be committed by the watcher,
+     * e.g. because its transaction committed or because the engine handed it over to the watcher
+     *
+     * @param event outbox event, events without creation time are ignored
+     */
+    public void pending(OutboxEvent event) {
+        if (event.timestamp() == null) {
+            return;
+        }
+        pending.put(Identity.of(event), event.timestamp());
+    }
+
+    /**
+     * Records that given event was committed by the watcher
+     *
+     * @param event committed outbox event, events without creation time are ignored
+     */
+    public void committed(OutboxEvent event) {
+        if (event.timestamp() == null) {
+            return;
+        }
+        committed.accumulateAndGet(event.timestamp(), (current, next) -> current == null || next.isAfter(current) ? next : current);
+        pending.remove(Identity.of(event));
+    }
+
+    /**
+     * @return creation time of the latest committed event, empty if no event was committed yet
+     */
+    public Optional<Instant> committedTimestamp() {
+        return Optional.ofNullable(committed.get());
+    }
+
+    /**
+     * @return age of the oldest event not yet committed by the watcher, zero if there is none
+     */
+    public Duration lag() {
+        var oldest = pending.values().stream().min(Instant::compareTo);
+        if (oldest.isEmpty()) {
+            return Duration.ZERO;
+        }
+        var age = Duration.between(oldest.get(), clock.instant());
+        return age.isNegative() ? Duration.ZERO : age;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * Binary JSON in the CBOR format
+ */
+@ApplicationScoped
+public class CborPayloadCodec extends JacksonPayloadCodec {
+
+    public static final byte ID = 3;
+    public static final String NAME = "cbor";
+
+    public CborPayloadCodec() {
+        super(ID, NAME, new CBORMapper());
+    }
+}
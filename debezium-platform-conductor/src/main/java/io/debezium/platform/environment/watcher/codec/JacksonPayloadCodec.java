@@ -0,0 +1,60 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.DebeziumException;
+
+/**
+ * Codec backed by a Jackson {@link ObjectMapper} of a specific data format
+ */
+public abstract class JacksonPayloadCodec implements PayloadCodec {
+
+    private final byte id;
+    private final String name;
+    private final ObjectMapper mapper;
+
+    protected JacksonPayloadCodec(byte id, String name, ObjectMapper mapper) {
+        this.id = id;
+        this.name = name;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public byte id() {
+        return id;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte[] encode(JsonNode payload) {
+        try {
+            return mapper.writeValueAsBytes(payload);
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Unable to encode payload with " + name + " codec", e);
+        }
+    }
+
+    @Override
+    public JsonNode decode(byte[] data, int offset, int length) {
+        try {
+            return mapper.readTree(data, offset, length);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Unable to decode payload with " + name + " codec", e);
+        }
+    }
+}
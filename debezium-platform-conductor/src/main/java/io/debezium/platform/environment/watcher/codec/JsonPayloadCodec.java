@@ -0,0 +1,24 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Plain JSON text, used also for payloads written before codecs were introduced
+ */
+@ApplicationScoped
+public class JsonPayloadCodec extends JacksonPayloadCodec {
+
+    public static final byte ID = 1;
+    public static final String NAME = "json";
+
+    public JsonPayloadCodec() {
+        super(ID, NAME, new ObjectMapper());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.persistence.AttributeConverter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Converts payloads of outbox events into the binary column of the outbox table,
+ * registered through {@code quarkus.debezium-outbox.payload.converter}
+ */
+@Dependent
+public class PayloadAttributeConverter implements AttributeConverter<JsonNode, byte[]> {
+
+    private final PayloadCodecs codecs;
+
+    public PayloadAttributeConverter(PayloadCodecs codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(JsonNode payload) {
+        return codecs.encode(payload);
+    }
+
+    @Override
+    public JsonNode convertToEntityAttribute(byte[] data) {
+        return codecs.decode(data);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Encoding of outbox event payloads stored in the outbox table.
+ * <br>
+ *
+ * Codecs are discovered as CDI beans. The {@link #id()} of the codec used to encode a payload is
+ * stored together with the payload, hence ids must be unique and must never change once used.
+ */
+public interface PayloadCodec {
+
+    /**
+     * @return unique id of this codec stored with every encoded payload
+     */
+    byte id();
+
+    /**
+     * @return name used to select this codec in the configuration
+     */
+    String name();
+
+    /**
+     * Encodes given payload
+     *
+     * @param payload payload tree
+     * @return encoded payload
+     */
+    byte[] encode(JsonNode payload);
+
+    /**
+     * Decodes a payload previously encoded by this codec
+     *
+     * @param data buffer holding the encoded payload
+     * @param offset position of the encoded payload in the buffer
+     * @param length length of the encoded payload
+     * @return payload tree
+     */
+    JsonNode decode(byte[] data, int offset, int length);
+}
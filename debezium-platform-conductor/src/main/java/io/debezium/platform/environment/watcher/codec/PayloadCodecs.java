@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.environment.watcher.config.PayloadConfigGroup;
+import io.quarkus.arc.All;
+
+/**
+ * Encodes outbox event payloads with the configured {@link PayloadCodec} and {@link PayloadCompression}
+ * and decodes payloads written with any known codec.
+ * <br>
+ *
+ * Encoded payloads are framed by a three byte header, a marker byte followed by the codec id and the
+ * compression id, so that every row of the outbox table records how it was written. Payloads without
+ * the marker are plain JSON text written before codecs were introduced.
+ */
+@ApplicationScoped
+public class PayloadCodecs {
+
+    static final byte FRAME_MARKER = 0;
+    static final int HEADER_LENGTH = 3;
+
+    private final Map<Byte, PayloadCodec> codecs = new HashMap<>();
+    private final PayloadCodec codec;
+    private final PayloadCompression compression;
+
+    @Inject
+    public PayloadCodecs(@All List<PayloadCodec> codecs, PayloadConfigGroup config) {
+        this(codecs, config.codec(), config.compression());
+    }
+
+    public PayloadCodecs(List<PayloadCodec> codecs, String codec, String compression) {
+        for (var candidate : codecs) {
+            var previous = this.codecs.putIfAbsent(candidate.id(), candidate);
+            if (previous != null) {
+                throw new DebeziumException("Payload codecs %s and %s share id %d".formatted(previous.name(), candidate.name(), candidate.id()));
+            }
+        }
+        this.codec = codecs.stream()
+                .filter(candidate -> candidate.name().equalsIgnoreCase(codec))
+                .findFirst()
+                .orElseThrow(() -> new DebeziumException("Unknown payload codec " + codec));
+        this.compression = PayloadCompression.valueOf(compression.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Encodes given payload with the configured codec and compression
+     *
+     * @param payload payload tree
+     * @return framed payload or {@code null} if the payload is {@code null}
+     */
+    public byte[] encode(JsonNode payload) {
+        if (payload == null) {
+            return null;
+        }
+        var body = compression.compress(codec.encode(payload));
+        var framed = new byte[HEADER_LENGTH + body.length];
+        framed[0] = FRAME_MARKER;
+        framed[1] = codec.id();
+        framed[2] = compression.id();
+        System.arraycopy(body, 0, framed, HEADER_LENGTH, body.length);
+        return framed;
+    }
+
+    /**
+     * Decodes given payload with the codec and compression recorded in its header
+     *
+     * @param data framed payload or plain json text
+     * @return payload tree or {@code null} if the payload is {@code null}
+     */
+    public JsonNode decode(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < HEADER_LENGTH || data[0] != FRAME_MARKER) {
+            return codecs.get(JsonPayloadCodec.ID).decode(data, 0, data.length);
+        }
+
+        var payloadCodec = codecs.get(data[1]);
+        if (payloadCodec == null) {
+            throw new DebeziumException("Unknown payload codec " + data[1]);
+        }
+        var body = PayloadCompression.of(data[2]).decompress(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+        return payloadCodec.decode(body, 0, body.length);
+    }
+
+    /**
+     * @return codec used to encode payloads
+     */
+    public PayloadCodec codec() {
+        return codec;
+    }
+
+    /**
+     * @return compression applied to encoded payloads
+     */
+    public PayloadCompression compression() {
+        return compression;
+    }
+}
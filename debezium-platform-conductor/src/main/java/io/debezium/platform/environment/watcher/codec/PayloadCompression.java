@@ -0,0 +1,73 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import java.util.Arrays;
+
+import com.github.luben.zstd.Zstd;
+
+import io.debezium.DebeziumException;
+
+/**
+ * Compression applied to encoded outbox event payloads
+ */
+public enum PayloadCompression {
+
+    NONE((byte) 0) {
+        @Override
+        byte[] compress(byte[] data) {
+            return data;
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int offset, int length) {
+            return offset == 0 && length == data.length ? data : Arrays.copyOfRange(data, offset, offset + length);
+        }
+    },
+
+    ZSTD((byte) 1) {
+        @Override
+        byte[] compress(byte[] data) {
+            return Zstd.compress(data, ZSTD_LEVEL);
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int offset, int length) {
+            var frame = Arrays.copyOfRange(data, offset, offset + length);
+            var size = Zstd.getFrameContentSize(frame);
+            if (size < 0 || size > Integer.MAX_VALUE) {
+                throw new DebeziumException("Unable to determine the size of zstd compressed payload");
+            }
+            return Zstd.decompress(frame, (int) size);
+        }
+    };
+
+    // fast level, payloads are small and compressed on the request path
+    private static final int ZSTD_LEVEL = 3;
+
+    private final byte id;
+
+    PayloadCompression(byte id) {
+        this.id = id;
+    }
+
+    public byte id() {
+        return id;
+    }
+
+    abstract byte[] compress(byte[] data);
+
+    abstract byte[] decompress(byte[] data, int offset, int length);
+
+    static PayloadCompression of(byte id) {
+        for (var compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        throw new DebeziumException("Unknown payload compression " + id);
+    }
+}
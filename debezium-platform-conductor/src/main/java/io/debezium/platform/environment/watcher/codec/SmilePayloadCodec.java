@@ -0,0 +1,24 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Binary JSON in the Smile format
+ */
+@ApplicationScoped
+public class SmilePayloadCodec extends JacksonPayloadCodec {
+
+    public static final byte ID = 2;
+    public static final String NAME = "smile";
+
+    public SmilePayloadCodec() {
+        super(ID, NAME, new SmileMapper());
+    }
+}
@@ -11,6 +11,9 @@ import io.smallrye.config.WithName;
 @ConfigMapping(prefix = "quarkus.debezium-outbox")
 public interface OutboxConfigGroup {
 
+    @WithName("id.name")
+    String idColumn();
+
     @WithName("table-name")
     String table();
 
@@ -22,4 +25,7 @@ public interface OutboxConfigGroup {
 
     @WithName("type.name")
     String typeColumn();
+
+    @WithName("timestamp.name")
+    String timestampColumn();
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.config;
+
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "conductor.outbox.payload")
+public interface PayloadConfigGroup {
+
+    /**
+     * Returns the name of the codec used to encode outbox event payloads, e.g. {@code json}, {@code smile} or {@code cbor}.
+     *
+     * @return payload codec name
+     */
+    String codec();
+
+    /**
+     * Returns the compression applied to encoded outbox event payloads, {@code none} or {@code zstd}.
+     *
+     * @return payload compression
+     */
+    String compression();
+}
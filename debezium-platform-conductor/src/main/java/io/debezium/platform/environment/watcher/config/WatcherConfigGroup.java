@@ -5,6 +5,7 @@
  */
 package io.debezium.platform.environment.watcher.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.debezium.platform.config.OffsetConfigGroup;
@@ -22,4 +23,105 @@ public interface WatcherConfigGroup {
 
     OffsetConfigGroup offset();
 
+    BatchConfigGroup batch();
+
+    interface BatchConfigGroup {
+
+        /**
+         * Indicates whether outbox events are consumed in batches collapsed to the latest event per aggregate.
+         *
+         * @return {@code true} if batch consumption is enabled, {@code false} otherwise
+         */
+        boolean enabled();
+    }
+
+    DispatchConfigGroup dispatch();
+
+    interface DispatchConfigGroup {
+
+        /**
+         * Returns the number of lanes batched events are dispatched on. Events of the same
+         * aggregate are always dispatched on the same lane.
+         *
+         * @return number of dispatch lanes
+         */
+        int lanes();
+
+        /**
+         * Returns the maximum number of events waiting in a single lane before dispatching blocks.
+         *
+         * @return capacity of each lane
+         */
+        int queueSize();
+
+        /**
+         * Indicates whether events are dispatched in-process as soon as the transaction which created them
+         * commits. The outbox is then only used to reconcile events which were not applied in-process.
+         * Requires batch consumption, since both paths share the dispatch lanes.
+         *
+         * @return {@code true} if in-process dispatch is enabled, {@code false} otherwise
+         */
+        boolean inProcess();
+    }
+
+    RetentionConfigGroup retention();
+
+    interface RetentionConfigGroup {
+
+        /**
+         * Indicates whether already processed outbox events are periodically removed from the outbox table.
+         * Entries of the processed event ledger are removed at the same interval regardless.
+         *
+         * @return {@code true} if pruning is enabled, {@code false} otherwise
+         */
+        boolean enabled();
+
+        /**
+         * Returns how often outbox events are pruned, e.g. {@code 5m}.
+         *
+         * @return pruning interval
+         */
+        String interval();
+
+        /**
+         * Returns the minimal age of an outbox event before it can be removed. Only events
+         * older than both this age and the latest event committed by the watcher are removed.
+         *
+         * @return minimal age of removed events
+         */
+        Duration minAge();
+
+        /**
+         * Returns the maximum number of events removed in a single transaction.
+         *
+         * @return number of events removed per batch
+         */
+        int batchSize();
+    }
+
+    LedgerConfigGroup ledger();
+
+    interface LedgerConfigGroup {
+
+        /**
+         * Indicates whether ids of processed outbox events are recorded, so that events replayed
+         * after a restart are not applied again.
+         *
+         * @return {@code true} if the processed event ledger is enabled, {@code false} otherwise
+         */
+        boolean enabled();
+    }
+
+    HealthConfigGroup health();
+
+    interface HealthConfigGroup {
+
+        /**
+         * Returns the maximal age of the oldest event not yet committed by the watcher before
+         * the conductor is reported as not ready, e.g. because the replication slot is stuck.
+         *
+         * @return maximal watcher lag
+         */
+        Duration maxLag();
+    }
 }
@@ -52,27 +52,13 @@ public interface EnvironmentEventConsumer<T> extends BiConsumer<Long, Optional<T
     }
 
     /**
-     * Converts json payload into object accepted by this consumer
-     * @param payload json payload
+     * Calls {@link #accept(Object, Object)} with already decoded payload without checking
+     * whether this consumer is applicable to the event.
      *
-     * @return converted payload object
-     */
-    T convert(String payload);
-
-    /**
-     * A shortcut method which takes event aggregate,type and payload.
-     * Determines whether this consumer is applicable and if so, converts the payload and
-     * calls {@link #accept(Object, Object)} )}.
-     *
-     * @param aggregateType event aggregate type
-     * @param eventType event type
      * @param id aggregate id
-     * @param payload json payload
+     * @param payload payload decoded into {@link #consumedPayloadType()}, possibly {@code null}
      */
-    default void consume(String aggregateType, String eventType, Long id, String payload) {
-        if (consumes(aggregateType, eventType)) {
-            var object = convert(payload);
-            accept(id, Optional.ofNullable(object));
-        }
+    default void acceptPayload(Long id, Object payload) {
+        accept(id, Optional.ofNullable(consumedPayloadType().cast(payload)));
     }
 }
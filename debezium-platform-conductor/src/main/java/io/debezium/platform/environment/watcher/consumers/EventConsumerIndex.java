@@ -0,0 +1,95 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable routing table of {@link EnvironmentEventConsumer} instances keyed by
+ * aggregate type and event type.
+ * <br>
+ *
+ * The table is built once from the consumers' declared aggregates and types, so that
+ * routing an event is a pair of map lookups instead of asking every consumer whether
+ * it {@link EnvironmentEventConsumer#consumes(String, String) consumes} the event.
+ * Consumers declaring a wildcard (empty aggregates or types) are added to every matching
+ * route and kept aside for events which don't match any declared route.
+ */
+public final class EventConsumerIndex {
+
+    private final Map<String, Map<String, List<EnvironmentEventConsumer<?>>>> routes;
+    private final List<EnvironmentEventConsumer<?>> wildcards;
+
+    private EventConsumerIndex(Map<String, Map<String, List<EnvironmentEventConsumer<?>>>> routes, List<EnvironmentEventConsumer<?>> wildcards) {
+        this.routes = routes;
+        this.wildcards = wildcards;
+    }
+
+    /**
+     * Builds the routing table for given consumers
+     *
+     * @param consumers event consumers
+     * @return routing table
+     */
+    public static EventConsumerIndex of(Iterable<? extends EnvironmentEventConsumer<?>> consumers) {
+        List<EnvironmentEventConsumer<?>> all = new ArrayList<>();
+        List<EnvironmentEventConsumer<?>> wildcards = new ArrayList<>();
+        Map<String, List<String>> declared = new HashMap<>();
+
+        for (var consumer : consumers) {
+            all.add(consumer);
+            var aggregates = consumer.consumedAggregates();
+            var types = consumer.consumedTypes();
+
+            if (aggregates.isEmpty() || types.isEmpty()) {
+                wildcards.add(consumer);
+            }
+            for (var aggregate : aggregates) {
+                var aggregateTypes = declared.computeIfAbsent(aggregate, k -> new ArrayList<>());
+                types.stream().filter(type -> !aggregateTypes.contains(type)).forEach(aggregateTypes::add);
+            }
+        }
+
+        Map<String, Map<String, List<EnvironmentEventConsumer<?>>>> routes = new HashMap<>();
+        declared.forEach((aggregate, types) -> {
+            Map<String, List<EnvironmentEventConsumer<?>>> byType = new HashMap<>();
+            types.forEach(type -> byType.put(type, all.stream()
+                    .filter(consumer -> consumer.consumes(aggregate, type))
+                    .toList()));
+            routes.put(aggregate, Map.copyOf(byType));
+        });
+
+        return new EventConsumerIndex(Map.copyOf(routes), List.copyOf(wildcards));
+    }
+
+    /**
+     * Returns consumers interested in events of given aggregate and event type
+     *
+     * @param aggregateType event aggregate type
+     * @param eventType event type
+     * @return consumers in registration order, never {@code null}
+     */
+    public List<EnvironmentEventConsumer<?>> consumersFor(String aggregateType, String eventType) {
+        var byType = routes.get(aggregateType);
+        if (byType != null) {
+            var consumers = byType.get(eventType);
+            if (consumers != null) {
+                return consumers;
+            }
+        }
+
+        if (wildcards.isEmpty()) {
+            return List.of();
+        }
+
+        return wildcards.stream()
+                .filter(consumer -> consumer.consumes(aggregateType, eventType))
+                .toList();
+    }
+}
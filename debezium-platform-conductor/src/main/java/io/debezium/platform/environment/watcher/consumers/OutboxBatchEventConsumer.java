@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.jboss.logging.Logger;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.platform.environment.watcher.WatcherProgress;
+import io.debezium.platform.environment.watcher.dispatch.EventLaneDispatcher;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
+
+/**
+ * Batch consumer of outbox events. Every batch handed over by the engine is
+ * collapsed to the latest event per aggregate (aggregate type and id) before
+ * being dispatched through {@link OutboxParentEventConsumer}.
+ * <br>
+ *
+ * Since every outbox event either carries the complete state of its aggregate or refers
+ * to its current state, only the latest one needs to be applied to the environment. Collapsed events are dispatched
+ * in parallel on the lanes of {@link EventLaneDispatcher}. Offsets are committed only
+ * up to the lowest position which wasn't successfully processed, superseded events
+ * below that position included. Events found in the {@link ProcessedEventLedger}, e.g. replayed
+ * after a restart, are not dispatched again, processed events are recorded in the ledger before
+ * their offsets are committed.
+ */
+@Dependent
+public final class OutboxBatchEventConsumer implements DebeziumEngine.ChangeConsumer<ChangeEvent<SourceRecord, SourceRecord>> {
+
+    private final Logger logger;
+    private final OutboxParentEventConsumer parentConsumer;
+    private final EventLaneDispatcher dispatcher;
+    private final WatcherProgress progress;
+    private final ProcessedEventLedger ledger;
+
+    public OutboxBatchEventConsumer(Logger logger, OutboxParentEventConsumer parentConsumer, EventLaneDispatcher dispatcher,
+                                    WatcherProgress progress, ProcessedEventLedger ledger) {
+        this.logger = logger;
+        this.parentConsumer = parentConsumer;
+        this.dispatcher = dispatcher;
+        this.progress = progress;
+        this.ledger = ledger;
+    }
+
+    @Override
+    public void handleBatch(List<ChangeEvent<SourceRecord, SourceRecord>> records,
+                            DebeziumEngine.RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> committer)
+            throws InterruptedException {
+
+        var events = records.stream().map(parentConsumer::extract).toList();
+        events.forEach(progress::pending);
+        var alreadyProcessed = ledger.processed(events);
+        var positions = coalesce(events).stream()
+                .filter(position -> !alreadyProcessed.contains(events.get(position).id()))
+                .toList();
+
+        logger.debugf("Dispatching %d of %d events from the batch", positions.size(), records.size());
+        List<CompletableFuture<Void>> results = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            var event = events.get(position);
+            results.add(dispatcher.submit(event.key(), () -> parentConsumer.dispatch(event)));
+        }
+
+        // wait for all lanes so that no event of this batch is still being applied when the next one arrives
+        var processed = records.size();
+        RuntimeException failure = null;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).join();
+            }
+            catch (CompletionException e) {
+                if (failure == null) {
+                    processed = positions.get(i);
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+        ledger.record(events.subList(0, processed));
+        for (var record : records.subList(0, processed)) {
+            committer.markProcessed(record);
+        }
+        events.subList(0, processed).forEach(progress::committed);
+
+        if (failure != null) {
+            throw failure;
+        }
+        committer.markBatchFinished();
+    }
+
+    /**
+     * Collapses given events to the latest event per aggregate.
+     *
+     * @param events events in the order they were emitted
+     * @return ascending positions of the latest event of each aggregate
+     */
+    static List<Integer> coalesce(List<OutboxEvent> events) {
+        Map<OutboxEvent.Key, Integer> latest = new LinkedHashMap<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            var key = events.get(i).key();
+            // remove first so that the aggregate moves to the position of its latest event
+            latest.remove(key);
+            latest.put(key, i);
+        }
+
+        return List.copyOf(latest.values());
+    }
+}
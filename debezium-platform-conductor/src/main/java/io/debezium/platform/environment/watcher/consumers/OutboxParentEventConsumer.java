@@ -5,6 +5,12 @@
  */
 package io.debezium.platform.environment.watcher.consumers;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
 
 import jakarta.enterprise.context.Dependent;
@@ -15,42 +21,109 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.jboss.logging.Logger;
 
 import io.debezium.engine.ChangeEvent;
+import io.debezium.platform.environment.watcher.AppliedEvents;
+import io.debezium.platform.environment.watcher.WatcherMetrics;
+import io.debezium.platform.environment.watcher.WatcherProgress;
 import io.debezium.platform.environment.watcher.config.OutboxConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
 
 /**
  * Top level consumer of outbox events. Parent consumer will extract
  * required information from the accepted {@link ChangeEvent} and delegate
- * to all registered instances of {@link EnvironmentEventConsumer}
+ * to registered instances of {@link EnvironmentEventConsumer}
  * <br>
  *
- * It's then up to {@link EnvironmentEventConsumer} instances to either process
- * or ignore the event.
+ * Consumers are resolved once, when this consumer is created, and events are routed
+ * only to consumers interested in their aggregate and event type through an {@link EventConsumerIndex}.
+ * The payload of each event is decoded at most once per payload type and the decoded object is
+ * shared by all interested consumers. Events already applied, e.g. dispatched in-process right after
+ * their transaction committed, are skipped.
  */
 @Dependent
 public final class OutboxParentEventConsumer implements Consumer<ChangeEvent<SourceRecord, SourceRecord>> {
 
     private final Logger logger;
     private final OutboxConfigGroup outbox;
-    private final Instance<EnvironmentEventConsumer<?>> eventConsumers;
+    private final EventConsumerIndex consumerIndex;
+    private final PayloadDecoder decoder;
+    private final WatcherProgress progress;
+    private final AppliedEvents appliedEvents;
+    private final WatcherMetrics metrics;
+    private final ProcessedEventLedger ledger;
 
-    public OutboxParentEventConsumer(Logger logger, OutboxConfigGroup outbox, Instance<EnvironmentEventConsumer<?>> eventConsumers) {
+    public OutboxParentEventConsumer(Logger logger, OutboxConfigGroup outbox, Instance<EnvironmentEventConsumer<?>> eventConsumers,
+                                     PayloadDecoder decoder, WatcherProgress progress, AppliedEvents appliedEvents, WatcherMetrics metrics,
+                                     ProcessedEventLedger ledger) {
         this.logger = logger;
         this.outbox = outbox;
-        this.eventConsumers = eventConsumers;
+        this.consumerIndex = EventConsumerIndex.of(eventConsumers);
+        this.decoder = decoder;
+        this.progress = progress;
+        this.appliedEvents = appliedEvents;
+        this.metrics = metrics;
+        this.ledger = ledger;
     }
 
     @Override
     public void accept(ChangeEvent<SourceRecord, SourceRecord> event) {
+        var outboxEvent = extract(event);
+        progress.pending(outboxEvent);
+        var events = List.of(outboxEvent);
+        if (ledger.processed(events).isEmpty()) {
+            dispatch(outboxEvent);
+            ledger.record(events);
+        }
+        progress.committed(outboxEvent);
+    }
+
+    /**
+     * Extracts the outbox event information from given {@link ChangeEvent}
+     *
+     * @param event change event emitted by the engine
+     * @return extracted outbox event
+     */
+    public OutboxEvent extract(ChangeEvent<SourceRecord, SourceRecord> event) {
         var value = (Struct) event.value().value();
 
+        var id = UUID.fromString(value.getString(outbox.idColumn()));
         var aggregateType = value.getString(outbox.aggregateColumn());
         var aggregateId = value.getString(outbox.aggregateIdColumn());
         var eventType = value.getString(outbox.typeColumn());
-        var payload = value.getString("payload");
+        var payload = metrics.decoded(() -> decoder.read(value.getBytes("payload")));
+        // timestamp with time zone columns are emitted as ISO-8601 strings
+        var timestamp = OffsetDateTime.parse(value.getString(outbox.timestampColumn())).toInstant();
+
+        return new OutboxEvent(id, aggregateType, Long.valueOf(aggregateId), eventType, payload, timestamp);
+    }
+
+    /**
+     * Delegates given outbox event to all {@link EnvironmentEventConsumer} instances interested in it,
+     * unless the event or a newer event of the same aggregate was already applied.
+     *
+     * @param event outbox event
+     */
+    public void dispatch(OutboxEvent event) {
+        logger.debugf("Consumed %s event for %s (#%s) with payload %s", event.type(), event.aggregateType(), event.aggregateId(), event.payload());
+
+        if (appliedEvents.isApplied(event)) {
+            logger.debugf("Skipping %s event for %s (#%s) created at %s, it was already applied", event.type(), event.aggregateType(), event.aggregateId(),
+                    event.timestamp());
+            return;
+        }
 
-        logger.debugf("Consumed %s event for %s (#%s) with payload %s", eventType, aggregateType, aggregateId, payload);
+        var consumers = consumerIndex.consumersFor(event.aggregateType(), event.type());
+        if (consumers.isEmpty()) {
+            return;
+        }
 
-        eventConsumers.forEach(consumer -> consumer.consume(
-                aggregateType, eventType, Long.valueOf(aggregateId), payload));
+        var start = System.nanoTime();
+        Map<Class<?>, Object> decoded = new HashMap<>(consumers.size());
+        for (var consumer : consumers) {
+            var payload = decoded.computeIfAbsent(consumer.consumedPayloadType(), type -> metrics.decoded(() -> decoder.decode(event.payload(), type)));
+            consumer.acceptPayload(event.aggregateId(), payload);
+        }
+        appliedEvents.applied(event);
+        metrics.dispatched(event, Duration.ofNanos(System.nanoTime() - start));
     }
 }
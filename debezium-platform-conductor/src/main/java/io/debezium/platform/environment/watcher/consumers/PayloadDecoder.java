@@ -0,0 +1,75 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.blazebit.persistence.integration.jackson.EntityViewAwareObjectMapper;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.debezium.platform.environment.watcher.codec.PayloadCodecs;
+
+/**
+ * Decodes payloads of outbox events into objects accepted by {@link EnvironmentEventConsumer} instances.
+ * <br>
+ *
+ * A single entity view aware mapper is shared by all consumers and an {@link ObjectReader}
+ * is resolved only once per payload type. Binary payloads read from the outbox table are first
+ * decoded into a tree by {@link PayloadCodecs}.
+ */
+@ApplicationScoped
+public class PayloadDecoder {
+
+    // This is required to correctly deserialize EntityView see: https://persistence.blazebit.com/documentation/1.6/entity-view/manual/en_US/#usage-5
+    private final EntityViewAwareObjectMapper mapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final PayloadCodecs codecs;
+
+    public PayloadDecoder(ObjectMapper objectMapper, EntityViewManager evm, PayloadCodecs codecs) {
+        this.mapper = new EntityViewAwareObjectMapper(evm, objectMapper);
+        this.codecs = codecs;
+    }
+
+    /**
+     * Decodes binary payload stored in the outbox table into a tree
+     *
+     * @param payload payload as stored in the outbox table
+     * @return payload tree or {@code null} if the payload is {@code null}
+     */
+    public JsonNode read(byte[] payload) {
+        return codecs.decode(payload);
+    }
+
+    /**
+     * Decodes payload tree into given type
+     *
+     * @param payload payload tree
+     * @param type payload type
+     * @return decoded payload or {@code null} if the payload is {@code null}
+     */
+    public <T> T decode(JsonNode payload, Class<T> type) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return reader(type).readValue(payload);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, t -> mapper.getObjectMapper().readerFor(t));
+    }
+}
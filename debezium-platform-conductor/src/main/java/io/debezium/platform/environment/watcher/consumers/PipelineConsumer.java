@@ -13,36 +13,92 @@ import jakarta.enterprise.context.Dependent;
 
 import org.jboss.logging.Logger;
 
-import com.blazebit.persistence.view.EntityViewManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import io.debezium.platform.domain.views.flat.PipelineFlat;
-import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.watcher.AppliedRevisions;
 import io.debezium.platform.environment.watcher.events.EventType;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.events.PipelineRevision;
 
+/**
+ * Consumer of claim-check pipeline events.
+ * <br>
+ *
+ * Update events carry only the pipeline revision. The current state of the pipeline is loaded
+ * when the event is consumed and the loaded revision is recorded in {@link AppliedRevisions}, so
+ * that events of a burst of changes which are already covered by the deployed state are skipped.
+ * Pipelines are deployed into the environment they are assigned to, removed pipelines are undeployed
+ * from the environment remembered by {@link EnvironmentRouter}, or from all environments if it isn't known.
+ * Events of pipelines owned by another conductor replica are skipped, see {@link PipelineOwnership}.
+ */
 @Dependent
-public class PipelineConsumer extends AbstractEventConsumer<PipelineFlat> {
+public class PipelineConsumer extends AbstractEventConsumer<PipelineRevision> {
+
+    private static final String AGGREGATE = "pipeline";
+    private static final List<String> AGGREGATES = List.of(AGGREGATE);
+    private static final List<String> TYPES = List.of(EventType.UPDATE.name(), EventType.DELETE.name());
 
-    public PipelineConsumer(Logger logger, EnvironmentController environment, ObjectMapper objectMapper, EntityViewManager evm) {
-        super(logger, environment, objectMapper, evm, PipelineFlat.class);
+    private final PipelineService pipelineService;
+    private final AppliedRevisions appliedRevisions;
+    private final PipelineOwnership ownership;
+
+    public PipelineConsumer(Logger logger, EnvironmentRouter environments, PipelineService pipelineService,
+                            AppliedRevisions appliedRevisions, PipelineOwnership ownership) {
+        super(logger, environments, PipelineRevision.class);
+        this.pipelineService = pipelineService;
+        this.appliedRevisions = appliedRevisions;
+        this.ownership = ownership;
     }
 
     @Override
     public Collection<String> consumedAggregates() {
-        return List.of("pipeline");
+        return AGGREGATES;
     }
 
     @Override
     public Collection<String> consumedTypes() {
-        return List.of(EventType.UPDATE.name(), EventType.DELETE.name());
+        return TYPES;
     }
 
     @Override
-    public void accept(Long id, Optional<PipelineFlat> payload) {
-        logger.info("Received pipeline event: " + id);
-        logger.info(">>> payload:  \n" + payload);
-        var pipelines = environment.pipelines();
+    public void accept(Long id, Optional<PipelineRevision> payload) {
+        var key = new OutboxEvent.Key(AGGREGATE, id);
+
+        if (payload.isEmpty()) {
+            if (!ownership.owns(id)) {
+                logger.debugf("Skipping delete of pipeline %d, it is owned by another replica", id);
+                environments.forget(id);
+                appliedRevisions.forget(key);
+                return;
+            }
+            logger.infof("Received delete event for pipeline %d", id);
+            var targets = environments.route(id)
+                    .map(List::of)
+                    .orElseGet(() -> List.copyOf(environments.environments()));
+            targets.forEach(environment -> environment.pipelines().undeploy(id));
+            environments.forget(id);
+            appliedRevisions.forget(key);
+            ownership.removed(id);
+            return;
+        }
+
+        var revision = payload.get().revision();
+        if (revision != null && appliedRevisions.isApplied(key, revision)) {
+            logger.debugf("Skipping revision %d of pipeline %d, a newer revision was already applied", revision, id);
+            return;
+        }
+
+        if (!ownership.claim(id)) {
+            logger.debugf("Skipping revision %s of pipeline %d, it is owned by another replica", revision, id);
+            return;
+        }
 
-        payload.ifPresentOrElse(pipelines::deploy, () -> pipelines.undeploy(id));
+        pipelineService.findCurrent(id).ifPresentOrElse(pipeline -> {
+            var environment = environments.route(id, pipeline.getEnvironment());
+            logger.infof("Deploying revision %d of pipeline %d into environment %s", pipeline.getRevision(), id, environment.name());
+            environment.pipelines().deploy(pipeline);
+            appliedRevisions.applied(key, pipeline.getRevision());
+        }, () -> logger.debugf("Skipping update of pipeline %d, it no longer exists", id));
     }
 }
@@ -13,28 +13,28 @@ import jakarta.enterprise.context.Dependent;
 
 import org.jboss.logging.Logger;
 
-import com.blazebit.persistence.view.EntityViewManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import io.debezium.platform.domain.views.Vault;
-import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentRouter;
 import io.debezium.platform.environment.watcher.events.EventType;
 
 @Dependent
 public class VaultConsumer extends AbstractEventConsumer<Vault> {
 
-    public VaultConsumer(Logger logger, EnvironmentController environment, ObjectMapper objectMapper, EntityViewManager evm) {
-        super(logger, environment, objectMapper, evm, Vault.class);
+    private static final List<String> AGGREGATES = List.of("vault");
+    private static final List<String> TYPES = List.of(EventType.UPDATE.name(), EventType.DELETE.name());
+
+    public VaultConsumer(Logger logger, EnvironmentRouter environments) {
+        super(logger, environments, Vault.class);
     }
 
     @Override
     public Collection<String> consumedAggregates() {
-        return List.of("vault");
+        return AGGREGATES;
     }
 
     @Override
     public Collection<String> consumedTypes() {
-        return List.of(EventType.UPDATE.name(), EventType.DELETE.name());
+        return TYPES;
     }
 
     @Override
@@ -46,8 +46,11 @@ public class VaultConsumer extends AbstractEventConsumer<Vault> {
     public void accept(Long id, Optional<Vault> payload) {
         logger.info("Received vault event: " + id);
         logger.info(">>> payload:  \n" + payload);
-        var vaults = environment.vaults();
 
-        payload.ifPresentOrElse(vaults::deploy, () -> vaults.undeploy(id));
+        // vaults can be referenced by pipelines of any environment
+        for (var environment : environments.environments()) {
+            var vaults = environment.vaults();
+            payload.ifPresentOrElse(vaults::deploy, () -> vaults.undeploy(id));
+        }
     }
 }
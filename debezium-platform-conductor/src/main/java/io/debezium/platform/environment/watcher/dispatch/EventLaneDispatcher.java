@@ -0,0 +1,134 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.logging.Logger;
+
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.virtual.threads.VirtualThreads;
+
+/**
+ * Dispatches tasks onto a fixed number of lanes, each served by its own virtual thread.
+ * <br>
+ *
+ * Tasks are assigned to lanes by hashing the aggregate key, hence all tasks of the same
+ * pipeline or vault are executed sequentially in submission order, while a slow task of one
+ * aggregate doesn't block aggregates assigned to other lanes. Each lane has a bounded queue,
+ * submitting to a full lane blocks the caller.
+ */
+@ApplicationScoped
+public class EventLaneDispatcher {
+
+    public static final String LANE_DEPTH_METRIC = "conductor.watcher.lane.depth";
+
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final MeterRegistry registry;
+    private final int laneCount;
+    private final int queueSize;
+    private final List<Lane> lanes = new ArrayList<>();
+
+    private static final class Lane implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+        private Future<?> worker;
+
+        private Lane(int queueSize) {
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    queue.take().run();
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public EventLaneDispatcher(Logger logger, WatcherConfigGroup watcherConfig, @VirtualThreads ExecutorService executor, MeterRegistry registry) {
+        this.logger = logger;
+        this.executor = executor;
+        this.registry = registry;
+        this.laneCount = watcherConfig.dispatch().lanes();
+        this.queueSize = watcherConfig.dispatch().queueSize();
+    }
+
+    @PostConstruct
+    public void start() {
+        logger.infof("Starting %d event dispatch lanes", laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            var lane = new Lane(queueSize);
+            lane.worker = executor.submit(lane);
+            registry.gauge(LANE_DEPTH_METRIC, Tags.of("lane", String.valueOf(i)), lane.queue, BlockingQueue::size);
+            lanes.add(lane);
+        }
+    }
+
+    /**
+     * Submits the task to the lane assigned to given aggregate, blocking while the lane is full.
+     *
+     * @param key aggregate key
+     * @param task task to execute
+     * @return future completed once the task was executed
+     * @throws InterruptedException if interrupted while waiting for space in the lane
+     */
+    public CompletableFuture<Void> submit(OutboxEvent.Key key, Runnable task) throws InterruptedException {
+        var future = new CompletableFuture<Void>();
+        lanes.get(laneOf(key)).queue.put(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            }
+            catch (Throwable e) {
+                // an error must not stop the lane nor leave the batch waiting for the task forever
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @param key aggregate key
+     * @return index of the lane assigned to given aggregate
+     */
+    public int laneOf(OutboxEvent.Key key) {
+        return Math.floorMod(key.hashCode(), laneCount);
+    }
+
+    /**
+     * @param lane lane index
+     * @return number of tasks waiting in given lane
+     */
+    public int depth(int lane) {
+        return lanes.get(lane).queue.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        logger.info("Stopping event dispatch lanes");
+        lanes.forEach(lane -> lane.worker.cancel(true));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.dispatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import org.jboss.logging.Logger;
+
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.consumers.OutboxParentEventConsumer;
+import io.debezium.platform.environment.watcher.events.AbstractEvent;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+/**
+ * Dispatches events to the environment as soon as the transaction which fired them commits,
+ * without waiting for them to travel through the outbox table, logical decoding and the watcher.
+ * <br>
+ *
+ * Events are dispatched on the lanes of {@link EventLaneDispatcher}, the same lanes used by the watcher,
+ * so that both paths apply events of the same aggregate sequentially. Once applied, the copy of the
+ * event read from the outbox is skipped by {@link OutboxParentEventConsumer}. When the in-process dispatch
+ * fails, or the conductor stops before it happens, the event is applied from the outbox instead.
+ */
+@ApplicationScoped
+public class InProcessEventDispatcher {
+
+    private final Logger logger;
+    private final OutboxParentEventConsumer parentConsumer;
+    private final EventLaneDispatcher dispatcher;
+    private final boolean enabled;
+
+    public InProcessEventDispatcher(Logger logger, WatcherConfigGroup watcherConfig, OutboxParentEventConsumer parentConsumer,
+                                    EventLaneDispatcher dispatcher) {
+        this.logger = logger;
+        this.parentConsumer = parentConsumer;
+        this.dispatcher = dispatcher;
+        this.enabled = watcherConfig.dispatch().inProcess() && watcherConfig.enabled() && watcherConfig.batch().enabled();
+
+        if (watcherConfig.dispatch().inProcess() && !enabled) {
+            logger.warn("In-process dispatch requires enabled watcher with batch consumption, events are dispatched from the outbox only");
+        }
+    }
+
+    void onCommitted(@Observes(during = TransactionPhase.AFTER_SUCCESS) AbstractEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        var outboxEvent = OutboxEvent.of(event);
+        try {
+            dispatcher.submit(outboxEvent.key(), () -> parentConsumer.dispatch(outboxEvent))
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            logger.warnf(error, "In-process dispatch of %s event for %s (#%s) failed, it will be applied from the outbox",
+                                    outboxEvent.type(), outboxEvent.aggregateType(), outboxEvent.aggregateId());
+                        }
+                    });
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warnf("Interrupted while dispatching %s event for %s (#%s), it will be applied from the outbox",
+                    outboxEvent.type(), outboxEvent.aggregateType(), outboxEvent.aggregateId());
+        }
+    }
+}
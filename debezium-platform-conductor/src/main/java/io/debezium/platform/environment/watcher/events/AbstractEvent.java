@@ -6,6 +6,7 @@
 package io.debezium.platform.environment.watcher.events;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -30,7 +31,8 @@ public abstract class AbstractEvent
         this.aggregateId = aggregateId;
         this.type = type.name();
         this.payload = payload;
-        this.timestamp = timestamp;
+        // the outbox table keeps microseconds, truncate so that in-process and outbox copies of the event match
+        this.timestamp = timestamp == null ? null : timestamp.truncatedTo(ChronoUnit.MICROS);
     }
 
     @Override
@@ -0,0 +1,30 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.platform.environment.alerts.Alert;
+
+/**
+ * Alert fired or resolved by a rule, keyed by the rule so that its transitions are applied in order
+ */
+public final class AlertEvent extends AbstractEvent {
+
+    public static final String AGGREGATE_TYPE = "alert";
+
+    private AlertEvent(String aggregateId, EventType type, Instant timestamp, JsonNode payload) {
+        super(AGGREGATE_TYPE, aggregateId, type, timestamp, payload);
+    }
+
+    public static AlertEvent of(Alert alert, ObjectMapper objectMapper) {
+        var type = alert.state() == Alert.State.FIRING ? EventType.FIRING : EventType.RESOLVED;
+        return new AlertEvent(alert.ruleId().toString(), type, Instant.now(), objectMapper.valueToTree(alert));
+    }
+}
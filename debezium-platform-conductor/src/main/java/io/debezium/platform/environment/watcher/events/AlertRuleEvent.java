@@ -0,0 +1,31 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.platform.domain.views.AlertRule;
+
+public final class AlertRuleEvent extends AbstractEvent {
+
+    public static final String AGGREGATE_TYPE = "alert_rule";
+
+    private AlertRuleEvent(String aggregateId, EventType type, Instant timestamp, JsonNode payload) {
+        super(AGGREGATE_TYPE, aggregateId, type, timestamp, payload);
+    }
+
+    public static AlertRuleEvent update(AlertRule rule, ObjectMapper objectMapper) {
+        var payload = objectMapper.valueToTree(rule);
+        return new AlertRuleEvent(rule.getId().toString(), EventType.UPDATE, Instant.now(), payload);
+    }
+
+    public static AlertRuleEvent delete(Long id) {
+        return new AlertRuleEvent(id.toString(), EventType.DELETE, Instant.now(), null);
+    }
+}
@@ -7,5 +7,7 @@ package io.debezium.platform.environment.watcher.events;
 
 public enum EventType {
     UPDATE,
-    DELETE
+    DELETE,
+    FIRING,
+    RESOLVED
 }
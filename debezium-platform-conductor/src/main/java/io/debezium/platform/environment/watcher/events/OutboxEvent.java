@@ -0,0 +1,49 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Outbox event as consumed by the watcher, extracted from the change event
+ * emitted by the embedded engine.
+ *
+ * @param id unique id of the outbox row, {@code null} for events which weren't read from the outbox table
+ * @param aggregateType event aggregate type
+ * @param aggregateId aggregate id
+ * @param type event type
+ * @param payload payload tree, {@code null} for delete events
+ * @param timestamp time at which the event was created
+ */
+public record OutboxEvent(UUID id, String aggregateType, Long aggregateId, String type, JsonNode payload, Instant timestamp) {
+
+    /**
+     * Identifies the aggregate this event belongs to. Events with the same key
+     * describe the state of the same pipeline or vault.
+     *
+     * @param aggregateType event aggregate type
+     * @param aggregateId aggregate id
+     */
+    public record Key(String aggregateType, Long aggregateId) {
+    }
+
+    /**
+     * Creates the outbox event from an event fired within the conductor, before it's read back from the outbox table
+     *
+     * @param event event fired within the conductor
+     * @return outbox event with the same content as the one written to the outbox table
+     */
+    public static OutboxEvent of(AbstractEvent event) {
+        return new OutboxEvent(null, event.getAggregateType(), Long.valueOf(event.getAggregateId()), event.getType(), event.getPayload(), event.getTimestamp());
+    }
+
+    public Key key() {
+        return new Key(aggregateType, aggregateId);
+    }
+}
@@ -10,8 +10,6 @@ import java.time.Instant;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.debezium.platform.domain.views.flat.PipelineFlat;
-
 public final class PipelineEvent extends AbstractEvent {
 
     private static final String AGGREGATE_TYPE = "pipeline";
@@ -20,9 +18,17 @@ public final class PipelineEvent extends AbstractEvent {
         super(AGGREGATE_TYPE, aggregateId, type, timestamp, payload);
     }
 
-    public static PipelineEvent update(PipelineFlat pipeline, ObjectMapper objectMapper) {
-        var payload = objectMapper.valueToTree(pipeline);
-        return new PipelineEvent(pipeline.getId().toString(), EventType.UPDATE, Instant.now(), payload);
+    /**
+     * Creates a claim-check update event referring to given revision of the pipeline
+     *
+     * @param id pipeline id
+     * @param revision pipeline revision reached by the change
+     * @param objectMapper mapper used to create the payload
+     * @return update event
+     */
+    public static PipelineEvent update(Long id, long revision, ObjectMapper objectMapper) {
+        var payload = objectMapper.valueToTree(new PipelineRevision(revision));
+        return new PipelineEvent(id.toString(), EventType.UPDATE, Instant.now(), payload);
     }
 
     public static PipelineEvent delete(Long id) {
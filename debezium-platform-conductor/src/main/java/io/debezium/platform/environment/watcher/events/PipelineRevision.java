@@ -0,0 +1,23 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Claim-check payload of pipeline update events. Instead of the complete pipeline state the
+ * event carries only the revision the pipeline reached in the transaction which emitted it, the
+ * current state is loaded by the consumer.
+ * <br>
+ *
+ * Unknown properties are ignored so that events emitted by earlier versions, carrying the
+ * complete pipeline, decode into a payload without revision.
+ *
+ * @param revision pipeline revision, {@code null} if unknown
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PipelineRevision(Long revision) {
+}
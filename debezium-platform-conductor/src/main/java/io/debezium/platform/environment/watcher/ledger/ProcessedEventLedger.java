@@ -0,0 +1,165 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.ledger;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.DebeziumException;
+import io.debezium.platform.environment.cluster.ConductorReplica;
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+/**
+ * Ledger of outbox events processed by the watcher, keyed by the id of the outbox row.
+ * <br>
+ *
+ * The watcher commits offsets only periodically, hence events processed after the last
+ * offset flush are replayed when the conductor restarts. Events found in the ledger are
+ * skipped instead of being applied to the environment again. Events of a batch are recorded
+ * in a single transaction, before their offsets are committed. Every {@link ConductorReplica}
+ * reads the outbox on its own, hence keeps its own entries.
+ * <br>
+ *
+ * Replayed events always precede the events which weren't processed yet. The ledger is therefore
+ * looked up only while the engine {@link #replay() replays} events, which ends with the first
+ * looked up event not found in it, instead of costing a round-trip for every event read afterwards.
+ * Entries are removed by {@code OutboxPruner} once they are older than its cutoff.
+ */
+@ApplicationScoped
+public class ProcessedEventLedger {
+
+    public static final String TABLE = "watcher_processed_event";
+
+    private static final String SELECT_STATEMENT = "SELECT event_id FROM " + TABLE + " WHERE replica = ? AND event_id = ANY (?)";
+    private static final String INSERT_STATEMENT = "INSERT INTO " + TABLE + " (replica, event_id, aggregatetype, aggregateid, event_timestamp) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (replica, event_id) DO NOTHING";
+    private static final String DELETE_STATEMENT = "DELETE FROM " + TABLE + " WHERE event_timestamp < ?";
+
+    private final AgroalDataSource dataSource;
+    private final String replica;
+    private final boolean enabled;
+
+    // events are replayed whenever the engine starts reading the outbox from the committed offsets
+    private volatile boolean replaying = true;
+
+    public ProcessedEventLedger(WatcherConfigGroup watcherConfig, AgroalDataSource dataSource, ConductorReplica replica) {
+        this.dataSource = dataSource;
+        this.replica = replica.id();
+        this.enabled = watcherConfig.ledger().enabled();
+    }
+
+    /**
+     * Starts looking up the ledger again, called when the engine starts reading from the committed offsets
+     */
+    public void replay() {
+        replaying = true;
+    }
+
+    /**
+     * Returns ids of given events which were already processed
+     *
+     * @param events outbox events in the order they were read
+     * @return ids of already processed events, empty if the ledger is disabled or no event is replayed anymore
+     */
+    public Set<UUID> processed(Collection<OutboxEvent> events) {
+        var ids = ids(events);
+        if (!enabled || !replaying || ids.isEmpty()) {
+            return Set.of();
+        }
+
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(SELECT_STATEMENT)) {
+            statement.setString(1, replica);
+            statement.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+
+            Set<UUID> processed = new HashSet<>();
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    processed.add(rs.getObject(1, UUID.class));
+                }
+            }
+            // no event following one which wasn't processed was processed either
+            if (!processed.contains(ids.getLast())) {
+                replaying = false;
+            }
+            return processed;
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to read processed outbox events", e);
+        }
+    }
+
+    /**
+     * Records given events as processed in a single transaction
+     *
+     * @param events processed outbox events, events without id are ignored
+     */
+    public void record(Collection<OutboxEvent> events) {
+        if (!enabled || ids(events).isEmpty()) {
+            return;
+        }
+
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(INSERT_STATEMENT)) {
+            connection.setAutoCommit(false);
+            for (var event : events) {
+                if (event.id() == null) {
+                    continue;
+                }
+                statement.setString(1, replica);
+                statement.setObject(2, event.id());
+                statement.setString(3, event.aggregateType());
+                statement.setString(4, event.aggregateId().toString());
+                statement.setObject(5, event.timestamp().atOffset(ZoneOffset.UTC));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to record processed outbox events", e);
+        }
+    }
+
+    /**
+     * Removes events created before given time from the ledger
+     *
+     * @param cutoff creation time before which events are removed
+     * @return number of removed events
+     */
+    public int prune(Instant cutoff) {
+        if (!enabled) {
+            return 0;
+        }
+
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(DELETE_STATEMENT)) {
+            statement.setObject(1, cutoff.atOffset(ZoneOffset.UTC));
+            return statement.executeUpdate();
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to prune processed outbox events", e);
+        }
+    }
+
+    private static List<UUID> ids(Collection<OutboxEvent> events) {
+        return events.stream()
+                .map(OutboxEvent::id)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
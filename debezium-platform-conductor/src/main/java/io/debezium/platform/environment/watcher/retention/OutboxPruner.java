@@ -0,0 +1,174 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.retention;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.DebeziumException;
+import io.debezium.platform.environment.watcher.AppliedEvents;
+import io.debezium.platform.environment.watcher.WatcherProgress;
+import io.debezium.platform.environment.watcher.config.OutboxConfigGroup;
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Periodically removes outbox events which were already processed by the watcher.
+ * <br>
+ *
+ * Only events created before both the latest event committed by the watcher and the configured
+ * minimal age are removed. The minimal age guards against events of long-running transactions which
+ * were created earlier but committed later than the latest committed event. Events are removed in
+ * bounded batches, each in its own transaction, to keep locks and WAL bursts small. Entries of the
+ * {@link ProcessedEventLedger} and {@link AppliedEvents} older than the same cutoff are removed as well,
+ * even if pruning the outbox is disabled, so that neither of them grows without bound.
+ */
+@ApplicationScoped
+public class OutboxPruner {
+
+    public static final String PRUNED_ROWS_METRIC = "conductor.outbox.pruned.rows";
+    public static final String PRUNED_BYTES_METRIC = "conductor.outbox.pruned.bytes";
+
+    private static final String PRUNE_STATEMENT = """
+            WITH pruned AS (
+                DELETE FROM "%1$s" WHERE "%2$s" IN (SELECT "%2$s" FROM "%1$s" WHERE "%3$s" < ? ORDER BY "%3$s" LIMIT ?)
+                RETURNING pg_column_size("%1$s".*) AS size
+            )
+            SELECT count(*), coalesce(sum(size), 0) FROM pruned""";
+
+    private final Logger logger;
+    private final WatcherConfigGroup watcherConfig;
+    private final OutboxConfigGroup outbox;
+    private final WatcherProgress progress;
+    private final AgroalDataSource dataSource;
+    private final ProcessedEventLedger ledger;
+    private final AppliedEvents appliedEvents;
+    private final Clock clock;
+    private final Counter prunedRows;
+    private final Counter prunedBytes;
+
+    public record PruneResult(long rows, long bytes) {
+
+        public static final PruneResult NONE = new PruneResult(0, 0);
+
+        PruneResult plus(PruneResult other) {
+            return new PruneResult(rows + other.rows, bytes + other.bytes);
+        }
+    }
+
+    @Inject
+    public OutboxPruner(Logger logger, WatcherConfigGroup watcherConfig, OutboxConfigGroup outbox, WatcherProgress progress, AgroalDataSource dataSource,
+                        ProcessedEventLedger ledger, AppliedEvents appliedEvents, MeterRegistry registry) {
+        this(logger, watcherConfig, outbox, progress, dataSource, ledger, appliedEvents, registry, Clock.systemUTC());
+    }
+
+    OutboxPruner(Logger logger, WatcherConfigGroup watcherConfig, OutboxConfigGroup outbox, WatcherProgress progress, AgroalDataSource dataSource,
+                 ProcessedEventLedger ledger, AppliedEvents appliedEvents, MeterRegistry registry, Clock clock) {
+        this.logger = logger;
+        this.watcherConfig = watcherConfig;
+        this.outbox = outbox;
+        this.progress = progress;
+        this.dataSource = dataSource;
+        this.ledger = ledger;
+        this.appliedEvents = appliedEvents;
+        this.clock = clock;
+        this.prunedRows = Counter.builder(PRUNED_ROWS_METRIC)
+                .description("Number of processed outbox events removed from the outbox table")
+                .register(registry);
+        this.prunedBytes = Counter.builder(PRUNED_BYTES_METRIC)
+                .description("Size of processed outbox events removed from the outbox table")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Scheduled(every = "${conductor.watcher.retention.interval}", delayed = "${conductor.watcher.retention.interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledPrune() {
+        if (!watcherConfig.enabled()) {
+            return;
+        }
+        if (!watcherConfig.retention().enabled()) {
+            cutoff().ifPresent(this::pruneProcessed);
+            return;
+        }
+        prune();
+    }
+
+    /**
+     * Removes processed outbox events in batches until no removable event is left
+     *
+     * @return total number and size of removed events
+     */
+    public PruneResult prune() {
+        var cutoff = cutoff();
+        if (cutoff.isEmpty()) {
+            logger.debug("Skipping outbox pruning because no event was committed yet");
+            return PruneResult.NONE;
+        }
+
+        var batchSize = watcherConfig.retention().batchSize();
+        var total = PruneResult.NONE;
+        PruneResult batch;
+        do {
+            batch = pruneBatch(cutoff.get(), batchSize);
+            total = total.plus(batch);
+            prunedRows.increment(batch.rows());
+            prunedBytes.increment(batch.bytes());
+        } while (batch.rows() >= batchSize);
+        pruneProcessed(cutoff.get());
+
+        if (total.rows() > 0) {
+            logger.infof("Removed %d processed outbox events (%d bytes) created before %s", total.rows(), total.bytes(), cutoff.get());
+        }
+        return total;
+    }
+
+    /**
+     * @return time before which outbox events can be removed, empty if no event can be removed yet
+     */
+    Optional<Instant> cutoff() {
+        var minAgeCutoff = clock.instant().minus(watcherConfig.retention().minAge());
+
+        return progress.committedTimestamp()
+                .map(committed -> committed.isBefore(minAgeCutoff) ? committed : minAgeCutoff);
+    }
+
+    private void pruneProcessed(Instant cutoff) {
+        var ledgerRows = ledger.prune(cutoff);
+        logger.debugf("Removed %d entries from the processed event ledger", ledgerRows);
+        var evicted = appliedEvents.evict(cutoff);
+        logger.debugf("Evicted %d aggregates from the applied events, %d remain", evicted, appliedEvents.size());
+    }
+
+    private PruneResult pruneBatch(Instant cutoff, int batchSize) {
+        var sql = PRUNE_STATEMENT.formatted(outbox.table(), outbox.idColumn(), outbox.timestampColumn());
+
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, cutoff.atOffset(ZoneOffset.UTC));
+            statement.setInt(2, batchSize);
+
+            try (var rs = statement.executeQuery()) {
+                rs.next();
+                return new PruneResult(rs.getLong(1), rs.getLong(2));
+            }
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Unable to prune outbox events", e);
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- Processed outbox events are pruned in batches ordered by their timestamp, see OutboxPruner
+create index if not exists idx_events_timestamp on events (timestamp);
@@ -0,0 +1,2 @@
+-- Outbox payloads are encoded by PayloadCodecs, existing rows keep their json text
+alter table events alter column payload type bytea using convert_to(payload, 'UTF8');
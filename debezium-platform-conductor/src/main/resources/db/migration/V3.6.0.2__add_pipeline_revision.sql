@@ -0,0 +1,2 @@
+-- Revision of the pipeline state, incremented with every outbox event emitted for the pipeline
+alter table pipeline add column revision bigint not null default 0;
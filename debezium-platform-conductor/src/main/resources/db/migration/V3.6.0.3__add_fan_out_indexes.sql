@@ -0,0 +1,11 @@
+-- Indexes supporting the lookup of pipelines affected by a change of a referenced resource
+create index if not exists idx_pipeline_source on pipeline (source_id);
+create index if not exists idx_pipeline_destination on pipeline (destination_id);
+create index if not exists idx_pipeline_transform_transform on pipeline_transform (transform_id);
+create index if not exists idx_source_connection on source (connection_id);
+create index if not exists idx_destination_connection on destination (connection_id);
+
+-- Vault join tables are keyed by the owning resource, index the vault side for reverse lookups
+create index if not exists idx_source_vault_vault on source_vault (vault_id);
+create index if not exists idx_destination_vault_vault on destination_vault (vault_id);
+create index if not exists idx_transform_vault_vault on transform_vault (vault_id);
@@ -0,0 +1,3 @@
+-- Environment each pipeline is deployed into, existing pipelines stay in the default environment
+alter table pipeline add column environment varchar(63) not null default 'default';
+create index if not exists idx_pipeline_environment on pipeline (environment);
@@ -0,0 +1,36 @@
+-- Signals accepted by the conductor and delivered asynchronously, see SignalQueue
+create table signal_delivery (
+    pipeline_id bigint not null,
+    signal_id varchar(255) not null,
+    type varchar(255) not null,
+    data text not null,
+    additional_data text,
+    status varchar(16) not null default 'PENDING',
+    attempts integer not null default 0,
+    next_attempt_at timestamp(6) with time zone not null default now(),
+    last_error text,
+    created_at timestamp(6) with time zone not null default now(),
+    completed_at timestamp(6) with time zone,
+    primary key (pipeline_id, signal_id)
+);
+
+create index idx_signal_delivery_due on signal_delivery (next_attempt_at) where status = 'PENDING';
+create index idx_signal_delivery_completed on signal_delivery (completed_at) where status <> 'PENDING';
+
+-- Signals which couldn't be delivered or were submitted again while already queued
+create table signal_dead_letter (
+    id bigint generated always as identity,
+    pipeline_id bigint not null,
+    signal_id varchar(255) not null,
+    type varchar(255) not null,
+    data text not null,
+    additional_data text,
+    attempts integer not null,
+    reason varchar(32) not null,
+    last_error text,
+    created_at timestamp(6) with time zone not null,
+    dead_lettered_at timestamp(6) with time zone not null default now(),
+    primary key (id)
+);
+
+create index idx_signal_dead_letter_signal on signal_dead_letter (pipeline_id, signal_id);
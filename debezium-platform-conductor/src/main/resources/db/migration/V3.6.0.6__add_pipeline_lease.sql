@@ -0,0 +1,24 @@
+-- Conductor replicas and their pipeline leases, see PipelineLeases
+create table conductor_replica (
+    id varchar(255) not null,
+    started_at timestamp(6) with time zone not null default now(),
+    expires_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+-- Leases outlive removed pipelines until their owner undeployed them
+create table pipeline_lease (
+    pipeline_id bigint not null,
+    owner varchar(255) not null,
+    acquired_at timestamp(6) with time zone not null default now(),
+    expires_at timestamp(6) with time zone not null,
+    primary key (pipeline_id)
+);
+
+create index idx_pipeline_lease_owner on pipeline_lease (owner);
+create index idx_pipeline_lease_expires on pipeline_lease (expires_at);
+
+-- Every replica reads the outbox through its own slot and keeps its own processed events
+alter table watcher_processed_event add column replica varchar(255) not null default 'conductor';
+alter table watcher_processed_event drop constraint watcher_processed_event_pkey;
+alter table watcher_processed_event add primary key (replica, event_id);
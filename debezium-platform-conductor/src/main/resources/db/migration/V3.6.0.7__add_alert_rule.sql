@@ -0,0 +1,22 @@
+-- Alert rules evaluated against scraped pipeline metrics, see AlertEvaluator
+create sequence alert_rule_SEQ start with 1 increment by 50;
+
+create table alert_rule (
+    id bigint not null,
+    name varchar(255) not null,
+    pipeline_id bigint not null,
+    metric varchar(32) not null,
+    condition varchar(16) not null,
+    threshold float(53) not null,
+    for_seconds bigint not null default 0,
+    enabled boolean not null default true,
+    primary key (id),
+    unique (pipeline_id, name)
+);
+
+-- rules are removed together with their pipeline
+alter table if exists alert_rule
+   add constraint FK_alert_rule_pipeline
+   foreign key (pipeline_id)
+   references pipeline
+   on delete cascade;
@@ -0,0 +1,23 @@
+-- Alerts queued for delivery to each notifier, see AlertQueue
+create table alert_delivery (
+    id bigint generated always as identity,
+    notifier varchar(64) not null,
+    rule_id bigint not null,
+    pipeline_id bigint not null,
+    state varchar(16) not null,
+    alerted_at timestamp(6) with time zone not null,
+    alert text not null,
+    status varchar(16) not null default 'PENDING',
+    attempts integer not null default 0,
+    next_attempt_at timestamp(6) with time zone not null default now(),
+    last_error text,
+    created_at timestamp(6) with time zone not null default now(),
+    completed_at timestamp(6) with time zone,
+    primary key (id),
+    -- an alert consumed again from the outbox isn't queued twice
+    unique (notifier, rule_id, state, alerted_at)
+);
+
+create index idx_alert_delivery_due on alert_delivery (next_attempt_at) where status = 'PENDING';
+create index idx_alert_delivery_rule on alert_delivery (rule_id, notifier, id) where status = 'PENDING';
+create index idx_alert_delivery_completed on alert_delivery (completed_at) where status <> 'PENDING';
@@ -0,0 +1,2 @@
+-- Dead letters are pruned by age, see SignalQueue
+create index idx_signal_dead_letter_dead_lettered_at on signal_dead_letter (dead_lettered_at);
@@ -0,0 +1,11 @@
+-- Outbox events processed by the conductor watcher, see ProcessedEventLedger
+create table watcher_processed_event (
+    event_id uuid not null,
+    aggregatetype varchar(255) not null,
+    aggregateid varchar(255) not null,
+    event_timestamp timestamp(6) with time zone not null,
+    processed_at timestamp(6) with time zone not null default now(),
+    primary key (event_id)
+);
+
+create index idx_watcher_processed_event_timestamp on watcher_processed_event (event_timestamp);
@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.domain;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.platform.environment.operator.logs.KubernetesLogReader;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.TailPrettyLoggable;
+
+class LogHubTest {
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private TailPrettyLoggable loggable;
+    private LogWatch watch;
+    private LogHub hub;
+
+    @BeforeEach
+    void setUp() {
+        watch = mock(LogWatch.class);
+        when(watch.getOutput()).thenReturn(new ByteArrayInputStream(new byte[0]));
+        loggable = mock(TailPrettyLoggable.class, RETURNS_DEEP_STUBS);
+        when(loggable.tailingLines(anyInt()).watchLog()).thenReturn(watch);
+
+        hub = new LogHub("1", () -> new KubernetesLogReader(() -> loggable), Logger.getLogger(LogHubTest.class), 10);
+        // reading is held back until the test runs the queued tasks
+        hub.open(tasks::add);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    @DisplayName("Log closed before its first line is read never opens the watch")
+    void closedBeforeFirstRead() {
+        hub.close();
+        runTasks();
+
+        verify(watch, never()).getOutput();
+    }
+
+    @Test
+    @DisplayName("Log closed while its watch is being opened closes the watch")
+    void closedWhileOpening() {
+        when(loggable.tailingLines(anyInt()).watchLog()).thenAnswer(invocation -> {
+            hub.close();
+            return watch;
+        });
+
+        runTasks();
+
+        verify(watch).close();
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import io.debezium.platform.environment.logs.LogReader;
+
+class LogStreamingServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private ExecutorService executor;
+    private LogStreamingService service;
+    private QueueLogReader log;
+    private AtomicInteger opened;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        service = new LogStreamingService(Logger.getLogger(LogStreamingServiceTest.class), executor);
+        log = new QueueLogReader();
+        opened = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private LogReader open() {
+        opened.incrementAndGet();
+        return log;
+    }
+
+    @Test
+    @DisplayName("Consumers of the same log share a single reader")
+    void sharesReader() {
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+
+        var firstTask = service.stream("1", this::open, first::add);
+        var secondTask = service.stream("1", this::open, second::add);
+        log.write("a", "b", "c");
+
+        Awaitility.await().atMost(TIMEOUT).until(() -> first.size() == 3 && second.size() == 3);
+        assertThat(first).containsExactly("a", "b", "c");
+        assertThat(second).containsExactly("a", "b", "c");
+        assertThat(opened).hasValue(1);
+        assertThat(service.openLogs()).isEqualTo(1);
+
+        firstTask.stop();
+        secondTask.stop();
+    }
+
+    @Test
+    @DisplayName("Lines of an idle log are passed on as soon as they are read")
+    void passesLinesWithoutPolling() {
+        List<String> consumed = new CopyOnWriteArrayList<>();
+        var task = service.stream("1", this::open, consumed::add);
+        Awaitility.await().atMost(TIMEOUT).until(() -> opened.get() == 1);
+
+        log.write("a");
+        Awaitility.await().atMost(Duration.ofMillis(200)).until(() -> consumed.size() == 1);
+        log.write("b");
+        Awaitility.await().atMost(Duration.ofMillis(200)).until(() -> consumed.size() == 2);
+
+        task.stop();
+    }
+
+    @Test
+    @DisplayName("Consumers finish when the log ends")
+    void finishesWithLog() {
+        List<String> consumed = new CopyOnWriteArrayList<>();
+        var task = service.stream("1", this::open, consumed::add);
+
+        log.write("a", "b");
+        log.end();
+
+        Awaitility.await().atMost(TIMEOUT).until(() -> service.openLogs() == 0);
+        assertThat(task.isRunning()).isFalse();
+        assertThat(consumed).containsExactly("a", "b");
+        assertThat(log.closed).hasPositiveValue();
+    }
+
+    @Test
+    @DisplayName("Late consumer receives the most recent lines first")
+    void replaysRecentLines() {
+        List<String> first = new CopyOnWriteArrayList<>();
+        var firstTask = service.stream("1", this::open, first::add);
+        var lines = IntStream.range(0, LogStreamingService.REPLAYED_LINES + 10).mapToObj(String::valueOf).toArray(String[]::new);
+        log.write(lines);
+        Awaitility.await().atMost(TIMEOUT).until(() -> first.size() == lines.length);
+
+        List<String> late = new CopyOnWriteArrayList<>();
+        var lateTask = service.stream("1", this::open, late::add);
+        log.write("last");
+
+        Awaitility.await().atMost(TIMEOUT).until(() -> late.size() == LogStreamingService.REPLAYED_LINES + 1);
+        assertThat(late.getFirst()).isEqualTo("10");
+        assertThat(late.getLast()).isEqualTo("last");
+
+        firstTask.stop();
+        lateTask.stop();
+    }
+
+    @Test
+    @DisplayName("Log is closed when the last consumer stops and opened again for a new consumer")
+    void closesLogWithLastConsumer() {
+        var firstTask = service.stream("1", this::open, line -> {
+        });
+        var secondTask = service.stream("1", this::open, line -> {
+        });
+        Awaitility.await().atMost(TIMEOUT).until(() -> opened.get() == 1);
+
+        firstTask.stop();
+        assertThat(log.closed).hasValue(0);
+        secondTask.stop();
+
+        Awaitility.await().atMost(TIMEOUT).until(() -> log.closed.get() > 0);
+        assertThat(service.openLogs()).isZero();
+
+        var reopened = new QueueLogReader();
+        var thirdTask = service.stream("1", () -> {
+            opened.incrementAndGet();
+            return reopened;
+        }, line -> {
+        });
+        Awaitility.await().atMost(TIMEOUT).until(() -> opened.get() == 2);
+        thirdTask.stop();
+    }
+
+    @Test
+    @DisplayName("Closing a log doesn't hold back streaming of other logs")
+    void closingLogDoesNotBlockOtherLogs() throws Exception {
+        var closing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var slowlyClosed = new QueueLogReader() {
+            @Override
+            public void close() {
+                closing.countDown();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.close();
+            }
+        };
+        var task = service.stream("1", () -> slowlyClosed, line -> {
+        });
+        var stopped = executor.submit(task::stop);
+        assertThat(closing.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+        var other = executor.submit(() -> service.stream("2", this::open, line -> {
+        }));
+
+        other.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).stop();
+        release.countDown();
+        stopped.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("Log is closed when its only consumer leaves before the first line is read")
+    void closesLogLeftBeforeFirstLine() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var opened = new AtomicBoolean();
+        var reading = new AtomicInteger();
+        var lazy = new QueueLogReader() {
+            @Override
+            public String readLine() throws IOException {
+                reading.incrementAndGet();
+                try {
+                    // the log is opened by its first read, which the test holds back until the consumer left
+                    release.await();
+                    opened.set(true);
+                    return super.readLine();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                finally {
+                    reading.decrementAndGet();
+                }
+            }
+        };
+
+        var task = service.stream("1", () -> lazy, line -> {
+        });
+        task.stop();
+        Awaitility.await().atMost(TIMEOUT).until(() -> lazy.closed.get() > 0);
+        release.countDown();
+
+        Awaitility.await().atMost(TIMEOUT).until(() -> opened.get() && reading.get() == 0);
+        assertThat(lazy.closed).hasPositiveValue();
+        assertThat(service.openLogs()).isZero();
+    }
+
+    @Test
+    @DisplayName("Slow consumer skips lines without holding back other consumers")
+    void slowConsumerSkipsLines() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        List<String> slow = new CopyOnWriteArrayList<>();
+        List<String> fast = new CopyOnWriteArrayList<>();
+
+        var slowTask = service.stream("1", this::open, line -> {
+            slow.add(line);
+            blocked.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        var fastTask = service.stream("1", this::open, fast::add);
+
+        log.write("first");
+        assertThat(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        var lines = IntStream.range(0, LogStreamingService.BUFFERED_LINES * 2).mapToObj(String::valueOf).toArray(String[]::new);
+        log.write(lines);
+
+        Awaitility.await().atMost(TIMEOUT).until(() -> fast.size() == lines.length + 1);
+        release.countDown();
+        Awaitility.await().atMost(TIMEOUT).until(() -> slow.size() == LogStreamingService.BUFFERED_LINES + 1);
+
+        assertThat(slow.getLast()).isEqualTo(lines[lines.length - 1]);
+        assertThat(slowTask.getSkippedLines()).isEqualTo(LogStreamingService.BUFFERED_LINES);
+        assertThat(fastTask.getSkippedLines()).isZero();
+
+        slowTask.stop();
+        fastTask.stop();
+    }
+
+    private static class QueueLogReader implements LogReader {
+
+        private static final String EOF = "";
+        private static final String END = "<end>";
+
+        private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        private final AtomicInteger closed = new AtomicInteger();
+
+        void write(String... written) {
+            lines.addAll(List.of(written));
+        }
+
+        void end() {
+            lines.add(END);
+        }
+
+        @Override
+        public String readAll() {
+            return String.join("\n", lines);
+        }
+
+        @Override
+        public BufferedReader reader() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String readLine() throws IOException {
+            try {
+                var line = lines.take();
+                if (EOF.equals(line)) {
+                    throw new IOException("closed");
+                }
+                return END.equals(line) ? null : line;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+            lines.add(EOF);
+        }
+    }
+}
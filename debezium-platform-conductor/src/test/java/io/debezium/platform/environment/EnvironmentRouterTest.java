@@ -0,0 +1,67 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EnvironmentRouterTest {
+
+    private EnvironmentController defaultEnvironment;
+    private EnvironmentController east;
+    private EnvironmentRouter router;
+
+    @BeforeEach
+    void setUp() {
+        defaultEnvironment = environment(EnvironmentController.DEFAULT_ENVIRONMENT);
+        east = environment("east");
+        router = new EnvironmentRouter(List.of(() -> List.of(defaultEnvironment, east)));
+    }
+
+    private static EnvironmentController environment(String name) {
+        var environment = mock(EnvironmentController.class);
+        when(environment.name()).thenReturn(name);
+        return environment;
+    }
+
+    @Test
+    @DisplayName("Environments are looked up by name, no name selects the default environment")
+    void environmentsByName() {
+        assertThat(router.environment("east")).isSameAs(east);
+        assertThat(router.environment(null)).isSameAs(defaultEnvironment);
+        assertThat(router.environments()).containsExactly(defaultEnvironment, east);
+        assertThatThrownBy(() -> router.environment("west")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Routes of pipelines are remembered until forgotten")
+    void routingTable() {
+        assertThat(router.route(1L)).isEmpty();
+
+        assertThat(router.route(1L, "east")).isSameAs(east);
+        assertThat(router.route(1L)).containsSame(east);
+
+        router.forget(1L);
+        assertThat(router.route(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Environments must have unique names and include the default environment")
+    void invalidEnvironments() {
+        assertThatThrownBy(() -> new EnvironmentRouter(List.of(() -> List.of(defaultEnvironment, east), () -> List.of(environment("east")))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new EnvironmentRouter(List.of(() -> List.of(east))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.data.model.AlertRuleEntity.Condition;
+import io.debezium.platform.data.model.AlertRuleEntity.Metric;
+import io.debezium.platform.environment.alerts.AlertDelivery.Status;
+import io.debezium.platform.environment.alerts.config.AlertConfigGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AlertDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Alert ALERT = new Alert(1L, "lagging", 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000,
+            Alert.State.FIRING, 90_000, NOW.minusSeconds(30), NOW);
+
+    private AlertQueue queue;
+    private AlertNotifier webhook;
+    private AlertNotifier log;
+    private ExecutorService executor;
+    private SimpleMeterRegistry registry;
+    private AlertDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(AlertQueue.class);
+        webhook = mock(AlertNotifier.class);
+        when(webhook.name()).thenReturn("webhook");
+        log = mock(AlertNotifier.class);
+        when(log.name()).thenReturn("log");
+
+        var config = mock(AlertConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.enabled()).thenReturn(true);
+        when(config.delivery().batchSize()).thenReturn(10);
+        when(config.delivery().concurrency()).thenReturn(4);
+        when(config.delivery().lease()).thenReturn(Duration.ofMinutes(1));
+        when(config.delivery().initialBackoff()).thenReturn(Duration.ofSeconds(1));
+        when(config.delivery().maxBackoff()).thenReturn(Duration.ofMinutes(5));
+        when(config.delivery().maxAttempts()).thenReturn(3);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        registry = new SimpleMeterRegistry();
+        dispatcher = new AlertDispatcher(queue, List.of(webhook, log), config, executor, registry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static AlertDelivery claimed(long id, String notifier, int attempts) {
+        return new AlertDelivery(id, notifier, ALERT, Status.PENDING, attempts, NOW.plusSeconds(60), null, NOW, null);
+    }
+
+    private double deliveries(String result) {
+        return registry.get(AlertDispatcher.DELIVERIES_METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Claimed alerts are delivered to their notifier and marked as delivered")
+    void deliversClaimedAlerts() {
+        var toWebhook = claimed(1L, "webhook", 1);
+        var toLog = claimed(2L, "log", 1);
+        when(queue.claim(10, NOW, NOW.plus(Duration.ofMinutes(1)))).thenReturn(List.of(toWebhook, toLog));
+
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+
+        verify(webhook).notify(ALERT);
+        verify(log).notify(ALERT);
+        verify(queue).delivered(toWebhook, NOW);
+        verify(queue).delivered(toLog, NOW);
+        assertThat(deliveries("delivered")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Failed deliveries are retried with backoff without notifying other notifiers again")
+    void retriesFailedDelivery() {
+        var delivery = claimed(1L, "webhook", 2);
+        when(queue.claim(anyInt(), any(), any())).thenReturn(List.of(delivery));
+        doThrow(new DebeziumException("Webhook rejected alert", new IllegalStateException("service unavailable"))).when(webhook).notify(ALERT);
+
+        dispatcher.dispatch();
+
+        var nextAttempt = ArgumentCaptor.forClass(Instant.class);
+        verify(queue).retry(eq(delivery), nextAttempt.capture(), eq("Webhook rejected alert: service unavailable"));
+        assertThat(nextAttempt.getValue()).isBetween(NOW.plusSeconds(1), NOW.plusSeconds(2));
+        verify(queue, never()).delivered(any(), any());
+        verify(log, never()).notify(any());
+        assertThat(deliveries("retried")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Alerts are dead-lettered once all attempts failed")
+    void deadLettersExhaustedAlert() {
+        var delivery = claimed(1L, "webhook", 3);
+        when(queue.claim(anyInt(), any(), any())).thenReturn(List.of(delivery));
+        doThrow(new DebeziumException("Webhook rejected alert")).when(webhook).notify(ALERT);
+
+        dispatcher.dispatch();
+
+        verify(queue).deadLetter(delivery, "Webhook rejected alert", NOW);
+        verify(queue, never()).retry(any(), any(), anyString());
+        assertThat(deliveries("dead_lettered")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Alerts of removed notifiers are dead-lettered without delivery")
+    void deadLettersAlertOfRemovedNotifier() {
+        var delivery = claimed(1L, "pager", 1);
+        when(queue.claim(anyInt(), any(), any())).thenReturn(List.of(delivery));
+
+        dispatcher.dispatch();
+
+        verify(queue).deadLetter(delivery, "Notifier not found", NOW);
+        verify(webhook, never()).notify(any());
+        verify(log, never()).notify(any());
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.alerts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.platform.data.model.AlertRuleEntity.Condition;
+import io.debezium.platform.data.model.AlertRuleEntity.Metric;
+import io.debezium.platform.domain.AlertRuleService;
+import io.debezium.platform.domain.views.AlertRule;
+import io.debezium.platform.domain.views.refs.PipelineReference;
+import io.debezium.platform.environment.alerts.config.AlertConfigGroup;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.metrics.FleetMetrics;
+import io.debezium.platform.environment.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AlertEvaluatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration INTERVAL = Duration.ofSeconds(15);
+
+    private AlertRuleService rules;
+    private PipelineOwnership ownership;
+    private SimpleMeterRegistry registry;
+    private AlertEvaluator evaluator;
+    private List<AlertRule> enabledRules;
+
+    @BeforeEach
+    void setUp() {
+        enabledRules = new ArrayList<>();
+        rules = mock(AlertRuleService.class);
+        when(rules.listEnabled()).thenReturn(enabledRules);
+        ownership = mock(PipelineOwnership.class);
+        when(ownership.owns(anyLong())).thenReturn(true);
+        var config = mock(AlertConfigGroup.class);
+        when(config.enabled()).thenReturn(true);
+        registry = new SimpleMeterRegistry();
+        evaluator = new AlertEvaluator(rules, ownership, config, registry, Clock.fixed(at(10), ZoneOffset.UTC));
+    }
+
+    private static AlertRule rule(Long id, Long pipelineId, Metric metric, Condition condition, double threshold, long forSeconds) {
+        var pipeline = mock(PipelineReference.class);
+        when(pipeline.getId()).thenReturn(pipelineId);
+        var rule = mock(AlertRule.class);
+        when(rule.getId()).thenReturn(id);
+        when(rule.getName()).thenReturn("rule-" + id);
+        when(rule.getPipeline()).thenReturn(pipeline);
+        when(rule.getMetric()).thenReturn(metric);
+        when(rule.getCondition()).thenReturn(condition);
+        when(rule.getThreshold()).thenReturn(threshold);
+        when(rule.getForSeconds()).thenReturn(forSeconds);
+        when(rule.isEnabled()).thenReturn(true);
+        return rule;
+    }
+
+    private static FleetMetrics fleet(int scrape, PipelineMetrics... pipelines) {
+        return new FleetMetrics(at(scrape), pipelines.length, 0, 0.0, null, null, List.of(pipelines));
+    }
+
+    private static PipelineMetrics lag(Long pipelineId, int scrape, Long milliSecondsBehindSource) {
+        return new PipelineMetrics(pipelineId, at(scrape), 10.0, 100L, milliSecondsBehindSource, 0.1, null);
+    }
+
+    private static Instant at(int scrape) {
+        return NOW.plus(INTERVAL.multipliedBy(scrape));
+    }
+
+    @Test
+    @DisplayName("Alert fires once the condition held for the duration of the rule")
+    void firesAfterDuration() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 30));
+
+        assertThat(evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L)))).isEmpty();
+        assertThat(evaluator.evaluate(fleet(1, lag(10L, 1, 95_000L)))).isEmpty();
+        var alerts = evaluator.evaluate(fleet(2, lag(10L, 2, 100_000L)));
+
+        assertThat(alerts).singleElement().satisfies(alert -> {
+            assertThat(alert.ruleId()).isEqualTo(1L);
+            assertThat(alert.pipelineId()).isEqualTo(10L);
+            assertThat(alert.state()).isEqualTo(Alert.State.FIRING);
+            assertThat(alert.value()).isEqualTo(100_000);
+            assertThat(alert.since()).isEqualTo(at(0));
+            assertThat(alert.timestamp()).isEqualTo(at(2));
+        });
+        assertThat(evaluator.evaluate(fleet(3, lag(10L, 3, 100_000L)))).isEmpty();
+        assertThat(registry.get(AlertEvaluator.FIRING_METRIC).gauge().value()).isEqualTo(1);
+        verify(rules).emit(alerts.getFirst());
+    }
+
+    @Test
+    @DisplayName("Condition interrupted before the duration doesn't fire the alert")
+    void interruptedConditionDoesNotFire() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 30));
+
+        evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L)));
+        evaluator.evaluate(fleet(1, lag(10L, 1, 1_000L)));
+        assertThat(evaluator.evaluate(fleet(2, lag(10L, 2, 90_000L)))).isEmpty();
+        assertThat(evaluator.evaluate(fleet(3, lag(10L, 3, 90_000L)))).isEmpty();
+        assertThat(evaluator.evaluate(fleet(4, lag(10L, 4, 90_000L)))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Firing alert resolves when the condition no longer holds")
+    void resolves() {
+        enabledRules.add(rule(1L, 10L, Metric.EVENTS_PER_SECOND, Condition.BELOW, 1, 0));
+
+        var fired = evaluator.evaluate(fleet(0, new PipelineMetrics(10L, at(0), 0.0, 100L, 0L, 0.0, null)));
+        var resolved = evaluator.evaluate(fleet(1, new PipelineMetrics(10L, at(1), 5.0, 175L, 0L, 0.0, null)));
+
+        assertThat(fired).singleElement().extracting(Alert::state).isEqualTo(Alert.State.FIRING);
+        assertThat(resolved).singleElement().satisfies(alert -> {
+            assertThat(alert.state()).isEqualTo(Alert.State.RESOLVED);
+            assertThat(alert.since()).isEqualTo(at(0));
+            assertThat(alert.timestamp()).isEqualTo(at(1));
+        });
+        assertThat(registry.get(AlertEvaluator.FIRING_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Unknown values and failed scrapes don't change the state of the alert")
+    void ignoresUnknownValues() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+
+        assertThat(evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L)))).hasSize(1);
+        assertThat(evaluator.evaluate(fleet(1, lag(10L, 1, null)))).isEmpty();
+        assertThat(evaluator.evaluate(fleet(2, new PipelineMetrics(10L, at(2), null, null, null, null, "timeout")))).isEmpty();
+        assertThat(registry.get(AlertEvaluator.FIRING_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rules of pipelines owned by other replicas are not evaluated")
+    void skipsPipelinesOfOtherReplicas() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        enabledRules.add(rule(2L, 20L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        when(ownership.owns(20L)).thenReturn(false);
+
+        var alerts = evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L), lag(20L, 0, 90_000L)));
+
+        assertThat(alerts).extracting(Alert::pipelineId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Rules are loaded once and kept up to date by rule changes")
+    void updatesRules() {
+        evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L)));
+        evaluator.update(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        assertThat(evaluator.evaluate(fleet(1, lag(10L, 1, 90_000L)))).hasSize(1);
+
+        evaluator.remove(1L);
+        assertThat(evaluator.evaluate(fleet(2, lag(10L, 2, 1_000L)))).isEmpty();
+        assertThat(registry.get(AlertEvaluator.FIRING_METRIC).gauge().value()).isZero();
+
+        var disabled = rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0);
+        when(disabled.isEnabled()).thenReturn(false);
+        evaluator.update(disabled);
+        assertThat(evaluator.evaluate(fleet(3, lag(10L, 3, 90_000L)))).isEmpty();
+        verify(rules, times(1)).listEnabled();
+    }
+
+    @Test
+    @DisplayName("Removing or changing the rule of a firing alert resolves the alert")
+    void droppingFiringRuleResolves() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        enabledRules.add(rule(2L, 20L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        assertThat(evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L), lag(20L, 0, 90_000L)))).hasSize(2);
+
+        evaluator.remove(1L);
+        evaluator.update(rule(2L, 20L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 120_000, 0));
+
+        verify(rules).emit(argThat(alert -> alert.ruleId() == 1L && alert.state() == Alert.State.RESOLVED && alert.timestamp().equals(at(10))));
+        verify(rules).emit(argThat(alert -> alert.ruleId() == 2L && alert.state() == Alert.State.RESOLVED && alert.value() == 90_000));
+        assertThat(registry.get(AlertEvaluator.FIRING_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Alerts of pipelines moved to another replica are resolved")
+    void resolvesAlertsOfMovedPipelines() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        assertThat(evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L)))).hasSize(1);
+
+        when(ownership.owns(10L)).thenReturn(false);
+        var resolved = evaluator.evaluate(fleet(1));
+
+        assertThat(resolved).singleElement().satisfies(alert -> {
+            assertThat(alert.state()).isEqualTo(Alert.State.RESOLVED);
+            assertThat(alert.since()).isEqualTo(at(0));
+            assertThat(alert.timestamp()).isEqualTo(at(1));
+        });
+        assertThat(evaluator.evaluate(fleet(2))).isEmpty();
+        assertThat(registry.get(AlertEvaluator.FIRING_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Failure to emit an alert doesn't stop the evaluation of other alerts")
+    void emitFailureIsIsolated() {
+        enabledRules.add(rule(1L, 10L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        enabledRules.add(rule(2L, 20L, Metric.MILLISECONDS_BEHIND_SOURCE, Condition.ABOVE, 60_000, 0));
+        doThrow(new IllegalStateException("outbox unavailable")).doNothing().when(rules).emit(any());
+
+        var alerts = evaluator.evaluate(fleet(0, lag(10L, 0, 90_000L), lag(20L, 0, 90_000L)));
+
+        assertThat(alerts).hasSize(2);
+        verify(rules, times(2)).emit(any());
+        assertThat(registry.get(AlertEvaluator.EVALUATION_METRIC).timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentProvider;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.cluster.PipelineLeases.Acquired;
+import io.debezium.platform.environment.cluster.config.ClusterConfigGroup;
+import io.debezium.platform.environment.operator.reconcile.BulkReconciler;
+import io.debezium.platform.environment.operator.reconcile.ReconcileProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+
+class PipelineOwnershipTest {
+
+    private static final String REPLICA = "conductor-0";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration LEASE = Duration.ofSeconds(15);
+
+    private PipelineLeases leases;
+    private BulkReconciler reconciler;
+    private PipelineController pipelines;
+    private Clock clock;
+    private PipelineOwnership ownership;
+
+    @BeforeEach
+    void setUp() {
+        leases = mock(PipelineLeases.class);
+        reconciler = mock(BulkReconciler.class);
+        when(reconciler.start(any())).thenReturn(Optional.of(mock(ReconcileProgress.class)));
+        pipelines = mock(PipelineController.class);
+        var environment = mock(EnvironmentController.class);
+        when(environment.name()).thenReturn(EnvironmentController.DEFAULT_ENVIRONMENT);
+        when(environment.pipelines()).thenReturn(pipelines);
+        EnvironmentProvider provider = () -> List.of(environment);
+
+        var config = mock(ClusterConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.leaseDuration()).thenReturn(LEASE);
+        when(config.slotRetention()).thenReturn(Duration.ofHours(1));
+
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        ownership = new PipelineOwnership(leases, new ConductorReplica(true, REPLICA), config, reconciler, new EnvironmentRouter(List.of(provider)),
+                new SimpleMeterRegistry(), clock);
+    }
+
+    private void cluster(int pipelineCount, int replicas, Set<Long> held) {
+        when(leases.pipelines()).thenReturn(pipelineCount);
+        when(leases.liveReplicas(NOW)).thenReturn(replicas);
+        when(leases.renew(REPLICA, NOW, NOW.plus(LEASE))).thenReturn(held);
+    }
+
+    @Test
+    @DisplayName("Replica below its share acquires pipelines and reconciles them")
+    void acquiresFairShare() {
+        cluster(10, 2, Set.of());
+        when(leases.acquire(REPLICA, 5, NOW, NOW.plus(LEASE)))
+                .thenReturn(List.of(new Acquired(1L, true), new Acquired(2L, true), new Acquired(3L, true)));
+
+        ownership.rebalance();
+
+        verify(leases).heartbeat(REPLICA, NOW.plus(LEASE));
+        assertThat(ownership.owns(1L)).isTrue();
+        assertThat(ownership.owns(3L)).isTrue();
+        assertThat(ownership.owns(4L)).isFalse();
+        verify(reconciler).start(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L, 3L))));
+    }
+
+    @Test
+    @DisplayName("Replica above its share releases its excess pipelines")
+    void releasesExcessPipelines() {
+        cluster(4, 2, Set.of(1L, 2L, 3L, 4L));
+
+        ownership.rebalance();
+
+        assertThat(ownership.owns(1L)).isTrue();
+        assertThat(ownership.owns(2L)).isTrue();
+        assertThat(ownership.owns(3L)).isFalse();
+        assertThat(ownership.owns(4L)).isFalse();
+        verify(leases).release(eq(REPLICA), argThat(ids -> Set.copyOf(ids).equals(Set.of(3L, 4L))));
+        verify(leases, never()).acquire(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Pipelines are no longer owned once their leases were lost or expired")
+    void losesOwnership() {
+        cluster(2, 1, Set.of(1L, 2L));
+        ownership.rebalance();
+
+        when(leases.renew(REPLICA, NOW, NOW.plus(LEASE))).thenReturn(Set.of(1L));
+        when(leases.acquire(anyString(), anyInt(), any(), any())).thenReturn(List.of());
+        ownership.rebalance();
+        assertThat(ownership.owns(1L)).isTrue();
+        assertThat(ownership.owns(2L)).isFalse();
+
+        when(clock.instant()).thenReturn(NOW.plus(LEASE).plusMillis(1));
+        assertThat(ownership.owns(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Removed pipeline taken over from a departed replica is undeployed and released")
+    void undeploysRemovedPipeline() {
+        cluster(0, 1, Set.of());
+        when(leases.pipelines()).thenReturn(1);
+        when(leases.acquire(REPLICA, 1, NOW, NOW.plus(LEASE))).thenReturn(List.of(new Acquired(7L, false)));
+
+        ownership.rebalance();
+
+        verify(pipelines).undeploy(7L);
+        verify(leases).release(REPLICA, List.of(7L));
+        assertThat(ownership.owns(7L)).isFalse();
+        verify(reconciler, never()).start(any());
+    }
+
+    @Test
+    @DisplayName("New pipeline is claimed only while the replica owns less than its share")
+    void claimsBelowShare() {
+        cluster(4, 2, Set.of(1L));
+        when(leases.acquire(REPLICA, 1, NOW, NOW.plus(LEASE))).thenReturn(List.of());
+        ownership.rebalance();
+
+        when(leases.acquire(REPLICA, 5L, NOW, NOW.plus(LEASE))).thenReturn(true);
+        assertThat(ownership.claim(5L)).isTrue();
+        assertThat(ownership.owns(5L)).isTrue();
+
+        assertThat(ownership.claim(6L)).isFalse();
+        verify(leases, never()).acquire(REPLICA, 6L, NOW, NOW.plus(LEASE));
+    }
+
+    @Test
+    @DisplayName("Replication slots of departed replicas are dropped")
+    void dropsSlotsOfDepartedReplicas() {
+        cluster(0, 1, Set.of());
+        when(leases.departed(NOW.minus(Duration.ofHours(1)))).thenReturn(List.of("Conductor-2"));
+
+        ownership.rebalance();
+
+        verify(leases).forget("Conductor-2", "conductor_conductor_2");
+    }
+
+    @Test
+    @DisplayName("Leaving replica releases its pipelines and is kept until its replication slot is dropped")
+    void leaveMarksReplicaDeparted() {
+        cluster(1, 1, Set.of(1L));
+        ownership.rebalance();
+        assertThat(ownership.owns(1L)).isTrue();
+
+        ownership.leave(new ShutdownEvent());
+
+        verify(leases).leave(REPLICA, NOW);
+        assertThat(ownership.owns(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Standalone conductor owns all pipelines without leases")
+    void standaloneOwnsAll() {
+        var standalone = new PipelineOwnership(leases, new ConductorReplica(false, REPLICA), mock(ClusterConfigGroup.class), reconciler,
+                mock(EnvironmentRouter.class), new SimpleMeterRegistry(), clock);
+
+        assertThat(standalone.owns(1L)).isTrue();
+        assertThat(standalone.claim(2L)).isTrue();
+        standalone.scheduledRebalance();
+        standalone.removed(1L);
+
+        verifyNoInteractions(leases);
+        verify(reconciler, never()).start(any());
+    }
+}
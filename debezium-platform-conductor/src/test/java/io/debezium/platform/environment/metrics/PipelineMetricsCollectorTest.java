@@ -0,0 +1,221 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import jakarta.enterprise.event.Event;
+import jakarta.ws.rs.ProcessingException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.metrics.config.MetricsConfigGroup;
+import io.debezium.platform.environment.status.FleetStatus;
+import io.debezium.platform.environment.status.PipelineStatus;
+
+class PipelineMetricsCollectorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private PipelineController pipelines;
+    private Event<FleetMetrics> collected;
+    private Clock clock;
+    private ExecutorService executor;
+    private PipelineMetricsCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        pipelines = mock(PipelineController.class);
+        var environment = mock(EnvironmentController.class);
+        when(environment.pipelines()).thenReturn(pipelines);
+        var environments = mock(EnvironmentRouter.class);
+        when(environments.environments()).thenReturn(List.of(environment));
+
+        var config = mock(MetricsConfigGroup.class);
+        when(config.concurrency()).thenReturn(4);
+
+        collected = mock();
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        collector = new PipelineMetricsCollector(environments, config, collected, executor, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void running(PipelineStatus... status) {
+        when(pipelines.status()).thenReturn(Optional.of(new FleetStatus("1", Arrays.asList(status))));
+    }
+
+    private static PipelineStatus status(Long pipelineId, int readyReplicas) {
+        var phase = readyReplicas > 0 ? PipelineStatus.Phase.RUNNING : PipelineStatus.Phase.STOPPED;
+        return new PipelineStatus(pipelineId, "pipeline-" + pipelineId, phase, readyReplicas == 0, 1, readyReplicas, 0, NOW, null);
+    }
+
+    private static String scrape(long totalEvents, long behindSource, int remainingCapacity) {
+        return """
+                # HELP debezium_metrics_TotalNumberOfEventsSeen
+                # TYPE debezium_metrics_TotalNumberOfEventsSeen gauge
+                debezium_metrics_TotalNumberOfEventsSeen{context="snapshot",name="inventory",plugin="postgres",} 100.0
+                debezium_metrics_TotalNumberOfEventsSeen{context="streaming",name="inventory",plugin="postgres",} %d.0
+                debezium_metrics_MilliSecondsBehindSource{context="snapshot",name="inventory",plugin="postgres",} 9999.0
+                debezium_metrics_MilliSecondsBehindSource{context="streaming",name="inventory",plugin="postgres",} %d.0
+                debezium_metrics_QueueTotalCapacity{context="snapshot",name="inventory",plugin="postgres",} 8192.0
+                debezium_metrics_QueueTotalCapacity{context="streaming",name="inventory",plugin="postgres",} 8192.0
+                debezium_metrics_QueueRemainingCapacity{context="snapshot",name="inventory",plugin="postgres",} 8192.0
+                debezium_metrics_QueueRemainingCapacity{context="streaming",name="inventory",plugin="postgres",} %d.0
+                jvm_memory_bytes_used{area="heap",} 1.2345678E7
+                """.formatted(totalEvents, behindSource, remainingCapacity);
+    }
+
+    @Test
+    @DisplayName("Connector metrics are read from the Prometheus endpoint of Debezium Server")
+    void parsesMetrics() {
+        var metrics = DebeziumMetrics.parse(scrape(400, 250, 2048));
+
+        assertThat(metrics.totalEvents()).isEqualTo(500L);
+        assertThat(metrics.milliSecondsBehindSource()).isEqualTo(250L);
+        assertThat(metrics.queueUtilization()).isCloseTo(0.75, within(0.0001));
+    }
+
+    @Test
+    @DisplayName("Lag is unknown until the connector streamed its first event")
+    void ignoresUnknownLag() {
+        var metrics = DebeziumMetrics.parse(scrape(0, -1, 8192));
+
+        assertThat(metrics.milliSecondsBehindSource()).isNull();
+        assertThat(metrics.queueUtilization()).isZero();
+        assertThat(DebeziumMetrics.parse("")).isEqualTo(new DebeziumMetrics(null, null, null));
+    }
+
+    @Test
+    @DisplayName("Throughput is measured between consecutive scrapes of running pipelines")
+    void measuresThroughput() {
+        running(status(1L, 1), status(2L, 0));
+        when(pipelines.scrapeMetrics(1L)).thenReturn(Optional.of(scrape(400, 250, 2048)));
+
+        var first = collector.collect();
+        assertThat(first.scraped()).isEqualTo(1);
+        assertThat(first.pipelines().getFirst().eventsPerSecond()).isNull();
+        verify(pipelines, never()).scrapeMetrics(2L);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        when(pipelines.scrapeMetrics(1L)).thenReturn(Optional.of(scrape(1400, 100, 8192)));
+        var second = collector.collect();
+
+        assertThat(second.eventsPerSecond()).isCloseTo(100.0, within(0.0001));
+        assertThat(second.maxMilliSecondsBehindSource()).isEqualTo(100L);
+        assertThat(collector.metrics(1L)).hasValueSatisfying(metrics -> {
+            assertThat(metrics.totalEvents()).isEqualTo(1500L);
+            assertThat(metrics.eventsPerSecond()).isCloseTo(100.0, within(0.0001));
+        });
+        assertThat(collector.metrics(2L)).isEmpty();
+        verify(collected).fire(second);
+    }
+
+    @Test
+    @DisplayName("Throughput isn't reported when Debezium Server restarted between scrapes")
+    void skipsThroughputAfterRestart() {
+        running(status(1L, 1));
+        when(pipelines.scrapeMetrics(1L)).thenReturn(Optional.of(scrape(400, 250, 2048)));
+        collector.collect();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        when(pipelines.scrapeMetrics(1L)).thenReturn(Optional.of(scrape(10, 250, 2048)));
+        collector.collect();
+
+        assertThat(collector.metrics(1L)).hasValueSatisfying(metrics -> assertThat(metrics.eventsPerSecond()).isNull());
+    }
+
+    @Test
+    @DisplayName("Unresponsive and failing pipelines are reported without holding back the others")
+    void reportsFailedScrapes() {
+        running(status(1L, 1), status(2L, 1), status(3L, 1));
+        when(pipelines.scrapeMetrics(1L)).thenThrow(new DebeziumException("Error scraping metrics", new ProcessingException("Read timed out")));
+        when(pipelines.scrapeMetrics(2L)).thenThrow(new DebeziumException("Unable to scrape metrics"));
+        when(pipelines.scrapeMetrics(3L)).thenReturn(Optional.of(scrape(400, 50, 4096)));
+
+        var fleet = collector.collect();
+
+        assertThat(fleet.scraped()).isEqualTo(1);
+        assertThat(fleet.failed()).isEqualTo(2);
+        assertThat(fleet.maxMilliSecondsBehindSource()).isEqualTo(50L);
+        assertThat(fleet.maxQueueUtilization()).isCloseTo(0.5, within(0.0001));
+        assertThat(fleet.pipelines()).extracting(PipelineMetrics::pipelineId).containsExactly(1L, 2L, 3L);
+        assertThat(fleet.pipelines().get(0).error()).isEqualTo("Error scraping metrics: Read timed out");
+        assertThat(fleet.pipelines().get(1).error()).isEqualTo("Unable to scrape metrics");
+        assertThat(collector.fleet()).contains(fleet);
+    }
+
+    @Test
+    @DisplayName("No more pipelines than the configured concurrency are scraped at once")
+    void boundsConcurrentScrapes() {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        running(LongStream.rangeClosed(1, 20).mapToObj(pipelineId -> status(pipelineId, 1)).toArray(PipelineStatus[]::new));
+        when(pipelines.scrapeMetrics(anyLong())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                return Optional.of(scrape(400, 50, 4096));
+            }
+            finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        var fleet = collector.collect();
+
+        assertThat(fleet.scraped()).isEqualTo(20);
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("Throughput is measured from the last successful scrape")
+    void measuresThroughputAcrossFailures() {
+        running(status(1L, 1));
+        when(pipelines.scrapeMetrics(1L)).thenReturn(Optional.of(scrape(400, 250, 2048)));
+        collector.collect();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        doThrow(new DebeziumException("Unable to scrape metrics")).when(pipelines).scrapeMetrics(1L);
+        collector.collect();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(20));
+        doReturn(Optional.of(scrape(2400, 250, 2048))).when(pipelines).scrapeMetrics(1L);
+        collector.collect();
+
+        assertThat(collector.metrics(1L)).hasValueSatisfying(metrics -> assertThat(metrics.eventsPerSecond()).isCloseTo(100.0, within(0.0001)));
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.metrics.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore.Point;
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore.Resolution;
+
+class TimeSeriesStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final List<Resolution> RESOLUTIONS = List.of(Resolution.parse("1m/10m"), Resolution.parse("10m/1h"));
+
+    @Test
+    @DisplayName("Resolutions are parsed from step and retention")
+    void parsesResolutions() {
+        assertThat(Resolution.parse("15s/1h")).isEqualTo(new Resolution(Duration.ofSeconds(15), 240));
+        assertThat(Resolution.parse("5m/24h").retention()).isEqualTo(Duration.ofHours(24));
+        assertThatThrownBy(() -> Resolution.parse("1m")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Resolution.parse("7m/1h")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Resolution.parse("500ms/1m")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Values are downsampled into every resolution on write")
+    void downsamplesOnWrite() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 4);
+        for (int second = 0; second < 20 * 60; second += 15) {
+            store.add(1L, HistoryMetric.EVENTS_PER_SECOND, NOW.plusSeconds(second), second / 60);
+        }
+        var end = NOW.plus(Duration.ofMinutes(20));
+
+        var fine = store.range(1L, HistoryMetric.EVENTS_PER_SECOND, end.minus(Duration.ofMinutes(5)), end).orElseThrow();
+        assertThat(fine.step()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(fine.points()).containsExactly(
+                new Point(NOW.plus(Duration.ofMinutes(15)), 15, 15),
+                new Point(NOW.plus(Duration.ofMinutes(16)), 16, 16),
+                new Point(NOW.plus(Duration.ofMinutes(17)), 17, 17),
+                new Point(NOW.plus(Duration.ofMinutes(18)), 18, 18),
+                new Point(NOW.plus(Duration.ofMinutes(19)), 19, 19));
+
+        var coarse = store.range(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, end).orElseThrow();
+        assertThat(coarse.step()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(coarse.points()).containsExactly(
+                new Point(NOW, 4.5, 9),
+                new Point(NOW.plus(Duration.ofMinutes(10)), 14.5, 19));
+    }
+
+    @Test
+    @DisplayName("Points are overwritten once the ring buffer of their resolution wraps around")
+    void overwritesExpiredPoints() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 4);
+        for (int minute = 0; minute < 15; minute++) {
+            store.add(1L, HistoryMetric.QUEUE_UTILIZATION, NOW.plus(Duration.ofMinutes(minute)), minute);
+        }
+
+        var range = store.range(1L, HistoryMetric.QUEUE_UTILIZATION, NOW, NOW.plus(Duration.ofMinutes(14))).orElseThrow();
+        assertThat(range.step()).isEqualTo(Duration.ofMinutes(10));
+
+        var fine = store.range(1L, HistoryMetric.QUEUE_UTILIZATION, NOW.plus(Duration.ofMinutes(5)), NOW.plus(Duration.ofMinutes(14))).orElseThrow();
+        assertThat(fine.points()).extracting(Point::average).containsExactly(5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0);
+
+        // late value of an overwritten step is ignored
+        store.add(1L, HistoryMetric.QUEUE_UTILIZATION, NOW.plus(Duration.ofMinutes(2)), 100);
+        assertThat(store.range(1L, HistoryMetric.QUEUE_UTILIZATION, NOW.plus(Duration.ofMinutes(12)), NOW.plus(Duration.ofMinutes(12))).orElseThrow().points())
+                .containsExactly(new Point(NOW.plus(Duration.ofMinutes(12)), 12, 12));
+    }
+
+    @Test
+    @DisplayName("Short ranges whose start was overwritten in the finer resolution are read from a coarser one")
+    void readsPastRangesFromRetainingResolution() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 4);
+        for (int minute = 0; minute < 30; minute++) {
+            store.add(1L, HistoryMetric.EVENTS_PER_SECOND, NOW.plus(Duration.ofMinutes(minute)), minute);
+        }
+
+        var range = store.range(1L, HistoryMetric.EVENTS_PER_SECOND, NOW.plus(Duration.ofMinutes(2)), NOW.plus(Duration.ofMinutes(5))).orElseThrow();
+
+        assertThat(range.step()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(range.points()).containsExactly(new Point(NOW, 4.5, 9));
+    }
+
+    @Test
+    @DisplayName("All series of a pipeline are read from the same resolution, whatever their last write")
+    void readsPipelineFromOneResolution() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 4);
+        for (int minute = 0; minute < 15; minute++) {
+            store.add(1L, HistoryMetric.EVENTS_PER_SECOND, NOW.plus(Duration.ofMinutes(minute)), minute);
+        }
+        // lag stopped being reported early, on its own it would still be read from the finer resolution
+        for (int minute = 0; minute < 5; minute++) {
+            store.add(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW.plus(Duration.ofMinutes(minute)), minute);
+        }
+        var from = NOW.plus(Duration.ofMinutes(1));
+        var to = NOW.plus(Duration.ofMinutes(14));
+        assertThat(store.range(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, from, to).orElseThrow().step()).isEqualTo(Duration.ofMinutes(1));
+
+        var ranges = store.ranges(1L, from, to);
+
+        assertThat(ranges).containsOnlyKeys(HistoryMetric.EVENTS_PER_SECOND, HistoryMetric.MILLISECONDS_BEHIND_SOURCE);
+        assertThat(ranges.values()).extracting(TimeSeriesStore.Range::step).containsOnly(Duration.ofMinutes(10));
+        assertThat(ranges.get(HistoryMetric.MILLISECONDS_BEHIND_SOURCE).points()).containsExactly(new Point(NOW, 2, 4));
+        assertThat(store.ranges(2L, from, to)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Ranges and values far in the future don't overflow the steps")
+    void acceptsDistantTimes() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 4);
+        store.add(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, 10);
+
+        assertThat(store.range(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, Instant.MAX).orElseThrow().points())
+                .containsExactly(new Point(NOW, 10, 10));
+
+        var distant = Instant.parse("2200-01-01T00:00:00Z");
+        store.add(1L, HistoryMetric.EVENTS_PER_SECOND, distant, 20);
+        assertThat(store.range(1L, HistoryMetric.EVENTS_PER_SECOND, distant, distant).orElseThrow().points())
+                .containsExactly(new Point(distant, 20, 20));
+    }
+
+    @Test
+    @DisplayName("Series are kept apart by pipeline and metric")
+    void separatesSeries() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 4);
+        store.add(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, 10);
+        store.add(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW, 200);
+        store.add(2L, HistoryMetric.EVENTS_PER_SECOND, NOW, 30);
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.range(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, NOW).orElseThrow().points()).extracting(Point::average).containsExactly(10.0);
+        assertThat(store.range(2L, HistoryMetric.EVENTS_PER_SECOND, NOW, NOW).orElseThrow().points()).extracting(Point::average).containsExactly(30.0);
+        assertThat(store.range(2L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Full store drops new series until a series expires")
+    void reclaimsExpiredSeries() {
+        var store = TimeSeriesStore.inMemory(RESOLUTIONS, 2);
+        store.add(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, 1);
+        store.add(2L, HistoryMetric.EVENTS_PER_SECOND, NOW.plus(Duration.ofMinutes(30)), 2);
+
+        store.add(3L, HistoryMetric.EVENTS_PER_SECOND, NOW.plus(Duration.ofMinutes(45)), 3);
+        assertThat(store.range(3L, HistoryMetric.EVENTS_PER_SECOND, NOW, NOW.plus(Duration.ofMinutes(45)))).isEmpty();
+
+        var later = NOW.plus(Duration.ofMinutes(61));
+        store.add(3L, HistoryMetric.EVENTS_PER_SECOND, later, 3);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.range(1L, HistoryMetric.EVENTS_PER_SECOND, NOW, later)).isEmpty();
+        assertThat(store.range(3L, HistoryMetric.EVENTS_PER_SECOND, NOW, later).orElseThrow().points())
+                .containsExactly(new Point(NOW.plus(Duration.ofMinutes(60)), 3, 3));
+    }
+
+    @Test
+    @DisplayName("Memory-mapped history is kept across restarts unless its layout changed")
+    void persistsMappedHistory(@TempDir Path directory) {
+        var file = directory.resolve("history");
+        try (var store = TimeSeriesStore.mapped(file, RESOLUTIONS, 4)) {
+            store.add(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW, 250);
+        }
+
+        try (var store = TimeSeriesStore.mapped(file, RESOLUTIONS, 4)) {
+            assertThat(store.range(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW, NOW).orElseThrow().points())
+                    .containsExactly(new Point(NOW, 250, 250));
+            store.add(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW.plusSeconds(30), 350);
+            assertThat(store.range(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW, NOW).orElseThrow().points())
+                    .containsExactly(new Point(NOW, 300, 350));
+        }
+
+        try (var store = TimeSeriesStore.mapped(file, RESOLUTIONS, 8)) {
+            assertThat(store.size()).isZero();
+            assertThat(store.range(1L, HistoryMetric.MILLISECONDS_BEHIND_SOURCE, NOW, NOW)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.operator.api.model.DebeziumServerBuilder;
+import io.debezium.platform.domain.views.flat.PipelineFlat;
+import io.debezium.platform.environment.operator.actions.DebeziumKubernetesAdapter;
+import io.debezium.platform.environment.operator.actions.DebeziumServerProxy;
+import io.debezium.platform.environment.operator.status.PipelineStatusTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OperatorPipelineControllerTest {
+
+    private static final Long PIPELINE_ID = 1L;
+
+    private DebeziumKubernetesAdapter kubernetesAdapter;
+    private PipelineMapper pipelineMapper;
+    private MeterRegistry registry;
+    private OperatorPipelineController controller;
+    private PipelineFlat pipeline;
+
+    @BeforeEach
+    void setUp() {
+        kubernetesAdapter = mock(DebeziumKubernetesAdapter.class);
+        pipelineMapper = mock(PipelineMapper.class);
+        registry = new SimpleMeterRegistry();
+        controller = new OperatorPipelineController(kubernetesAdapter, new PipelineRenderer(pipelineMapper, 10, registry), mock(DebeziumServerProxy.class),
+                mock(PipelineStatusTracker.class), registry);
+
+        pipeline = mock(PipelineFlat.class);
+        when(pipeline.getId()).thenReturn(PIPELINE_ID);
+        when(pipelineMapper.map(pipeline)).thenAnswer(invocation -> rendered("test-pipeline"));
+    }
+
+    private static DebeziumServer rendered(String name) {
+        return new DebeziumServerBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .addToLabels(OperatorPipelineController.LABEL_DBZ_CONDUCTOR_ID, PIPELINE_ID.toString())
+                .endMetadata()
+                .withNewSpec()
+                .withImage("debezium/server")
+                .endSpec()
+                .build();
+    }
+
+    private double applies(String result) {
+        return registry.get(OperatorPipelineController.APPLY_METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Resource is applied with its spec hash when no live resource exists")
+    void appliesNewResource() {
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.empty());
+
+        controller.deploy(pipeline);
+
+        var applied = ArgumentCaptor.forClass(DebeziumServer.class);
+        verify(kubernetesAdapter).deployPipeline(applied.capture());
+        assertThat(SpecHash.recorded(applied.getValue())).contains(SpecHash.of(rendered("test-pipeline")));
+        assertThat(applies("performed")).isEqualTo(1.0);
+    }
+
+    private static DebeziumServer applied(DebeziumServer resource) {
+        SpecHash.record(resource, SpecHash.of(rendered("test-pipeline")));
+        return resource;
+    }
+
+    @Test
+    @DisplayName("Apply is skipped when the live resource carries the same spec hash and content")
+    void skipsUpToDateResource() {
+        var cached = applied(rendered("test-pipeline"));
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.of(cached));
+        when(kubernetesAdapter.fetchDebeziumServer(any(), eq("test-pipeline"))).thenReturn(Optional.of(applied(rendered("test-pipeline"))));
+
+        controller.deploy(pipeline);
+
+        verify(kubernetesAdapter, never()).deployPipeline(any());
+        assertThat(applies("skipped")).isEqualTo(1.0);
+        assertThat(applies("performed")).isZero();
+    }
+
+    @Test
+    @DisplayName("Apply is skipped when the live resource carries labels and defaults added by others")
+    void skipsResourceChangedByOthers() {
+        var cached = applied(rendered("test-pipeline"));
+        var live = applied(rendered("test-pipeline"));
+        live.getMetadata().getLabels().put("argocd.argoproj.io/instance", "pipelines");
+        live.getSpec().setVersion("3.2.0.Final");
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.of(cached));
+        when(kubernetesAdapter.fetchDebeziumServer(any(), eq("test-pipeline"))).thenReturn(Optional.of(live));
+
+        controller.deploy(pipeline);
+
+        verify(kubernetesAdapter, never()).deployPipeline(any());
+        assertThat(applies("skipped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Resource is applied when the cached resource is stale")
+    void appliesOverStaleCache() {
+        var cached = applied(rendered("test-pipeline"));
+        var live = rendered("test-pipeline");
+        live.getSpec().setImage("debezium/server:other");
+        SpecHash.record(live, SpecHash.of(live));
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.of(cached));
+        when(kubernetesAdapter.fetchDebeziumServer(any(), eq("test-pipeline"))).thenReturn(Optional.of(live));
+
+        controller.deploy(pipeline);
+
+        verify(kubernetesAdapter).deployPipeline(any());
+        assertThat(applies("performed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Resource is applied when its spec was edited out of band")
+    void revertsOutOfBandEdits() {
+        var cached = applied(rendered("test-pipeline"));
+        var live = applied(rendered("test-pipeline"));
+        live.getSpec().setImage("debezium/server:edited");
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.of(cached));
+        when(kubernetesAdapter.fetchDebeziumServer(any(), eq("test-pipeline"))).thenReturn(Optional.of(live));
+
+        controller.deploy(pipeline);
+
+        verify(kubernetesAdapter).deployPipeline(any());
+    }
+
+    @Test
+    @DisplayName("Resource is applied when the live spec hash differs")
+    void appliesChangedResource() {
+        var live = rendered("test-pipeline");
+        SpecHash.record(live, "outdated");
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.of(live));
+
+        controller.deploy(pipeline);
+
+        verify(kubernetesAdapter).deployPipeline(any());
+        assertThat(applies("performed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Resource is applied when the pipeline was renamed")
+    void appliesRenamedResource() {
+        var live = rendered("old-name");
+        SpecHash.record(live, SpecHash.of(rendered("test-pipeline")));
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.of(live));
+
+        controller.deploy(pipeline);
+
+        verify(kubernetesAdapter).deployPipeline(any());
+    }
+
+    @Test
+    @DisplayName("Unchanged revisions are rendered once and every apply gets its own resource")
+    void rendersRevisionOnce() {
+        when(pipeline.getRevision()).thenReturn(3L);
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.empty());
+
+        controller.deploy(pipeline);
+        controller.deploy(pipeline);
+
+        var applied = ArgumentCaptor.forClass(DebeziumServer.class);
+        verify(kubernetesAdapter, times(2)).deployPipeline(applied.capture());
+        verify(pipelineMapper).map(pipeline);
+        assertThat(applied.getAllValues().get(0)).isNotSameAs(applied.getAllValues().get(1));
+        assertThat(SpecHash.recorded(applied.getAllValues().get(1))).contains(SpecHash.of(rendered("test-pipeline")));
+    }
+
+    @Test
+    @DisplayName("Undeployed pipelines are rendered anew")
+    void undeployInvalidatesRendering() {
+        when(pipeline.getRevision()).thenReturn(3L);
+        when(kubernetesAdapter.findAssociatedDebeziumServer(PIPELINE_ID)).thenReturn(Optional.empty());
+
+        controller.deploy(pipeline);
+        controller.undeploy(PIPELINE_ID);
+        controller.deploy(pipeline);
+
+        verify(pipelineMapper, times(2)).map(pipeline);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.operator.api.model.DebeziumServerBuilder;
+import io.debezium.platform.domain.views.flat.PipelineFlat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PipelineRendererTest {
+
+    private PipelineMapper pipelineMapper;
+    private MeterRegistry registry;
+    private PipelineRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        pipelineMapper = mock(PipelineMapper.class);
+        when(pipelineMapper.map(any())).thenAnswer(invocation -> {
+            PipelineFlat pipeline = invocation.getArgument(0);
+            return new DebeziumServerBuilder()
+                    .withNewMetadata()
+                    .withName("pipeline-" + pipeline.getId())
+                    .endMetadata()
+                    .withNewSpec()
+                    .withImage("debezium/server:" + pipeline.getRevision())
+                    .endSpec()
+                    .build();
+        });
+        registry = new SimpleMeterRegistry();
+        renderer = new PipelineRenderer(pipelineMapper, 2, registry);
+    }
+
+    private static PipelineFlat pipeline(Long id, Long revision) {
+        var pipeline = mock(PipelineFlat.class);
+        when(pipeline.getId()).thenReturn(id);
+        when(pipeline.getRevision()).thenReturn(revision);
+        return pipeline;
+    }
+
+    private double cache(String result) {
+        return registry.get(PipelineRenderer.CACHE_METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Revision of a pipeline is rendered once")
+    void rendersRevisionOnce() {
+        var pipeline = pipeline(1L, 5L);
+
+        var first = renderer.render(pipeline);
+        var second = renderer.render(pipeline);
+
+        assertThat(second).isSameAs(first);
+        verify(pipelineMapper).map(pipeline);
+        assertThat(cache("hit")).isEqualTo(1.0);
+        assertThat(cache("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Newer revision replaces the cached rendering and older revisions don't")
+    void newerRevisionReplacesRendering() {
+        renderer.render(pipeline(1L, 5L));
+
+        var newer = renderer.render(pipeline(1L, 6L));
+        renderer.render(pipeline(1L, 4L));
+
+        assertThat(renderer.render(pipeline(1L, 6L))).isSameAs(newer);
+        assertThat(newer.template().getSpec().getImage()).isEqualTo("debezium/server:6");
+        assertThat(renderer.cached()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Least recently rendered pipeline is evicted")
+    void evictsLeastRecentlyUsed() {
+        var first = pipeline(1L, 1L);
+        var second = pipeline(2L, 1L);
+        var third = pipeline(3L, 1L);
+
+        renderer.render(first);
+        renderer.render(second);
+        renderer.render(first);
+        renderer.render(third);
+        renderer.render(first);
+        renderer.render(second);
+
+        verify(pipelineMapper).map(first);
+        verify(pipelineMapper, times(2)).map(second);
+        assertThat(renderer.cached()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Invalidated and unrevisioned pipelines are rendered anew")
+    void rendersUncachedPipelines() {
+        var cached = pipeline(1L, 1L);
+        var unrevisioned = pipeline(2L, null);
+
+        renderer.render(cached);
+        renderer.invalidate(1L);
+        renderer.render(cached);
+        renderer.render(unrevisioned);
+        renderer.render(unrevisioned);
+
+        verify(pipelineMapper, times(2)).map(cached);
+        verify(pipelineMapper, times(2)).map(unrevisioned);
+    }
+
+    @Test
+    @DisplayName("Resources created from a rendering don't modify the cached template")
+    void resourcesAreCopies() {
+        var rendered = renderer.render(pipeline(1L, 1L));
+
+        var resource = rendered.resource();
+        resource.getMetadata().setNamespace("other");
+
+        assertThat(SpecHash.recorded(resource)).contains(rendered.specHash());
+        assertThat(rendered.template().getMetadata().getAnnotations()).isNullOrEmpty();
+        assertThat(rendered.template().getMetadata().getNamespace()).isNull();
+        assertThat(SpecHash.of(rendered.template())).isEqualTo(rendered.specHash());
+    }
+}
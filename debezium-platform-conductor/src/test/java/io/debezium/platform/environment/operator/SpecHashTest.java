@@ -0,0 +1,98 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.operator.api.model.ConfigProperties;
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.operator.api.model.DebeziumServerBuilder;
+import io.debezium.operator.api.model.SinkBuilder;
+
+class SpecHashTest {
+
+    private static DebeziumServer server(Map<String, Object> sinkConfig) {
+        var config = new ConfigProperties();
+        config.setAllProps(sinkConfig);
+
+        return new DebeziumServerBuilder()
+                .withNewMetadata()
+                .withName("test-pipeline")
+                .addToLabels("debezium.io/conductor-id", "1")
+                .endMetadata()
+                .withNewSpec()
+                .withSink(new SinkBuilder().withType("kafka").withConfig(config).build())
+                .endSpec()
+                .build();
+    }
+
+    private static Map<String, Object> ordered(Object... entries) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put((String) entries[i], entries[i + 1]);
+        }
+        return map;
+    }
+
+    @Test
+    @DisplayName("Hash doesn't depend on the order of configuration properties")
+    void stableHash() {
+        var first = server(ordered("producer.bootstrap.servers", "kafka:9092", "producer.acks", "all"));
+        var second = server(ordered("producer.acks", "all", "producer.bootstrap.servers", "kafka:9092"));
+
+        assertThat(SpecHash.of(first)).isEqualTo(SpecHash.of(second));
+    }
+
+    @Test
+    @DisplayName("Hash changes with the spec")
+    void changedSpec() {
+        var first = server(ordered("producer.acks", "all"));
+        var second = server(ordered("producer.acks", "1"));
+
+        assertThat(SpecHash.of(first)).isNotEqualTo(SpecHash.of(second));
+    }
+
+    @Test
+    @DisplayName("Recorded hash is read back and doesn't change the hash")
+    void recordedHash() {
+        var server = server(ordered("producer.acks", "all"));
+        var hash = SpecHash.of(server);
+
+        SpecHash.record(server, hash);
+
+        assertThat(SpecHash.recorded(server)).contains(hash);
+        assertThat(SpecHash.of(server)).isEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("Owned hash ignores labels added by others but not edited owned content")
+    void ownedHash() {
+        var rendered = server(ordered("producer.acks", "all"));
+        var live = server(ordered("producer.acks", "all"));
+        live.getMetadata().getLabels().put("app.kubernetes.io/managed-by", "argocd");
+        SpecHash.record(live, SpecHash.of(rendered));
+
+        assertThat(SpecHash.ofOwned(live, rendered)).isEqualTo(SpecHash.of(rendered));
+
+        live.getMetadata().getLabels().put("debezium.io/conductor-id", "2");
+        assertThat(SpecHash.ofOwned(live, rendered)).isNotEqualTo(SpecHash.of(rendered));
+    }
+
+    @Test
+    @DisplayName("Owned hash detects edited sink configuration")
+    void ownedHashDetectsEdits() {
+        var rendered = server(ordered("producer.acks", "all"));
+        var live = server(ordered("producer.acks", "1", "producer.linger.ms", "5"));
+
+        assertThat(SpecHash.ofOwned(live, rendered)).isNotEqualTo(SpecHash.of(rendered));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.operator.api.model.DebeziumServerBuilder;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@EnableKubernetesMockClient(crud = true)
+class DebeziumResourceCacheTest {
+
+    private static final String INSTANCE = "test-pipeline";
+
+    private KubernetesClient kubernetesClient;
+    private KubernetesMockServer server;
+
+    private MeterRegistry registry;
+    private OperatorConfigGroup config;
+    private DebeziumResourceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        config = mock(OperatorConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.cache().enabled()).thenReturn(true);
+        when(config.cache().resync()).thenReturn(Duration.ofMinutes(10));
+
+        kubernetesClient.resource(new DebeziumServerBuilder()
+                .withNewMetadata()
+                .withName(INSTANCE)
+                .addToLabels("debezium.io/conductor-id", "1")
+                .endMetadata()
+                .build())
+                .create();
+        kubernetesClient.resource(new ServiceBuilder()
+                .withNewMetadata()
+                .withName(INSTANCE + "-api")
+                .addToLabels(Map.of("debezium.io/classifier", "api", "debezium.io/instance", INSTANCE))
+                .endMetadata()
+                .withNewSpec()
+                .withPorts(new ServicePort("TCP", "http", 8080, 8080, "TCP", new IntOrString(8080)))
+                .endSpec()
+                .build())
+                .create();
+        kubernetesClient.resource(new DeploymentBuilder()
+                .withNewMetadata()
+                .withName(INSTANCE)
+                .addToLabels("debezium.io/instance", INSTANCE)
+                .endMetadata()
+                .build())
+                .create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.stop();
+        }
+    }
+
+    private DebeziumResourceCache startedCache() {
+        cache = new DebeziumResourceCache(kubernetesClient, config, registry);
+        cache.start();
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(cache::isSynced);
+        return cache;
+    }
+
+    @Test
+    @DisplayName("Lookups of a synchronized cache don't reach the API server")
+    void lookupsServedFromMemory() {
+        var adapter = new DebeziumKubernetesAdapter(kubernetesClient, startedCache());
+        var requests = server.getRequestCount();
+
+        var debeziumServer = adapter.findAssociatedDebeziumServer(1L);
+        var baseUrl = adapter.getServiceApiBaseUrl(new DebeziumServerAttributes(kubernetesClient.getNamespace(), INSTANCE));
+        var deployments = cache.deployments(kubernetesClient.getNamespace(), INSTANCE);
+
+        assertThat(debeziumServer).map(ds -> ds.getMetadata().getName()).contains(INSTANCE);
+        assertThat(baseUrl).contains("http://test-pipeline-api." + kubernetesClient.getNamespace() + ".svc:8080");
+        assertThat(deployments).hasValueSatisfying(found -> assertThat(found).hasSize(1));
+        assertThat(server.getRequestCount()).isEqualTo(requests);
+        assertThat(registry.get(DebeziumResourceCache.CACHE_LOOKUP_METRIC).tag("result", "hit").counters())
+                .extracting(Counter::count)
+                .containsOnly(1.0);
+    }
+
+    @Test
+    @DisplayName("Cached resources are indexed by the conductor id label")
+    void indexedByConductorId() {
+        startedCache();
+
+        assertThat(cache.debeziumServers(1L)).hasValueSatisfying(found -> assertThat(found).hasSize(1));
+        assertThat(cache.debeziumServers(2L)).isEmpty();
+        assertThat(registry.get(DebeziumResourceCache.CACHE_SIZE_METRIC).tag("resource", "debeziumserver").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Returned resources are copies which can be modified without affecting the cache")
+    void returnsCopies() {
+        startedCache();
+
+        cache.debeziumServers(1L).orElseThrow().getFirst().getMetadata().getLabels().put("modified", "true");
+
+        assertThat(cache.debeziumServers(1L).orElseThrow().getFirst().getMetadata().getLabels()).doesNotContainKey("modified");
+    }
+
+    @Test
+    @DisplayName("Lookups in another namespace are counted as misses and fall back to the API server")
+    void otherNamespaceMisses() {
+        var adapter = new DebeziumKubernetesAdapter(kubernetesClient, startedCache());
+        var requests = server.getRequestCount();
+
+        var baseUrl = adapter.getServiceApiBaseUrl(new DebeziumServerAttributes("another-ns", INSTANCE));
+
+        assertThat(baseUrl).isEmpty();
+        assertThat(server.getRequestCount()).isGreaterThan(requests);
+        assertThat(registry.get(DebeziumResourceCache.CACHE_LOOKUP_METRIC).tags("resource", "service", "result", "miss").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Lookups finding no resource fall back to the API server, which may know resources the cache didn't observe yet")
+    void emptyLookupFallsBack() {
+        var adapter = new DebeziumKubernetesAdapter(kubernetesClient, startedCache());
+        var requests = server.getRequestCount();
+
+        assertThat(adapter.findAssociatedDebeziumServer(2L)).isEmpty();
+        assertThat(server.getRequestCount()).isGreaterThan(requests);
+        assertThat(registry.get(DebeziumResourceCache.CACHE_LOOKUP_METRIC).tags("resource", "debeziumserver", "result", "miss").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Disabled cache doesn't answer any lookup")
+    void disabledCache() {
+        when(config.cache().enabled()).thenReturn(false);
+        cache = new DebeziumResourceCache(kubernetesClient, config, registry);
+        cache.start();
+
+        assertThat(cache.isSynced()).isFalse();
+        assertThat(cache.debeziumServers(1L)).isEmpty();
+        assertThat(new DebeziumKubernetesAdapter(kubernetesClient, cache).findAssociatedDebeziumServer(1L))
+                .map(DebeziumServer::getMetadata)
+                .map(ObjectMeta::getName)
+                .contains(INSTANCE);
+    }
+}
@@ -5,6 +5,7 @@
  */
 package io.debezium.platform.environment.operator.actions;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,8 @@ import io.debezium.DebeziumException;
 import io.debezium.operator.api.model.DebeziumServerBuilder;
 import io.debezium.platform.domain.Signal;
 import io.debezium.platform.environment.actions.client.DebeziumServerClient;
+import io.debezium.platform.environment.actions.client.DebeziumServerMetricsClient;
+import io.debezium.platform.environment.metrics.config.MetricsConfigGroup;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.Service;
@@ -41,12 +44,22 @@ class DebeziumServerProxyTest {
     @Mock
     private DebeziumServerClient debeziumServerClient;
 
+    @Mock
+    private DebeziumServerMetricsClient metricsClient;
+
+    @Mock
+    private DebeziumResourceCache resourceCache;
+
+    @Mock
+    private MetricsConfigGroup metricsConfig;
+
     @BeforeEach
     void setUp() {
 
         openMocks(this);
+        when(metricsConfig.path()).thenReturn("/metrics");
 
-        proxy = new DebeziumServerProxy(debeziumServerClient, new DebeziumKubernetesAdapter(kubernetesClient));
+        proxy = new DebeziumServerProxy(debeziumServerClient, metricsClient, new DebeziumKubernetesAdapter(kubernetesClient, resourceCache), metricsConfig);
     }
 
     @Test
@@ -57,7 +70,7 @@ class DebeziumServerProxyTest {
         var signal = new Signal("1", "execute-snapshot", """
                 {"data-collections": [ "inventory.products"],"type": "INCREMENTAL"}""", Map.of());
 
-        when(debeziumServerClient.sendSignal("http://test-pipeline-api:8080", signal)).thenReturn(Response.accepted().build());
+        when(debeziumServerClient.sendSignal("http://test-pipeline-api.my-namespace.svc:8080", signal)).thenReturn(Response.accepted().build());
 
         var dsSpec = new DebeziumServerBuilder().withMetadata(new ObjectMetaBuilder()
                 .withNamespace("my-namespace")
@@ -67,7 +80,7 @@ class DebeziumServerProxyTest {
 
         proxy.sendSignal(signal, dsSpec);
 
-        verify(debeziumServerClient, times(1)).sendSignal("http://test-pipeline-api:8080", signal);
+        verify(debeziumServerClient, times(1)).sendSignal("http://test-pipeline-api.my-namespace.svc:8080", signal);
     }
 
     @Test
@@ -94,7 +107,7 @@ class DebeziumServerProxyTest {
         createServices();
         var signal = new Signal("1", "execute-snapshot", """
                 { "data-collections": [ "inventory.products"],"type": "INCREMENTAL"}""", Map.of());
-        when(debeziumServerClient.sendSignal("http://test-pipeline-api:8080", signal)).thenReturn(Response.serverError().build());
+        when(debeziumServerClient.sendSignal("http://test-pipeline-api.my-namespace.svc:8080", signal)).thenReturn(Response.serverError().build());
 
         var dsSpec = new DebeziumServerBuilder().withMetadata(new ObjectMetaBuilder()
                 .withNamespace("my-namespace")
@@ -106,7 +119,41 @@ class DebeziumServerProxyTest {
                 .isThrownBy(() -> proxy.sendSignal(signal, dsSpec))
                 .withCauseInstanceOf(DebeziumException.class)
                 .havingCause()
-                .withMessage("Unable to to send signal to http://test-pipeline-api:8080 for Internal Server Error");
+                .withMessage("Unable to to send signal to http://test-pipeline-api.my-namespace.svc:8080 for Internal Server Error");
+    }
+
+    @Test
+    @DisplayName("Metrics are scraped from the metrics endpoint of the pipeline service")
+    void scrapeMetrics() {
+
+        createServices();
+        when(metricsClient.scrape("http://test-pipeline-api.my-namespace.svc:8080/metrics")).thenReturn(Response.ok("debezium_metrics_QueueTotalCapacity 8192.0").build());
+
+        var dsSpec = new DebeziumServerBuilder().withMetadata(new ObjectMetaBuilder()
+                .withNamespace("my-namespace")
+                .withName("test-pipeline")
+                .build())
+                .build();
+
+        assertThat(proxy.scrapeMetrics(dsSpec)).isEqualTo("debezium_metrics_QueueTotalCapacity 8192.0");
+    }
+
+    @Test
+    @DisplayName("An error is thrown when the metrics endpoint fails")
+    void errorOnScrape() {
+
+        createServices();
+        when(metricsClient.scrape("http://test-pipeline-api.my-namespace.svc:8080/metrics")).thenReturn(Response.status(Response.Status.NOT_FOUND).build());
+
+        var dsSpec = new DebeziumServerBuilder().withMetadata(new ObjectMetaBuilder()
+                .withNamespace("my-namespace")
+                .withName("test-pipeline")
+                .build())
+                .build();
+
+        assertThatExceptionOfType(DebeziumException.class)
+                .isThrownBy(() -> proxy.scrapeMetrics(dsSpec))
+                .withMessage("Unable to scrape metrics from http://test-pipeline-api.my-namespace.svc:8080/metrics for Not Found");
     }
 
     private void createServices() {
@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.TailPrettyLoggable;
+
+class KubernetesLogReaderTest {
+
+    private ExecutorService executor;
+    private PipedOutputStream log;
+    private LogWatch watch;
+    private TailPrettyLoggable loggable;
+    private AtomicInteger opened;
+    private KubernetesLogReader reader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        log = new PipedOutputStream();
+        var output = new PipedInputStream(log);
+
+        // closing the watch ends its output stream, as closing the HTTP stream of a real watch does
+        watch = mock(LogWatch.class);
+        when(watch.getOutput()).thenReturn(output);
+        doAnswer(invocation -> {
+            log.close();
+            return null;
+        }).when(watch).close();
+
+        loggable = mock(TailPrettyLoggable.class, RETURNS_DEEP_STUBS);
+        when(loggable.tailingLines(anyInt()).watchLog()).thenReturn(watch);
+        opened = new AtomicInteger();
+        reader = new KubernetesLogReader(() -> {
+            opened.incrementAndGet();
+            return loggable;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Closing the reader ends a read pending in another thread")
+    void closeEndsPendingRead() throws Exception {
+        log.write("first\n".getBytes(StandardCharsets.UTF_8));
+        log.flush();
+        assertThat(reader.readLine()).isEqualTo("first");
+
+        // blocks holding the lock of the buffered reader until the log is closed
+        var pending = executor.submit(reader::readLine);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(pending).isNotDone();
+
+        var closed = executor.submit(() -> {
+            reader.close();
+            return true;
+        });
+
+        assertThat(closed.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pending.get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Reader closed before the first read never opens the watch")
+    void closedReaderDoesNotOpenWatch() throws IOException {
+        reader.close();
+
+        assertThatIOException().isThrownBy(reader::readLine);
+        assertThat(opened).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Watch opened while the reader is being closed is closed as well")
+    void closeRacingWithOpenClosesWatch() throws IOException {
+        when(loggable.tailingLines(anyInt()).watchLog()).thenAnswer(invocation -> {
+            // the last viewer leaves while the watch is being opened
+            reader.close();
+            return watch;
+        });
+
+        assertThatIOException().isThrownBy(reader::readLine);
+        verify(watch).close();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.reconcile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.domain.views.flat.PipelineFlat;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkReconcilerTest {
+
+    private PipelineService pipelineService;
+    private PipelineController pipelineController;
+    private PipelineOwnership ownership;
+    private OperatorConfigGroup config;
+    private ExecutorService executor;
+    private BulkReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        pipelineService = mock(PipelineService.class);
+        pipelineController = mock(PipelineController.class);
+        var environment = mock(EnvironmentController.class);
+        when(environment.name()).thenReturn(EnvironmentController.DEFAULT_ENVIRONMENT);
+        when(environment.pipelines()).thenReturn(pipelineController);
+        var environments = mock(EnvironmentRouter.class);
+        when(environments.route(anyLong(), any())).thenReturn(environment);
+        config = mock(OperatorConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.reconcile().concurrency()).thenReturn(4);
+        when(config.reconcile().qps()).thenReturn(1000.0);
+        when(config.reconcile().burst()).thenReturn(1000);
+        when(config.reconcile().initialBackoff()).thenReturn(Duration.ofMillis(1));
+        when(config.reconcile().maxBackoff()).thenReturn(Duration.ofMillis(4));
+        when(config.reconcile().maxAttempts()).thenReturn(3);
+        when(pipelineService.findCurrent(anyLong())).thenAnswer(invocation -> Optional.of(mock(PipelineFlat.class)));
+
+        ownership = mock(PipelineOwnership.class);
+        when(ownership.owns(anyLong())).thenReturn(true);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        reconciler = new BulkReconciler(pipelineService, environments, ownership, config, executor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    @Test
+    @DisplayName("All pipelines are reconciled and reported")
+    void reconcilesAllPipelines() {
+        when(pipelineService.listIds()).thenReturn(ids(50));
+
+        assertThat(reconciler.startAll()).isPresent();
+        var progress = reconciler.await();
+
+        verify(pipelineController, times(50)).deploy(any());
+        assertThat(progress.state()).isEqualTo(ReconcileProgress.State.COMPLETED);
+        assertThat(progress.total()).isEqualTo(50);
+        assertThat(progress.succeeded()).isEqualTo(50);
+        assertThat(progress.processed()).isEqualTo(50);
+        assertThat(reconciler.progress()).contains(progress);
+    }
+
+    @Test
+    @DisplayName("Pipelines owned by other replicas are skipped")
+    void skipsPipelinesOfOtherReplicas() {
+        when(ownership.owns(2L)).thenReturn(false);
+
+        reconciler.start(ids(3));
+        var progress = reconciler.await();
+
+        verify(pipelineController, times(2)).deploy(any());
+        verify(pipelineService, never()).findCurrent(2L);
+        assertThat(progress.succeeded()).isEqualTo(2);
+        assertThat(progress.skipped()).isEqualTo(1);
+        assertThat(progress.processed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("No more than the configured number of pipelines is reconciled concurrently")
+    void boundsConcurrency() {
+        var active = new AtomicInteger();
+        var maxActive = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            active.decrementAndGet();
+            return null;
+        }).when(pipelineController).deploy(any());
+
+        reconciler.start(ids(40));
+        reconciler.await();
+
+        assertThat(maxActive.get()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("Throttled applies are retried with backoff and lower the rate")
+    void retriesThrottledApplies() {
+        var attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new KubernetesClientException("Too many requests", 429, null);
+            }
+            return null;
+        }).when(pipelineController).deploy(any());
+
+        reconciler.start(ids(1));
+        var progress = reconciler.await();
+
+        assertThat(progress.succeeded()).isEqualTo(1);
+        assertThat(progress.throttled()).isEqualTo(1);
+        assertThat(progress.rate()).isLessThan(1000.0);
+    }
+
+    @Test
+    @DisplayName("Pipelines are reported as failed once attempts are exhausted or the error isn't retriable")
+    void reportsFailures() {
+        doThrow(new KubernetesClientException("Unavailable", 503, null)).when(pipelineController).deploy(any());
+
+        reconciler.start(ids(2));
+        var progress = reconciler.await();
+
+        verify(pipelineController, times(6)).deploy(any());
+        assertThat(progress.failed()).isEqualTo(2);
+        assertThat(progress.failedPipelines()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Removed pipelines are skipped")
+    void skipsRemovedPipelines() {
+        when(pipelineService.findCurrent(2L)).thenReturn(Optional.empty());
+
+        reconciler.start(ids(3));
+        var progress = reconciler.await();
+
+        assertThat(progress.succeeded()).isEqualTo(2);
+        assertThat(progress.skipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Only one reconcile runs at a time")
+    void singleRun() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(pipelineController).deploy(any());
+
+        var first = reconciler.start(ids(1));
+        var second = reconciler.start(ids(1));
+        release.countDown();
+        reconciler.await();
+
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(reconciler.start(ids(1))).isPresent();
+        reconciler.await();
+    }
+}
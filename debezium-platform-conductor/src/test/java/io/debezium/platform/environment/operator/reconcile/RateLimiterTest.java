@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.reconcile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("Burst is admitted at once, further requests wait for the rate")
+    void admitsBurst() {
+        var limiter = new RateLimiter(10, 3, now::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100));
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Tokens are refilled at the rate up to the burst")
+    void refillsTokens() {
+        var limiter = new RateLimiter(10, 2, now::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        advance(Duration.ofSeconds(10));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Rate is halved when throttled and recovers with successful requests")
+    void adaptsRate() {
+        var limiter = new RateLimiter(20, 1, now::get);
+
+        limiter.throttled();
+        limiter.throttled();
+        assertThat(limiter.rate()).isEqualTo(5.0);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.succeeded();
+        }
+        assertThat(limiter.rate()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("Rate isn't lowered below a fraction of the configured rate")
+    void boundsRate() {
+        var limiter = new RateLimiter(20, 1, now::get);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.throttled();
+        }
+
+        assertThat(limiter.rate()).isEqualTo(1.0);
+    }
+}
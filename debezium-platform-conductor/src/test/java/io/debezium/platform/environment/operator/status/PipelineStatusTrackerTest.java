@@ -0,0 +1,183 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.operator.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.operator.api.model.DebeziumServerBuilder;
+import io.debezium.platform.environment.operator.actions.DebeziumResourceCache;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.debezium.platform.environment.status.FleetStatus;
+import io.debezium.platform.environment.status.PipelineStatus;
+import io.debezium.platform.environment.status.PipelineStatus.Phase;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentConditionBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@EnableKubernetesMockClient(crud = true)
+class PipelineStatusTrackerTest {
+
+    private static final String INSTANCE = "test-pipeline";
+    private static final String TRANSITION_TIME = "2026-01-01T10:00:00Z";
+
+    private KubernetesClient kubernetesClient;
+    private KubernetesMockServer server;
+
+    private DebeziumResourceCache cache;
+    private PipelineStatusTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        var config = mock(OperatorConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.cache().enabled()).thenReturn(true);
+        when(config.cache().resync()).thenReturn(Duration.ofMinutes(10));
+
+        kubernetesClient.resource(new DebeziumServerBuilder()
+                .withNewMetadata()
+                .withName(INSTANCE)
+                .addToLabels("debezium.io/conductor-id", "1")
+                .endMetadata()
+                .build())
+                .create();
+        kubernetesClient.resource(deployment(1, 1)).create();
+        kubernetesClient.resource(pod(INSTANCE + "-0", 2, null)).create();
+
+        cache = new DebeziumResourceCache(kubernetesClient, config, new SimpleMeterRegistry());
+        cache.start();
+        tracker = new PipelineStatusTracker(cache);
+        tracker.start();
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> tracker.status().isPresent());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    private static Deployment deployment(int desired, int ready) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                .withName(INSTANCE)
+                .addToLabels("debezium.io/instance", INSTANCE)
+                .endMetadata()
+                .withNewSpec()
+                .withReplicas(desired)
+                .endSpec()
+                .withNewStatus()
+                .withReadyReplicas(ready)
+                .addNewCondition()
+                .withType("Available")
+                .withStatus("True")
+                .withLastTransitionTime(TRANSITION_TIME)
+                .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static Pod pod(String name, int restarts, String waitingReason) {
+        return new PodBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .addToLabels("debezium.io/instance", INSTANCE)
+                .endMetadata()
+                .withNewStatus()
+                .addNewContainerStatus()
+                .withName("debezium")
+                .withRestartCount(restarts)
+                .withNewState()
+                .withNewWaiting()
+                .withReason(waitingReason)
+                .withMessage(waitingReason == null ? null : "back-off restarting failed container")
+                .endWaiting()
+                .endState()
+                .endContainerStatus()
+                .endStatus()
+                .build();
+    }
+
+    private FleetStatus status() {
+        return tracker.status().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Status of deployed pipelines is served without reaching the API server")
+    void statusServedFromMemory() {
+        var requests = server.getRequestCount();
+
+        var status = status();
+
+        assertThat(status.pipelines()).containsExactly(new PipelineStatus(1L, INSTANCE, Phase.RUNNING, false, 1, 1, 2,
+                Instant.parse(TRANSITION_TIME), null));
+        assertThat(server.getRequestCount()).isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("Version is kept until the status of a pipeline changes")
+    void versionFollowsChanges() {
+        var initial = status();
+        assertThat(status().version()).isEqualTo(initial.version());
+
+        kubernetesClient.resource(deployment(0, 0)).update();
+
+        Awaitility.await().atMost(Duration.ofSeconds(10))
+                .until(() -> status().pipelines().getFirst().phase() == Phase.STOPPED);
+        assertThat(status().version()).isNotEqualTo(initial.version());
+        assertThat(status().pipelines().getFirst().stopped()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Status of removed pipelines is dropped")
+    void removedPipelines() {
+        kubernetesClient.resources(DebeziumServer.class).withName(INSTANCE).delete();
+
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> status().pipelines().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Crashing containers and stalled rollouts are reported as failed")
+    void failedPipelines() {
+        var crashing = PipelineStatusTracker.status(1L, INSTANCE, List.of(deployment(1, 0)),
+                List.of(pod(INSTANCE + "-0", 5, "CrashLoopBackOff")));
+        var stalled = deployment(1, 0);
+        stalled.getStatus().getConditions().add(new DeploymentConditionBuilder()
+                .withType("Progressing")
+                .withStatus("False")
+                .withMessage("progress deadline exceeded")
+                .build());
+
+        assertThat(crashing.phase()).isEqualTo(Phase.FAILED);
+        assertThat(crashing.restarts()).isEqualTo(5);
+        assertThat(crashing.message()).isEqualTo("back-off restarting failed container");
+        assertThat(PipelineStatusTracker.status(1L, INSTANCE, List.of(stalled), List.of()).message()).isEqualTo("progress deadline exceeded");
+    }
+
+    @Test
+    @DisplayName("Pipelines without runtime are pending and pipelines without all replicas ready are starting")
+    void pendingAndStartingPipelines() {
+        assertThat(PipelineStatusTracker.status(1L, INSTANCE, List.of(), List.of()).phase()).isEqualTo(Phase.PENDING);
+        assertThat(PipelineStatusTracker.status(1L, INSTANCE, List.of(deployment(2, 1)), List.of()).phase()).isEqualTo(Phase.STARTING);
+    }
+}
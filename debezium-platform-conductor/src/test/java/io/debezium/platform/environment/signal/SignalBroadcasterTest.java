@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.domain.Signal;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.signal.SignalBroadcast.Outcome;
+import io.debezium.platform.environment.signal.SignalBroadcast.Result;
+import io.debezium.platform.environment.signal.config.SignalConfigGroup;
+
+class SignalBroadcasterTest {
+
+    private static final Signal SIGNAL = new Signal("signal-1", "execute-snapshot", "{}", Map.of());
+
+    private PipelineService pipelineService;
+    private EnvironmentRouter environments;
+    private PipelineController pipelineController;
+    private SignalConfigGroup config;
+    private ExecutorService executor;
+    private SignalBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        pipelineService = mock(PipelineService.class);
+        environments = mock(EnvironmentRouter.class);
+        pipelineController = mock(PipelineController.class);
+        var environment = mock(EnvironmentController.class);
+        when(environment.pipelines()).thenReturn(pipelineController);
+        when(pipelineService.environmentController(anyLong())).thenReturn(Optional.of(environment));
+
+        config = mock(SignalConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.broadcast().concurrency()).thenReturn(4);
+        when(config.broadcast().deadline()).thenReturn(Duration.ofSeconds(5));
+        when(config.broadcast().maxPipelines()).thenReturn(100);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        broadcaster = new SignalBroadcaster(pipelineService, environments, config, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    @Test
+    @DisplayName("Signal is sent to all selected pipelines with bounded concurrency")
+    void sendsWithBoundedConcurrency() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(20);
+            running.decrementAndGet();
+            return null;
+        }).when(pipelineController).sendSignal(anyLong(), eq(SIGNAL));
+
+        var broadcast = broadcaster.broadcast(ids(20), null, SIGNAL);
+
+        assertThat(broadcast.selected()).isEqualTo(20);
+        assertThat(broadcast.sent()).isEqualTo(20);
+        assertThat(broadcast.failed()).isZero();
+        assertThat(broadcast.results()).extracting(Result::pipelineId).containsExactlyElementsOf(ids(20));
+        assertThat(maxRunning.get()).isBetween(2, 4);
+    }
+
+    @Test
+    @DisplayName("Failed, unresponsive and missing pipelines are reported without failing the broadcast")
+    void reportsFailures() {
+        when(config.broadcast().deadline()).thenReturn(Duration.ofMillis(200));
+        when(pipelineService.environmentController(3L)).thenReturn(Optional.empty());
+        doThrow(new DebeziumException("Error sending signal", new IllegalStateException("connection refused")))
+                .when(pipelineController).sendSignal(eq(1L), any());
+        doAnswer(invocation -> {
+            TimeUnit.SECONDS.sleep(30);
+            return null;
+        }).when(pipelineController).sendSignal(eq(2L), any());
+
+        var broadcast = broadcaster.broadcast(ids(4), null, SIGNAL);
+
+        assertThat(broadcast.sent()).isEqualTo(1);
+        assertThat(broadcast.failed()).isEqualTo(3);
+        assertThat(broadcast.results()).containsExactly(
+                new Result(1L, Outcome.FAILED, "Error sending signal: connection refused"),
+                new Result(2L, Outcome.TIMED_OUT, "No response within 200ms"),
+                new Result(3L, Outcome.NOT_FOUND, "Pipeline not found"),
+                new Result(4L, Outcome.SENT, null));
+    }
+
+    @Test
+    @DisplayName("Timed out calls keep their permit until they end")
+    void timedOutCallsKeepPermit() {
+        when(config.broadcast().concurrency()).thenReturn(1);
+        when(config.broadcast().deadline()).thenReturn(Duration.ofMillis(50));
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(200);
+            running.decrementAndGet();
+            return null;
+        }).when(pipelineController).sendSignal(anyLong(), eq(SIGNAL));
+
+        var broadcast = broadcaster.broadcast(ids(3), null, SIGNAL);
+
+        assertThat(broadcast.results()).extracting(Result::outcome).containsOnly(Outcome.TIMED_OUT);
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Pipelines are selected by environment and given ids are restricted to it")
+    void selectsByEnvironment() {
+        when(pipelineService.findIdsByEnvironment("east")).thenReturn(List.of(2L, 4L, 6L));
+
+        assertThat(broadcaster.broadcast(null, "east", SIGNAL).results()).extracting(Result::pipelineId).containsExactly(2L, 4L, 6L);
+        assertThat(broadcaster.broadcast(List.of(1L, 2L, 6L), "east", SIGNAL).results()).extracting(Result::pipelineId).containsExactly(2L, 6L);
+        verify(environments, times(2)).environment("east");
+    }
+
+    @Test
+    @DisplayName("Broadcasts without selection or selecting too many pipelines are rejected")
+    void rejectsInvalidSelection() {
+        assertThatThrownBy(() -> broadcaster.broadcast(List.of(), null, SIGNAL)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> broadcaster.broadcast(ids(101), null, SIGNAL)).isInstanceOf(IllegalArgumentException.class);
+        verify(pipelineController, never()).sendSignal(anyLong(), any());
+    }
+}
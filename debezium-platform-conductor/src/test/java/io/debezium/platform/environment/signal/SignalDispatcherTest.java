@@ -0,0 +1,162 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+
+import io.debezium.DebeziumException;
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.domain.Signal;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.signal.SignalDelivery.Status;
+import io.debezium.platform.environment.signal.SignalQueue.DeadLetterReason;
+import io.debezium.platform.environment.signal.config.SignalConfigGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SignalDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Signal SIGNAL = new Signal("signal-1", "execute-snapshot", "{}", Map.of());
+
+    private SignalQueue queue;
+    private PipelineService pipelineService;
+    private PipelineController pipelineController;
+    private SignalConfigGroup config;
+    private ExecutorService executor;
+    private SimpleMeterRegistry registry;
+    private SignalDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(SignalQueue.class);
+        pipelineService = mock(PipelineService.class);
+        pipelineController = mock(PipelineController.class);
+        var environment = mock(EnvironmentController.class);
+        when(environment.pipelines()).thenReturn(pipelineController);
+        when(pipelineService.environmentController(anyLong())).thenReturn(Optional.of(environment));
+
+        config = mock(SignalConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.queue().batchSize()).thenReturn(10);
+        when(config.queue().concurrency()).thenReturn(4);
+        when(config.queue().lease()).thenReturn(Duration.ofMinutes(1));
+        when(config.queue().initialBackoff()).thenReturn(Duration.ofSeconds(1));
+        when(config.queue().maxBackoff()).thenReturn(Duration.ofMinutes(5));
+        when(config.queue().maxAttempts()).thenReturn(3);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        registry = new SimpleMeterRegistry();
+        dispatcher = new SignalDispatcher(queue, pipelineService, config, executor, registry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static SignalDelivery claimed(long pipelineId, int attempts) {
+        return new SignalDelivery(pipelineId, SIGNAL, Status.PENDING, attempts, NOW.plusSeconds(60), null, NOW, null);
+    }
+
+    private double deliveries(String result) {
+        return registry.get(SignalDispatcher.DELIVERIES_METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Claimed signals are delivered and marked as delivered")
+    void deliversClaimedSignals() {
+        var first = claimed(1L, 1);
+        var second = claimed(2L, 1);
+        when(queue.claim(10, NOW, NOW.plus(Duration.ofMinutes(1)))).thenReturn(List.of(first, second));
+
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+
+        verify(pipelineController).sendSignal(1L, SIGNAL);
+        verify(pipelineController).sendSignal(2L, SIGNAL);
+        verify(queue).delivered(first, NOW);
+        verify(queue).delivered(second, NOW);
+        assertThat(deliveries("delivered")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Failed deliveries are retried with backoff")
+    void retriesFailedDelivery() {
+        var delivery = claimed(1L, 2);
+        when(queue.claim(anyInt(), any(), any())).thenReturn(List.of(delivery));
+        doThrow(new DebeziumException("Error sending signal", new IllegalStateException("connection refused")))
+                .when(pipelineController).sendSignal(1L, SIGNAL);
+
+        dispatcher.dispatch();
+
+        var nextAttempt = ArgumentCaptor.forClass(Instant.class);
+        verify(queue).retry(eq(delivery), nextAttempt.capture(), eq("Error sending signal: connection refused"));
+        assertThat(nextAttempt.getValue()).isBetween(NOW.plusSeconds(1), NOW.plusSeconds(2));
+        verify(queue, never()).delivered(any(), any());
+        assertThat(deliveries("retried")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Signals are dead-lettered once all attempts failed")
+    void deadLettersExhaustedSignal() {
+        var delivery = claimed(1L, 3);
+        when(queue.claim(anyInt(), any(), any())).thenReturn(List.of(delivery));
+        doThrow(new DebeziumException("Error sending signal")).when(pipelineController).sendSignal(1L, SIGNAL);
+
+        dispatcher.dispatch();
+
+        verify(queue).deadLetter(delivery, DeadLetterReason.EXHAUSTED, "Error sending signal", NOW);
+        verify(queue, never()).retry(any(), any(), anyString());
+        assertThat(deliveries("dead_lettered")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Signals of removed pipelines are dead-lettered without delivery")
+    void deadLettersSignalOfRemovedPipeline() {
+        var delivery = claimed(7L, 1);
+        when(queue.claim(anyInt(), any(), any())).thenReturn(List.of(delivery));
+        when(pipelineService.environmentController(7L)).thenReturn(Optional.empty());
+
+        dispatcher.dispatch();
+
+        verify(queue).deadLetter(delivery, DeadLetterReason.PIPELINE_NOT_FOUND, "Pipeline not found", NOW);
+        verify(pipelineController, never()).sendSignal(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Backoff grows exponentially up to the maximal backoff")
+    void backoffIsBounded() {
+        assertThat(dispatcher.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+        assertThat(dispatcher.backoff(4)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(8));
+        assertThat(dispatcher.backoff(40)).isBetween(Duration.ofMinutes(2).plusSeconds(30), Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.signal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.platform.domain.Signal;
+import io.debezium.platform.environment.signal.SignalDelivery.Status;
+import io.debezium.platform.environment.signal.SignalQueue.DeadLetterReason;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(SignalQueueIT.Profile.class)
+@EnableKubernetesMockClient(crud = true)
+class SignalQueueIT {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Inject
+    SignalQueue queue;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    private Instant now;
+
+    public static class Profile implements QuarkusTestProfile {
+
+        @Override
+        public String getConfigProfile() {
+            return "test";
+        }
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // signals are claimed by the tests only
+            return Map.of("quarkus.scheduler.enabled", "false");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM " + SignalQueue.TABLE);
+            statement.executeUpdate("DELETE FROM " + SignalQueue.DEAD_LETTER_TABLE);
+        }
+        // queued signals are due from the database time on
+        now = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Signal signal(String id) {
+        return new Signal(id, "execute-snapshot", "{\"data-collections\": [\"public.orders\"]}", Map.of("source", "api"));
+    }
+
+    private int deadLetters(Long pipelineId, String signalId, DeadLetterReason reason) throws SQLException {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement("SELECT count(*) FROM " + SignalQueue.DEAD_LETTER_TABLE
+                        + " WHERE pipeline_id = ? AND signal_id = ? AND reason = ?")) {
+            statement.setLong(1, pipelineId);
+            statement.setString(2, signalId);
+            statement.setString(3, reason.name());
+            try (var rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Resubmitted signal is not queued again and recorded as a duplicate dead letter")
+    void deadLettersDuplicates() throws SQLException {
+        assertThat(queue.enqueue(1L, signal("a"))).isTrue();
+        assertThat(queue.enqueue(1L, signal("a"))).isFalse();
+        assertThat(queue.enqueue(2L, signal("a"))).isTrue();
+
+        assertThat(queue.find(1L, "a")).hasValueSatisfying(delivery -> {
+            assertThat(delivery.status()).isEqualTo(Status.PENDING);
+            assertThat(delivery.signal()).isEqualTo(signal("a"));
+        });
+        assertThat(deadLetters(1L, "a", DeadLetterReason.DUPLICATE)).isEqualTo(1);
+        assertThat(deadLetters(2L, "a", DeadLetterReason.DUPLICATE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Claimed signals count an attempt and aren't claimed again until their lease expires")
+    void leasesClaimedSignals() {
+        queue.enqueue(1L, signal("a"));
+        queue.enqueue(1L, signal("b"));
+
+        var claimed = queue.claim(10, now, now.plus(LEASE));
+
+        assertThat(claimed).extracting(delivery -> delivery.signal().id()).containsExactlyInAnyOrder("a", "b");
+        assertThat(claimed).allSatisfy(delivery -> {
+            assertThat(delivery.attempts()).isEqualTo(1);
+            assertThat(delivery.nextAttemptAt()).isEqualTo(now.plus(LEASE));
+        });
+        assertThat(queue.claim(10, now.plus(LEASE).minusSeconds(1), now.plus(LEASE.multipliedBy(2)))).isEmpty();
+        assertThat(queue.claim(10, now.plus(LEASE), now.plus(LEASE.multipliedBy(2)))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Signals locked by a concurrent claim are skipped instead of waited for")
+    void skipsLockedSignals() throws SQLException {
+        queue.enqueue(1L, signal("a"));
+        queue.enqueue(2L, signal("b"));
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (var statement = connection.prepareStatement("SELECT 1 FROM " + SignalQueue.TABLE + " WHERE pipeline_id = 1 FOR UPDATE")) {
+                statement.executeQuery().close();
+            }
+
+            assertThat(queue.claim(10, now, now.plus(LEASE))).extracting(SignalDelivery::pipelineId).containsExactly(2L);
+            connection.rollback();
+        }
+
+        assertThat(queue.claim(10, now, now.plus(LEASE))).extracting(SignalDelivery::pipelineId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Dead-lettering marks the signal and copies it into the dead-letter table together")
+    void deadLettersExhaustedSignal() throws SQLException {
+        queue.enqueue(1L, signal("a"));
+        var delivery = queue.claim(10, now, now.plus(LEASE)).getFirst();
+
+        queue.deadLetter(delivery, DeadLetterReason.EXHAUSTED, "connection refused", now);
+
+        assertThat(queue.find(1L, "a")).hasValueSatisfying(found -> {
+            assertThat(found.status()).isEqualTo(Status.DEAD_LETTERED);
+            assertThat(found.lastError()).isEqualTo("connection refused");
+            assertThat(found.completedAt()).isEqualTo(now);
+        });
+        assertThat(deadLetters(1L, "a", DeadLetterReason.EXHAUSTED)).isEqualTo(1);
+        assertThat(queue.claim(10, now.plus(LEASE), now.plus(LEASE.multipliedBy(2)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Completed signals and dead letters are pruned once their retention passed")
+    void prunesCompletedSignalsAndDeadLetters() throws SQLException {
+        queue.enqueue(1L, signal("a"));
+        queue.enqueue(1L, signal("b"));
+        queue.enqueue(1L, signal("a"));
+        var claimed = queue.claim(10, now, now.plus(LEASE));
+        queue.delivered(claimed.stream().filter(delivery -> delivery.signal().id().equals("a")).findFirst().orElseThrow(), now);
+
+        assertThat(queue.prune(now)).isZero();
+        assertThat(queue.prune(now.plusSeconds(1))).isEqualTo(1);
+        assertThat(queue.find(1L, "a")).isEmpty();
+        assertThat(queue.find(1L, "b")).isPresent();
+
+        assertThat(queue.pruneDeadLetters(now.plus(Duration.ofMinutes(5)))).isEqualTo(1);
+        assertThat(deadLetters(1L, "a", DeadLetterReason.DUPLICATE)).isZero();
+    }
+}
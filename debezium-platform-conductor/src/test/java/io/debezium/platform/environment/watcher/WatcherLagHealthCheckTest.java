@@ -0,0 +1,70 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+class WatcherLagHealthCheckTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private WatcherProgress progress;
+    private WatcherLagHealthCheck healthCheck;
+
+    @BeforeEach
+    void setUp() {
+        var config = mock(WatcherConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.enabled()).thenReturn(true);
+        when(config.health().maxLag()).thenReturn(Duration.ofMinutes(1));
+
+        progress = new WatcherProgress(Clock.fixed(NOW, ZoneOffset.UTC));
+        healthCheck = new WatcherLagHealthCheck(config, progress);
+    }
+
+    @Test
+    @DisplayName("Watcher is ready while the lag is within the threshold")
+    void upWithinThreshold() {
+        progress.pending(new OutboxEvent(null, "pipeline", 1L, "UPDATE", null, NOW.minusSeconds(30)));
+
+        assertThat(healthCheck.call().getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+    }
+
+    @Test
+    @DisplayName("Watcher is degraded once the lag exceeds the threshold")
+    void degradedOverThreshold() {
+        progress.pending(new OutboxEvent(null, "pipeline", 1L, "UPDATE", null, NOW.minus(Duration.ofMinutes(2))));
+
+        var response = healthCheck.call();
+
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+        assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data).containsEntry("status", "degraded"));
+    }
+
+    @Test
+    @DisplayName("Watcher is degraded by an old event committed after newer ones")
+    void degradedByLateCommittedEvent() {
+        progress.committed(new OutboxEvent(null, "pipeline", 1L, "UPDATE", null, NOW.minusSeconds(10)));
+        progress.pending(new OutboxEvent(null, "pipeline", 2L, "UPDATE", null, NOW.minus(Duration.ofMinutes(2))));
+
+        assertThat(healthCheck.call().getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+    }
+}
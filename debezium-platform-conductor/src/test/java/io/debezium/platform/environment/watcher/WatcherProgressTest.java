@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+class WatcherProgressTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private WatcherProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        progress = new WatcherProgress(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Lag is zero when no event is waiting for the watcher")
+    void noLagWithoutPendingEvents() {
+        assertThat(progress.lag()).isZero();
+
+        progress.committed(event(1L, NOW.minusSeconds(30)));
+
+        assertThat(progress.lag()).isZero();
+    }
+
+    @Test
+    @DisplayName("Lag is the age of the oldest event not yet committed")
+    void lagOfOldestPendingEvent() {
+        progress.pending(event(1L, NOW.minusSeconds(30)));
+        progress.pending(event(2L, NOW.minusSeconds(20)));
+        progress.pending(event(3L, NOW.minusSeconds(10)));
+
+        assertThat(progress.lag()).isEqualTo(Duration.ofSeconds(30));
+
+        progress.committed(event(1L, NOW.minusSeconds(30)));
+        progress.committed(event(2L, NOW.minusSeconds(20)));
+
+        assertThat(progress.lag()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(progress.committedTimestamp()).contains(NOW.minusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("Events created before the latest committed event count until they are committed themselves")
+    void tracksLateCommittedEvents() {
+        // a long transaction creates its event first but commits after a newer one
+        progress.pending(event(1L, NOW.minusSeconds(10)));
+        progress.committed(event(1L, NOW.minusSeconds(10)));
+        progress.pending(event(2L, NOW.minusSeconds(20)));
+
+        assertThat(progress.lag()).isEqualTo(Duration.ofSeconds(20));
+
+        progress.committed(event(2L, NOW.minusSeconds(20)));
+
+        assertThat(progress.lag()).isZero();
+        assertThat(progress.committedTimestamp()).contains(NOW.minusSeconds(10));
+    }
+
+    @Test
+    @DisplayName("An event fired within the conductor is committed by its copy read from the outbox")
+    void matchesEventsReadFromOutbox() {
+        var fired = event(1L, NOW.minusSeconds(30));
+        progress.pending(fired);
+
+        progress.committed(new OutboxEvent(UUID.randomUUID(), fired.aggregateType(), fired.aggregateId(), fired.type(), null, fired.timestamp()));
+
+        assertThat(progress.lag()).isZero();
+    }
+
+    @Test
+    @DisplayName("Committing an event doesn't commit other events of the same time")
+    void keepsOtherEventsOfSameTime() {
+        progress.pending(event(1L, NOW.minusSeconds(30)));
+        progress.pending(event(2L, NOW.minusSeconds(30)));
+
+        progress.committed(event(1L, NOW.minusSeconds(30)));
+
+        assertThat(progress.lag()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    private static OutboxEvent event(Long aggregateId, Instant timestamp) {
+        return new OutboxEvent(null, "pipeline", aggregateId, "UPDATE", null, timestamp);
+    }
+}
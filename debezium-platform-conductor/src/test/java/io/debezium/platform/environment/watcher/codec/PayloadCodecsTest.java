@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.DebeziumException;
+
+class PayloadCodecsTest {
+
+    private static final List<PayloadCodec> CODECS = List.of(new JsonPayloadCodec(), new SmilePayloadCodec(), new CborPayloadCodec());
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static JsonNode payload() {
+        var payload = MAPPER.createObjectNode()
+                .put("id", 1)
+                .put("name", "inventory-pipeline");
+        var transforms = payload.putArray("transforms");
+        for (int i = 0; i < 10; i++) {
+            transforms.addObject()
+                    .put("type", "io.debezium.transforms.ExtractNewRecordState")
+                    .putObject("config").put("add.fields", "op,table");
+        }
+        return payload;
+    }
+
+    @ParameterizedTest(name = "{0} with {1} compression")
+    @CsvSource({ "json,none", "smile,none", "cbor,none", "json,zstd", "smile,zstd", "cbor,zstd" })
+    @DisplayName("Encoded payloads decode into the original tree")
+    void roundTrip(String codec, String compression) {
+        var codecs = new PayloadCodecs(CODECS, codec, compression);
+
+        var encoded = codecs.encode(payload());
+
+        assertThat(encoded[0]).isEqualTo(PayloadCodecs.FRAME_MARKER);
+        assertThat(encoded[1]).isEqualTo(codecs.codec().id());
+        assertThat(encoded[2]).isEqualTo(codecs.compression().id());
+        assertThat(codecs.decode(encoded)).isEqualTo(payload());
+    }
+
+    @Test
+    @DisplayName("Payloads are decoded with the codec they were written with")
+    void decodesWithRecordedCodec() {
+        var encoded = new PayloadCodecs(CODECS, "cbor", "zstd").encode(payload());
+
+        assertThat(new PayloadCodecs(CODECS, "smile", "none").decode(encoded)).isEqualTo(payload());
+    }
+
+    @Test
+    @DisplayName("Payloads written as json text before codecs were introduced are decoded")
+    void decodesLegacyJson() {
+        var legacy = payload().toString().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new PayloadCodecs(CODECS, "smile", "none").decode(legacy)).isEqualTo(payload());
+    }
+
+    @Test
+    @DisplayName("Unknown codecs are rejected")
+    void rejectsUnknownCodec() {
+        assertThatExceptionOfType(DebeziumException.class)
+                .isThrownBy(() -> new PayloadCodecs(CODECS, "avro", "none"));
+        assertThatExceptionOfType(DebeziumException.class)
+                .isThrownBy(() -> new PayloadCodecs(CODECS, "json", "none").decode(new byte[]{ PayloadCodecs.FRAME_MARKER, 42, 0, 1 }));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventConsumerIndexTest {
+
+    private final TestConsumer pipelines = new TestConsumer(List.of("pipeline"), List.of("UPDATE", "DELETE"));
+    private final TestConsumer vaults = new TestConsumer(List.of("vault"), List.of("UPDATE", "DELETE"));
+    private final TestConsumer pipelineUpdates = new TestConsumer(List.of("pipeline"), List.of("UPDATE"));
+    private final TestConsumer everything = new TestConsumer(List.of(), List.of());
+
+    @Test
+    @DisplayName("Events are routed only to consumers declaring their aggregate and type")
+    void routesByAggregateAndType() {
+        var index = EventConsumerIndex.of(List.of(pipelines, vaults, pipelineUpdates));
+
+        assertThat(index.consumersFor("pipeline", "UPDATE")).containsExactly(pipelines, pipelineUpdates);
+        assertThat(index.consumersFor("pipeline", "DELETE")).containsExactly(pipelines);
+        assertThat(index.consumersFor("vault", "UPDATE")).containsExactly(vaults);
+        assertThat(index.consumersFor("connection", "UPDATE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Wildcard consumers receive declared as well as undeclared events")
+    void routesToWildcardConsumers() {
+        var index = EventConsumerIndex.of(List.of(pipelines, everything));
+
+        assertThat(index.consumersFor("pipeline", "UPDATE")).containsExactly(pipelines, everything);
+        assertThat(index.consumersFor("connection", "UPDATE")).containsExactly(everything);
+    }
+
+    private record TestConsumer(Collection<String> consumedAggregates, Collection<String> consumedTypes)
+            implements EnvironmentEventConsumer<String> {
+
+        @Override
+        public Class<String> consumedPayloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void accept(Long id, Optional<String> payload) {
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.platform.environment.watcher.WatcherProgress;
+import io.debezium.platform.environment.watcher.dispatch.EventLaneDispatcher;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
+
+class OutboxBatchEventConsumerTest {
+
+    private OutboxParentEventConsumer parentConsumer;
+    private ProcessedEventLedger ledger;
+    private DebeziumEngine.RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> committer;
+    private OutboxBatchEventConsumer batchConsumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws InterruptedException {
+        parentConsumer = mock(OutboxParentEventConsumer.class);
+        ledger = mock(ProcessedEventLedger.class);
+        committer = mock(DebeziumEngine.RecordCommitter.class);
+
+        // dispatch synchronously in the calling thread
+        var dispatcher = mock(EventLaneDispatcher.class);
+        when(dispatcher.submit(any(), any())).thenAnswer(invocation -> {
+            Runnable task = invocation.getArgument(1);
+            try {
+                task.run();
+                return CompletableFuture.completedFuture(null);
+            }
+            catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+
+        batchConsumer = new OutboxBatchEventConsumer(Logger.getLogger(OutboxBatchEventConsumerTest.class), parentConsumer, dispatcher, new WatcherProgress(), ledger);
+    }
+
+    @Test
+    @DisplayName("Only the latest event of each aggregate is dispatched")
+    void coalescesEventsPerAggregate() {
+        var events = List.of(
+                update("pipeline", 1L, "v1"),
+                update("pipeline", 2L, "v1"),
+                update("pipeline", 1L, "v2"),
+                update("vault", 1L, "v1"),
+                delete("pipeline", 1L));
+
+        assertThat(OutboxBatchEventConsumer.coalesce(events)).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Offsets of the whole batch are committed after the collapsed events were dispatched")
+    void commitsWholeBatchAfterDispatch() throws InterruptedException {
+        var records = records(
+                update("pipeline", 1L, "v1"),
+                update("pipeline", 1L, "v2"),
+                update("pipeline", 1L, "v3"));
+
+        batchConsumer.handleBatch(records, committer);
+
+        var order = inOrder(parentConsumer, committer);
+        order.verify(parentConsumer).dispatch(update("pipeline", 1L, "v3"));
+        order.verify(committer, times(3)).markProcessed(any());
+        order.verify(committer).markBatchFinished();
+        verify(parentConsumer, times(1)).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("Offsets are committed only up to the lowest event which failed to be dispatched")
+    void commitsUpToLowestFailure() throws InterruptedException {
+        var records = records(
+                update("pipeline", 1L, "v1"),
+                update("pipeline", 2L, "v1"),
+                update("pipeline", 3L, "v1"),
+                update("pipeline", 2L, "v2"),
+                update("pipeline", 4L, "v1"));
+        doThrow(new IllegalStateException("apply failed")).when(parentConsumer).dispatch(update("pipeline", 3L, "v1"));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> batchConsumer.handleBatch(records, committer));
+
+        verify(parentConsumer).dispatch(update("pipeline", 4L, "v1"));
+        verify(committer).markProcessed(records.get(0));
+        verify(committer).markProcessed(records.get(1));
+        verify(committer, times(2)).markProcessed(any());
+        verify(committer, never()).markBatchFinished();
+    }
+
+    @Test
+    @DisplayName("Events found in the ledger are not dispatched again")
+    void skipsEventsFoundInLedger() throws InterruptedException {
+        var replayed = update("pipeline", 1L, "v1");
+        var records = records(replayed, update("pipeline", 2L, "v1"));
+        when(ledger.processed(any())).thenReturn(Set.of(replayed.id()));
+
+        batchConsumer.handleBatch(records, committer);
+
+        verify(parentConsumer, never()).dispatch(replayed);
+        verify(parentConsumer).dispatch(update("pipeline", 2L, "v1"));
+        verify(committer, times(2)).markProcessed(any());
+    }
+
+    @Test
+    @DisplayName("Processed events are recorded in the ledger before their offsets are committed")
+    void recordsProcessedEventsBeforeCommit() throws InterruptedException {
+        var events = List.of(update("pipeline", 1L, "v1"), update("pipeline", 1L, "v2"));
+        var records = records(events.toArray(OutboxEvent[]::new));
+
+        batchConsumer.handleBatch(records, committer);
+
+        var order = inOrder(ledger, committer);
+        order.verify(ledger).record(events);
+        order.verify(committer, times(2)).markProcessed(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ChangeEvent<SourceRecord, SourceRecord>> records(OutboxEvent... events) {
+        List<ChangeEvent<SourceRecord, SourceRecord>> records = new ArrayList<>();
+        for (var event : events) {
+            ChangeEvent<SourceRecord, SourceRecord> record = mock(ChangeEvent.class);
+            when(parentConsumer.extract(record)).thenReturn(event);
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static OutboxEvent update(String aggregateType, Long id, String payload) {
+        return new OutboxEvent(eventId(aggregateType, id, payload), aggregateType, id, "UPDATE", TextNode.valueOf(payload), null);
+    }
+
+    private static OutboxEvent delete(String aggregateType, Long id) {
+        return new OutboxEvent(eventId(aggregateType, id, "deleted"), aggregateType, id, "DELETE", null, null);
+    }
+
+    private static UUID eventId(String aggregateType, Long id, String revision) {
+        return UUID.nameUUIDFromBytes((aggregateType + id + revision).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.debezium.platform.environment.watcher.AppliedEvents;
+import io.debezium.platform.environment.watcher.WatcherMetrics;
+import io.debezium.platform.environment.watcher.WatcherProgress;
+import io.debezium.platform.environment.watcher.config.OutboxConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxParentEventConsumerTest {
+
+    private static final JsonNode PAYLOAD = JsonNodeFactory.instance.objectNode();
+
+    private PayloadDecoder decoder;
+    private RecordingConsumer first;
+    private RecordingConsumer second;
+    private SimpleMeterRegistry registry;
+    private OutboxParentEventConsumer parentConsumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        decoder = mock(PayloadDecoder.class);
+        when(decoder.decode(any(JsonNode.class), any())).thenAnswer(invocation -> {
+            JsonNode payload = invocation.getArgument(0);
+            return payload == null ? null : new StringBuilder(payload.toString());
+        });
+
+        first = new RecordingConsumer();
+        second = new RecordingConsumer();
+        List<EnvironmentEventConsumer<?>> registered = List.of(first, second);
+        Instance<EnvironmentEventConsumer<?>> consumers = mock(Instance.class);
+        when(consumers.iterator()).thenReturn(registered.iterator());
+
+        registry = new SimpleMeterRegistry();
+        var progress = new WatcherProgress();
+        parentConsumer = new OutboxParentEventConsumer(Logger.getLogger(OutboxParentEventConsumerTest.class), mock(OutboxConfigGroup.class), consumers, decoder,
+                progress, new AppliedEvents(), new WatcherMetrics(registry, progress), mock(ProcessedEventLedger.class));
+    }
+
+    @Test
+    @DisplayName("The payload is decoded once and the same object is handed to all interested consumers")
+    void decodesPayloadOnce() {
+        parentConsumer.dispatch(new OutboxEvent(null, "pipeline", 1L, "UPDATE", PAYLOAD, null));
+
+        verify(decoder, times(1)).decode(PAYLOAD, CharSequence.class);
+        assertThat(first.received).hasSize(1);
+        assertThat(second.received).hasSize(1);
+        assertThat(first.received.getFirst()).isSameAs(second.received.getFirst());
+        assertThat(registry.timer(WatcherMetrics.DECODE_METRIC).count()).isEqualTo(1);
+        assertThat(registry.timer(WatcherMetrics.DISPATCH_METRIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Events without interested consumers are not decoded")
+    void skipsDecodingWithoutConsumers() {
+        parentConsumer.dispatch(new OutboxEvent(null, "vault", 1L, "UPDATE", PAYLOAD, null));
+
+        verify(decoder, never()).decode(any(JsonNode.class), any());
+        assertThat(first.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Events already applied, or superseded by an applied event, are skipped")
+    void skipsAppliedEvents() {
+        var created = Instant.parse("2025-06-01T12:00:00Z");
+        var event = new OutboxEvent(null, "pipeline", 1L, "UPDATE", PAYLOAD, created);
+
+        parentConsumer.dispatch(event);
+        parentConsumer.dispatch(event);
+        parentConsumer.dispatch(new OutboxEvent(null, "pipeline", 1L, "UPDATE", PAYLOAD, created.minusMillis(1)));
+        parentConsumer.dispatch(new OutboxEvent(null, "pipeline", 2L, "UPDATE", PAYLOAD, created.minusMillis(1)));
+        parentConsumer.dispatch(new OutboxEvent(null, "pipeline", 1L, "UPDATE", PAYLOAD, created.plusMillis(1)));
+
+        assertThat(first.received).hasSize(3);
+        assertThat(registry.timer(WatcherMetrics.RECONCILIATION_METRIC).count()).isEqualTo(3);
+    }
+
+    private static final class RecordingConsumer implements EnvironmentEventConsumer<CharSequence> {
+
+        private final List<CharSequence> received = new ArrayList<>();
+
+        @Override
+        public Collection<String> consumedAggregates() {
+            return List.of("pipeline");
+        }
+
+        @Override
+        public Collection<String> consumedTypes() {
+            return List.of("UPDATE", "DELETE");
+        }
+
+        @Override
+        public Class<CharSequence> consumedPayloadType() {
+            return CharSequence.class;
+        }
+
+        @Override
+        public void accept(Long id, Optional<CharSequence> payload) {
+            payload.ifPresent(received::add);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.consumers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.platform.domain.PipelineService;
+import io.debezium.platform.domain.views.flat.PipelineFlat;
+import io.debezium.platform.environment.EnvironmentController;
+import io.debezium.platform.environment.EnvironmentProvider;
+import io.debezium.platform.environment.EnvironmentRouter;
+import io.debezium.platform.environment.PipelineController;
+import io.debezium.platform.environment.cluster.PipelineOwnership;
+import io.debezium.platform.environment.watcher.AppliedRevisions;
+import io.debezium.platform.environment.watcher.events.PipelineRevision;
+
+class PipelineConsumerTest {
+
+    private static final Long PIPELINE_ID = 42L;
+
+    private PipelineController pipelines;
+    private PipelineController otherPipelines;
+    private PipelineService pipelineService;
+    private PipelineOwnership ownership;
+    private PipelineConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        pipelines = mock(PipelineController.class);
+        otherPipelines = mock(PipelineController.class);
+        EnvironmentProvider provider = () -> List.of(environment(EnvironmentController.DEFAULT_ENVIRONMENT, pipelines),
+                environment("other", otherPipelines));
+        pipelineService = mock(PipelineService.class);
+        ownership = mock(PipelineOwnership.class);
+        when(ownership.owns(anyLong())).thenReturn(true);
+        when(ownership.claim(anyLong())).thenReturn(true);
+
+        consumer = new PipelineConsumer(Logger.getLogger(PipelineConsumerTest.class), new EnvironmentRouter(List.of(provider)),
+                pipelineService, new AppliedRevisions(), ownership);
+    }
+
+    private static EnvironmentController environment(String name, PipelineController pipelines) {
+        var environment = mock(EnvironmentController.class);
+        when(environment.name()).thenReturn(name);
+        when(environment.pipelines()).thenReturn(pipelines);
+        return environment;
+    }
+
+    private PipelineFlat pipeline(long revision) {
+        return pipeline(revision, EnvironmentController.DEFAULT_ENVIRONMENT);
+    }
+
+    private PipelineFlat pipeline(long revision, String environment) {
+        var pipeline = mock(PipelineFlat.class);
+        when(pipeline.getEnvironment()).thenReturn(environment);
+        when(pipeline.getId()).thenReturn(PIPELINE_ID);
+        when(pipeline.getRevision()).thenReturn(revision);
+        return pipeline;
+    }
+
+    @Test
+    @DisplayName("Update event deploys the current state of the pipeline")
+    void deploysCurrentState() {
+        var current = pipeline(3);
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.of(current));
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(2L)));
+
+        verify(pipelines).deploy(current);
+    }
+
+    @Test
+    @DisplayName("Revisions covered by an already deployed state are skipped")
+    void skipsSupersededRevisions() {
+        var current = pipeline(3);
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.of(current));
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(1L)));
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(2L)));
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(3L)));
+
+        verify(pipelineService, times(1)).findCurrent(PIPELINE_ID);
+        verify(pipelines, times(1)).deploy(current);
+    }
+
+    @Test
+    @DisplayName("Newer revision is deployed again")
+    void deploysNewerRevision() {
+        var first = pipeline(1);
+        var second = pipeline(2);
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.of(first), Optional.of(second));
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(1L)));
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(2L)));
+
+        verify(pipelines).deploy(first);
+        verify(pipelines).deploy(second);
+    }
+
+    @Test
+    @DisplayName("Update event without revision always deploys the current state")
+    void deploysLegacyEvents() {
+        var current = pipeline(3);
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.of(current));
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(3L)));
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(null)));
+
+        verify(pipelines, times(2)).deploy(current);
+    }
+
+    @Test
+    @DisplayName("Update of a removed pipeline is skipped")
+    void skipsRemovedPipeline() {
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.empty());
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(5L)));
+
+        verify(pipelines, never()).deploy(any());
+    }
+
+    @Test
+    @DisplayName("Delete event undeploys the pipeline and forgets its revision")
+    void undeploysRemovedPipeline() {
+        var current = pipeline(3);
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.of(current));
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(3L)));
+
+        consumer.accept(PIPELINE_ID, Optional.empty());
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(1L)));
+
+        verify(pipelines).undeploy(PIPELINE_ID);
+        verify(pipelines, times(2)).deploy(current);
+    }
+
+    @Test
+    @DisplayName("Pipeline is deployed into and undeployed from the environment it is assigned to")
+    void routesToAssignedEnvironment() {
+        var current = pipeline(1, "other");
+        when(pipelineService.findCurrent(PIPELINE_ID)).thenReturn(Optional.of(current));
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(1L)));
+        consumer.accept(PIPELINE_ID, Optional.empty());
+
+        verify(otherPipelines).deploy(current);
+        verify(otherPipelines).undeploy(PIPELINE_ID);
+        verify(pipelines, never()).deploy(any());
+        verify(pipelines, never()).undeploy(PIPELINE_ID);
+    }
+
+    @Test
+    @DisplayName("Pipeline with unknown environment is undeployed from all environments")
+    void undeploysFromAllEnvironments() {
+        consumer.accept(PIPELINE_ID, Optional.empty());
+
+        verify(pipelines).undeploy(PIPELINE_ID);
+        verify(otherPipelines).undeploy(PIPELINE_ID);
+    }
+
+    @Test
+    @DisplayName("Events of pipelines owned by another replica are skipped")
+    void skipsPipelinesOwnedByOtherReplica() {
+        when(ownership.owns(PIPELINE_ID)).thenReturn(false);
+        when(ownership.claim(PIPELINE_ID)).thenReturn(false);
+
+        consumer.accept(PIPELINE_ID, Optional.of(new PipelineRevision(1L)));
+        consumer.accept(PIPELINE_ID, Optional.empty());
+
+        verify(pipelineService, never()).findCurrent(PIPELINE_ID);
+        verify(pipelines, never()).deploy(any());
+        verify(pipelines, never()).undeploy(PIPELINE_ID);
+        verify(ownership, never()).removed(PIPELINE_ID);
+    }
+
+    @Test
+    @DisplayName("Lease of a removed pipeline is released once it was undeployed")
+    void releasesRemovedPipeline() {
+        consumer.accept(PIPELINE_ID, Optional.empty());
+
+        verify(pipelines).undeploy(PIPELINE_ID);
+        verify(ownership).removed(PIPELINE_ID);
+    }
+}
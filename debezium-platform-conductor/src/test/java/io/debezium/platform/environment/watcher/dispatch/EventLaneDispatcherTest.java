@@ -0,0 +1,141 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventLaneDispatcherTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry registry;
+    private EventLaneDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        var config = mock(WatcherConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.dispatch().lanes()).thenReturn(4);
+        when(config.dispatch().queueSize()).thenReturn(16);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        registry = new SimpleMeterRegistry();
+        dispatcher = new EventLaneDispatcher(Logger.getLogger(EventLaneDispatcherTest.class), config, executor, registry);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Tasks of the same aggregate are executed in submission order")
+    void preservesOrderPerAggregate() throws Exception {
+        var key = new OutboxEvent.Key("pipeline", 1L);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> last = null;
+        for (int i = 0; i < 10; i++) {
+            var value = i;
+            last = dispatcher.submit(key, () -> executed.add(value));
+        }
+        last.get(5, TimeUnit.SECONDS);
+
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("A blocked aggregate doesn't block aggregates assigned to other lanes")
+    void blockedLaneDoesNotBlockOthers() throws Exception {
+        var blocked = new OutboxEvent.Key("pipeline", 1L);
+        var other = new OutboxEvent.Key("pipeline", 2L);
+        for (long id = 3; dispatcher.laneOf(other) == dispatcher.laneOf(blocked); id++) {
+            other = new OutboxEvent.Key("pipeline", id);
+        }
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var slow = dispatcher.submit(blocked, () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var queued = dispatcher.submit(blocked, () -> {
+        });
+
+        dispatcher.submit(other, () -> {
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(slow).isNotDone();
+        assertThat(dispatcher.depth(dispatcher.laneOf(blocked))).isEqualTo(1);
+        assertThat(registry.get(EventLaneDispatcher.LANE_DEPTH_METRIC)
+                .tag("lane", String.valueOf(dispatcher.laneOf(blocked)))
+                .gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Failure of a task completes its future exceptionally and keeps the lane running")
+    void failureDoesNotStopLane() throws Exception {
+        var key = new OutboxEvent.Key("vault", 1L);
+
+        var failed = dispatcher.submit(key, () -> {
+            throw new IllegalStateException("apply failed");
+        });
+        var next = dispatcher.submit(key, () -> {
+        });
+
+        next.get(5, TimeUnit.SECONDS);
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("Error thrown by a task completes its future exceptionally and keeps the lane running")
+    void errorDoesNotStopLane() throws Exception {
+        var key = new OutboxEvent.Key("vault", 1L);
+
+        var failed = dispatcher.submit(key, () -> {
+            throw new AssertionError("apply failed");
+        });
+        var next = dispatcher.submit(key, () -> {
+        });
+
+        next.get(5, TimeUnit.SECONDS);
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.dispatch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.consumers.OutboxParentEventConsumer;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.events.VaultEvent;
+
+class InProcessEventDispatcherTest {
+
+    private WatcherConfigGroup config;
+    private OutboxParentEventConsumer parentConsumer;
+    private EventLaneDispatcher lanes;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        config = mock(WatcherConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.enabled()).thenReturn(true);
+        when(config.batch().enabled()).thenReturn(true);
+        when(config.dispatch().inProcess()).thenReturn(true);
+
+        parentConsumer = mock(OutboxParentEventConsumer.class);
+        lanes = mock(EventLaneDispatcher.class);
+        when(lanes.submit(any(), any())).thenAnswer(invocation -> {
+            Runnable task = invocation.getArgument(1);
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private InProcessEventDispatcher dispatcher() {
+        return new InProcessEventDispatcher(Logger.getLogger(InProcessEventDispatcherTest.class), config, parentConsumer, lanes);
+    }
+
+    @Test
+    @DisplayName("Committed events are dispatched on the lane of their aggregate")
+    void dispatchesCommittedEvents() throws InterruptedException {
+        var event = VaultEvent.delete(7L);
+
+        dispatcher().onCommitted(event);
+
+        var expected = OutboxEvent.of(event);
+        verify(lanes).submit(eq(expected.key()), any());
+        verify(parentConsumer).dispatch(expected);
+    }
+
+    @Test
+    @DisplayName("Committed events are left to the watcher when batch consumption is disabled")
+    void requiresBatchConsumption() {
+        when(config.batch().enabled()).thenReturn(false);
+
+        dispatcher().onCommitted(VaultEvent.delete(7L));
+
+        verifyNoInteractions(lanes, parentConsumer);
+    }
+
+    @Test
+    @DisplayName("Committed events are left to the watcher when in-process dispatch is disabled")
+    void disabledByDefault() {
+        when(config.dispatch().inProcess()).thenReturn(false);
+
+        dispatcher().onCommitted(VaultEvent.delete(7L));
+
+        verifyNoInteractions(lanes, parentConsumer);
+    }
+}
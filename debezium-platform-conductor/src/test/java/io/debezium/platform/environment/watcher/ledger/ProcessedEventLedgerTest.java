@@ -0,0 +1,106 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.platform.environment.cluster.ConductorReplica;
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+class ProcessedEventLedgerTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private AgroalDataSource dataSource;
+    private ResultSet result;
+    private ProcessedEventLedger ledger;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var config = mock(WatcherConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.ledger().enabled()).thenReturn(true);
+        var replica = mock(ConductorReplica.class);
+        when(replica.id()).thenReturn("conductor-0");
+
+        dataSource = mock(AgroalDataSource.class);
+        var connection = mock(Connection.class);
+        var statement = mock(PreparedStatement.class);
+        result = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(result);
+
+        ledger = new ProcessedEventLedger(config, dataSource, replica);
+    }
+
+    private static OutboxEvent event() {
+        return new OutboxEvent(UUID.randomUUID(), "pipeline", 1L, "pipeline_updated", null, NOW);
+    }
+
+    @Test
+    @DisplayName("Ledger is looked up only until the first event which wasn't processed")
+    void looksUpReplayedEvents() throws SQLException {
+        var replayed = event();
+        when(result.next()).thenReturn(true, false, false);
+        when(result.getObject(1, UUID.class)).thenReturn(replayed.id());
+
+        assertThat(ledger.processed(List.of(replayed))).containsExactly(replayed.id());
+        assertThat(ledger.processed(List.of(event(), event()))).isEmpty();
+        assertThat(ledger.processed(List.of(event()))).isEmpty();
+        assertThat(ledger.processed(List.of(event()))).isEmpty();
+
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Ledger is looked up again when the engine replays events")
+    void looksUpAfterReplay() throws SQLException {
+        when(result.next()).thenReturn(false);
+
+        ledger.processed(List.of(event()));
+        ledger.processed(List.of(event()));
+        ledger.replay();
+        ledger.processed(List.of(event()));
+
+        verify(dataSource, times(2)).getConnection();
+        verify(result, times(2)).next();
+    }
+
+    @Test
+    @DisplayName("Replay continues while the last looked up event was processed")
+    void continuesReplayOfProcessedEvents() throws SQLException {
+        var first = event();
+        var second = event();
+        when(result.next()).thenReturn(true, true, false, true, false);
+        when(result.getObject(eq(1), eq(UUID.class))).thenReturn(first.id(), second.id(), event().id());
+
+        assertThat(ledger.processed(List.of(first, second))).containsExactlyInAnyOrder(first.id(), second.id());
+        ledger.processed(List.of(event()));
+
+        verify(dataSource, times(2)).getConnection();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.environment.watcher.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+
+import io.agroal.api.AgroalDataSource;
+import io.debezium.platform.environment.watcher.AppliedEvents;
+import io.debezium.platform.environment.watcher.WatcherProgress;
+import io.debezium.platform.environment.watcher.config.OutboxConfigGroup;
+import io.debezium.platform.environment.watcher.config.WatcherConfigGroup;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+import io.debezium.platform.environment.watcher.ledger.ProcessedEventLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxPrunerTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private WatcherConfigGroup config;
+    private WatcherProgress progress;
+    private AgroalDataSource dataSource;
+    private ProcessedEventLedger ledger;
+    private AppliedEvents appliedEvents;
+    private SimpleMeterRegistry registry;
+    private OutboxPruner pruner;
+
+    @BeforeEach
+    void setUp() {
+        config = mock(WatcherConfigGroup.class, Answers.RETURNS_DEEP_STUBS);
+        when(config.retention().minAge()).thenReturn(Duration.ofHours(1));
+        when(config.retention().batchSize()).thenReturn(100);
+
+        var outbox = mock(OutboxConfigGroup.class);
+        when(outbox.table()).thenReturn("events");
+        when(outbox.idColumn()).thenReturn("event_id");
+        when(outbox.timestampColumn()).thenReturn("created");
+
+        progress = new WatcherProgress();
+        dataSource = mock(AgroalDataSource.class);
+        ledger = mock(ProcessedEventLedger.class);
+        appliedEvents = new AppliedEvents();
+        registry = new SimpleMeterRegistry();
+        pruner = new OutboxPruner(Logger.getLogger(OutboxPrunerTest.class), config, outbox, progress, dataSource, ledger, appliedEvents,
+                registry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Nothing is pruned before the watcher commits any event")
+    void skipsWithoutCommittedEvents() {
+        assertThat(pruner.cutoff()).isEmpty();
+        assertThat(pruner.prune()).isEqualTo(OutboxPruner.PruneResult.NONE);
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    @DisplayName("Events newer than the minimal age are kept even when already committed")
+    void keepsEventsYoungerThanMinAge() {
+        progress.committed(event(1L, NOW.minusSeconds(10)));
+
+        assertThat(pruner.cutoff()).contains(NOW.minus(Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Events newer than the latest committed event are kept")
+    void keepsUncommittedEvents() {
+        progress.committed(event(1L, NOW.minus(Duration.ofHours(5))));
+        progress.committed(event(2L, NOW.minus(Duration.ofHours(3))));
+
+        assertThat(pruner.cutoff()).contains(NOW.minus(Duration.ofHours(3)));
+    }
+
+    @Test
+    @DisplayName("Processed events are removed in batches until a batch isn't full")
+    void prunesInBatches() throws SQLException {
+        var committed = NOW.minus(Duration.ofHours(3));
+        progress.committed(event(3L, committed));
+        appliedEvents.applied(event(1L, committed.minusSeconds(1)));
+        appliedEvents.applied(event(2L, committed));
+        var connection = mock(Connection.class);
+        var statement = mock(PreparedStatement.class);
+        var result = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(result);
+        when(result.getLong(1)).thenReturn(100L, 40L);
+        when(result.getLong(2)).thenReturn(4096L, 1024L);
+
+        assertThat(pruner.prune()).isEqualTo(new OutboxPruner.PruneResult(140, 5120));
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(2)).prepareStatement(sql.capture());
+        assertThat(sql.getValue())
+                .contains("DELETE FROM \"events\" WHERE \"event_id\" IN (SELECT \"event_id\" FROM \"events\"")
+                .contains("WHERE \"created\" < ? ORDER BY \"created\" LIMIT ?");
+        verify(statement, times(2)).setObject(1, committed.atOffset(ZoneOffset.UTC));
+        verify(statement, times(2)).setInt(2, 100);
+        verify(ledger).prune(committed);
+        assertThat(appliedEvents.isApplied(event(1L, committed.minusSeconds(1)))).isFalse();
+        assertThat(appliedEvents.isApplied(event(2L, committed))).isTrue();
+        assertThat(registry.get(OutboxPruner.PRUNED_ROWS_METRIC).counter().count()).isEqualTo(140.0);
+        assertThat(registry.get(OutboxPruner.PRUNED_BYTES_METRIC).counter().count()).isEqualTo(5120.0);
+    }
+
+    @Test
+    @DisplayName("Ledger and applied events are pruned even if the outbox is kept")
+    void prunesLedgerWithoutRetention() {
+        when(config.enabled()).thenReturn(true);
+        when(config.retention().enabled()).thenReturn(false);
+        var committed = NOW.minus(Duration.ofHours(3));
+        progress.committed(event(3L, committed));
+        appliedEvents.applied(event(1L, committed.minusSeconds(1)));
+
+        pruner.scheduledPrune();
+
+        verify(ledger).prune(committed);
+        assertThat(appliedEvents.size()).isZero();
+        verifyNoInteractions(dataSource);
+    }
+
+    private static OutboxEvent event(Long aggregateId, Instant timestamp) {
+        return new OutboxEvent(UUID.randomUUID(), "pipeline", aggregateId, "pipeline_updated", null, timestamp);
+    }
+}
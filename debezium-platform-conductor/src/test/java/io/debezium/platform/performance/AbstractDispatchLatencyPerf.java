@@ -0,0 +1,168 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.performance;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.environment.operator.actions.DebeziumKubernetesAdapter;
+import io.quarkus.test.InjectMock;
+
+/**
+ * Measures the latency between a pipeline update committed through {@code PUT /api/pipelines/{id}}
+ * and the resulting {@code DebeziumServer} being handed to the Kubernetes adapter.
+ * <br>
+ *
+ * Subclasses run the measurement with a specific dispatch mode. Not part of the regular test suite,
+ * run with {@code mvn test -Dtest='*DispatchLatencyPerf'} and compare the reported percentiles.
+ */
+abstract class AbstractDispatchLatencyPerf {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDispatchLatencyPerf.class);
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 100;
+    private static final long DEPLOY_TIMEOUT_SECONDS = 30;
+
+    private final BlockingQueue<Long> deployments = new LinkedBlockingQueue<>();
+
+    @InjectMock
+    DebeziumKubernetesAdapter k8sAdapter;
+
+    String suffix;
+    Long sourceId;
+    Long destinationId;
+    Long pipelineId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        doAnswer(invocation -> deployments.add(System.nanoTime())).when(k8sAdapter).deployPipeline(any());
+
+        suffix = String.valueOf(System.nanoTime());
+        var connectionId = createResource("api/connections", """
+                {
+                  "name": "kafka-connection-%s",
+                  "type": "KAFKA",
+                  "config": {
+                    "bootstrap.servers": "localhost:9092"
+                  }
+                }""".formatted(suffix));
+        sourceId = createResource("api/sources", """
+                {
+                  "name": "source-%s",
+                  "type": "io.debezium.connector.postgresql.PostgresConnector",
+                  "schema": "dummy",
+                  "vaults": [],
+                  "config": {
+                    "topic.prefix": "inventory"
+                  }
+                }""".formatted(suffix));
+        destinationId = createResource("api/destinations", """
+                {
+                  "name": "destination-%s",
+                  "type": "kafka",
+                  "schema": "dummy",
+                  "vaults": [],
+                  "connection": {
+                    "id": %s
+                  },
+                  "config": {}
+                }""".formatted(suffix, connectionId));
+        pipelineId = createResource("api/pipelines", pipeline(0));
+
+        // wait for the deployment of the created pipeline
+        awaitDeployment();
+        deployments.clear();
+    }
+
+    @Test
+    void measureUpdateLatency() throws InterruptedException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            update(i);
+        }
+
+        var latencies = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            latencies[i] = update(WARMUP_ITERATIONS + i);
+        }
+
+        Arrays.sort(latencies);
+        LOGGER.info("{}: p50={} ms, p90={} ms, p99={} ms, max={} ms", getClass().getSimpleName(),
+                millis(percentile(latencies, 50)), millis(percentile(latencies, 90)), millis(percentile(latencies, 99)),
+                millis(latencies[latencies.length - 1]));
+    }
+
+    private long update(int revision) throws InterruptedException {
+        var start = System.nanoTime();
+        given()
+                .header("Content-Type", "application/json")
+                .body(pipeline(revision))
+                .when().put("api/pipelines/" + pipelineId)
+                .then()
+                .statusCode(200);
+
+        var latency = awaitDeployment() - start;
+        deployments.clear();
+        return latency;
+    }
+
+    private long awaitDeployment() throws InterruptedException {
+        var deployed = deployments.poll(DEPLOY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(deployed).as("Pipeline was not deployed in time").isNotNull();
+        return deployed;
+    }
+
+    private String pipeline(int revision) {
+        return """
+                {
+                  "name": "pipeline-%s",
+                  "description": "revision %d",
+                  "source": {
+                    "id": %s,
+                    "name": "source-%s"
+                  },
+                  "destination": {
+                    "id": %s,
+                    "name": "destination-%s"
+                  },
+                  "transforms": [],
+                  "logLevel": "INFO",
+                  "logLevels": {}
+                }""".formatted(suffix, revision, sourceId, suffix, destinationId, suffix);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1)];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    private static Long createResource(String path, String body) {
+        Number id = given()
+                .header("Content-Type", "application/json")
+                .body(body).when().post(path)
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        return id.longValue();
+    }
+}
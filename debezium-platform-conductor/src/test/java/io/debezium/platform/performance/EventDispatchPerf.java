@@ -0,0 +1,189 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.performance;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.platform.environment.watcher.consumers.EnvironmentEventConsumer;
+import io.debezium.platform.environment.watcher.consumers.EventConsumerIndex;
+import io.debezium.platform.environment.watcher.events.EventType;
+import io.debezium.platform.environment.watcher.events.OutboxEvent;
+
+/**
+ * Measures the cost of routing a single outbox event to {@link EnvironmentEventConsumer} instances.
+ * <ul>
+ *   <li>{@code legacy} mimics iterating {@code Instance<EnvironmentEventConsumer<?>>} where every
+ *   {@code @Dependent} consumer is created anew (including its own copy of the object mapper) and
+ *   asked whether it consumes the event</li>
+ *   <li>{@code indexed} routes through a prebuilt {@link EventConsumerIndex} of long-lived consumers</li>
+ * </ul>
+ * Run with {@link #main(String[])} from the test classpath, the GC profiler reports allocations per event
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventDispatchPerf {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private List<Supplier<EnvironmentEventConsumer<?>>> dependentConsumers;
+    private EventConsumerIndex index;
+    private OutboxEvent[] events;
+    private String[] payloads;
+    private int position;
+
+    @Setup
+    public void setup() {
+        dependentConsumers = List.of(
+                () -> new LegacyConsumer("pipeline"),
+                () -> new LegacyConsumer("vault"));
+        index = EventConsumerIndex.of(List.of(
+                new IndexedConsumer("pipeline"),
+                new IndexedConsumer("vault")));
+        events = new OutboxEvent[]{
+                new OutboxEvent(null, "pipeline", 1L, EventType.UPDATE.name(), OBJECT_MAPPER.createObjectNode(), null),
+                new OutboxEvent(null, "vault", 2L, EventType.UPDATE.name(), OBJECT_MAPPER.createObjectNode(), null),
+                new OutboxEvent(null, "pipeline", 3L, EventType.DELETE.name(), null, null),
+                new OutboxEvent(null, "unknown", 4L, EventType.UPDATE.name(), OBJECT_MAPPER.createObjectNode(), null)
+        };
+        payloads = new String[]{ "{}", "{}", null, "{}" };
+    }
+
+    private OutboxEvent next() {
+        position = (position + 1) & 3;
+        return events[position];
+    }
+
+    private String payload() {
+        return payloads[position];
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        var event = next();
+        for (var supplier : dependentConsumers) {
+            var consumer = supplier.get();
+            if (consumer.consumes(event.aggregateType(), event.type())) {
+                consumer.acceptPayload(event.aggregateId(), payload());
+            }
+            // dependent instances are retained by the Instance they were obtained from
+            blackhole.consume(consumer);
+        }
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole) {
+        var event = next();
+        for (var consumer : index.consumersFor(event.aggregateType(), event.type())) {
+            consumer.acceptPayload(event.aggregateId(), payload());
+            blackhole.consume(consumer);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventDispatchPerf.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /**
+     * Consumer behaving like the original {@code @Dependent} consumers
+     */
+    private static final class LegacyConsumer implements EnvironmentEventConsumer<String> {
+
+        private final String aggregate;
+        private final ObjectMapper mapper;
+        private Optional<String> last;
+
+        private LegacyConsumer(String aggregate) {
+            this.aggregate = aggregate;
+            this.mapper = OBJECT_MAPPER.copy();
+        }
+
+        @Override
+        public Collection<String> consumedAggregates() {
+            return List.of(aggregate);
+        }
+
+        @Override
+        public Collection<String> consumedTypes() {
+            return List.of(EventType.UPDATE.name(), EventType.DELETE.name());
+        }
+
+        @Override
+        public Class<String> consumedPayloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void accept(Long id, Optional<String> payload) {
+            last = payload;
+        }
+    }
+
+    /**
+     * Long-lived consumer with constant aggregate and type declarations
+     */
+    private static final class IndexedConsumer implements EnvironmentEventConsumer<String> {
+
+        private static final List<String> TYPES = List.of(EventType.UPDATE.name(), EventType.DELETE.name());
+
+        private final List<String> aggregates;
+        private Optional<String> last;
+
+        private IndexedConsumer(String aggregate) {
+            this.aggregates = List.of(aggregate);
+        }
+
+        @Override
+        public Collection<String> consumedAggregates() {
+            return aggregates;
+        }
+
+        @Override
+        public Collection<String> consumedTypes() {
+            return TYPES;
+        }
+
+        @Override
+        public Class<String> consumedPayloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void accept(Long id, Optional<String> payload) {
+            last = payload;
+        }
+    }
+}
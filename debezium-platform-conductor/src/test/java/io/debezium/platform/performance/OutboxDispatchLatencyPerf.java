@@ -0,0 +1,35 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.performance;
+
+import java.util.Map;
+
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Latency of pipeline updates applied only through the outbox watcher
+ */
+@QuarkusTest
+@TestProfile(OutboxDispatchLatencyPerf.Profile.class)
+@EnableKubernetesMockClient(crud = true)
+class OutboxDispatchLatencyPerf extends AbstractDispatchLatencyPerf {
+
+    public static class Profile implements QuarkusTestProfile {
+
+        @Override
+        public String getConfigProfile() {
+            return "test";
+        }
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("conductor.watcher.dispatch.in-process", "false");
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.performance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.platform.environment.watcher.codec.CborPayloadCodec;
+import io.debezium.platform.environment.watcher.codec.JsonPayloadCodec;
+import io.debezium.platform.environment.watcher.codec.PayloadCodecs;
+import io.debezium.platform.environment.watcher.codec.SmilePayloadCodec;
+
+/**
+ * Measures the size and decode time of a pipeline payload written to the outbox table.
+ * <ul>
+ *   <li>{@code legacy} parses the json text stored in the former {@code varchar} column</li>
+ *   <li>{@code decode} decodes the framed payload written with given codec and compression</li>
+ * </ul>
+ * The encoded size printed for each combination is the number of payload bytes written to the outbox
+ * table, and hence to the WAL, per event. Run with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PayloadCodecPerf {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PayloadCodecPerf.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({ "json", "smile", "cbor" })
+    public String codec;
+
+    @Param({ "none", "zstd" })
+    public String compression;
+
+    @Param({ "50" })
+    public int transforms;
+
+    private PayloadCodecs codecs;
+    private byte[] legacy;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        codecs = new PayloadCodecs(List.of(new JsonPayloadCodec(), new SmilePayloadCodec(), new CborPayloadCodec()), codec, compression);
+
+        var payload = pipeline(transforms);
+        legacy = payload.toString().getBytes(StandardCharsets.UTF_8);
+        encoded = codecs.encode(payload);
+
+        LOGGER.info("{}/{}: {} bytes per event (json text: {} bytes)", codec, compression, encoded.length, legacy.length);
+    }
+
+    @Benchmark
+    public JsonNode legacy() throws Exception {
+        return OBJECT_MAPPER.readTree(legacy);
+    }
+
+    @Benchmark
+    public JsonNode decode() {
+        return codecs.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codecs.encode(pipeline(transforms));
+    }
+
+    /**
+     * Builds a payload shaped like a serialized {@code PipelineFlat}
+     */
+    private static JsonNode pipeline(int transforms) {
+        var pipeline = OBJECT_MAPPER.createObjectNode()
+                .put("id", 42)
+                .put("name", "inventory-pipeline")
+                .put("description", "Streams the inventory database into Kafka")
+                .put("logLevel", "INFO");
+
+        var source = pipeline.putObject("source")
+                .put("id", 1)
+                .put("name", "inventory-source")
+                .put("type", "io.debezium.connector.postgresql.PostgresConnector");
+        source.putObject("config")
+                .put("topic.prefix", "inventory")
+                .put("schema.include.list", "inventory")
+                .put("database.hostname", "postgresql.debezium-platform.svc.cluster.local")
+                .put("database.port", "5432");
+
+        pipeline.putObject("destination")
+                .put("id", 2)
+                .put("name", "kafka-destination")
+                .put("type", "kafka")
+                .putObject("config")
+                .put("producer.bootstrap.servers", "dbz-kafka-kafka-bootstrap.debezium-platform:9092")
+                .put("producer.key.serializer", "org.apache.kafka.common.serialization.StringSerializer")
+                .put("producer.value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
+
+        var array = pipeline.putArray("transforms");
+        for (int i = 0; i < transforms; i++) {
+            var transform = array.addObject()
+                    .put("id", 100 + i)
+                    .put("name", "transform-" + i)
+                    .put("type", "io.debezium.transforms.ExtractNewRecordState")
+                    .put("schema", "string");
+            transform.putObject("config")
+                    .put("add.fields", "op,table,lsn,source.ts_ms")
+                    .put("delete.tombstone.handling.mode", "rewrite");
+            transform.putObject("predicate")
+                    .put("type", "org.apache.kafka.connect.transforms.predicates.TopicNameMatches")
+                    .put("negate", false)
+                    .putObject("config").put("pattern", "inventory\\.customers_" + i);
+        }
+        return pipeline;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PayloadCodecPerf.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.performance;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.debezium.operator.api.model.DebeziumServer;
+import io.debezium.operator.api.model.runtime.metrics.MetricsBuilder;
+import io.debezium.platform.config.PipelineConfigGroup;
+import io.debezium.platform.data.model.ConnectionEntity;
+import io.debezium.platform.domain.views.Connection;
+import io.debezium.platform.domain.views.Predicate;
+import io.debezium.platform.domain.views.Transform;
+import io.debezium.platform.domain.views.flat.DestinationFlat;
+import io.debezium.platform.domain.views.flat.PipelineFlat;
+import io.debezium.platform.domain.views.flat.SourceFlat;
+import io.debezium.platform.environment.operator.PipelineMapper;
+import io.debezium.platform.environment.operator.PipelineRenderer;
+import io.debezium.platform.environment.operator.SpecHash;
+import io.debezium.platform.environment.operator.config.OperatorConfigGroup;
+import io.debezium.platform.environment.operator.configuration.TableNameResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures the cost of rendering the DebeziumServer resource of a pipeline with many transforms.
+ * <ul>
+ *   <li>{@code map} renders the resource through {@link PipelineMapper}</li>
+ *   <li>{@code mapAndHash} renders and hashes the resource, which every deploy did before renderings were cached</li>
+ *   <li>{@code cached} obtains the resource to apply from the {@link PipelineRenderer} cache</li>
+ * </ul>
+ * The pipeline view and configuration are stubbed, so the rendering cost includes a small constant
+ * overhead of stubbed getters. Run with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PipelineMapperPerf {
+
+    @Param({ "50", "200" })
+    public int transforms;
+
+    private PipelineMapper mapper;
+    private PipelineRenderer renderer;
+    private PipelineFlat pipeline;
+
+    @Setup
+    public void setup() {
+        var config = mock(PipelineConfigGroup.class, withSettings().stubOnly().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+        when(config.labels()).thenReturn(Map.of("app.kubernetes.io/part-of", "debezium-platform"));
+        when(config.server().image()).thenReturn(Optional.empty());
+        when(config.offset().storage().type()).thenReturn("io.debezium.storage.jdbc.offset.JdbcOffsetBackingStore");
+        when(config.offset().storage().config()).thenReturn(Map.of(
+                "jdbc.url", "jdbc:postgresql://postgresql:5432/debezium",
+                "jdbc.offset.table.name", "@{pipeline_name}_offset"));
+        when(config.schema().internal()).thenReturn("io.debezium.storage.jdbc.history.JdbcSchemaHistory");
+        when(config.schema().config()).thenReturn(Map.of(
+                "jdbc.url", "jdbc:postgresql://postgresql:5432/debezium",
+                "jdbc.schema.history.table.name", "@{pipeline_name}_schema_history"));
+
+        var operatorConfig = mock(OperatorConfigGroup.class, withSettings().stubOnly().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+        when(operatorConfig.render().cacheSize()).thenReturn(1000);
+
+        mapper = new PipelineMapper(config, new TableNameResolver(), new MetricsBuilder().build());
+        renderer = new PipelineRenderer(mapper, operatorConfig, new SimpleMeterRegistry());
+        pipeline = pipeline(transforms);
+    }
+
+    @Benchmark
+    public DebeziumServer map() {
+        return mapper.map(pipeline);
+    }
+
+    @Benchmark
+    public String mapAndHash() {
+        return SpecHash.of(mapper.map(pipeline));
+    }
+
+    @Benchmark
+    public DebeziumServer cached() {
+        return renderer.render(pipeline).resource();
+    }
+
+    private static PipelineFlat pipeline(int transforms) {
+        var connection = stub(Connection.class);
+        when(connection.getType()).thenReturn(ConnectionEntity.Type.POSTGRESQL);
+        when(connection.getConfig()).thenReturn(Map.of(
+                "hostname", "postgresql.debezium-platform.svc.cluster.local",
+                "port", 5432,
+                "username", "debezium",
+                "database", "inventory"));
+
+        var source = stub(SourceFlat.class);
+        when(source.getType()).thenReturn("io.debezium.connector.postgresql.PostgresConnector");
+        when(source.getConnection()).thenReturn(connection);
+        when(source.getConfig()).thenReturn(Map.of("topic.prefix", "inventory", "schema.include.list", "inventory"));
+
+        var destination = stub(DestinationFlat.class);
+        when(destination.getType()).thenReturn("io.debezium.server.kafka.KafkaChangeConsumer");
+        when(destination.getConfig()).thenReturn(Map.of(
+                "producer.bootstrap.servers", "dbz-kafka-kafka-bootstrap.debezium-platform:9092",
+                "producer.key.serializer", "org.apache.kafka.common.serialization.StringSerializer",
+                "producer.value.serializer", "org.apache.kafka.common.serialization.StringSerializer"));
+
+        List<Transform> transformViews = new ArrayList<>(transforms);
+        for (int i = 0; i < transforms; i++) {
+            var predicate = stub(Predicate.class);
+            when(predicate.getType()).thenReturn("org.apache.kafka.connect.transforms.predicates.TopicNameMatches");
+            when(predicate.getConfig()).thenReturn(Map.of("pattern", "inventory\\.customers_" + i));
+
+            var transform = stub(Transform.class);
+            when(transform.getId()).thenReturn(100L + i);
+            when(transform.getType()).thenReturn("io.debezium.transforms.ExtractNewRecordState");
+            when(transform.getConfig()).thenReturn(Map.of("add.fields", "op,table,lsn,source.ts_ms", "delete.tombstone.handling.mode", "rewrite"));
+            when(transform.getPredicate()).thenReturn(predicate);
+            transformViews.add(transform);
+        }
+
+        var pipeline = stub(PipelineFlat.class);
+        when(pipeline.getId()).thenReturn(42L);
+        when(pipeline.getRevision()).thenReturn(7L);
+        when(pipeline.getName()).thenReturn("inventory-pipeline");
+        when(pipeline.getSource()).thenReturn(source);
+        when(pipeline.getDestination()).thenReturn(destination);
+        when(pipeline.getTransforms()).thenReturn(transformViews);
+        when(pipeline.getDefaultLogLevel()).thenReturn("INFO");
+        when(pipeline.getLogLevels()).thenReturn(Map.of("io.debezium.connector.postgresql", "DEBUG", "io.debezium.server", "INFO"));
+        return pipeline;
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PipelineMapperPerf.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
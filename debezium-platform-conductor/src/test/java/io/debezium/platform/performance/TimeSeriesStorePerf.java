@@ -0,0 +1,132 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.platform.performance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.platform.environment.metrics.history.HistoryMetric;
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore;
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore.Range;
+import io.debezium.platform.environment.metrics.history.TimeSeriesStore.Resolution;
+
+/**
+ * Measures the pipeline metrics history with the default resolutions.
+ * <ul>
+ *   <li>{@code collect} writes one value into each of the series, as a single metrics collection does</li>
+ *   <li>{@code chartHour} and {@code chartDay} read a series for charts of the last hour and day</li>
+ * </ul>
+ * The store is filled with a day of values every 15 seconds before measuring. The number of bytes allocated
+ * for all series is logged for each combination. Run with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimeSeriesStorePerf {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimeSeriesStorePerf.class);
+
+    private static final List<Resolution> RESOLUTIONS = List.of(Resolution.parse("1m/2h"), Resolution.parse("5m/24h"));
+    private static final HistoryMetric[] METRICS = HistoryMetric.values();
+    private static final Duration SCRAPE_INTERVAL = Duration.ofSeconds(15);
+
+    @Param({ "10000" })
+    public int series;
+
+    @Param({ "memory", "mapped" })
+    public String storage;
+
+    private Path file;
+    private TimeSeriesStore store;
+    private Instant now;
+    private long queried;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if ("mapped".equals(storage)) {
+            file = Files.createTempFile("metrics-history", ".bin");
+            store = TimeSeriesStore.mapped(file, RESOLUTIONS, series);
+        }
+        else {
+            store = TimeSeriesStore.inMemory(RESOLUTIONS, series);
+        }
+
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        var end = now.plus(Duration.ofDays(1));
+        while (now.isBefore(end)) {
+            collect();
+        }
+
+        LOGGER.info("{}: {} bytes for {} series", storage, store.capacity(), store.size());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public Instant collect() {
+        for (int i = 0; i < series; i++) {
+            store.add(i / METRICS.length, METRICS[i % METRICS.length], now, i);
+        }
+        now = now.plus(SCRAPE_INTERVAL);
+        return now;
+    }
+
+    @Benchmark
+    public Optional<Range> chartHour() {
+        return chart(Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public Optional<Range> chartDay() {
+        return chart(Duration.ofDays(1));
+    }
+
+    private Optional<Range> chart(Duration range) {
+        var pipelineId = queried++ % (series / METRICS.length);
+        return store.range(pipelineId, HistoryMetric.EVENTS_PER_SECOND, now.minus(range), now);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TimeSeriesStorePerf.class.getSimpleName())
+                .build())
+                .run();
+    }
+}